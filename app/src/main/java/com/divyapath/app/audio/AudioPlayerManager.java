@@ -17,6 +17,7 @@ import androidx.media3.common.Player;
 import androidx.media3.session.MediaController;
 import androidx.media3.session.SessionToken;
 
+import com.divyapath.app.data.local.PlayHistory;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 
@@ -62,8 +63,12 @@ public class AudioPlayerManager {
     // Loudness normalization
     private final LoudnessNormalizer loudnessNormalizer = new LoudnessNormalizer();
 
+    // Plays and listening positions, for Popular, Recently Played, Continue Listening and prefetch
+    private final PlayHistory playHistory;
+
     private AudioPlayerManager(Context context) {
         this.appContext = context.getApplicationContext();
+        this.playHistory = PlayHistory.getInstance(appContext);
     }
 
     public static AudioPlayerManager getInstance(Context context) {
@@ -117,6 +122,8 @@ public class AudioPlayerManager {
                     if (controller != null && controller.getPlaybackState() != Player.STATE_ENDED) {
                         playerStateLiveData.postValue(PlayerState.PAUSED);
                     }
+                    recordPosition();
+                    playHistory.flush();
                 }
             }
 
@@ -152,6 +159,7 @@ public class AudioPlayerManager {
                         currentIndex = idx;
                         AudioTrack track = queue.get(idx);
                         currentTrackLiveData.postValue(track);
+                        playHistory.recordPlay(track.getContentType(), track.getContentId());
                         // Apply loudness normalization based on audio source
                         applyLoudnessNormalization(track);
                     }
@@ -170,12 +178,21 @@ public class AudioPlayerManager {
     // --- Playback Controls ---
 
     public void play(@NonNull AudioTrack track) {
+        play(track, 0);
+    }
+
+    /** Plays {@code track} from {@code startPositionMs}, e.g. where Continue Listening left it. */
+    public void play(@NonNull AudioTrack track, long startPositionMs) {
         List<AudioTrack> single = new ArrayList<>();
         single.add(track);
-        playPlaylist(single, 0);
+        playPlaylist(single, 0, startPositionMs);
     }
 
     public void playPlaylist(@NonNull List<AudioTrack> tracks, int startIndex) {
+        playPlaylist(tracks, startIndex, 0);
+    }
+
+    private void playPlaylist(@NonNull List<AudioTrack> tracks, int startIndex, long startPositionMs) {
         if (tracks.isEmpty()) return;
         queue.clear();
         queue.addAll(tracks);
@@ -187,7 +204,7 @@ public class AudioPlayerManager {
             for (AudioTrack t : tracks) {
                 items.add(buildMediaItem(t));
             }
-            controller.setMediaItems(items, currentIndex, 0);
+            controller.setMediaItems(items, currentIndex, startPositionMs);
             controller.prepare();
             controller.play();
         });
@@ -211,6 +228,8 @@ public class AudioPlayerManager {
     }
 
     public void stop() {
+        recordPosition();
+        playHistory.flush();
         if (controller != null) {
             controller.stop();
             controller.clearMediaItems();
@@ -378,6 +397,7 @@ public class AudioPlayerManager {
                 }
                 currentTimeLiveData.postValue(formatTime(pos));
                 totalTimeLiveData.postValue(formatTime(dur));
+                recordPosition();
             }
             progressHandler.postDelayed(this, PROGRESS_UPDATE_INTERVAL);
         }
@@ -392,6 +412,14 @@ public class AudioPlayerManager {
         progressHandler.removeCallbacks(progressRunnable);
     }
 
+    /** Notes how far into the current track playback is; written with the next history flush. */
+    private void recordPosition() {
+        AudioTrack track = currentIndex >= 0 && currentIndex < queue.size() ? queue.get(currentIndex) : null;
+        if (controller == null || track == null) return;
+        playHistory.recordPosition(track.getContentType(), track.getContentId(),
+                controller.getCurrentPosition(), controller.getDuration());
+    }
+
     private void updateTotalTime() {
         if (controller != null) {
             totalTimeLiveData.postValue(formatTime(controller.getDuration()));
@@ -0,0 +1,39 @@
+package com.divyapath.app.data.local;
+
+import java.util.Objects;
+
+/**
+ * What a list row shows for one aarti, chalisa, mantra, bhajan or stotra, without its lyrics or
+ * verses. List queries select only these columns, so a page of rows costs the same however long
+ * the texts are; detail screens load the full entity by id.
+ */
+public class ContentSummary {
+    public int id;
+    public int deityId;
+    public String title;
+    /** Hindi title; for mantras, which have none, the Sanskrit mantra. */
+    public String subtitle;
+    /** Seconds, or 0 where the type has no duration. */
+    public int duration;
+    /** Mantra and bhajan category; null for other types. */
+    public String category;
+    /** Chalisa and stotra verse count; 0 for other types. */
+    public int verseCount;
+    /** The audio is downloaded and plays offline. */
+    public boolean isCached;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ContentSummary)) return false;
+        ContentSummary s = (ContentSummary) o;
+        return id == s.id && deityId == s.deityId && duration == s.duration && verseCount == s.verseCount
+                && isCached == s.isCached && Objects.equals(title, s.title)
+                && Objects.equals(subtitle, s.subtitle) && Objects.equals(category, s.category);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, title);
+    }
+}
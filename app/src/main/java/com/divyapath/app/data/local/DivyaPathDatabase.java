@@ -3,20 +3,29 @@ import android.content.Context; import android.database.Cursor;
 import androidx.annotation.NonNull; import androidx.room.*; import androidx.sqlite.db.SupportSQLiteDatabase;
 import com.divyapath.app.data.local.dao.*; import com.divyapath.app.data.local.entity.*;
 import androidx.room.migration.Migration;
+import com.divyapath.app.utils.PhoneticKey;
 import java.util.concurrent.ExecutorService; import java.util.concurrent.Executors;
-@Database(entities={DeityEntity.class,AartiEntity.class,ChalisaEntity.class,MantraEntity.class,FestivalEntity.class,BookmarkEntity.class,TempleEntity.class,BhajanEntity.class,StotraEntity.class,ShraddhaEntity.class}, version=9, exportSchema=false)
+@Database(entities={DeityEntity.class,AartiEntity.class,ChalisaEntity.class,MantraEntity.class,FestivalEntity.class,BookmarkEntity.class,TempleEntity.class,BhajanEntity.class,StotraEntity.class,ShraddhaEntity.class,PanchangDayEntity.class,VratRuleEntity.class,VratOccurrenceEntity.class,AartiFtsEntity.class,ChalisaFtsEntity.class,MantraFtsEntity.class,BhajanFtsEntity.class,StotraFtsEntity.class,TempleFtsEntity.class,FestivalFtsEntity.class,ContentVersionEntity.class,PlayEventEntity.class}, version=22)
 public abstract class DivyaPathDatabase extends RoomDatabase {
     public abstract DeityDao deityDao(); public abstract AartiDao aartiDao(); public abstract ChalisaDao chalisaDao();
     public abstract MantraDao mantraDao(); public abstract FestivalDao festivalDao(); public abstract BookmarkDao bookmarkDao();
     public abstract TempleDao templeDao();
     public abstract BhajanDao bhajanDao(); public abstract StotraDao stotraDao();
     public abstract ShraddhaDao shraddhaDao();
+    public abstract PanchangDayDao panchangDayDao();
+    public abstract VratDao vratDao();
+    public abstract SearchDao searchDao();
+    public abstract PlayDao playDao();
     private static volatile DivyaPathDatabase INSTANCE;
     private static volatile boolean seedQueued = false;
+    private static Context appContext;
+    /** Tables whose rows carry a PhoneticKey of their title. */
+    static final String[] PHONETIC_TABLES = {"aartis", "chalisas", "mantras", "bhajans", "stotras"};
     public static final ExecutorService databaseWriteExecutor = Executors.newFixedThreadPool(4);
     public static DivyaPathDatabase getDatabase(final Context context) {
         if (INSTANCE==null) { synchronized(DivyaPathDatabase.class) { if (INSTANCE==null) {
-            INSTANCE = Room.databaseBuilder(context.getApplicationContext(), DivyaPathDatabase.class, "divyapath_database").fallbackToDestructiveMigrationFrom(1,2,3,4).addMigrations(MIGRATION_5_6, MIGRATION_6_7, MIGRATION_7_8, MIGRATION_8_9).addCallback(sCallback).build();
+            appContext = context.getApplicationContext();
+            INSTANCE = Room.databaseBuilder(context.getApplicationContext(), DivyaPathDatabase.class, "divyapath_database").fallbackToDestructiveMigrationFrom(1,2,3,4).createFromAsset(DatabaseSeeder.ASSET, sPrepackagedCallback).addMigrations(MIGRATION_5_6, MIGRATION_6_7, MIGRATION_7_8, MIGRATION_8_9, MIGRATION_9_10, MIGRATION_10_11, MIGRATION_11_12, MIGRATION_12_13, MIGRATION_13_14, MIGRATION_14_15, MIGRATION_15_16, MIGRATION_16_17, MIGRATION_17_18, MIGRATION_18_19, MIGRATION_19_20, MIGRATION_20_21, MIGRATION_21_22).addCallback(sCallback).build();
         }}} return INSTANCE;
     }
     private static boolean isTableEmpty(SupportSQLiteDatabase db, String table) {
@@ -104,41 +113,226 @@ public abstract class DivyaPathDatabase extends RoomDatabase {
             database.execSQL("UPDATE stotras SET localAssetName = audioUrl WHERE audioUrl IS NOT NULL AND audioUrl NOT LIKE 'http%'");
         }
     };
+    static final Migration MIGRATION_9_10 = new Migration(9, 10) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            // Precomputed Panchang rows, replacing the Gson blobs in the panchang_cache prefs
+            database.execSQL("CREATE TABLE IF NOT EXISTS `panchang_days` (" +
+                    "`locationKey` INTEGER NOT NULL, `precision` INTEGER NOT NULL, `date` TEXT NOT NULL, " +
+                    "`dayOfWeek` INTEGER NOT NULL, `tithiIndex` INTEGER NOT NULL, `nakshatraIndex` INTEGER NOT NULL, `yogaIndex` INTEGER NOT NULL, `karanaIndex` INTEGER NOT NULL, " +
+                    "`sunriseMinute` INTEGER NOT NULL, `sunsetMinute` INTEGER NOT NULL, `moonriseMinute` INTEGER NOT NULL, `moonsetMinute` INTEGER NOT NULL, `rahuStart` INTEGER NOT NULL, " +
+                    "`rahuEnd` INTEGER NOT NULL, `gulikaStart` INTEGER NOT NULL, `gulikaEnd` INTEGER NOT NULL, `yamghantStart` INTEGER NOT NULL, `yamghantEnd` INTEGER NOT NULL, " +
+                    "`abhijitStart` INTEGER NOT NULL, `abhijitEnd` INTEGER NOT NULL, `brahmaStart` INTEGER NOT NULL, `brahmaEnd` INTEGER NOT NULL, `computedAt` INTEGER NOT NULL, " +
+                    "PRIMARY KEY(`locationKey`, `precision`, `date`))");
+        }
+    };
+    static final Migration MIGRATION_10_11 = new Migration(10, 11) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            // panchang_days is a pure cache: rebuild it with limb end-time columns
+            // (rows computed before v11 also used local clock time as UT)
+            database.execSQL("DROP TABLE IF EXISTS `panchang_days`");
+            database.execSQL("CREATE TABLE IF NOT EXISTS `panchang_days` (" +
+                    "`locationKey` INTEGER NOT NULL, `precision` INTEGER NOT NULL, `date` TEXT NOT NULL, " +
+                    "`dayOfWeek` INTEGER NOT NULL, `tithiIndex` INTEGER NOT NULL, `nakshatraIndex` INTEGER NOT NULL, `yogaIndex` INTEGER NOT NULL, `karanaIndex` INTEGER NOT NULL, " +
+                    "`tithiEndMinute` INTEGER NOT NULL, `nakshatraEndMinute` INTEGER NOT NULL, `yogaEndMinute` INTEGER NOT NULL, `karanaEndMinute` INTEGER NOT NULL, `sunriseMinute` INTEGER NOT NULL, " +
+                    "`sunsetMinute` INTEGER NOT NULL, `moonriseMinute` INTEGER NOT NULL, `moonsetMinute` INTEGER NOT NULL, `rahuStart` INTEGER NOT NULL, `rahuEnd` INTEGER NOT NULL, " +
+                    "`gulikaStart` INTEGER NOT NULL, `gulikaEnd` INTEGER NOT NULL, `yamghantStart` INTEGER NOT NULL, `yamghantEnd` INTEGER NOT NULL, `abhijitStart` INTEGER NOT NULL, " +
+                    "`abhijitEnd` INTEGER NOT NULL, `brahmaStart` INTEGER NOT NULL, `brahmaEnd` INTEGER NOT NULL, `computedAt` INTEGER NOT NULL, " +
+                    "PRIMARY KEY(`locationKey`, `precision`, `date`))");
+        }
+    };
+    static final Migration MIGRATION_11_12 = new Migration(11, 12) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            // Cached rows hold the old sunset-offset moonrise estimate; recompute on demand
+            database.execSQL("DELETE FROM `panchang_days`");
+        }
+    };
+    static final Migration MIGRATION_12_13 = new Migration(12, 13) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            // Next sunrise closes the night horas and choghadiyas; cached rows lack it, so recompute
+            database.execSQL("DELETE FROM `panchang_days`");
+            database.execSQL("ALTER TABLE `panchang_days` ADD COLUMN `nextSunriseMinute` INTEGER NOT NULL DEFAULT 0");
+        }
+    };
+    static final Migration MIGRATION_13_14 = new Migration(13, 14) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            // Projected observance dates; existing entries keep the North Indian month naming
+            database.execSQL("ALTER TABLE `shraddha` ADD COLUMN `monthScheme` INTEGER NOT NULL DEFAULT 0");
+            database.execSQL("ALTER TABLE `shraddha` ADD COLUMN `nextDate` TEXT");
+            database.execSQL("ALTER TABLE `shraddha` ADD COLUMN `followingDate` TEXT");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_shraddha_nextDate` ON `shraddha` (`nextDate`)");
+        }
+    };
+    static final Migration MIGRATION_14_15 = new Migration(14, 15) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            // User vrat rules and their materialised dates
+            database.execSQL("CREATE TABLE IF NOT EXISTS `vrat_rules` (`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, `name` TEXT, `tithi` INTEGER NOT NULL, `paksha` INTEGER NOT NULL, `kaal` INTEGER NOT NULL, `weekdayMask` INTEGER NOT NULL, `nakshatraMask` INTEGER NOT NULL, `enabled` INTEGER NOT NULL, `updatedAt` INTEGER NOT NULL)");
+            database.execSQL("CREATE TABLE IF NOT EXISTS `vrat_occurrences` (`ruleId` INTEGER NOT NULL, `date` TEXT NOT NULL, `name` TEXT, PRIMARY KEY(`ruleId`, `date`), FOREIGN KEY(`ruleId`) REFERENCES `vrat_rules`(`id`) ON UPDATE NO ACTION ON DELETE CASCADE )");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_vrat_occurrences_date` ON `vrat_occurrences` (`date`)");
+        }
+    };
+    static final Migration MIGRATION_15_16 = new Migration(15, 16) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            // Full-text indexes over titles and lyrics, replacing LIKE '%q%' title scans.
+            // The default simple tokenizer keeps Devanagari words whole; unicode61 splits them at vowel signs
+            createContentFts(database, "aartis", "title", "titleHindi", "lyricsHindi", "lyricsEnglish");
+            createContentFts(database, "chalisas", "title", "titleHindi", "content", "contentEnglish");
+            createContentFts(database, "mantras", "title", "sanskrit", "hindiMeaning", "englishTransliteration");
+            createContentFts(database, "bhajans", "title", "titleHindi", "lyricsHindi", "lyricsEnglish");
+            createContentFts(database, "stotras", "title", "titleHindi", "textSanskrit", "textHindi", "textEnglish");
+        }
+    };
+    static final Migration MIGRATION_16_17 = new Migration(16, 17) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            // Temples and festivals join the unified search
+            createContentFts(database, "temples", "name", "nameHindi", "location", "description");
+            createContentFts(database, "festivals", "name", "nameHindi", "description");
+        }
+    };
+    static final Migration MIGRATION_17_18 = new Migration(17, 18) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            // Indexed phonetic title keys, so Roman and Devanagari spellings find the same rows
+            for (String table : PHONETIC_TABLES) {
+                database.execSQL("ALTER TABLE `" + table + "` ADD COLUMN `phoneticKey` TEXT");
+                database.execSQL("CREATE INDEX IF NOT EXISTS `index_" + table + "_phoneticKey` ON `" + table + "` (`phoneticKey`)");
+                fillPhoneticKeys(database, table);
+            }
+        }
+    };
+    static final Migration MIGRATION_18_19 = new Migration(18, 19) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            // Natural keys become unique, so the duplicates every launch used to delete go once, here.
+            // Foreign keys are off during migrations, so rows pointing at a duplicate move to the kept row first.
+            String[][] keys = {{"deities", "name", null}, {"aartis", "title", "aarti"}, {"chalisas", "title", "chalisa"},
+                    {"mantras", "title", "mantra"}, {"bhajans", "title", "bhajan"}, {"stotras", "title", "stotra"},
+                    {"temples", "name", "temple"}};
+            for (String[] key : keys) {
+                String duplicates = "SELECT id FROM `" + key[0] + "` WHERE id NOT IN (SELECT MIN(id) FROM `" + key[0] + "` GROUP BY `" + key[1] + "`)";
+                if (key[2] == null) {
+                    for (String child : PHONETIC_TABLES) { // the content tables are every table with a deityId
+                        database.execSQL("UPDATE `" + child + "` SET deityId = " + keptId(key[0], key[1], "`" + child + "`.deityId")
+                                + " WHERE deityId IN (" + duplicates + ")");
+                    }
+                } else {
+                    database.execSQL("UPDATE bookmarks SET contentId = " + keptId(key[0], key[1], "bookmarks.contentId")
+                            + " WHERE contentType = '" + key[2] + "' AND contentId IN (" + duplicates + ")");
+                }
+                if ("mantras".equals(key[0])) { // a shraddha entry names the mantra recited for it
+                    database.execSQL("UPDATE shraddha SET mantraId = " + keptId(key[0], key[1], "shraddha.mantraId")
+                            + " WHERE mantraId IN (" + duplicates + ")");
+                }
+                database.execSQL("DELETE FROM `" + key[0] + "` WHERE id IN (" + duplicates + ")");
+                database.execSQL("CREATE UNIQUE INDEX IF NOT EXISTS `index_" + key[0] + "_" + key[1] + "` ON `" + key[0] + "` (`" + key[1] + "`)");
+                if (key[2] != null) {
+                    database.execSQL("DELETE FROM bookmarks WHERE contentType = '" + key[2] + "' AND contentId NOT IN (SELECT id FROM `" + key[0] + "`)");
+                }
+            }
+            // Two bookmarks of duplicates now name the same item
+            database.execSQL("DELETE FROM bookmarks WHERE id NOT IN (SELECT MIN(id) FROM bookmarks GROUP BY contentType, contentId)");
+            // No row yet: the next open syncs bundled content once and records its version
+            database.execSQL("CREATE TABLE IF NOT EXISTS `content_version` (`id` INTEGER NOT NULL, `version` INTEGER NOT NULL, PRIMARY KEY(`id`))");
+        }
+    };
+    static final Migration MIGRATION_19_20 = new Migration(19, 20) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            // Play history behind Popular, Recently Played, Continue Listening and prefetch
+            database.execSQL("CREATE TABLE IF NOT EXISTS `play_events` (`contentType` TEXT NOT NULL, `contentId` INTEGER NOT NULL, `playCount` INTEGER NOT NULL, `score` REAL NOT NULL, `lastPlayedAt` INTEGER NOT NULL, `positionMs` INTEGER NOT NULL, `durationMs` INTEGER NOT NULL, PRIMARY KEY(`contentType`, `contentId`))");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_play_events_contentType_score` ON `play_events` (`contentType`, `score`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_play_events_score` ON `play_events` (`score`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_play_events_lastPlayedAt` ON `play_events` (`lastPlayedAt`)");
+        }
+    };
+    static final Migration MIGRATION_20_21 = new Migration(20, 21) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            // PhoneticKey now drops a word-final visarga, anusvara or n after a vowel in both scripts
+            for (String table : PHONETIC_TABLES) {
+                database.execSQL("UPDATE `" + table + "` SET `phoneticKey` = NULL");
+                fillPhoneticKeys(database, table);
+            }
+        }
+    };
+    static final Migration MIGRATION_21_22 = new Migration(21, 22) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            // panchang_days is a pure cache: rebuild it keyed by rounded coordinates and timezone
+            // instead of a 32-bit hash of them, which let two locations share rows
+            database.execSQL("DROP TABLE IF EXISTS `panchang_days`");
+            database.execSQL("CREATE TABLE IF NOT EXISTS `panchang_days` (" +
+                    "`latE4` INTEGER NOT NULL, `lonE4` INTEGER NOT NULL, `timezone` TEXT NOT NULL, `precision` INTEGER NOT NULL, `date` TEXT NOT NULL, " +
+                    "`dayOfWeek` INTEGER NOT NULL, `tithiIndex` INTEGER NOT NULL, `nakshatraIndex` INTEGER NOT NULL, `yogaIndex` INTEGER NOT NULL, `karanaIndex` INTEGER NOT NULL, " +
+                    "`tithiEndMinute` INTEGER NOT NULL, `nakshatraEndMinute` INTEGER NOT NULL, `yogaEndMinute` INTEGER NOT NULL, `karanaEndMinute` INTEGER NOT NULL, `sunriseMinute` INTEGER NOT NULL, " +
+                    "`sunsetMinute` INTEGER NOT NULL, `moonriseMinute` INTEGER NOT NULL, `moonsetMinute` INTEGER NOT NULL, `rahuStart` INTEGER NOT NULL, `rahuEnd` INTEGER NOT NULL, " +
+                    "`gulikaStart` INTEGER NOT NULL, `gulikaEnd` INTEGER NOT NULL, `yamghantStart` INTEGER NOT NULL, `yamghantEnd` INTEGER NOT NULL, `abhijitStart` INTEGER NOT NULL, " +
+                    "`abhijitEnd` INTEGER NOT NULL, `brahmaStart` INTEGER NOT NULL, `brahmaEnd` INTEGER NOT NULL, `nextSunriseMinute` INTEGER NOT NULL, `computedAt` INTEGER NOT NULL, " +
+                    "PRIMARY KEY(`latE4`, `lonE4`, `timezone`, `precision`, `date`))");
+        }
+    };
+    /** SQL for the lowest id in {@code table} with the same {@code key} as the row whose id is {@code idExpr}. */
+    private static String keptId(String table, String key, String idExpr) {
+        return "(SELECT MIN(k.id) FROM `" + table + "` k WHERE k.`" + key + "` IS (SELECT d.`" + key + "` FROM `" + table + "` d WHERE d.id = " + idExpr + "))";
+    }
+    /** Sets the phonetic key of every row in {@code table} that has none yet. */
+    static void fillPhoneticKeys(SupportSQLiteDatabase db, String table) {
+        Cursor c = db.query("SELECT id, title FROM `" + table + "` WHERE phoneticKey IS NULL");
+        try {
+            while (c.moveToNext()) {
+                db.execSQL("UPDATE `" + table + "` SET phoneticKey = ? WHERE id = ?",
+                        new Object[]{PhoneticKey.of(c.getString(1)), c.getInt(0)});
+            }
+        } finally { c.close(); }
+    }
+    /** An external-content FTS4 table over {@code columns} of {@code table}, with the sync triggers Room generates, filled from the existing rows. */
+    private static void createContentFts(SupportSQLiteDatabase db, String table, String... columns) {
+        String fts = table + "_fts";
+        StringBuilder defs = new StringBuilder(), names = new StringBuilder(), values = new StringBuilder();
+        for (String column : columns) {
+            defs.append('`').append(column).append("` TEXT, ");
+            names.append(", `").append(column).append('`');
+            values.append(", NEW.`").append(column).append('`');
+        }
+        db.execSQL("CREATE VIRTUAL TABLE IF NOT EXISTS `" + fts + "` USING FTS4(" + defs + "content=`" + table + "`)");
+        db.execSQL("CREATE TRIGGER IF NOT EXISTS room_fts_content_sync_" + fts + "_BEFORE_UPDATE BEFORE UPDATE ON `" + table + "` BEGIN DELETE FROM `" + fts + "` WHERE `docid`=OLD.`rowid`; END");
+        db.execSQL("CREATE TRIGGER IF NOT EXISTS room_fts_content_sync_" + fts + "_BEFORE_DELETE BEFORE DELETE ON `" + table + "` BEGIN DELETE FROM `" + fts + "` WHERE `docid`=OLD.`rowid`; END");
+        db.execSQL("CREATE TRIGGER IF NOT EXISTS room_fts_content_sync_" + fts + "_AFTER_UPDATE AFTER UPDATE ON `" + table + "` BEGIN INSERT INTO `" + fts + "`(`docid`" + names + ") VALUES (NEW.`rowid`" + values + "); END");
+        db.execSQL("CREATE TRIGGER IF NOT EXISTS room_fts_content_sync_" + fts + "_AFTER_INSERT AFTER INSERT ON `" + table + "` BEGIN INSERT INTO `" + fts + "`(`docid`" + names + ") VALUES (NEW.`rowid`" + values + "); END");
+        db.execSQL("INSERT INTO `" + fts + "`(`" + fts + "`) VALUES('rebuild')");
+    }
+    // The bundled database is built without device-computed columns; fill them once, as it is copied
+    private static final PrepackagedDatabaseCallback sPrepackagedCallback = new PrepackagedDatabaseCallback() {
+        @Override public void onOpenPrepackagedDatabase(@NonNull SupportSQLiteDatabase db) {
+            for (String table : PHONETIC_TABLES) fillPhoneticKeys(db, table);
+        }
+    };
     private static final Callback sCallback = new Callback() {
         @Override public void onCreate(@NonNull SupportSQLiteDatabase db) {
             super.onCreate(db);
             seedQueued = true;
-            databaseWriteExecutor.execute(() -> { if(INSTANCE!=null) DatabaseSeeder.seedDatabase(INSTANCE); });
+            databaseWriteExecutor.execute(() -> { if(INSTANCE!=null) DatabaseSeeder.seedDatabase(appContext, INSTANCE); });
         }
         @Override public void onDestructiveMigration(@NonNull SupportSQLiteDatabase db) {
             super.onDestructiveMigration(db);
             seedQueued = true;
-            databaseWriteExecutor.execute(() -> { if(INSTANCE!=null) DatabaseSeeder.seedDatabase(INSTANCE); });
+            databaseWriteExecutor.execute(() -> { if(INSTANCE!=null) DatabaseSeeder.seedDatabase(appContext, INSTANCE); });
         }
         @Override public void onOpen(@NonNull SupportSQLiteDatabase db) {
             super.onOpen(db);
-            // Always deduplicate on every app launch to clean up any existing duplicates.
-            try {
-                db.execSQL("DELETE FROM deities WHERE id NOT IN (SELECT MIN(id) FROM deities GROUP BY name)");
-                db.execSQL("DELETE FROM aartis WHERE id NOT IN (SELECT MIN(id) FROM aartis GROUP BY title)");
-                db.execSQL("DELETE FROM chalisas WHERE id NOT IN (SELECT MIN(id) FROM chalisas GROUP BY title)");
-                db.execSQL("DELETE FROM mantras WHERE id NOT IN (SELECT MIN(id) FROM mantras GROUP BY title)");
-                db.execSQL("DELETE FROM bhajans WHERE id NOT IN (SELECT MIN(id) FROM bhajans GROUP BY title)");
-                db.execSQL("DELETE FROM stotras WHERE id NOT IN (SELECT MIN(id) FROM stotras GROUP BY title)");
-                db.execSQL("DELETE FROM temples WHERE id NOT IN (SELECT MIN(id) FROM temples GROUP BY name)");
-            } catch (Exception ignored) {}
+            // Title suggestions load in the background and follow content changes from here on
+            databaseWriteExecutor.execute(() -> { if (INSTANCE != null) TitleIndex.getInstance().attach(INSTANCE); });
             // Skip if onCreate/onDestructiveMigration already queued a seed
             if (seedQueued) { seedQueued = false; return; }
-            // For existing installs: backfill audio URLs
-            databaseWriteExecutor.execute(() -> {
-                if (INSTANCE != null) {
-                    if (INSTANCE.deityDao().getCount() == 0) {
-                        DatabaseSeeder.seedDatabase(INSTANCE);
-                    } else {
-                        DatabaseSeeder.backfillAllAudioUrls(INSTANCE);
-                    }
-                }
-            });
+            // For existing installs: sync bundled content once per content version
+            databaseWriteExecutor.execute(() -> { if (INSTANCE != null) DatabaseSeeder.seedDatabase(appContext, INSTANCE); });
         }
     };
 }
@@ -0,0 +1,146 @@
+package com.divyapath.app.data.local;
+
+import android.content.Context;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.Nullable;
+
+import com.divyapath.app.data.local.entity.PlayEventEntity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records plays and listening positions into play_events, in batches.
+ *
+ * Plays and positions collect in memory and are written in one transaction when playback pauses
+ * or stops, or {@link #FLUSH_DELAY_MS} after the first unwritten change, so neither a play nor
+ * the twice-a-second position updates cost a disk write each.
+ *
+ * Popularity decays with a half-life of {@link #HALF_LIFE_MS}. A play at time t adds
+ * 2^((t - EPOCH) / HALF_LIFE) to its item's score. Every score shrinks by the same factor as
+ * time passes, so ordering by the stored score always ranks by decayed popularity and nothing
+ * is ever rewritten. Weights fit a double until 2063; before then, move EPOCH_MS forward in a
+ * migration that divides every score by the same factor.
+ */
+public final class PlayHistory {
+
+    /** A play counts half as much after this long. */
+    static final long HALF_LIFE_MS = TimeUnit.DAYS.toMillis(14);
+    private static final long EPOCH_MS = 1704067200000L; // 2024-01-01T00:00Z
+    private static final long FLUSH_DELAY_MS = 30_000;
+
+    /** Detail screen argument: where to resume the item's stream, in ms, set by Continue Listening. */
+    public static final String ARG_RESUME_POSITION = "resumePositionMs";
+
+    private static volatile PlayHistory INSTANCE;
+
+    private final DivyaPathDatabase db;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable scheduledFlush = this::flush;
+    // Unwritten changes, by content type and id; guarded by this
+    private final Map<String, Pending> pending = new HashMap<>();
+
+    private PlayHistory(Context context) {
+        db = DivyaPathDatabase.getDatabase(context);
+    }
+
+    public static PlayHistory getInstance(Context context) {
+        if (INSTANCE == null) {
+            synchronized (PlayHistory.class) {
+                if (INSTANCE == null) {
+                    INSTANCE = new PlayHistory(context.getApplicationContext());
+                }
+            }
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * The {@link #ARG_RESUME_POSITION} in {@code args}, or 0. It is removed as it is read, so a
+     * re-delivered LiveData row or a recreated view does not seek again.
+     */
+    public static long takeResumePosition(@Nullable Bundle args) {
+        if (args == null || !args.containsKey(ARG_RESUME_POSITION)) return 0;
+        long positionMs = args.getLong(ARG_RESUME_POSITION);
+        args.remove(ARG_RESUME_POSITION);
+        return positionMs;
+    }
+
+    /** Counts one play of an item starting now. Items without a type or id are not recorded. */
+    public void recordPlay(@Nullable String contentType, int contentId) {
+        if (contentType == null || contentId <= 0) return;
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            Pending p = pendingFor(contentType, contentId);
+            p.plays++;
+            p.score += weight(now);
+            p.lastAt = now;
+        }
+    }
+
+    /** Notes where listening to an item is; kept in memory until the next {@link #flush}. */
+    public void recordPosition(@Nullable String contentType, int contentId, long positionMs, long durationMs) {
+        if (contentType == null || contentId <= 0 || positionMs < 0 || durationMs <= 0) return;
+        synchronized (this) {
+            Pending p = pendingFor(contentType, contentId);
+            p.positionMs = Math.min(positionMs, durationMs);
+            p.durationMs = durationMs;
+            p.lastAt = System.currentTimeMillis();
+        }
+    }
+
+    /** Writes everything recorded so far, in the background. Call when playback pauses or stops. */
+    public void flush() {
+        handler.removeCallbacks(scheduledFlush);
+        List<Pending> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) return;
+            batch = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+        DivyaPathDatabase.databaseWriteExecutor.execute(() -> db.runInTransaction(() -> {
+            for (Pending p : batch) {
+                db.playDao().insertIfAbsent(new PlayEventEntity(p.contentType, p.contentId));
+                db.playDao().add(p.contentType, p.contentId, p.plays, p.score, p.lastAt, p.positionMs, p.durationMs);
+            }
+        }));
+    }
+
+    /** What a play at {@code playedAt} adds to its item's score. */
+    static double weight(long playedAt) {
+        return Math.pow(2, (double) (playedAt - EPOCH_MS) / HALF_LIFE_MS);
+    }
+
+    // Caller holds the lock
+    private Pending pendingFor(String contentType, int contentId) {
+        if (pending.isEmpty()) handler.postDelayed(scheduledFlush, FLUSH_DELAY_MS);
+        String key = contentType + ':' + contentId;
+        Pending p = pending.get(key);
+        if (p == null) {
+            p = new Pending(contentType, contentId);
+            pending.put(key, p);
+        }
+        return p;
+    }
+
+    private static final class Pending {
+        final String contentType;
+        final int contentId;
+        int plays;
+        double score;
+        long lastAt;
+        long positionMs = -1; // none recorded
+        long durationMs;
+
+        Pending(String contentType, int contentId) {
+            this.contentType = contentType;
+            this.contentId = contentId;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.divyapath.app.data.local;
+
+/**
+ * A content item the user has played, with its play history, as loaded by
+ * {@link com.divyapath.app.data.local.dao.PlayDao}.
+ */
+public class PlayedContent {
+    /** One of the SearchHit.TYPE_ constants for playable content. */
+    public String contentType;
+    public int contentId;
+    public String title;
+    /** Hindi title; for mantras, the Sanskrit mantra. */
+    public String subtitle;
+    public int deityId;
+    public String archiveOrgUrl;
+    public boolean isCached;
+    public double score;
+    public long lastPlayedAt;
+    /** Where the last listen stopped, and the length of the recording; 0 when not known. */
+    public long positionMs;
+    public long durationMs;
+}
@@ -0,0 +1,157 @@
+package com.divyapath.app.data.local;
+
+import android.graphics.Typeface;
+import android.text.SpannableStringBuilder;
+import android.text.Spanned;
+import android.text.style.StyleSpan;
+
+import androidx.room.Ignore;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * One full-text match from a content type's {@code *_fts} table. {@link #snippet} has the
+ * matched terms wrapped in {@link #MARK_START}/{@link #MARK_END}; {@link #matchinfo} is the raw
+ * FTS4 {@code matchinfo(..., 'pcnalx')} blob that {@link #rank} scores.
+ */
+public class SearchHit {
+
+    /** Snippet markers; control characters so lyrics can never contain them. */
+    public static final String MARK_START = "\u0002";
+    public static final String MARK_END = "\u0003";
+
+    /** Content types, as stored in bookmarks. */
+    public static final String TYPE_AARTI = "aarti";
+    public static final String TYPE_CHALISA = "chalisa";
+    public static final String TYPE_MANTRA = "mantra";
+    public static final String TYPE_BHAJAN = "bhajan";
+    public static final String TYPE_STOTRA = "stotra";
+    public static final String TYPE_TEMPLE = "temple";
+    public static final String TYPE_FESTIVAL = "festival";
+
+    /** One of the TYPE_ constants. */
+    public String type;
+    public int id;
+    public String title;
+    public String subtitle;
+    public String snippet;
+    public byte[] matchinfo;
+    /** Festival date ("yyyy-MM-dd"); null for other types. */
+    public String date;
+
+    /** BM25 score, filled by {@link #rank}. */
+    @Ignore
+    public double score;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double TITLE_WEIGHT = 5.0;
+
+    /**
+     * A MATCH expression for free text typed by the user: every word becomes a prefix term and
+     * all must match. FTS operators and punctuation are dropped. Null when nothing is left.
+     */
+    public static String matchExpression(String query) {
+        if (query == null) return null;
+        StringBuilder match = new StringBuilder();
+        for (String word : query.trim().split("\\s+")) {
+            StringBuilder term = new StringBuilder();
+            for (int i = 0; i < word.length(); i++) {
+                char c = word.charAt(i);
+                int type = Character.getType(c);
+                // Devanagari vowel signs and viramas are marks, not letters
+                if (Character.isLetterOrDigit(c) || type == Character.NON_SPACING_MARK
+                        || type == Character.COMBINING_SPACING_MARK) {
+                    term.append(c);
+                }
+            }
+            if (term.length() == 0) continue;
+            if (match.length() > 0) match.append(' ');
+            // Lower case keeps AND/OR/NOT from being read as operators
+            match.append(term.toString().toLowerCase(Locale.ROOT)).append('*');
+        }
+        return match.length() == 0 ? null : match.toString();
+    }
+
+    /**
+     * Scores {@code hits} with BM25 over their matchinfo, weighting each type's title columns
+     * above its text, and returns them best first.
+     */
+    public static List<SearchHit> rank(List<SearchHit> hits) {
+        if (hits == null) return Collections.emptyList();
+        List<SearchHit> ranked = new ArrayList<>(hits);
+        for (SearchHit hit : ranked) hit.score = bm25(hit.matchinfo, TYPE_MANTRA.equals(hit.type) ? 1 : 2);
+        Collections.sort(ranked, (a, b) -> Double.compare(b.score, a.score));
+        return ranked;
+    }
+
+    /** A copy of this hit carrying {@code snippet}. */
+    public SearchHit withSnippet(String snippet) {
+        SearchHit copy = new SearchHit();
+        copy.type = type;
+        copy.id = id;
+        copy.title = title;
+        copy.subtitle = subtitle;
+        copy.snippet = snippet;
+        copy.matchinfo = matchinfo;
+        copy.date = date;
+        copy.score = score;
+        return copy;
+    }
+
+    /** The snippet with matched terms in bold, or null when there is none. */
+    public static CharSequence highlight(String snippet) {
+        if (snippet == null || snippet.isEmpty()) return null;
+        SpannableStringBuilder text = new SpannableStringBuilder();
+        int from = 0;
+        while (from < snippet.length()) {
+            int start = snippet.indexOf(MARK_START, from);
+            if (start < 0) {
+                text.append(snippet, from, snippet.length());
+                break;
+            }
+            text.append(snippet, from, start);
+            int end = snippet.indexOf(MARK_END, start + 1);
+            if (end < 0) end = snippet.length();
+            int spanStart = text.length();
+            text.append(snippet, start + 1, end);
+            text.setSpan(new StyleSpan(Typeface.BOLD), spanStart, text.length(), Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
+            from = end + 1;
+        }
+        return text;
+    }
+
+    private static double bm25(byte[] matchinfo, int titleColumns) {
+        if (matchinfo == null || matchinfo.length < 12) return 0;
+        // Unsigned 32-bit ints in native order: p, c, n, a[c], l[c], x[3 * p * c]
+        ByteBuffer buf = ByteBuffer.wrap(matchinfo).order(ByteOrder.nativeOrder());
+        int phrases = buf.getInt(0);
+        int columns = buf.getInt(4);
+        double rows = buf.getInt(8);
+        int avgAt = 12;
+        int lenAt = avgAt + 4 * columns;
+        int hitsAt = lenAt + 4 * columns;
+        if (matchinfo.length < hitsAt + 12 * phrases * columns) return 0;
+
+        double score = 0;
+        for (int p = 0; p < phrases; p++) {
+            for (int c = 0; c < columns; c++) {
+                int x = hitsAt + 12 * (p * columns + c);
+                int tf = buf.getInt(x);
+                if (tf == 0) continue;
+                int df = buf.getInt(x + 8);
+                double idf = Math.max(Math.log((rows - df + 0.5) / (df + 0.5)), 0.01);
+                double avg = Math.max(buf.getInt(avgAt + 4 * c), 1);
+                double len = buf.getInt(lenAt + 4 * c);
+                double weight = c < titleColumns ? TITLE_WEIGHT : 1.0;
+                score += weight * idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * len / avg));
+            }
+        }
+        return score;
+    }
+}
@@ -0,0 +1,301 @@
+package com.divyapath.app.data.local;
+
+import androidx.annotation.NonNull;
+import androidx.room.InvalidationTracker;
+
+import com.divyapath.app.utils.PhoneticKey;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-memory prefix index over every content title, for suggestions on each keystroke.
+ *
+ * Each title is indexed by its English and Hindi forms and its {@link PhoneticKey}, at every
+ * word start, so "chal", "चाली" and "chaal" all suggest Hanuman Chalisa. Entries are
+ * (text, offset) pairs in one sorted array per content type; a lookup is a binary search
+ * and a short scan, a few microseconds for thousands of titles. Each type's array is rebuilt on
+ * its own when Room reports its table changed, and swapped in whole, so readers never lock.
+ */
+public final class TitleIndex {
+
+    /** One title row as loaded by {@link com.divyapath.app.data.local.dao.SearchDao}. */
+    public static class Row {
+        public int id;
+        public String title;
+        public String titleHindi;
+        public String subtitle;
+    }
+
+    private static final String[] TABLES = {"aartis", "chalisas", "mantras", "bhajans", "stotras", "temples"};
+    private static final String[] TYPES = {
+            SearchHit.TYPE_AARTI, SearchHit.TYPE_CHALISA, SearchHit.TYPE_MANTRA,
+            SearchHit.TYPE_BHAJAN, SearchHit.TYPE_STOTRA, SearchHit.TYPE_TEMPLE,
+    };
+
+    // Candidates gathered per segment before ranking; prefixes shared by hundreds of titles stop here
+    private static final int SCAN_LIMIT = 64;
+
+    private static volatile TitleIndex INSTANCE;
+
+    private volatile Segment[] segments = new Segment[TABLES.length];
+    private final AtomicBoolean[] pending = new AtomicBoolean[TABLES.length];
+    private DivyaPathDatabase db;
+    private volatile boolean ready;
+
+    // Package-private so tests can fill an index without a database
+    TitleIndex() {
+        for (int t = 0; t < TABLES.length; t++) {
+            segments[t] = Segment.EMPTY;
+            pending[t] = new AtomicBoolean();
+        }
+    }
+
+    public static TitleIndex getInstance() {
+        if (INSTANCE == null) {
+            synchronized (TitleIndex.class) {
+                if (INSTANCE == null) {
+                    INSTANCE = new TitleIndex();
+                }
+            }
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Builds every segment and rebuilds each again whenever its table changes.
+     * Call once after the database opens; must be called off the main thread.
+     */
+    public synchronized void attach(DivyaPathDatabase database) {
+        if (db != null) return;
+        db = database;
+        // Observe first, so rows a seeder writes while the first build runs still trigger a rebuild
+        db.getInvalidationTracker().addObserver(new InvalidationTracker.Observer(TABLES) {
+            @Override
+            public void onInvalidated(@NonNull Set<String> tables) {
+                for (int t = 0; t < TABLES.length; t++) {
+                    if (!tables.contains(TABLES[t])) continue;
+                    final int table = t;
+                    // Seeding invalidates a table once per insert; one queued rebuild covers them all
+                    if (pending[t].compareAndSet(false, true)) {
+                        DivyaPathDatabase.databaseWriteExecutor.execute(() -> {
+                            pending[table].set(false);
+                            rebuild(table);
+                        });
+                    }
+                }
+            }
+        });
+        for (int t = 0; t < TABLES.length; t++) rebuild(t);
+        ready = true;
+    }
+
+    /** True once {@link #attach} has built every segment; until then suggestions are incomplete. */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Up to {@code limit} titles with a word starting with {@code query}, in any script or by
+     * sound. Titles that start with it come first, then shorter titles. Safe on the main thread.
+     */
+    public List<SearchHit> suggest(String query, int limit) {
+        String text = fold(query);
+        if (text.isEmpty()) return Collections.emptyList();
+        String key = PhoneticKey.of(query);
+        Segment[] current = segments;
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (Segment segment : current) {
+            int before = candidates.size();
+            segment.collect(text, candidates, before);
+            if (key != null && !key.equals(text)) segment.collect(key, candidates, before);
+        }
+        Collections.sort(candidates);
+        List<SearchHit> hits = new ArrayList<>(Math.min(limit, candidates.size()));
+        for (int i = 0; i < candidates.size() && hits.size() < limit; i++) {
+            hits.add(candidates.get(i).hit);
+        }
+        return hits;
+    }
+
+    // Synchronized so an older read of a table can never replace a newer one
+    private synchronized void rebuild(int t) {
+        List<Row> rows;
+        switch (t) {
+            case 0: rows = db.searchDao().aartiTitles(); break;
+            case 1: rows = db.searchDao().chalisaTitles(); break;
+            case 2: rows = db.searchDao().mantraTitles(); break;
+            case 3: rows = db.searchDao().bhajanTitles(); break;
+            case 4: rows = db.searchDao().stotraTitles(); break;
+            default: rows = db.searchDao().templeTitles(); break;
+        }
+        install(t, rows);
+    }
+
+    /** Swaps in a segment built from {@code rows} for table {@code t}. */
+    synchronized void install(int t, List<Row> rows) {
+        Segment[] next = segments.clone();
+        next[t] = Segment.build(TYPES[t], rows);
+        segments = next;
+    }
+
+    /** Lower case, Latin accents removed, runs of anything but letters and marks as one space. */
+    static String fold(String s) {
+        if (s == null) return "";
+        String d = Normalizer.normalize(s, Normalizer.Form.NFD).toLowerCase(Locale.ROOT);
+        StringBuilder out = new StringBuilder(d.length());
+        boolean space = false;
+        for (int i = 0; i < d.length(); i++) {
+            char c = d.charAt(i);
+            if (c >= '\u0300' && c <= '\u036F') continue; // combining accents on Latin letters
+            int type = Character.getType(c);
+            if (Character.isLetterOrDigit(c) || type == Character.NON_SPACING_MARK
+                    || type == Character.COMBINING_SPACING_MARK) {
+                if (space && out.length() > 0) out.append(' ');
+                space = false;
+                out.append(c);
+            } else {
+                space = true;
+            }
+        }
+        return out.toString();
+    }
+
+    private static final class Candidate implements Comparable<Candidate> {
+        final SearchHit hit;
+        final boolean leading;
+
+        Candidate(SearchHit hit, boolean leading) {
+            this.hit = hit;
+            this.leading = leading;
+        }
+
+        @Override
+        public int compareTo(Candidate o) {
+            if (leading != o.leading) return leading ? -1 : 1;
+            int byLength = Integer.compare(hit.title.length(), o.hit.title.length());
+            return byLength != 0 ? byLength : hit.title.compareTo(o.hit.title);
+        }
+    }
+
+    /** One content type: its rows, their folded texts, and word-start entries sorted by suffix. */
+    private static final class Segment {
+        static final Segment EMPTY = new Segment(new SearchHit[0], new String[0], new int[0], new long[0]);
+
+        final SearchHit[] rows;
+        final String[] texts;   // folded title, Hindi title and phonetic key of each row
+        final int[] textRow;    // row of each text
+        final long[] entries;   // text index << 32 | offset of a word start, sorted by suffix
+
+        private Segment(SearchHit[] rows, String[] texts, int[] textRow, long[] entries) {
+            this.rows = rows;
+            this.texts = texts;
+            this.textRow = textRow;
+            this.entries = entries;
+        }
+
+        static Segment build(String type, List<Row> source) {
+            SearchHit[] rows = new SearchHit[source.size()];
+            List<String> texts = new ArrayList<>(rows.length * 3);
+            List<Integer> textRow = new ArrayList<>(rows.length * 3);
+            int entryCount = 0;
+            for (int r = 0; r < rows.length; r++) {
+                Row row = source.get(r);
+                SearchHit hit = new SearchHit();
+                hit.type = type;
+                hit.id = row.id;
+                hit.title = row.title != null ? row.title : "";
+                hit.subtitle = row.subtitle;
+                rows[r] = hit;
+                int first = texts.size();
+                for (String s : new String[]{fold(row.title), fold(row.titleHindi), PhoneticKey.of(row.title)}) {
+                    // A title whose forms fold alike (no Hindi title, a one-letter word) is indexed once per text
+                    if (s == null || s.isEmpty() || texts.subList(first, texts.size()).contains(s)) continue;
+                    texts.add(s);
+                    textRow.add(r);
+                    entryCount += wordCount(s);
+                }
+            }
+
+            String[] textArray = texts.toArray(new String[0]);
+            Long[] boxed = new Long[entryCount];
+            int e = 0;
+            for (int i = 0; i < textArray.length; i++) {
+                String s = textArray[i];
+                for (int p = 0; p < s.length(); p++) {
+                    if (p == 0 || s.charAt(p - 1) == ' ') boxed[e++] = ((long) i << 32) | p;
+                }
+            }
+            Arrays.sort(boxed, (a, b) -> compareSuffixes(textArray, a, b));
+            long[] entries = new long[entryCount];
+            for (int i = 0; i < entryCount; i++) entries[i] = boxed[i];
+            int[] rowOf = new int[textArray.length];
+            for (int i = 0; i < rowOf.length; i++) rowOf[i] = textRow.get(i);
+            return new Segment(rows, textArray, rowOf, entries);
+        }
+
+        /** Adds rows with an entry starting with {@code prefix}; rows already added since {@code from} are skipped. */
+        void collect(String prefix, List<Candidate> out, int from) {
+            int lo = 0, hi = entries.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (compareTo(entries[mid], prefix) < 0) lo = mid + 1;
+                else hi = mid;
+            }
+            int added = 0;
+            for (int i = lo; i < entries.length && added < SCAN_LIMIT; i++) {
+                String text = texts[(int) (entries[i] >>> 32)];
+                int offset = (int) entries[i];
+                if (!text.startsWith(prefix, offset)) break;
+                SearchHit hit = rows[textRow[(int) (entries[i] >>> 32)]];
+                int seen = indexOf(out, from, hit);
+                if (seen < 0) {
+                    out.add(new Candidate(hit, offset == 0));
+                    added++;
+                } else if (offset == 0 && !out.get(seen).leading) {
+                    out.set(seen, new Candidate(hit, true));
+                }
+            }
+        }
+
+        private static int indexOf(List<Candidate> list, int from, SearchHit hit) {
+            for (int i = from; i < list.size(); i++) if (list.get(i).hit == hit) return i;
+            return -1;
+        }
+
+        /** The suffix at {@code entry} against {@code prefix}, comparing only the prefix's length. */
+        private int compareTo(long entry, String prefix) {
+            String text = texts[(int) (entry >>> 32)];
+            int offset = (int) entry;
+            int n = Math.min(text.length() - offset, prefix.length());
+            for (int i = 0; i < n; i++) {
+                int d = text.charAt(offset + i) - prefix.charAt(i);
+                if (d != 0) return d;
+            }
+            return (text.length() - offset) >= prefix.length() ? 0 : -1;
+        }
+
+        private static int compareSuffixes(String[] texts, long a, long b) {
+            String x = texts[(int) (a >>> 32)], y = texts[(int) (b >>> 32)];
+            int i = (int) a, j = (int) b;
+            while (i < x.length() && j < y.length()) {
+                int d = x.charAt(i++) - y.charAt(j++);
+                if (d != 0) return d;
+            }
+            return Integer.compare(x.length() - i, y.length() - j);
+        }
+
+        private static int wordCount(String s) {
+            int count = 1;
+            for (int i = 0; i < s.length(); i++) if (s.charAt(i) == ' ') count++;
+            return count;
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.divyapath.app.data.local.dao;
 
 import androidx.lifecycle.LiveData;
+import androidx.paging.PagingSource;
 import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
 
+import com.divyapath.app.data.local.ContentSummary;
 import com.divyapath.app.data.local.entity.AartiEntity;
 
 import java.util.List;
@@ -13,23 +15,32 @@ import java.util.List;
 @Dao
 public interface AartiDao {
 
+    /** List columns only; lyrics are read by {@link #getAartiById} on the detail screen. */
+    String SUMMARY = "SELECT id, deityId, title, titleHindi AS subtitle, duration, NULL AS category, 0 AS verseCount, isCached FROM aartis";
+
     @Insert(onConflict = OnConflictStrategy.REPLACE)
     void insertAll(List<AartiEntity> aartis);
 
     @Insert(onConflict = OnConflictStrategy.REPLACE)
     void insert(AartiEntity aarti);
 
-    @Query("SELECT * FROM aartis")
-    LiveData<List<AartiEntity>> getAllAartis();
+    @Query(SUMMARY + " ORDER BY id")
+    PagingSource<Integer, ContentSummary> getAllAartis();
 
     @Query("SELECT * FROM aartis WHERE id = :id")
     LiveData<AartiEntity> getAartiById(int id);
 
-    @Query("SELECT * FROM aartis WHERE deityId = :deityId")
-    LiveData<List<AartiEntity>> getAartisByDeity(int deityId);
+    @Query(SUMMARY + " WHERE deityId = :deityId ORDER BY id")
+    PagingSource<Integer, ContentSummary> getAartisByDeity(int deityId);
+
+    @Query(SUMMARY + " WHERE deityId = :deityId ORDER BY id")
+    LiveData<List<ContentSummary>> getDeityAartis(int deityId);
+
+    @Query("SELECT * FROM aartis WHERE deityId = :deityId LIMIT 1")
+    LiveData<AartiEntity> getFirstAartiByDeity(int deityId);
 
-    @Query("SELECT * FROM aartis LIMIT :limit")
-    LiveData<List<AartiEntity>> getTodaysAartis(int limit);
+    @Query(SUMMARY + " ORDER BY id LIMIT :limit")
+    LiveData<List<ContentSummary>> getTodaysAartis(int limit);
 
     @Query("UPDATE aartis SET audioUrl = :audioUrl WHERE title = :title AND (audioUrl IS NULL OR audioUrl = '')")
     void updateAudioUrlByTitle(String title, String audioUrl);
@@ -37,8 +48,10 @@ public interface AartiDao {
     @Query("SELECT COUNT(*) FROM aartis")
     int getCount();
 
-    @Query("SELECT * FROM aartis WHERE title LIKE '%' || :query || '%' OR titleHindi LIKE '%' || :query || '%'")
-    LiveData<List<AartiEntity>> searchAartis(String query);
+    // Full-text search (:match is a SearchHit.matchExpression) plus an index range over phonetic title keys
+    // (:key to :keyEnd, from PhoneticKey). Phonetic title matches first, then other title matches
+    @Query(SUMMARY + " WHERE id IN (SELECT rowid FROM aartis_fts WHERE aartis_fts MATCH :match) OR (phoneticKey >= :key AND phoneticKey < :keyEnd) ORDER BY (phoneticKey >= :key AND phoneticKey < :keyEnd) DESC, id IN (SELECT rowid FROM aartis_fts WHERE title MATCH :match UNION SELECT rowid FROM aartis_fts WHERE titleHindi MATCH :match) DESC, title, id")
+    PagingSource<Integer, ContentSummary> searchAartis(String match, String key, String keyEnd);
 
     // --- Audio source methods ---
 
@@ -59,14 +72,13 @@ public interface AartiDao {
 
     // --- Popular / Bookmarked queries ---
 
-    @Query("SELECT * FROM aartis WHERE id IN (SELECT contentId FROM bookmarks WHERE contentType = 'aarti') LIMIT :limit")
-    LiveData<List<AartiEntity>> getBookmarkedAartis(int limit);
-
-    @Query("SELECT * FROM aartis ORDER BY id DESC LIMIT :limit")
-    LiveData<List<AartiEntity>> getPopularAartis(int limit);
-
-    // --- Synchronous lookup for background workers ---
+    @Query(SUMMARY + " WHERE id IN (SELECT contentId FROM bookmarks WHERE contentType = 'aarti') LIMIT :limit")
+    LiveData<List<ContentSummary>> getBookmarkedAartis(int limit);
 
-    @Query("SELECT id FROM aartis WHERE title = :title LIMIT 1")
-    int getIdByTitle(String title);
+    // Most played first, by time-decayed play score (index on contentType, score); then unplayed aartis,
+    // newest first, so the row is full before there is any history
+    @Query("SELECT * FROM (" + SUMMARY + " JOIN play_events ON contentType = 'aarti' AND contentId = id ORDER BY score DESC LIMIT :limit) "
+            + "UNION ALL SELECT * FROM (" + SUMMARY + " WHERE id NOT IN (SELECT contentId FROM play_events WHERE contentType = 'aarti') ORDER BY id DESC LIMIT :limit) "
+            + "LIMIT :limit")
+    LiveData<List<ContentSummary>> getPopularAartis(int limit);
 }
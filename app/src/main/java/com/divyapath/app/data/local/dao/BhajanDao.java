@@ -1,15 +1,18 @@
 package com.divyapath.app.data.local.dao;
-import androidx.lifecycle.LiveData; import androidx.room.*; import com.divyapath.app.data.local.entity.BhajanEntity; import java.util.List;
+import androidx.lifecycle.LiveData; import androidx.paging.PagingSource; import androidx.room.*; import com.divyapath.app.data.local.ContentSummary; import com.divyapath.app.data.local.entity.BhajanEntity; import java.util.List;
 @Dao public interface BhajanDao {
+    // List columns only; full texts are read by id on the detail screen
+    String SUMMARY = "SELECT id, deityId, title, titleHindi AS subtitle, duration, category, 0 AS verseCount, isCached FROM bhajans";
     @Insert(onConflict=OnConflictStrategy.REPLACE) void insertAll(List<BhajanEntity> bhajans);
     @Insert(onConflict=OnConflictStrategy.REPLACE) void insert(BhajanEntity bhajan);
-    @Query("SELECT * FROM bhajans") LiveData<List<BhajanEntity>> getAllBhajans();
+    @Query(SUMMARY + " ORDER BY id") PagingSource<Integer, ContentSummary> getAllBhajans();
     @Query("SELECT * FROM bhajans WHERE id = :id") LiveData<BhajanEntity> getBhajanById(int id);
-    @Query("SELECT * FROM bhajans WHERE category = :category") LiveData<List<BhajanEntity>> getBhajansByCategory(String category);
-    @Query("SELECT * FROM bhajans WHERE deityId = :deityId") LiveData<List<BhajanEntity>> getBhajansByDeity(int deityId);
+    @Query(SUMMARY + " WHERE category = :category ORDER BY id") PagingSource<Integer, ContentSummary> getBhajansByCategory(String category);
     @Query("SELECT DISTINCT category FROM bhajans") LiveData<List<String>> getAllCategories();
     @Query("SELECT COUNT(*) FROM bhajans") int getCount();
-    @Query("SELECT * FROM bhajans WHERE title LIKE '%' || :query || '%' OR titleHindi LIKE '%' || :query || '%'") LiveData<List<BhajanEntity>> searchBhajans(String query);
+    // Full-text search (:match is a SearchHit.matchExpression) plus an index range over phonetic title keys
+    // (:key to :keyEnd, from PhoneticKey). Phonetic title matches first, then other title matches
+    @Query(SUMMARY + " WHERE id IN (SELECT rowid FROM bhajans_fts WHERE bhajans_fts MATCH :match) OR (phoneticKey >= :key AND phoneticKey < :keyEnd) ORDER BY (phoneticKey >= :key AND phoneticKey < :keyEnd) DESC, id IN (SELECT rowid FROM bhajans_fts WHERE title MATCH :match UNION SELECT rowid FROM bhajans_fts WHERE titleHindi MATCH :match) DESC, title, id") PagingSource<Integer, ContentSummary> searchBhajans(String match, String key, String keyEnd);
 
     // Audio source methods
     @Query("UPDATE bhajans SET archiveOrgUrl = :url WHERE title = :title")
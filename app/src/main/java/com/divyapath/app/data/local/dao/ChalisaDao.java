@@ -1,13 +1,17 @@
 package com.divyapath.app.data.local.dao;
-import androidx.lifecycle.LiveData; import androidx.room.*; import com.divyapath.app.data.local.entity.ChalisaEntity; import java.util.List;
+import androidx.lifecycle.LiveData; import androidx.paging.PagingSource; import androidx.room.*; import com.divyapath.app.data.local.ContentSummary; import com.divyapath.app.data.local.entity.ChalisaEntity; import java.util.List;
 @Dao public interface ChalisaDao {
+    // List columns only; full texts are read by id on the detail screen
+    String SUMMARY = "SELECT id, deityId, title, titleHindi AS subtitle, 0 AS duration, NULL AS category, totalVerses AS verseCount, isCached FROM chalisas";
     @Insert(onConflict=OnConflictStrategy.REPLACE) void insertAll(List<ChalisaEntity> chalisas);
     @Insert(onConflict=OnConflictStrategy.REPLACE) void insert(ChalisaEntity chalisa);
-    @Query("SELECT * FROM chalisas") LiveData<List<ChalisaEntity>> getAllChalisas();
+    @Query(SUMMARY + " ORDER BY id") PagingSource<Integer, ContentSummary> getAllChalisas();
     @Query("SELECT * FROM chalisas WHERE id = :id") LiveData<ChalisaEntity> getChalisaById(int id);
-    @Query("SELECT * FROM chalisas WHERE deityId = :deityId") LiveData<List<ChalisaEntity>> getChalisasByDeity(int deityId);
+    @Query(SUMMARY + " WHERE deityId = :deityId ORDER BY id") PagingSource<Integer, ContentSummary> getChalisasByDeity(int deityId);
     @Query("SELECT COUNT(*) FROM chalisas") int getCount();
-    @Query("SELECT * FROM chalisas WHERE title LIKE '%' || :query || '%' OR titleHindi LIKE '%' || :query || '%'") LiveData<List<ChalisaEntity>> searchChalisas(String query);
+    // Full-text search (:match is a SearchHit.matchExpression) plus an index range over phonetic title keys
+    // (:key to :keyEnd, from PhoneticKey). Phonetic title matches first, then other title matches
+    @Query(SUMMARY + " WHERE id IN (SELECT rowid FROM chalisas_fts WHERE chalisas_fts MATCH :match) OR (phoneticKey >= :key AND phoneticKey < :keyEnd) ORDER BY (phoneticKey >= :key AND phoneticKey < :keyEnd) DESC, id IN (SELECT rowid FROM chalisas_fts WHERE title MATCH :match UNION SELECT rowid FROM chalisas_fts WHERE titleHindi MATCH :match) DESC, title, id") PagingSource<Integer, ContentSummary> searchChalisas(String match, String key, String keyEnd);
 
     // Audio source methods
     @Query("UPDATE chalisas SET archiveOrgUrl = :url WHERE title = :title")
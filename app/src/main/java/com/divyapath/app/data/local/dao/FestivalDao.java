@@ -8,4 +8,11 @@ import androidx.lifecycle.LiveData; import androidx.room.*; import com.divyapath
     @Query("SELECT * FROM festivals WHERE date >= :today ORDER BY date ASC LIMIT 1") LiveData<FestivalEntity> getNextFestival(String today);
     @Query("SELECT COUNT(*) FROM festivals") int getCount();
     @Query("SELECT * FROM festivals WHERE date = :date") FestivalEntity getFestivalByDateSync(String date);
+    @Query("SELECT * FROM festivals WHERE date BETWEEN :startDate AND :endDate ORDER BY date ASC") List<FestivalEntity> getFestivalsBetweenSync(String startDate, String endDate);
+    @Query("DELETE FROM festivals WHERE date BETWEEN :startDate AND :endDate") void deleteBetween(String startDate, String endDate);
+    /** Swap in regenerated rows for a date range in one transaction, so readers never see it half empty. */
+    @Transaction default void replaceBetween(String startDate, String endDate, List<FestivalEntity> festivals) {
+        deleteBetween(startDate, endDate);
+        insertAll(festivals);
+    }
 }
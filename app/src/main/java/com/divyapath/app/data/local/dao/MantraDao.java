@@ -1,15 +1,18 @@
 package com.divyapath.app.data.local.dao;
-import androidx.lifecycle.LiveData; import androidx.room.*; import com.divyapath.app.data.local.entity.MantraEntity; import java.util.List;
+import androidx.lifecycle.LiveData; import androidx.paging.PagingSource; import androidx.room.*; import com.divyapath.app.data.local.ContentSummary; import com.divyapath.app.data.local.entity.MantraEntity; import java.util.List;
 @Dao public interface MantraDao {
+    // List columns only; full texts are read by id on the detail screen
+    String SUMMARY = "SELECT id, deityId, title, sanskrit AS subtitle, 0 AS duration, category, 0 AS verseCount, isCached FROM mantras";
     @Insert(onConflict=OnConflictStrategy.REPLACE) void insertAll(List<MantraEntity> mantras);
     @Insert(onConflict=OnConflictStrategy.REPLACE) void insert(MantraEntity mantra);
-    @Query("SELECT * FROM mantras") LiveData<List<MantraEntity>> getAllMantras();
+    @Query(SUMMARY + " ORDER BY id") PagingSource<Integer, ContentSummary> getAllMantras();
     @Query("SELECT * FROM mantras WHERE id = :id") LiveData<MantraEntity> getMantraById(int id);
-    @Query("SELECT * FROM mantras WHERE category = :category") LiveData<List<MantraEntity>> getMantrasByCategory(String category);
+    @Query(SUMMARY + " WHERE category = :category ORDER BY id") PagingSource<Integer, ContentSummary> getMantrasByCategory(String category);
     @Query("SELECT DISTINCT category FROM mantras") LiveData<List<String>> getAllCategories();
-    @Query("SELECT * FROM mantras WHERE deityId = :deityId") LiveData<List<MantraEntity>> getMantrasByDeity(int deityId);
     @Query("SELECT COUNT(*) FROM mantras") int getCount();
-    @Query("SELECT * FROM mantras WHERE title LIKE '%' || :query || '%' OR sanskrit LIKE '%' || :query || '%'") LiveData<List<MantraEntity>> searchMantras(String query);
+    // Full-text search (:match is a SearchHit.matchExpression) plus an index range over phonetic title keys
+    // (:key to :keyEnd, from PhoneticKey). Phonetic title matches first, then other title matches
+    @Query(SUMMARY + " WHERE id IN (SELECT rowid FROM mantras_fts WHERE mantras_fts MATCH :match) OR (phoneticKey >= :key AND phoneticKey < :keyEnd) ORDER BY (phoneticKey >= :key AND phoneticKey < :keyEnd) DESC, id IN (SELECT rowid FROM mantras_fts WHERE title MATCH :match) DESC, title, id") PagingSource<Integer, ContentSummary> searchMantras(String match, String key, String keyEnd);
 
     // Audio source methods
     @Query("UPDATE mantras SET archiveOrgUrl = :url WHERE title = :title")
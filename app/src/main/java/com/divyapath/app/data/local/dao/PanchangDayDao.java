@@ -0,0 +1,11 @@
+package com.divyapath.app.data.local.dao;
+import androidx.lifecycle.LiveData; import androidx.room.*; import com.divyapath.app.data.local.entity.PanchangDayEntity; import java.util.List;
+@Dao public interface PanchangDayDao {
+    @Insert(onConflict=OnConflictStrategy.REPLACE) void insertAll(List<PanchangDayEntity> days);
+    @Query("SELECT * FROM panchang_days WHERE latE4 = :latE4 AND lonE4 = :lonE4 AND timezone = :timezone AND precision = :precision AND date = :date") PanchangDayEntity getDaySync(int latE4, int lonE4, String timezone, int precision, String date);
+    @Query("SELECT * FROM panchang_days WHERE latE4 = :latE4 AND lonE4 = :lonE4 AND timezone = :timezone AND precision = :precision AND date BETWEEN :startDate AND :endDate ORDER BY date ASC") List<PanchangDayEntity> getRangeSync(int latE4, int lonE4, String timezone, int precision, String startDate, String endDate);
+    @Query("SELECT * FROM panchang_days WHERE latE4 = :latE4 AND lonE4 = :lonE4 AND timezone = :timezone AND precision = :precision AND date BETWEEN :startDate AND :endDate ORDER BY date ASC") LiveData<List<PanchangDayEntity>> getRange(int latE4, int lonE4, String timezone, int precision, String startDate, String endDate);
+    @Query("SELECT COUNT(*) FROM panchang_days WHERE latE4 = :latE4 AND lonE4 = :lonE4 AND timezone = :timezone AND precision = :precision AND date BETWEEN :startDate AND :endDate") int countRange(int latE4, int lonE4, String timezone, int precision, String startDate, String endDate);
+    @Query("DELETE FROM panchang_days WHERE date < :date") int deleteBefore(String date);
+    @Query("DELETE FROM panchang_days WHERE latE4 != :latE4 OR lonE4 != :lonE4 OR timezone != :timezone") int deleteOtherLocations(int latE4, int lonE4, String timezone);
+}
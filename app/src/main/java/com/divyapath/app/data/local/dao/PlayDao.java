@@ -0,0 +1,63 @@
+package com.divyapath.app.data.local.dao;
+
+import androidx.lifecycle.LiveData;
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+
+import com.divyapath.app.data.local.PlayedContent;
+import com.divyapath.app.data.local.entity.PlayEventEntity;
+
+import java.util.List;
+
+/** Play history, written in batches by {@link com.divyapath.app.data.local.PlayHistory}. */
+@Dao
+public interface PlayDao {
+
+    /** Each play_events row with the title and audio of the item it counts; ordering on play_events columns uses their indexes. */
+    String PLAYED = "SELECT p.contentType, p.contentId, p.score, p.lastPlayedAt, p.positionMs, p.durationMs, "
+            + "COALESCE(a.title, c.title, m.title, b.title, s.title) AS title, "
+            + "COALESCE(a.titleHindi, c.titleHindi, m.sanskrit, b.titleHindi, s.titleHindi) AS subtitle, "
+            + "COALESCE(a.deityId, c.deityId, m.deityId, b.deityId, s.deityId) AS deityId, "
+            + "COALESCE(a.archiveOrgUrl, c.archiveOrgUrl, m.archiveOrgUrl, b.archiveOrgUrl, s.archiveOrgUrl) AS archiveOrgUrl, "
+            + "COALESCE(a.isCached, c.isCached, m.isCached, b.isCached, s.isCached) AS isCached "
+            + "FROM play_events p "
+            + "LEFT JOIN aartis a ON p.contentType = 'aarti' AND a.id = p.contentId "
+            + "LEFT JOIN chalisas c ON p.contentType = 'chalisa' AND c.id = p.contentId "
+            + "LEFT JOIN mantras m ON p.contentType = 'mantra' AND m.id = p.contentId "
+            + "LEFT JOIN bhajans b ON p.contentType = 'bhajan' AND b.id = p.contentId "
+            + "LEFT JOIN stotras s ON p.contentType = 'stotra' AND s.id = p.contentId";
+
+    @Insert(onConflict = OnConflictStrategy.IGNORE)
+    void insertIfAbsent(PlayEventEntity row);
+
+    /**
+     * Adds {@code plays} plays weighing {@code score} in total to a row, and sets where listening
+     * stopped unless {@code positionMs} is negative.
+     */
+    @Query("UPDATE play_events SET playCount = playCount + :plays, score = score + :score, "
+            + "lastPlayedAt = MAX(lastPlayedAt, :lastPlayedAt), "
+            + "positionMs = CASE WHEN :positionMs < 0 THEN positionMs ELSE :positionMs END, "
+            + "durationMs = CASE WHEN :positionMs < 0 THEN durationMs ELSE :durationMs END "
+            + "WHERE contentType = :type AND contentId = :id")
+    void add(String type, int id, int plays, double score, long lastPlayedAt, long positionMs, long durationMs);
+
+    @Query("SELECT * FROM (" + PLAYED + " ORDER BY p.lastPlayedAt DESC LIMIT :limit) WHERE title IS NOT NULL")
+    LiveData<List<PlayedContent>> getRecentlyPlayed(int limit);
+
+    /** The most recent listen that stopped at least ten seconds in and before the last 5% of the recording. */
+    @Query("SELECT * FROM (" + PLAYED + " WHERE p.positionMs >= 10000 AND p.positionMs * 20 < p.durationMs * 19 "
+            + "ORDER BY p.lastPlayedAt DESC LIMIT 1) WHERE title IS NOT NULL")
+    LiveData<PlayedContent> getContinueListening();
+
+    /**
+     * Items worth downloading for offline play: those with an archive.org recording that is not
+     * cached yet, most popular first, then unplayed aartis in catalogue order.
+     */
+    @Query("SELECT * FROM (SELECT * FROM (" + PLAYED + ") WHERE isCached = 0 AND archiveOrgUrl <> '' ORDER BY score DESC LIMIT :limit) "
+            + "UNION ALL SELECT * FROM (SELECT 'aarti', id, 0, 0, 0, 0, title, titleHindi, deityId, archiveOrgUrl, isCached FROM aartis "
+            + "WHERE isCached = 0 AND archiveOrgUrl <> '' AND id NOT IN (SELECT contentId FROM play_events WHERE contentType = 'aarti') "
+            + "ORDER BY id LIMIT :limit) LIMIT :limit")
+    List<PlayedContent> getPrefetchCandidates(int limit);
+}
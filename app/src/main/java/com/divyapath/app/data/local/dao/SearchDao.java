@@ -0,0 +1,81 @@
+package com.divyapath.app.data.local.dao;
+
+import androidx.room.Dao;
+import androidx.room.Query;
+
+import com.divyapath.app.data.local.SearchHit;
+import com.divyapath.app.data.local.TitleIndex;
+
+import java.util.List;
+
+/**
+ * Search across every content type's full-text index in one statement. {@link #search} is cheap
+ * (no snippets) so the caller can rank everything first; {@link #snippets} then builds snippets
+ * for only the rows it is about to show.
+ */
+@Dao
+public interface SearchDao {
+
+    /** Every match for {@code match} (a SearchHit.matchExpression), unordered, without snippets; festivals from {@code today} on. */
+    @Query("SELECT 'aarti' AS type, aartis.id, aartis.title, aartis.titleHindi AS subtitle, matchinfo(aartis_fts, 'pcnalx') AS matchinfo, NULL AS date, NULL AS snippet "
+            + "FROM aartis_fts JOIN aartis ON aartis.id = aartis_fts.rowid WHERE aartis_fts MATCH :match "
+            + "UNION ALL SELECT 'chalisa', chalisas.id, chalisas.title, chalisas.titleHindi, matchinfo(chalisas_fts, 'pcnalx'), NULL, NULL "
+            + "FROM chalisas_fts JOIN chalisas ON chalisas.id = chalisas_fts.rowid WHERE chalisas_fts MATCH :match "
+            + "UNION ALL SELECT 'mantra', mantras.id, mantras.title, mantras.sanskrit, matchinfo(mantras_fts, 'pcnalx'), NULL, NULL "
+            + "FROM mantras_fts JOIN mantras ON mantras.id = mantras_fts.rowid WHERE mantras_fts MATCH :match "
+            + "UNION ALL SELECT 'bhajan', bhajans.id, bhajans.title, bhajans.titleHindi, matchinfo(bhajans_fts, 'pcnalx'), NULL, NULL "
+            + "FROM bhajans_fts JOIN bhajans ON bhajans.id = bhajans_fts.rowid WHERE bhajans_fts MATCH :match "
+            + "UNION ALL SELECT 'stotra', stotras.id, stotras.title, stotras.titleHindi, matchinfo(stotras_fts, 'pcnalx'), NULL, NULL "
+            + "FROM stotras_fts JOIN stotras ON stotras.id = stotras_fts.rowid WHERE stotras_fts MATCH :match "
+            + "UNION ALL SELECT 'temple', temples.id, temples.name, temples.location, matchinfo(temples_fts, 'pcnalx'), NULL, NULL "
+            + "FROM temples_fts JOIN temples ON temples.id = temples_fts.rowid WHERE temples_fts MATCH :match "
+            + "UNION ALL SELECT 'festival', festivals.id, festivals.name, festivals.nameHindi, matchinfo(festivals_fts, 'pcnalx'), festivals.date, NULL "
+            + "FROM festivals_fts JOIN festivals ON festivals.id = festivals_fts.rowid WHERE festivals_fts MATCH :match AND festivals.date >= :today")
+    List<SearchHit> search(String match, String today);
+
+    /** Rows whose phonetic title key starts with {@code key} (up to {@code keyEnd}, from PhoneticKey); index range scans only. */
+    @Query("SELECT 'aarti' AS type, id, title, titleHindi AS subtitle, NULL AS snippet, NULL AS matchinfo, NULL AS date FROM aartis WHERE phoneticKey >= :key AND phoneticKey < :keyEnd "
+            + "UNION ALL SELECT 'chalisa', id, title, titleHindi, NULL, NULL, NULL FROM chalisas WHERE phoneticKey >= :key AND phoneticKey < :keyEnd "
+            + "UNION ALL SELECT 'mantra', id, title, sanskrit, NULL, NULL, NULL FROM mantras WHERE phoneticKey >= :key AND phoneticKey < :keyEnd "
+            + "UNION ALL SELECT 'bhajan', id, title, titleHindi, NULL, NULL, NULL FROM bhajans WHERE phoneticKey >= :key AND phoneticKey < :keyEnd "
+            + "UNION ALL SELECT 'stotra', id, title, titleHindi, NULL, NULL, NULL FROM stotras WHERE phoneticKey >= :key AND phoneticKey < :keyEnd")
+    List<SearchHit> phonetic(String key, String keyEnd);
+
+    /** Title rows for {@link TitleIndex}, one query per table so a change rebuilds only its own type. */
+    @Query("SELECT id, title, titleHindi, titleHindi AS subtitle FROM aartis")
+    List<TitleIndex.Row> aartiTitles();
+
+    @Query("SELECT id, title, titleHindi, titleHindi AS subtitle FROM chalisas")
+    List<TitleIndex.Row> chalisaTitles();
+
+    @Query("SELECT id, title, NULL AS titleHindi, sanskrit AS subtitle FROM mantras")
+    List<TitleIndex.Row> mantraTitles();
+
+    @Query("SELECT id, title, titleHindi, titleHindi AS subtitle FROM bhajans")
+    List<TitleIndex.Row> bhajanTitles();
+
+    @Query("SELECT id, title, titleHindi, titleHindi AS subtitle FROM stotras")
+    List<TitleIndex.Row> stotraTitles();
+
+    @Query("SELECT id, name AS title, nameHindi AS titleHindi, location AS subtitle FROM temples")
+    List<TitleIndex.Row> templeTitles();
+
+    /** Snippets for the given rows of each type; only {@code type}, {@code id} and {@code snippet} are filled. */
+    @Query("SELECT 'aarti' AS type, rowid AS id, snippet(aartis_fts, '" + SearchHit.MARK_START + "', '" + SearchHit.MARK_END + "', '…', -1, 12) AS snippet, "
+            + "NULL AS title, NULL AS subtitle, NULL AS matchinfo, NULL AS date FROM aartis_fts WHERE aartis_fts MATCH :match AND rowid IN (:aartiIds) "
+            + "UNION ALL SELECT 'chalisa', rowid, snippet(chalisas_fts, '" + SearchHit.MARK_START + "', '" + SearchHit.MARK_END + "', '…', -1, 12), "
+            + "NULL, NULL, NULL, NULL FROM chalisas_fts WHERE chalisas_fts MATCH :match AND rowid IN (:chalisaIds) "
+            + "UNION ALL SELECT 'mantra', rowid, snippet(mantras_fts, '" + SearchHit.MARK_START + "', '" + SearchHit.MARK_END + "', '…', -1, 12), "
+            + "NULL, NULL, NULL, NULL FROM mantras_fts WHERE mantras_fts MATCH :match AND rowid IN (:mantraIds) "
+            + "UNION ALL SELECT 'bhajan', rowid, snippet(bhajans_fts, '" + SearchHit.MARK_START + "', '" + SearchHit.MARK_END + "', '…', -1, 12), "
+            + "NULL, NULL, NULL, NULL FROM bhajans_fts WHERE bhajans_fts MATCH :match AND rowid IN (:bhajanIds) "
+            + "UNION ALL SELECT 'stotra', rowid, snippet(stotras_fts, '" + SearchHit.MARK_START + "', '" + SearchHit.MARK_END + "', '…', -1, 12), "
+            + "NULL, NULL, NULL, NULL FROM stotras_fts WHERE stotras_fts MATCH :match AND rowid IN (:stotraIds) "
+            + "UNION ALL SELECT 'temple', rowid, snippet(temples_fts, '" + SearchHit.MARK_START + "', '" + SearchHit.MARK_END + "', '…', -1, 12), "
+            + "NULL, NULL, NULL, NULL FROM temples_fts WHERE temples_fts MATCH :match AND rowid IN (:templeIds) "
+            + "UNION ALL SELECT 'festival', rowid, snippet(festivals_fts, '" + SearchHit.MARK_START + "', '" + SearchHit.MARK_END + "', '…', -1, 12), "
+            + "NULL, NULL, NULL, NULL FROM festivals_fts WHERE festivals_fts MATCH :match AND rowid IN (:festivalIds)")
+    List<SearchHit> snippets(String match, List<Integer> aartiIds, List<Integer> chalisaIds, List<Integer> mantraIds,
+                             List<Integer> bhajanIds, List<Integer> stotraIds, List<Integer> templeIds,
+                             List<Integer> festivalIds);
+}
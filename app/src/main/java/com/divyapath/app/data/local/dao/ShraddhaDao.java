@@ -5,6 +5,7 @@ import androidx.room.Dao;
 import androidx.room.Delete;
 import androidx.room.Insert;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import androidx.room.Update;
 
 import com.divyapath.app.data.local.entity.ShraddhaEntity;
@@ -23,9 +24,13 @@ public interface ShraddhaDao {
     @Delete
     void delete(ShraddhaEntity shraddha);
 
-    @Query("SELECT * FROM shraddha ORDER BY lunarMonth, tithiIndex")
+    // Soonest first; entries not yet projected keep their lunar order at the end
+    @Query("SELECT * FROM shraddha ORDER BY nextDate IS NULL, nextDate, lunarMonth, tithiIndex")
     LiveData<List<ShraddhaEntity>> getAllShraddha();
 
+    @Query("SELECT * FROM shraddha")
+    List<ShraddhaEntity> getAllSync();
+
     @Query("SELECT * FROM shraddha WHERE id = :id")
     LiveData<ShraddhaEntity> getShraddhaById(int id);
 
@@ -37,4 +42,19 @@ public interface ShraddhaDao {
 
     @Query("SELECT * FROM shraddha WHERE tithiIndex = :tithiIndex")
     List<ShraddhaEntity> getShraddhaByTithi(int tithiIndex);
+
+    /**
+     * Entries observed on {@code date} ("yyyy-MM-dd"), read straight from the projected dates.
+     * The following date counts too, in case the next one has passed since the last refresh.
+     */
+    @Query("SELECT * FROM shraddha WHERE nextDate = :date OR followingDate = :date")
+    List<ShraddhaEntity> getShraddhaOnDate(String date);
+
+    @Query("UPDATE shraddha SET nextDate = :nextDate, followingDate = :followingDate WHERE id = :id")
+    void setNextDates(int id, String nextDate, String followingDate);
+
+    @Transaction
+    default void updateNextDates(List<ShraddhaEntity> entries) {
+        for (ShraddhaEntity e : entries) setNextDates(e.getId(), e.getNextDate(), e.getFollowingDate());
+    }
 }
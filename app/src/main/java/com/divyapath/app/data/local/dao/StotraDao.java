@@ -1,13 +1,17 @@
 package com.divyapath.app.data.local.dao;
-import androidx.lifecycle.LiveData; import androidx.room.*; import com.divyapath.app.data.local.entity.StotraEntity; import java.util.List;
+import androidx.lifecycle.LiveData; import androidx.paging.PagingSource; import androidx.room.*; import com.divyapath.app.data.local.ContentSummary; import com.divyapath.app.data.local.entity.StotraEntity; import java.util.List;
 @Dao public interface StotraDao {
+    // List columns only; full texts are read by id on the detail screen
+    String SUMMARY = "SELECT id, deityId, title, titleHindi AS subtitle, duration, NULL AS category, verseCount, isCached FROM stotras";
     @Insert(onConflict=OnConflictStrategy.REPLACE) void insertAll(List<StotraEntity> stotras);
     @Insert(onConflict=OnConflictStrategy.REPLACE) void insert(StotraEntity stotra);
-    @Query("SELECT * FROM stotras") LiveData<List<StotraEntity>> getAllStotras();
+    @Query(SUMMARY + " ORDER BY id") PagingSource<Integer, ContentSummary> getAllStotras();
     @Query("SELECT * FROM stotras WHERE id = :id") LiveData<StotraEntity> getStotraById(int id);
-    @Query("SELECT * FROM stotras WHERE deityId = :deityId") LiveData<List<StotraEntity>> getStotrasByDeity(int deityId);
+    @Query(SUMMARY + " WHERE deityId = :deityId ORDER BY id") PagingSource<Integer, ContentSummary> getStotrasByDeity(int deityId);
     @Query("SELECT COUNT(*) FROM stotras") int getCount();
-    @Query("SELECT * FROM stotras WHERE title LIKE '%' || :query || '%' OR titleHindi LIKE '%' || :query || '%'") LiveData<List<StotraEntity>> searchStotras(String query);
+    // Full-text search (:match is a SearchHit.matchExpression) plus an index range over phonetic title keys
+    // (:key to :keyEnd, from PhoneticKey). Phonetic title matches first, then other title matches
+    @Query(SUMMARY + " WHERE id IN (SELECT rowid FROM stotras_fts WHERE stotras_fts MATCH :match) OR (phoneticKey >= :key AND phoneticKey < :keyEnd) ORDER BY (phoneticKey >= :key AND phoneticKey < :keyEnd) DESC, id IN (SELECT rowid FROM stotras_fts WHERE title MATCH :match UNION SELECT rowid FROM stotras_fts WHERE titleHindi MATCH :match) DESC, title, id") PagingSource<Integer, ContentSummary> searchStotras(String match, String key, String keyEnd);
 
     // Audio source methods
     @Query("UPDATE stotras SET archiveOrgUrl = :url WHERE title = :title")
@@ -0,0 +1,74 @@
+package com.divyapath.app.data.local.dao;
+
+import androidx.lifecycle.LiveData;
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+import androidx.room.Transaction;
+import androidx.room.Update;
+
+import com.divyapath.app.data.local.entity.VratOccurrenceEntity;
+import com.divyapath.app.data.local.entity.VratRuleEntity;
+
+import java.util.List;
+
+@Dao
+public interface VratDao {
+
+    @Insert
+    long insert(VratRuleEntity rule);
+
+    @Update
+    void update(VratRuleEntity rule);
+
+    // Occurrences go with it through the foreign key
+    @Query("DELETE FROM vrat_rules WHERE id = :id")
+    void deleteById(int id);
+
+    @Query("SELECT * FROM vrat_rules ORDER BY name")
+    LiveData<List<VratRuleEntity>> getAllRules();
+
+    @Query("SELECT * FROM vrat_rules WHERE enabled = 1")
+    List<VratRuleEntity> getEnabledRulesSync();
+
+    @Query("SELECT * FROM vrat_rules WHERE id = :id")
+    VratRuleEntity getRuleByIdSync(int id);
+
+    @Query("SELECT * FROM vrat_occurrences WHERE date >= :fromDate ORDER BY date, name LIMIT :limit")
+    LiveData<List<VratOccurrenceEntity>> getUpcoming(String fromDate, int limit);
+
+    @Query("SELECT * FROM vrat_occurrences WHERE date = :date ORDER BY name")
+    List<VratOccurrenceEntity> getOnDate(String date);
+
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void insertOccurrences(List<VratOccurrenceEntity> occurrences);
+
+    @Query("DELETE FROM vrat_occurrences WHERE ruleId = :ruleId")
+    void deleteOccurrencesOf(int ruleId);
+
+    @Query("DELETE FROM vrat_occurrences WHERE date < :date")
+    void deleteOccurrencesBefore(String date);
+
+    @Query("DELETE FROM vrat_occurrences")
+    void deleteAllOccurrences();
+
+    @Transaction
+    default void replaceOccurrencesOf(int ruleId, List<VratOccurrenceEntity> occurrences) {
+        deleteOccurrencesOf(ruleId);
+        insertOccurrences(occurrences);
+    }
+
+    @Transaction
+    default void replaceAllOccurrences(List<VratOccurrenceEntity> occurrences) {
+        deleteAllOccurrences();
+        insertOccurrences(occurrences);
+    }
+
+    /** Drop days before {@code today} and append a newly covered stretch, in one transaction. */
+    @Transaction
+    default void advanceOccurrences(String today, List<VratOccurrenceEntity> appended) {
+        deleteOccurrencesBefore(today);
+        insertOccurrences(appended);
+    }
+}
@@ -1,6 +1,6 @@
 package com.divyapath.app.data.local.entity;
-import androidx.room.Entity; import androidx.room.ForeignKey; import androidx.room.Index; import androidx.room.PrimaryKey;
-@Entity(tableName="aartis", foreignKeys=@ForeignKey(entity=DeityEntity.class,parentColumns="id",childColumns="deityId",onDelete=ForeignKey.CASCADE), indices=@Index("deityId"))
+import androidx.room.Entity; import androidx.room.ForeignKey; import androidx.room.Index; import androidx.room.PrimaryKey; import com.divyapath.app.utils.PhoneticKey;
+@Entity(tableName="aartis", foreignKeys=@ForeignKey(entity=DeityEntity.class,parentColumns="id",childColumns="deityId",onDelete=ForeignKey.CASCADE), indices={@Index("deityId"), @Index("phoneticKey"), @Index(value="title", unique=true)})
 public class AartiEntity {
     @PrimaryKey(autoGenerate=true) private int id;
     private int deityId; private String title; private String titleHindi;
@@ -12,11 +12,13 @@ public class AartiEntity {
     private String audioSource;    // "local", "archive_org", "iskcon", "tts"
     private boolean isCached;
     private String cachedFilePath;
+    // Script-independent title key for phonetic search (added in DB v18)
+    private String phoneticKey;
 
     public AartiEntity(){}
     public int getId(){return id;} public void setId(int id){this.id=id;}
     public int getDeityId(){return deityId;} public void setDeityId(int d){this.deityId=d;}
-    public String getTitle(){return title;} public void setTitle(String t){this.title=t;}
+    public String getTitle(){return title;} public void setTitle(String t){this.title=t;this.phoneticKey=PhoneticKey.of(t);}
     public String getTitleHindi(){return titleHindi;} public void setTitleHindi(String t){this.titleHindi=t;}
     public String getLyricsHindi(){return lyricsHindi;} public void setLyricsHindi(String l){this.lyricsHindi=l;}
     public String getLyricsEnglish(){return lyricsEnglish;} public void setLyricsEnglish(String l){this.lyricsEnglish=l;}
@@ -29,4 +31,5 @@ public class AartiEntity {
     public String getAudioSource(){return audioSource;} public void setAudioSource(String s){this.audioSource=s;}
     public boolean isCached(){return isCached;} public void setCached(boolean c){this.isCached=c;}
     public String getCachedFilePath(){return cachedFilePath;} public void setCachedFilePath(String p){this.cachedFilePath=p;}
+    public String getPhoneticKey(){return phoneticKey;} public void setPhoneticKey(String k){this.phoneticKey=k;}
 }
@@ -0,0 +1,13 @@
+package com.divyapath.app.data.local.entity;
+import androidx.room.Entity; import androidx.room.Fts4;
+/** Full-text index over {@link BhajanEntity} titles and text; Room's triggers keep it in sync with bhajans. */
+@Fts4(contentEntity=BhajanEntity.class)
+@Entity(tableName="bhajans_fts")
+public class BhajanFtsEntity {
+    private String title; private String titleHindi; private String lyricsHindi; private String lyricsEnglish;
+    public BhajanFtsEntity(){}
+    public String getTitle(){return title;} public void setTitle(String v){this.title=v;}
+    public String getTitleHindi(){return titleHindi;} public void setTitleHindi(String v){this.titleHindi=v;}
+    public String getLyricsHindi(){return lyricsHindi;} public void setLyricsHindi(String v){this.lyricsHindi=v;}
+    public String getLyricsEnglish(){return lyricsEnglish;} public void setLyricsEnglish(String v){this.lyricsEnglish=v;}
+}
@@ -0,0 +1,13 @@
+package com.divyapath.app.data.local.entity;
+import androidx.room.Entity; import androidx.room.Fts4;
+/** Full-text index over {@link ChalisaEntity} titles and text; Room's triggers keep it in sync with chalisas. */
+@Fts4(contentEntity=ChalisaEntity.class)
+@Entity(tableName="chalisas_fts")
+public class ChalisaFtsEntity {
+    private String title; private String titleHindi; private String content; private String contentEnglish;
+    public ChalisaFtsEntity(){}
+    public String getTitle(){return title;} public void setTitle(String v){this.title=v;}
+    public String getTitleHindi(){return titleHindi;} public void setTitleHindi(String v){this.titleHindi=v;}
+    public String getContent(){return content;} public void setContent(String v){this.content=v;}
+    public String getContentEnglish(){return contentEnglish;} public void setContentEnglish(String v){this.contentEnglish=v;}
+}
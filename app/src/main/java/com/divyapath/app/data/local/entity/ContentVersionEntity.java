@@ -0,0 +1,10 @@
+package com.divyapath.app.data.local.entity;
+import androidx.room.Entity; import androidx.room.PrimaryKey;
+/** The version of bundled content an install has applied; one row, id 1. */
+@Entity(tableName="content_version")
+public class ContentVersionEntity {
+    @PrimaryKey private int id; private int version;
+    public ContentVersionEntity(){}
+    public int getId(){return id;} public void setId(int id){this.id=id;}
+    public int getVersion(){return version;} public void setVersion(int v){this.version=v;}
+}
@@ -1,8 +1,9 @@
 package com.divyapath.app.data.local.entity;
 import androidx.room.Entity;
 import androidx.room.Ignore;
+import androidx.room.Index;
 import androidx.room.PrimaryKey;
-@Entity(tableName = "deities")
+@Entity(tableName = "deities", indices = {@Index(value = "name", unique = true)})
 public class DeityEntity {
     @PrimaryKey(autoGenerate = true) private int id;
     private String name; private String hindiName; private String imageUrl;
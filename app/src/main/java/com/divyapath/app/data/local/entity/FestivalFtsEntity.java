@@ -0,0 +1,12 @@
+package com.divyapath.app.data.local.entity;
+import androidx.room.Entity; import androidx.room.Fts4;
+/** Full-text index over {@link FestivalEntity} names and descriptions; Room's triggers keep it in sync with festivals. */
+@Fts4(contentEntity=FestivalEntity.class)
+@Entity(tableName="festivals_fts")
+public class FestivalFtsEntity {
+    private String name; private String nameHindi; private String description;
+    public FestivalFtsEntity(){}
+    public String getName(){return name;} public void setName(String v){this.name=v;}
+    public String getNameHindi(){return nameHindi;} public void setNameHindi(String v){this.nameHindi=v;}
+    public String getDescription(){return description;} public void setDescription(String v){this.description=v;}
+}
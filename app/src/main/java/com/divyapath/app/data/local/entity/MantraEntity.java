@@ -1,6 +1,6 @@
 package com.divyapath.app.data.local.entity;
-import androidx.room.Entity; import androidx.room.ForeignKey; import androidx.room.Index; import androidx.room.PrimaryKey;
-@Entity(tableName="mantras", foreignKeys=@ForeignKey(entity=DeityEntity.class,parentColumns="id",childColumns="deityId",onDelete=ForeignKey.CASCADE), indices=@Index("deityId"))
+import androidx.room.Entity; import androidx.room.ForeignKey; import androidx.room.Index; import androidx.room.PrimaryKey; import com.divyapath.app.utils.PhoneticKey;
+@Entity(tableName="mantras", foreignKeys=@ForeignKey(entity=DeityEntity.class,parentColumns="id",childColumns="deityId",onDelete=ForeignKey.CASCADE), indices={@Index("deityId"), @Index("phoneticKey"), @Index(value="title", unique=true)})
 public class MantraEntity {
     @PrimaryKey(autoGenerate=true) private int id;
     private int deityId; private String title; private String sanskrit; private String hindiMeaning;
@@ -13,11 +13,13 @@ public class MantraEntity {
     private String audioSource;
     private boolean isCached;
     private String cachedFilePath;
+    // Script-independent title key for phonetic search (added in DB v18)
+    private String phoneticKey;
 
     public MantraEntity(){}
     public int getId(){return id;} public void setId(int id){this.id=id;}
     public int getDeityId(){return deityId;} public void setDeityId(int d){this.deityId=d;}
-    public String getTitle(){return title;} public void setTitle(String t){this.title=t;}
+    public String getTitle(){return title;} public void setTitle(String t){this.title=t;this.phoneticKey=PhoneticKey.of(t);}
     public String getSanskrit(){return sanskrit;} public void setSanskrit(String s){this.sanskrit=s;}
     public String getHindiMeaning(){return hindiMeaning;} public void setHindiMeaning(String h){this.hindiMeaning=h;}
     public String getEnglishTransliteration(){return englishTransliteration;} public void setEnglishTransliteration(String e){this.englishTransliteration=e;}
@@ -31,4 +33,5 @@ public class MantraEntity {
     public String getAudioSource(){return audioSource;} public void setAudioSource(String s){this.audioSource=s;}
     public boolean isCached(){return isCached;} public void setCached(boolean c){this.isCached=c;}
     public String getCachedFilePath(){return cachedFilePath;} public void setCachedFilePath(String p){this.cachedFilePath=p;}
+    public String getPhoneticKey(){return phoneticKey;} public void setPhoneticKey(String k){this.phoneticKey=k;}
 }
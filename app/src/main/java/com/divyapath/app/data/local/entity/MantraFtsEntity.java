@@ -0,0 +1,13 @@
+package com.divyapath.app.data.local.entity;
+import androidx.room.Entity; import androidx.room.Fts4;
+/** Full-text index over {@link MantraEntity} titles and text; Room's triggers keep it in sync with mantras. */
+@Fts4(contentEntity=MantraEntity.class)
+@Entity(tableName="mantras_fts")
+public class MantraFtsEntity {
+    private String title; private String sanskrit; private String hindiMeaning; private String englishTransliteration;
+    public MantraFtsEntity(){}
+    public String getTitle(){return title;} public void setTitle(String v){this.title=v;}
+    public String getSanskrit(){return sanskrit;} public void setSanskrit(String v){this.sanskrit=v;}
+    public String getHindiMeaning(){return hindiMeaning;} public void setHindiMeaning(String v){this.hindiMeaning=v;}
+    public String getEnglishTransliteration(){return englishTransliteration;} public void setEnglishTransliteration(String v){this.englishTransliteration=v;}
+}
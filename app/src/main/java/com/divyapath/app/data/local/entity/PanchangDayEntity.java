@@ -0,0 +1,50 @@
+package com.divyapath.app.data.local.entity;
+import androidx.annotation.NonNull; import androidx.room.Entity;
+/**
+ * Precomputed Panchang for one civil day at one location.
+ * The location is keyed by its coordinates rounded to 1e-4 degrees (~10 m) and its timezone,
+ * so two locations never share rows. Primary key order (location, precision, date) lets
+ * range reads walk the key index.
+ * All times are minutes from local midnight, as in {@link com.divyapath.panchang.PanchangDay}.
+ */
+@Entity(tableName="panchang_days", primaryKeys={"latE4","lonE4","timezone","precision","date"})
+public class PanchangDayEntity {
+    private int latE4; private int lonE4; @NonNull private String timezone = ""; private int precision; @NonNull private String date = "";
+    private int dayOfWeek; private int tithiIndex; private int nakshatraIndex; private int yogaIndex; private int karanaIndex;
+    private int tithiEndMinute; private int nakshatraEndMinute; private int yogaEndMinute; private int karanaEndMinute;
+    private int sunriseMinute; private int sunsetMinute; private int moonriseMinute; private int moonsetMinute;
+    private int rahuStart; private int rahuEnd; private int gulikaStart; private int gulikaEnd;
+    private int yamghantStart; private int yamghantEnd; private int abhijitStart; private int abhijitEnd;
+    private int brahmaStart; private int brahmaEnd; private int nextSunriseMinute; private long computedAt;
+    public PanchangDayEntity(){}
+    public int getLatE4(){return latE4;} public void setLatE4(int l){this.latE4=l;}
+    public int getLonE4(){return lonE4;} public void setLonE4(int l){this.lonE4=l;}
+    @NonNull public String getTimezone(){return timezone;} public void setTimezone(@NonNull String t){this.timezone=t;}
+    public int getPrecision(){return precision;} public void setPrecision(int p){this.precision=p;}
+    @NonNull public String getDate(){return date;} public void setDate(@NonNull String d){this.date=d;}
+    public int getDayOfWeek(){return dayOfWeek;} public void setDayOfWeek(int d){this.dayOfWeek=d;}
+    public int getTithiIndex(){return tithiIndex;} public void setTithiIndex(int t){this.tithiIndex=t;}
+    public int getNakshatraIndex(){return nakshatraIndex;} public void setNakshatraIndex(int n){this.nakshatraIndex=n;}
+    public int getYogaIndex(){return yogaIndex;} public void setYogaIndex(int y){this.yogaIndex=y;}
+    public int getKaranaIndex(){return karanaIndex;} public void setKaranaIndex(int k){this.karanaIndex=k;}
+    public int getTithiEndMinute(){return tithiEndMinute;} public void setTithiEndMinute(int m){this.tithiEndMinute=m;}
+    public int getNakshatraEndMinute(){return nakshatraEndMinute;} public void setNakshatraEndMinute(int m){this.nakshatraEndMinute=m;}
+    public int getYogaEndMinute(){return yogaEndMinute;} public void setYogaEndMinute(int m){this.yogaEndMinute=m;}
+    public int getKaranaEndMinute(){return karanaEndMinute;} public void setKaranaEndMinute(int m){this.karanaEndMinute=m;}
+    public int getSunriseMinute(){return sunriseMinute;} public void setSunriseMinute(int m){this.sunriseMinute=m;}
+    public int getSunsetMinute(){return sunsetMinute;} public void setSunsetMinute(int m){this.sunsetMinute=m;}
+    public int getMoonriseMinute(){return moonriseMinute;} public void setMoonriseMinute(int m){this.moonriseMinute=m;}
+    public int getMoonsetMinute(){return moonsetMinute;} public void setMoonsetMinute(int m){this.moonsetMinute=m;}
+    public int getRahuStart(){return rahuStart;} public void setRahuStart(int m){this.rahuStart=m;}
+    public int getRahuEnd(){return rahuEnd;} public void setRahuEnd(int m){this.rahuEnd=m;}
+    public int getGulikaStart(){return gulikaStart;} public void setGulikaStart(int m){this.gulikaStart=m;}
+    public int getGulikaEnd(){return gulikaEnd;} public void setGulikaEnd(int m){this.gulikaEnd=m;}
+    public int getYamghantStart(){return yamghantStart;} public void setYamghantStart(int m){this.yamghantStart=m;}
+    public int getYamghantEnd(){return yamghantEnd;} public void setYamghantEnd(int m){this.yamghantEnd=m;}
+    public int getAbhijitStart(){return abhijitStart;} public void setAbhijitStart(int m){this.abhijitStart=m;}
+    public int getAbhijitEnd(){return abhijitEnd;} public void setAbhijitEnd(int m){this.abhijitEnd=m;}
+    public int getBrahmaStart(){return brahmaStart;} public void setBrahmaStart(int m){this.brahmaStart=m;}
+    public int getBrahmaEnd(){return brahmaEnd;} public void setBrahmaEnd(int m){this.brahmaEnd=m;}
+    public int getNextSunriseMinute(){return nextSunriseMinute;} public void setNextSunriseMinute(int m){this.nextSunriseMinute=m;}
+    public long getComputedAt(){return computedAt;} public void setComputedAt(long t){this.computedAt=t;}
+}
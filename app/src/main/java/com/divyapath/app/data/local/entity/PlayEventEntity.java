@@ -0,0 +1,22 @@
+package com.divyapath.app.data.local.entity;
+import androidx.annotation.NonNull; import androidx.room.Entity; import androidx.room.Ignore; import androidx.room.Index;
+/**
+ * Plays of one content item, folded into a single row as they are written. {@code score} is the
+ * time-decayed popularity kept by {@link com.divyapath.app.data.local.PlayHistory}; the position is
+ * where the last listen stopped.
+ */
+@Entity(tableName="play_events", primaryKeys={"contentType","contentId"}, indices={@Index({"contentType","score"}), @Index("score"), @Index("lastPlayedAt")})
+public class PlayEventEntity {
+    @NonNull private String contentType=""; private int contentId;
+    private int playCount; private double score; private long lastPlayedAt; private long positionMs; private long durationMs;
+    public PlayEventEntity(){}
+    @Ignore
+    public PlayEventEntity(@NonNull String contentType, int contentId){this.contentType=contentType;this.contentId=contentId;}
+    @NonNull public String getContentType(){return contentType;} public void setContentType(@NonNull String c){this.contentType=c;}
+    public int getContentId(){return contentId;} public void setContentId(int c){this.contentId=c;}
+    public int getPlayCount(){return playCount;} public void setPlayCount(int p){this.playCount=p;}
+    public double getScore(){return score;} public void setScore(double s){this.score=s;}
+    public long getLastPlayedAt(){return lastPlayedAt;} public void setLastPlayedAt(long t){this.lastPlayedAt=t;}
+    public long getPositionMs(){return positionMs;} public void setPositionMs(long p){this.positionMs=p;}
+    public long getDurationMs(){return durationMs;} public void setDurationMs(long d){this.durationMs=d;}
+}
@@ -1,20 +1,31 @@
 package com.divyapath.app.data.local.entity;
 
 import androidx.room.Entity;
+import androidx.room.Index;
 import androidx.room.PrimaryKey;
 
-@Entity(tableName = "shraddha")
+@Entity(tableName = "shraddha", indices = {@Index("nextDate")})
 public class ShraddhaEntity {
+
+    /** Krishna paksha named after the following month, as in North Indian calendars. */
+    public static final int SCHEME_PURNIMANTA = 0;
+    /** Months run new moon to new moon, as in Gujarat, Maharashtra and South India. */
+    public static final int SCHEME_AMANTA = 1;
+
     @PrimaryKey(autoGenerate = true)
     private int id;
     private String name;
     private String relationship;
     private int tithiIndex; // 0-29 (30 tithis in a lunar month)
     private int lunarMonth; // 1-12
+    private int monthScheme; // SCHEME_*, how lunarMonth is named
     private boolean isAnnual;
     private int mantraId;
     private String notes;
     private long createdAt;
+    // Next two observance days ("yyyy-MM-dd"), filled in by ShraddhaScheduler
+    private String nextDate;
+    private String followingDate;
 
     public ShraddhaEntity() {}
 
@@ -33,6 +44,9 @@ public class ShraddhaEntity {
     public int getLunarMonth() { return lunarMonth; }
     public void setLunarMonth(int lunarMonth) { this.lunarMonth = lunarMonth; }
 
+    public int getMonthScheme() { return monthScheme; }
+    public void setMonthScheme(int monthScheme) { this.monthScheme = monthScheme; }
+
     public boolean isAnnual() { return isAnnual; }
     public void setAnnual(boolean annual) { isAnnual = annual; }
 
@@ -45,6 +59,12 @@ public class ShraddhaEntity {
     public long getCreatedAt() { return createdAt; }
     public void setCreatedAt(long createdAt) { this.createdAt = createdAt; }
 
+    public String getNextDate() { return nextDate; }
+    public void setNextDate(String nextDate) { this.nextDate = nextDate; }
+
+    public String getFollowingDate() { return followingDate; }
+    public void setFollowingDate(String followingDate) { this.followingDate = followingDate; }
+
     // Helper methods
     public static String getTithiName(int index) {
         String[] tithis = {
@@ -0,0 +1,14 @@
+package com.divyapath.app.data.local.entity;
+import androidx.room.Entity; import androidx.room.Fts4;
+/** Full-text index over {@link StotraEntity} titles and text; Room's triggers keep it in sync with stotras. */
+@Fts4(contentEntity=StotraEntity.class)
+@Entity(tableName="stotras_fts")
+public class StotraFtsEntity {
+    private String title; private String titleHindi; private String textSanskrit; private String textHindi; private String textEnglish;
+    public StotraFtsEntity(){}
+    public String getTitle(){return title;} public void setTitle(String v){this.title=v;}
+    public String getTitleHindi(){return titleHindi;} public void setTitleHindi(String v){this.titleHindi=v;}
+    public String getTextSanskrit(){return textSanskrit;} public void setTextSanskrit(String v){this.textSanskrit=v;}
+    public String getTextHindi(){return textHindi;} public void setTextHindi(String v){this.textHindi=v;}
+    public String getTextEnglish(){return textEnglish;} public void setTextEnglish(String v){this.textEnglish=v;}
+}
@@ -1,6 +1,6 @@
 package com.divyapath.app.data.local.entity;
-import androidx.room.Entity; import androidx.room.PrimaryKey;
-@Entity(tableName = "temples")
+import androidx.room.Entity; import androidx.room.Index; import androidx.room.PrimaryKey;
+@Entity(tableName = "temples", indices = {@Index(value = "name", unique = true)})
 public class TempleEntity {
     @PrimaryKey(autoGenerate = true) private int id;
     private String name; private String nameHindi; private String location; private String youtubeUrl;
@@ -0,0 +1,13 @@
+package com.divyapath.app.data.local.entity;
+import androidx.room.Entity; import androidx.room.Fts4;
+/** Full-text index over {@link TempleEntity} names and descriptions; Room's triggers keep it in sync with temples. */
+@Fts4(contentEntity=TempleEntity.class)
+@Entity(tableName="temples_fts")
+public class TempleFtsEntity {
+    private String name; private String nameHindi; private String location; private String description;
+    public TempleFtsEntity(){}
+    public String getName(){return name;} public void setName(String v){this.name=v;}
+    public String getNameHindi(){return nameHindi;} public void setNameHindi(String v){this.nameHindi=v;}
+    public String getLocation(){return location;} public void setLocation(String v){this.location=v;}
+    public String getDescription(){return description;} public void setDescription(String v){this.description=v;}
+}
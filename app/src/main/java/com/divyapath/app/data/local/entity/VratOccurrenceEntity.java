@@ -0,0 +1,37 @@
+package com.divyapath.app.data.local.entity;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.ForeignKey;
+import androidx.room.Index;
+
+/** One materialised day of a {@link VratRuleEntity}; removed with its rule. */
+@Entity(tableName = "vrat_occurrences", primaryKeys = {"ruleId", "date"},
+        foreignKeys = @ForeignKey(entity = VratRuleEntity.class, parentColumns = "id",
+                childColumns = "ruleId", onDelete = ForeignKey.CASCADE),
+        indices = @Index("date"))
+public class VratOccurrenceEntity {
+
+    private int ruleId;
+    @NonNull
+    private String date = ""; // "yyyy-MM-dd"
+    private String name;      // copied from the rule so lists need no join
+
+    public VratOccurrenceEntity() {}
+
+    public VratOccurrenceEntity(int ruleId, @NonNull String date, String name) {
+        this.ruleId = ruleId;
+        this.date = date;
+        this.name = name;
+    }
+
+    public int getRuleId() { return ruleId; }
+    public void setRuleId(int ruleId) { this.ruleId = ruleId; }
+
+    @NonNull
+    public String getDate() { return date; }
+    public void setDate(@NonNull String date) { this.date = date; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+}
@@ -0,0 +1,52 @@
+package com.divyapath.app.data.local.entity;
+
+import androidx.room.Entity;
+import androidx.room.PrimaryKey;
+
+/**
+ * A user's recurring vrat, stored as the fields of a {@link com.divyapath.panchang.VratRule}.
+ * Dates are materialised into {@link VratOccurrenceEntity} by VratScheduler.
+ */
+@Entity(tableName = "vrat_rules")
+public class VratRuleEntity {
+
+    @PrimaryKey(autoGenerate = true)
+    private int id;
+    private String name;
+    private int tithi;          // 0-14 within the paksha, or -1 for a nakshatra-only rule
+    private int paksha;         // VratRule.PAKSHA_* bits
+    private int kaal;           // FestivalRule.KAAL_*; KAAL_SUNRISE is the udaya tithi
+    private int weekdayMask;    // bit Calendar.SUNDAY..SATURDAY, 0 = any day
+    private long nakshatraMask; // bit 0-26 for the nakshatra at sunrise, 0 = any
+    private boolean enabled = true;
+    private long updatedAt;
+
+    public VratRuleEntity() {}
+
+    public int getId() { return id; }
+    public void setId(int id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public int getTithi() { return tithi; }
+    public void setTithi(int tithi) { this.tithi = tithi; }
+
+    public int getPaksha() { return paksha; }
+    public void setPaksha(int paksha) { this.paksha = paksha; }
+
+    public int getKaal() { return kaal; }
+    public void setKaal(int kaal) { this.kaal = kaal; }
+
+    public int getWeekdayMask() { return weekdayMask; }
+    public void setWeekdayMask(int weekdayMask) { this.weekdayMask = weekdayMask; }
+
+    public long getNakshatraMask() { return nakshatraMask; }
+    public void setNakshatraMask(long nakshatraMask) { this.nakshatraMask = nakshatraMask; }
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public long getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(long updatedAt) { this.updatedAt = updatedAt; }
+}
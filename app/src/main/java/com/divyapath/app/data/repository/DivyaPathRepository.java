@@ -3,15 +3,42 @@ package com.divyapath.app.data.repository;
 import android.app.Application;
 
 import androidx.lifecycle.LiveData;
-
+import androidx.lifecycle.MutableLiveData;
+import androidx.paging.Pager;
+import androidx.paging.PagingConfig;
+import androidx.paging.PagingData;
+import androidx.paging.PagingLiveData;
+import androidx.paging.PagingSource;
+
+import com.divyapath.app.data.local.ContentSummary;
 import com.divyapath.app.data.local.DivyaPathDatabase;
+import com.divyapath.app.data.local.PlayedContent;
+import com.divyapath.app.data.local.SearchHit;
 import com.divyapath.app.data.local.dao.*;
 import com.divyapath.app.data.local.entity.*;
-
+import com.divyapath.app.utils.PhoneticKey;
+import com.divyapath.app.utils.ShraddhaScheduler;
+import com.divyapath.app.utils.VratScheduler;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import kotlin.jvm.functions.Function0;
 
 public class DivyaPathRepository {
 
+    /** Unified search rows that get snippets as soon as the ranking is known. */
+    public static final int SEARCH_PAGE = 20;
+
+    /** Rows per page of a content list; a page fills a screen or two of list items. */
+    private static final int LIST_PAGE = 30;
+
     private final DeityDao deityDao;
     private final AartiDao aartiDao;
     private final ChalisaDao chalisaDao;
@@ -22,8 +49,13 @@ public class DivyaPathRepository {
     private final BhajanDao bhajanDao;
     private final StotraDao stotraDao;
     private final ShraddhaDao shraddhaDao;
+    private final VratDao vratDao;
+    private final SearchDao searchDao;
+    private final PlayDao playDao;
+    private final Application application;
 
     public DivyaPathRepository(Application application) {
+        this.application = application;
         DivyaPathDatabase db = DivyaPathDatabase.getDatabase(application);
         deityDao = db.deityDao();
         aartiDao = db.aartiDao();
@@ -35,6 +67,17 @@ public class DivyaPathRepository {
         bhajanDao = db.bhajanDao();
         stotraDao = db.stotraDao();
         shraddhaDao = db.shraddhaDao();
+        vratDao = db.vratDao();
+        searchDao = db.searchDao();
+        playDao = db.playDao();
+    }
+
+    /**
+     * Pages of {@code source}, loaded as the list scrolls; Room makes a new source, starting over,
+     * whenever the table changes. Only {@link #LIST_PAGE}-row pages near the visible rows are held.
+     */
+    private static LiveData<PagingData<ContentSummary>> page(Function0<PagingSource<Integer, ContentSummary>> source) {
+        return PagingLiveData.getLiveData(new Pager<>(new PagingConfig(LIST_PAGE), source));
     }
 
     // Deity operations
@@ -51,54 +94,74 @@ public class DivyaPathRepository {
     }
 
     // Aarti operations
-    public LiveData<List<AartiEntity>> getAllAartis() {
-        return aartiDao.getAllAartis();
+    public LiveData<PagingData<ContentSummary>> getAllAartis() {
+        return page(() -> aartiDao.getAllAartis());
     }
 
     public LiveData<AartiEntity> getAartiById(int id) {
         return aartiDao.getAartiById(id);
     }
 
-    public LiveData<List<AartiEntity>> getAartisByDeity(int deityId) {
-        return aartiDao.getAartisByDeity(deityId);
+    public LiveData<PagingData<ContentSummary>> getAartisByDeity(int deityId) {
+        return page(() -> aartiDao.getAartisByDeity(deityId));
     }
 
-    public LiveData<List<AartiEntity>> getTodaysAartis(int limit) {
+    /** Every aarti of a deity in catalogue order, for a row of cards. */
+    public LiveData<List<ContentSummary>> getDeityAartis(int deityId) {
+        return aartiDao.getDeityAartis(deityId);
+    }
+
+    public LiveData<AartiEntity> getFirstAartiByDeity(int deityId) {
+        return aartiDao.getFirstAartiByDeity(deityId);
+    }
+
+    public LiveData<List<ContentSummary>> getTodaysAartis(int limit) {
         return aartiDao.getTodaysAartis(limit);
     }
 
-    public LiveData<List<AartiEntity>> getPopularAartis(int limit) {
+    public LiveData<List<ContentSummary>> getPopularAartis(int limit) {
         return aartiDao.getPopularAartis(limit);
     }
 
-    public LiveData<List<AartiEntity>> getBookmarkedAartis(int limit) {
+    public LiveData<List<ContentSummary>> getBookmarkedAartis(int limit) {
         return aartiDao.getBookmarkedAartis(limit);
     }
 
+    // Play history
+    /** Items of any type, most recently played first. */
+    public LiveData<List<PlayedContent>> getRecentlyPlayed(int limit) {
+        return playDao.getRecentlyPlayed(limit);
+    }
+
+    /** The latest item left partway through, or null when there is none. */
+    public LiveData<PlayedContent> getContinueListening() {
+        return playDao.getContinueListening();
+    }
+
     // Chalisa operations
-    public LiveData<List<ChalisaEntity>> getAllChalisas() {
-        return chalisaDao.getAllChalisas();
+    public LiveData<PagingData<ContentSummary>> getAllChalisas() {
+        return page(() -> chalisaDao.getAllChalisas());
     }
 
     public LiveData<ChalisaEntity> getChalisaById(int id) {
         return chalisaDao.getChalisaById(id);
     }
 
-    public LiveData<List<ChalisaEntity>> getChalisasByDeity(int deityId) {
-        return chalisaDao.getChalisasByDeity(deityId);
+    public LiveData<PagingData<ContentSummary>> getChalisasByDeity(int deityId) {
+        return page(() -> chalisaDao.getChalisasByDeity(deityId));
     }
 
     // Mantra operations
-    public LiveData<List<MantraEntity>> getAllMantras() {
-        return mantraDao.getAllMantras();
+    public LiveData<PagingData<ContentSummary>> getAllMantras() {
+        return page(() -> mantraDao.getAllMantras());
     }
 
     public LiveData<MantraEntity> getMantraById(int id) {
         return mantraDao.getMantraById(id);
     }
 
-    public LiveData<List<MantraEntity>> getMantrasByCategory(String category) {
-        return mantraDao.getMantrasByCategory(category);
+    public LiveData<PagingData<ContentSummary>> getMantrasByCategory(String category) {
+        return page(() -> mantraDao.getMantrasByCategory(category));
     }
 
     public LiveData<List<String>> getAllMantraCategories() {
@@ -122,6 +185,11 @@ public class DivyaPathRepository {
         return festivalDao.getNextFestival(today);
     }
 
+    /** Blocking variant for background precomputation; never call on the main thread. */
+    public List<FestivalEntity> getFestivalsBetweenSync(String startDate, String endDate) {
+        return festivalDao.getFestivalsBetweenSync(startDate, endDate);
+    }
+
     // Bookmark operations
     public LiveData<List<BookmarkEntity>> getAllBookmarks() {
         return bookmarkDao.getAllBookmarks();
@@ -142,46 +210,141 @@ public class DivyaPathRepository {
     }
 
     // Search operations
-    public LiveData<List<AartiEntity>> searchAartis(String query) {
-        return aartiDao.searchAartis(query);
-    }
-
-    public LiveData<List<ChalisaEntity>> searchChalisas(String query) {
-        return chalisaDao.searchChalisas(query);
-    }
 
-    public LiveData<List<MantraEntity>> searchMantras(String query) {
-        return mantraDao.searchMantras(query);
+    /**
+     * Every content type searched in one FTS statement on a background thread, ranked together.
+     * The ranked list is posted as soon as it is known; the first {@link #SEARCH_PAGE} rows are
+     * then re-posted with their highlighted snippets. Titles whose {@link PhoneticKey} starts with
+     * the query's lead the list. Festivals appear once, at their next date.
+     */
+    public LiveData<List<SearchHit>> searchAll(String query) {
+        MutableLiveData<List<SearchHit>> results = new MutableLiveData<>();
+        String match = SearchHit.matchExpression(query);
+        if (match == null) {
+            results.setValue(Collections.emptyList());
+            return results;
+        }
+        DivyaPathDatabase.databaseWriteExecutor.execute(() -> {
+            String today = new SimpleDateFormat("yyyy-MM-dd", Locale.ENGLISH).format(new Date());
+            List<SearchHit> ranked = SearchHit.rank(searchDao.search(match, today));
+            // Festival rows repeat per year; keep the best-ranked, earliest one per name
+            Map<String, SearchHit> festivals = new HashMap<>();
+            List<SearchHit> merged = new ArrayList<>(ranked.size());
+            for (SearchHit hit : ranked) {
+                if (SearchHit.TYPE_FESTIVAL.equals(hit.type)) {
+                    SearchHit seen = festivals.get(hit.title);
+                    if (seen != null) {
+                        if (hit.date.compareTo(seen.date) < 0) seen.date = hit.date;
+                        continue;
+                    }
+                    festivals.put(hit.title, hit);
+                }
+                merged.add(hit);
+            }
+            // Titles that sound like the query lead, whatever script or spelling either used
+            String key = PhoneticKey.of(query);
+            if (key != null) {
+                List<SearchHit> sounding = searchDao.phonetic(key, PhoneticKey.upperBound(key));
+                if (!sounding.isEmpty()) {
+                    Map<String, SearchHit> byKey = new HashMap<>();
+                    for (SearchHit hit : merged) byKey.put(hit.type + ":" + hit.id, hit);
+                    List<SearchHit> lead = new ArrayList<>(sounding.size());
+                    for (SearchHit hit : sounding) {
+                        SearchHit scored = byKey.get(hit.type + ":" + hit.id);
+                        lead.add(scored != null ? scored : hit);
+                    }
+                    merged.removeAll(lead);
+                    merged.addAll(0, lead);
+                }
+            }
+            results.postValue(merged);
+            if (merged.isEmpty()) return;
+
+            int page = Math.min(SEARCH_PAGE, merged.size());
+            Map<String, List<Integer>> ids = new HashMap<>();
+            for (String type : SEARCH_TYPES) ids.put(type, new ArrayList<>());
+            for (int i = 0; i < page; i++) ids.get(merged.get(i).type).add(merged.get(i).id);
+            Map<String, String> snippets = new HashMap<>();
+            for (SearchHit s : searchDao.snippets(match, ids.get(SearchHit.TYPE_AARTI), ids.get(SearchHit.TYPE_CHALISA),
+                    ids.get(SearchHit.TYPE_MANTRA), ids.get(SearchHit.TYPE_BHAJAN), ids.get(SearchHit.TYPE_STOTRA),
+                    ids.get(SearchHit.TYPE_TEMPLE), ids.get(SearchHit.TYPE_FESTIVAL))) {
+                snippets.put(s.type + ":" + s.id, s.snippet);
+            }
+            List<SearchHit> withSnippets = new ArrayList<>(merged);
+            for (int i = 0; i < page; i++) {
+                SearchHit hit = merged.get(i);
+                withSnippets.set(i, hit.withSnippet(snippets.get(hit.type + ":" + hit.id)));
+            }
+            results.postValue(withSnippets);
+        });
+        return results;
+    }
+
+    private static final String[] SEARCH_TYPES = {
+            SearchHit.TYPE_AARTI, SearchHit.TYPE_CHALISA, SearchHit.TYPE_MANTRA, SearchHit.TYPE_BHAJAN,
+            SearchHit.TYPE_STOTRA, SearchHit.TYPE_TEMPLE, SearchHit.TYPE_FESTIVAL,
+    };
+
+    public LiveData<PagingData<ContentSummary>> searchAartis(String query) {
+        String match = SearchHit.matchExpression(query);
+        if (match == null) return new MutableLiveData<>(PagingData.empty());
+        String key = PhoneticKey.of(query);
+        String keyEnd = key == null ? null : PhoneticKey.upperBound(key);
+        return page(() -> aartiDao.searchAartis(match, key, keyEnd));
+    }
+
+    public LiveData<PagingData<ContentSummary>> searchChalisas(String query) {
+        String match = SearchHit.matchExpression(query);
+        if (match == null) return new MutableLiveData<>(PagingData.empty());
+        String key = PhoneticKey.of(query);
+        String keyEnd = key == null ? null : PhoneticKey.upperBound(key);
+        return page(() -> chalisaDao.searchChalisas(match, key, keyEnd));
+    }
+
+    public LiveData<PagingData<ContentSummary>> searchMantras(String query) {
+        String match = SearchHit.matchExpression(query);
+        if (match == null) return new MutableLiveData<>(PagingData.empty());
+        String key = PhoneticKey.of(query);
+        String keyEnd = key == null ? null : PhoneticKey.upperBound(key);
+        return page(() -> mantraDao.searchMantras(match, key, keyEnd));
     }
 
     // Bhajan operations
-    public LiveData<List<BhajanEntity>> getAllBhajans() {
-        return bhajanDao.getAllBhajans();
+    public LiveData<PagingData<ContentSummary>> getAllBhajans() {
+        return page(() -> bhajanDao.getAllBhajans());
     }
 
     public LiveData<BhajanEntity> getBhajanById(int id) {
         return bhajanDao.getBhajanById(id);
     }
 
-    public LiveData<List<BhajanEntity>> getBhajansByCategory(String category) {
-        return bhajanDao.getBhajansByCategory(category);
+    public LiveData<PagingData<ContentSummary>> getBhajansByCategory(String category) {
+        return page(() -> bhajanDao.getBhajansByCategory(category));
     }
 
-    public LiveData<List<BhajanEntity>> searchBhajans(String query) {
-        return bhajanDao.searchBhajans(query);
+    public LiveData<PagingData<ContentSummary>> searchBhajans(String query) {
+        String match = SearchHit.matchExpression(query);
+        if (match == null) return new MutableLiveData<>(PagingData.empty());
+        String key = PhoneticKey.of(query);
+        String keyEnd = key == null ? null : PhoneticKey.upperBound(key);
+        return page(() -> bhajanDao.searchBhajans(match, key, keyEnd));
     }
 
     // Stotra operations
-    public LiveData<List<StotraEntity>> getAllStotras() {
-        return stotraDao.getAllStotras();
+    public LiveData<PagingData<ContentSummary>> getAllStotras() {
+        return page(() -> stotraDao.getAllStotras());
     }
 
     public LiveData<StotraEntity> getStotraById(int id) {
         return stotraDao.getStotraById(id);
     }
 
-    public LiveData<List<StotraEntity>> searchStotras(String query) {
-        return stotraDao.searchStotras(query);
+    public LiveData<PagingData<ContentSummary>> searchStotras(String query) {
+        String match = SearchHit.matchExpression(query);
+        if (match == null) return new MutableLiveData<>(PagingData.empty());
+        String key = PhoneticKey.of(query);
+        String keyEnd = key == null ? null : PhoneticKey.upperBound(key);
+        return page(() -> stotraDao.searchStotras(match, key, keyEnd));
     }
 
     // Temple operations
@@ -206,12 +369,19 @@ public class DivyaPathRepository {
         return shraddhaDao.getShraddhaById(id);
     }
 
+    // Writes re-project the observance dates so lists and reminders read them directly
     public void insertShraddha(ShraddhaEntity shraddha) {
-        DivyaPathDatabase.databaseWriteExecutor.execute(() -> shraddhaDao.insert(shraddha));
+        DivyaPathDatabase.databaseWriteExecutor.execute(() -> {
+            shraddhaDao.insert(shraddha);
+            ShraddhaScheduler.refresh(application);
+        });
     }
 
     public void updateShraddha(ShraddhaEntity shraddha) {
-        DivyaPathDatabase.databaseWriteExecutor.execute(() -> shraddhaDao.update(shraddha));
+        DivyaPathDatabase.databaseWriteExecutor.execute(() -> {
+            shraddhaDao.update(shraddha);
+            ShraddhaScheduler.refresh(application);
+        });
     }
 
     public void deleteShraddha(ShraddhaEntity shraddha) {
@@ -222,6 +392,36 @@ public class DivyaPathRepository {
         DivyaPathDatabase.databaseWriteExecutor.execute(() -> shraddhaDao.deleteById(id));
     }
 
+    // Vrat operations
+    public LiveData<List<VratRuleEntity>> getAllVratRules() {
+        return vratDao.getAllRules();
+    }
+
+    public LiveData<List<VratOccurrenceEntity>> getUpcomingVrats(String fromDate, int limit) {
+        return vratDao.getUpcoming(fromDate, limit);
+    }
+
+    // Writes re-date only the rule touched; other rules keep their materialised rows
+    public void insertVratRule(VratRuleEntity rule) {
+        DivyaPathDatabase.databaseWriteExecutor.execute(() -> {
+            rule.setUpdatedAt(System.currentTimeMillis());
+            int id = (int) vratDao.insert(rule);
+            VratScheduler.onRuleChanged(application, id);
+        });
+    }
+
+    public void updateVratRule(VratRuleEntity rule) {
+        DivyaPathDatabase.databaseWriteExecutor.execute(() -> {
+            rule.setUpdatedAt(System.currentTimeMillis());
+            vratDao.update(rule);
+            VratScheduler.onRuleChanged(application, rule.getId());
+        });
+    }
+
+    public void deleteVratRuleById(int id) {
+        DivyaPathDatabase.databaseWriteExecutor.execute(() -> vratDao.deleteById(id));
+    }
+
     // Audio cache operations
     public void updateAartiCacheStatus(int id, boolean cached, String path) {
         DivyaPathDatabase.databaseWriteExecutor.execute(() ->
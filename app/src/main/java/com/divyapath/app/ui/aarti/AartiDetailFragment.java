@@ -19,6 +19,7 @@ import com.divyapath.app.audio.AudioPlayerManager;
 import com.divyapath.app.audio.AudioSource;
 import com.divyapath.app.audio.AudioSourceResolver;
 import com.divyapath.app.audio.AudioTrack;
+import com.divyapath.app.data.local.PlayHistory;
 import com.divyapath.app.data.local.entity.AartiEntity;
 import com.divyapath.app.databinding.FragmentAartiDetailBinding;
 import com.divyapath.app.utils.PreferenceManager;
@@ -166,9 +167,9 @@ public class AartiDetailFragment extends Fragment {
     }
 
     private void observeFirstAartiForDeity(int deityId) {
-        vm.getAartisByDeity(deityId).observe(getViewLifecycleOwner(), aartis -> {
-            if (aartis == null || aartis.isEmpty()) return;
-            bindAarti(aartis.get(0));
+        vm.getFirstAartiByDeity(deityId).observe(getViewLifecycleOwner(), aarti -> {
+            if (aarti == null) return;
+            bindAarti(aarti);
         });
     }
 
@@ -180,6 +181,7 @@ public class AartiDetailFragment extends Fragment {
                 aarti.getTitleHindi() != null ? aarti.getTitleHindi() : aarti.getTitle());
         binding.tvAartiLyrics.setText(aarti.getLyricsHindi());
         ttsPlayer.setText(aarti.getLyricsHindi());
+        ttsPlayer.setContentId(aarti.getId());
 
         // Resolve audio source using the 4-tier fallback
         boolean hasLyrics = !TextUtils.isEmpty(aarti.getLyricsHindi());
@@ -204,6 +206,17 @@ public class AartiDetailFragment extends Fragment {
 
         activeTarget = resolvePlaybackTarget();
         updatePlaybackUiForTarget();
+
+        long resumeMs = PlayHistory.takeResumePosition(getArguments());
+        if (resumeMs > 0) resumeSinging(resumeMs);
+    }
+
+    /** Continue Listening: start the recording where it was left; reading has no position to resume. */
+    private void resumeSinging(long positionMs) {
+        if (activeTarget != PlaybackTarget.SINGING || currentAudioSource == null || currentAudioSource.isTts()) return;
+        String audioUrl = currentAudioSource.getResolvedUrl();
+        if (TextUtils.isEmpty(audioUrl)) return;
+        audioPlayer.play(buildAudioTrack(currentAarti, audioUrl), positionMs);
     }
 
     private void bindBookmark(int aartiId) {
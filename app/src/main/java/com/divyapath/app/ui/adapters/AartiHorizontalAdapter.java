@@ -12,15 +12,15 @@ import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.divyapath.app.R;
-import com.divyapath.app.data.local.entity.AartiEntity;
+import com.divyapath.app.data.local.ContentSummary;
 import com.divyapath.app.utils.DeityIconMapper;
 
-public class AartiHorizontalAdapter extends ListAdapter<AartiEntity, AartiHorizontalAdapter.ViewHolder> {
+public class AartiHorizontalAdapter extends ListAdapter<ContentSummary, AartiHorizontalAdapter.ViewHolder> {
 
     private final OnAartiClickListener listener;
 
     public interface OnAartiClickListener {
-        void onAartiClick(AartiEntity aarti);
+        void onAartiClick(ContentSummary aarti);
     }
 
     public AartiHorizontalAdapter(OnAartiClickListener listener) {
@@ -28,16 +28,16 @@ public class AartiHorizontalAdapter extends ListAdapter<AartiEntity, AartiHorizo
         this.listener = listener;
     }
 
-    private static final DiffUtil.ItemCallback<AartiEntity> DIFF_CALLBACK =
-            new DiffUtil.ItemCallback<AartiEntity>() {
+    private static final DiffUtil.ItemCallback<ContentSummary> DIFF_CALLBACK =
+            new DiffUtil.ItemCallback<ContentSummary>() {
                 @Override
-                public boolean areItemsTheSame(@NonNull AartiEntity oldItem, @NonNull AartiEntity newItem) {
-                    return oldItem.getId() == newItem.getId();
+                public boolean areItemsTheSame(@NonNull ContentSummary oldItem, @NonNull ContentSummary newItem) {
+                    return oldItem.id == newItem.id;
                 }
 
                 @Override
-                public boolean areContentsTheSame(@NonNull AartiEntity oldItem, @NonNull AartiEntity newItem) {
-                    return oldItem.getTitle().equals(newItem.getTitle());
+                public boolean areContentsTheSame(@NonNull ContentSummary oldItem, @NonNull ContentSummary newItem) {
+                    return oldItem.equals(newItem);
                 }
             };
 
@@ -51,7 +51,7 @@ public class AartiHorizontalAdapter extends ListAdapter<AartiEntity, AartiHorizo
 
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        AartiEntity aarti = getItem(position);
+        ContentSummary aarti = getItem(position);
         holder.bind(aarti, listener);
     }
 
@@ -67,10 +67,10 @@ public class AartiHorizontalAdapter extends ListAdapter<AartiEntity, AartiHorizo
             tvSubtitle = itemView.findViewById(R.id.tv_aarti_subtitle);
         }
 
-        void bind(AartiEntity aarti, OnAartiClickListener listener) {
-            tvTitle.setText(aarti.getTitleHindi() != null ? aarti.getTitleHindi() : aarti.getTitle());
-            tvSubtitle.setText(aarti.getTitle());
-            ivDeity.setImageResource(DeityIconMapper.getIconForDeityId(aarti.getDeityId()));
+        void bind(ContentSummary aarti, OnAartiClickListener listener) {
+            tvTitle.setText(aarti.subtitle != null ? aarti.subtitle : aarti.title);
+            tvSubtitle.setText(aarti.title);
+            ivDeity.setImageResource(DeityIconMapper.getIconForDeityId(aarti.deityId));
             itemView.setOnClickListener(v -> listener.onAartiClick(aarti));
         }
     }
@@ -0,0 +1,82 @@
+package com.divyapath.app.ui.adapters;
+
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.ImageView;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.divyapath.app.R;
+import com.divyapath.app.data.local.PlayedContent;
+import com.divyapath.app.utils.DeityIconMapper;
+
+import java.util.Objects;
+
+/** Cards for recently played items of any type, in the same style as the aarti rows. */
+public class PlayedContentAdapter extends ListAdapter<PlayedContent, PlayedContentAdapter.ViewHolder> {
+
+    private final OnPlayedClickListener listener;
+
+    public interface OnPlayedClickListener {
+        void onPlayedClick(PlayedContent item);
+    }
+
+    public PlayedContentAdapter(OnPlayedClickListener listener) {
+        super(DIFF_CALLBACK);
+        this.listener = listener;
+    }
+
+    // Play counts and positions change on every flush; only what the card shows counts as a change
+    private static final DiffUtil.ItemCallback<PlayedContent> DIFF_CALLBACK =
+            new DiffUtil.ItemCallback<PlayedContent>() {
+                @Override
+                public boolean areItemsTheSame(@NonNull PlayedContent oldItem, @NonNull PlayedContent newItem) {
+                    return oldItem.contentId == newItem.contentId
+                            && Objects.equals(oldItem.contentType, newItem.contentType);
+                }
+
+                @Override
+                public boolean areContentsTheSame(@NonNull PlayedContent oldItem, @NonNull PlayedContent newItem) {
+                    return oldItem.deityId == newItem.deityId && Objects.equals(oldItem.title, newItem.title)
+                            && Objects.equals(oldItem.subtitle, newItem.subtitle);
+                }
+            };
+
+    @NonNull
+    @Override
+    public ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        View view = LayoutInflater.from(parent.getContext())
+                .inflate(R.layout.item_aarti_horizontal, parent, false);
+        return new ViewHolder(view);
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
+        holder.bind(getItem(position), listener);
+    }
+
+    static class ViewHolder extends RecyclerView.ViewHolder {
+        private final ImageView ivDeity;
+        private final TextView tvTitle;
+        private final TextView tvSubtitle;
+
+        ViewHolder(@NonNull View itemView) {
+            super(itemView);
+            ivDeity = itemView.findViewById(R.id.iv_aarti_deity);
+            tvTitle = itemView.findViewById(R.id.tv_aarti_title);
+            tvSubtitle = itemView.findViewById(R.id.tv_aarti_subtitle);
+        }
+
+        void bind(PlayedContent item, OnPlayedClickListener listener) {
+            tvTitle.setText(item.subtitle != null ? item.subtitle : item.title);
+            tvSubtitle.setText(item.title);
+            ivDeity.setImageResource(DeityIconMapper.getIconForDeityId(item.deityId));
+            itemView.setOnClickListener(v -> listener.onPlayedClick(item));
+        }
+    }
+}
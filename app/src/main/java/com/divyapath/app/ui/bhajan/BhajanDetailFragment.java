@@ -13,6 +13,7 @@ import androidx.fragment.app.Fragment;
 import androidx.lifecycle.ViewModelProvider;
 
 import com.divyapath.app.R;
+import com.divyapath.app.data.local.PlayHistory;
 import com.divyapath.app.databinding.FragmentBhajanDetailBinding;
 import com.divyapath.app.utils.PreferenceManager;
 import com.divyapath.app.utils.TtsPlayerManager;
@@ -55,7 +56,9 @@ public class BhajanDetailFragment extends Fragment {
                 }
 
                 ttsPlayer.setText(bhajan.getLyricsHindi());
+                ttsPlayer.setContentId(bhajan.getId());
                 ttsPlayer.setAudioUrl(bhajan.getArchiveOrgUrl());
+                ttsPlayer.resumeFrom(PlayHistory.takeResumePosition(getArguments()));
             }
         });
 
@@ -8,32 +8,32 @@ import android.widget.ImageView;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.paging.PagingDataAdapter;
 import androidx.recyclerview.widget.DiffUtil;
-import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.divyapath.app.R;
-import com.divyapath.app.data.local.entity.BhajanEntity;
+import com.divyapath.app.data.local.ContentSummary;
 import com.divyapath.app.utils.DeityIconMapper;
 
-public class BhajanListAdapter extends ListAdapter<BhajanEntity, BhajanListAdapter.VH> {
+public class BhajanListAdapter extends PagingDataAdapter<ContentSummary, BhajanListAdapter.VH> {
 
     public interface OnBhajanClickListener {
-        void onBhajanClick(BhajanEntity bhajan);
+        void onBhajanClick(ContentSummary bhajan);
     }
 
     private final OnBhajanClickListener listener;
 
     public BhajanListAdapter(OnBhajanClickListener l) {
-        super(new DiffUtil.ItemCallback<BhajanEntity>() {
+        super(new DiffUtil.ItemCallback<ContentSummary>() {
             @Override
-            public boolean areItemsTheSame(@NonNull BhajanEntity o, @NonNull BhajanEntity n) {
-                return o.getId() == n.getId();
+            public boolean areItemsTheSame(@NonNull ContentSummary o, @NonNull ContentSummary n) {
+                return o.id == n.id;
             }
 
             @Override
-            public boolean areContentsTheSame(@NonNull BhajanEntity o, @NonNull BhajanEntity n) {
-                return o.getTitle().equals(n.getTitle());
+            public boolean areContentsTheSame(@NonNull ContentSummary o, @NonNull ContentSummary n) {
+                return o.equals(n);
             }
         });
         this.listener = l;
@@ -47,16 +47,17 @@ public class BhajanListAdapter extends ListAdapter<BhajanEntity, BhajanListAdapt
 
     @Override
     public void onBindViewHolder(@NonNull VH h, int pos) {
-        BhajanEntity b = getItem(pos);
-        h.title.setText(b.getTitle());
-        h.titleHindi.setText(b.getTitleHindi());
-        if (b.getCategory() != null && !b.getCategory().isEmpty()) {
-            h.category.setText(b.getCategory());
+        ContentSummary b = getItem(pos);
+        if (b == null) return;
+        h.title.setText(b.title);
+        h.titleHindi.setText(b.subtitle);
+        if (b.category != null && !b.category.isEmpty()) {
+            h.category.setText(b.category);
             h.category.setVisibility(View.VISIBLE);
         } else {
             h.category.setVisibility(View.GONE);
         }
-        h.icon.setImageResource(DeityIconMapper.getIconForDeityId(b.getDeityId()));
+        h.icon.setImageResource(DeityIconMapper.getIconForDeityId(b.deityId));
         h.itemView.setOnClickListener(v -> listener.onBhajanClick(b));
         h.playBtn.setOnClickListener(v -> listener.onBhajanClick(b));
     }
@@ -35,7 +35,7 @@ public class BhajanListFragment extends Fragment {
 
         BhajanListAdapter adapter = new BhajanListAdapter(bhajan -> {
             Bundle args = new Bundle();
-            args.putInt("contentId", bhajan.getId());
+            args.putInt("contentId", bhajan.id);
             Navigation.findNavController(v).navigate(R.id.bhajanDetailFragment, args);
         });
 
@@ -61,7 +61,8 @@ public class BhajanListFragment extends Fragment {
             public void onTabReselected(TabLayout.Tab tab) {}
         });
 
-        vm.getFilteredBhajans().observe(getViewLifecycleOwner(), adapter::submitList);
+        vm.getFilteredBhajans().observe(getViewLifecycleOwner(),
+                data -> adapter.submitData(getViewLifecycleOwner().getLifecycle(), data));
 
         binding.toolbarBhajan.setNavigationOnClickListener(x ->
                 Navigation.findNavController(v).popBackStack());
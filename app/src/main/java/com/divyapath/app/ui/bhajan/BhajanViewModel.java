@@ -7,36 +7,32 @@ import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 import androidx.lifecycle.Transformations;
+import androidx.paging.PagingData;
+import androidx.paging.PagingLiveData;
 
+import com.divyapath.app.data.local.ContentSummary;
 import com.divyapath.app.data.local.entity.BhajanEntity;
 import com.divyapath.app.data.repository.DivyaPathRepository;
 
-import java.util.List;
-
 public class BhajanViewModel extends AndroidViewModel {
 
     private final DivyaPathRepository repo;
-    private final LiveData<List<BhajanEntity>> allBhajans;
     private final MutableLiveData<String> categoryFilter = new MutableLiveData<>("All");
-    private final LiveData<List<BhajanEntity>> filteredBhajans;
+    private final LiveData<PagingData<ContentSummary>> filteredBhajans;
 
     public BhajanViewModel(@NonNull Application app) {
         super(app);
         repo = new DivyaPathRepository(app);
-        allBhajans = repo.getAllBhajans();
-        filteredBhajans = Transformations.switchMap(categoryFilter, category -> {
+        // Cached in the view model so loaded pages survive rotation; a new category replaces the old pages
+        filteredBhajans = PagingLiveData.cachedIn(Transformations.switchMap(categoryFilter, category -> {
             if (category == null || category.equals("All")) {
-                return allBhajans;
+                return repo.getAllBhajans();
             }
             return repo.getBhajansByCategory(category);
-        });
-    }
-
-    public LiveData<List<BhajanEntity>> getAllBhajans() {
-        return allBhajans;
+        }), this);
     }
 
-    public LiveData<List<BhajanEntity>> getFilteredBhajans() {
+    public LiveData<PagingData<ContentSummary>> getFilteredBhajans() {
         return filteredBhajans;
     }
 
@@ -15,6 +15,7 @@ import androidx.fragment.app.Fragment;
 import androidx.lifecycle.ViewModelProvider;
 
 import com.divyapath.app.R;
+import com.divyapath.app.data.local.PlayHistory;
 import com.divyapath.app.databinding.FragmentChalisaDetailBinding;
 import com.divyapath.app.utils.PreferenceManager;
 import com.divyapath.app.utils.TtsPlayerManager;
@@ -52,7 +53,9 @@ public class ChalisaDetailFragment extends Fragment {
                         ch.getTitleHindi() != null ? ch.getTitleHindi() : ch.getTitle());
                 binding.tvChalisaContent.setText(ch.getContent());
                 ttsPlayer.setText(ch.getContent());
+                ttsPlayer.setContentId(ch.getId());
                 ttsPlayer.setAudioUrl(ch.getArchiveOrgUrl());
+                ttsPlayer.resumeFrom(PlayHistory.takeResumePosition(getArguments()));
 
                 binding.btnShareChalisa.setOnClickListener(x -> {
                     Intent s = new Intent(Intent.ACTION_SEND);
@@ -7,9 +7,9 @@ public class ChalisaListFragment extends Fragment {
     private FragmentChalisaListBinding binding;
     @Nullable @Override public View onCreateView(@NonNull LayoutInflater i,@Nullable ViewGroup c,@Nullable Bundle b){binding=FragmentChalisaListBinding.inflate(i,c,false);return binding.getRoot();}
     @Override public void onViewCreated(@NonNull View v,@Nullable Bundle b){super.onViewCreated(v,b);ChalisaViewModel vm=new ViewModelProvider(this).get(ChalisaViewModel.class);
-        ChalisaListAdapter a=new ChalisaListAdapter(ch->{Bundle args=new Bundle();args.putInt("contentId",ch.getId());Navigation.findNavController(v).navigate(R.id.chalisaDetailFragment,args);});
+        ChalisaListAdapter a=new ChalisaListAdapter(ch->{Bundle args=new Bundle();args.putInt("contentId",ch.id);Navigation.findNavController(v).navigate(R.id.chalisaDetailFragment,args);});
         binding.rvChalisaList.setLayoutManager(new GridLayoutManager(requireContext(),2));binding.rvChalisaList.setAdapter(a);
-        vm.getSearchResults().observe(getViewLifecycleOwner(),a::submitList);
+        vm.getSearchResults().observe(getViewLifecycleOwner(),data->a.submitData(getViewLifecycleOwner().getLifecycle(),data));
         binding.searchChalisa.setOnQueryTextListener(new SearchView.OnQueryTextListener(){
             @Override public boolean onQueryTextSubmit(String q){return false;}
             @Override public boolean onQueryTextChange(String q){vm.setSearchQuery(q);return true;}
@@ -1,18 +1,18 @@
 package com.divyapath.app.ui.chalisa;
-import android.app.Application; import androidx.annotation.NonNull; import androidx.lifecycle.*;
-import com.divyapath.app.data.local.entity.ChalisaEntity; import com.divyapath.app.data.repository.DivyaPathRepository; import java.util.List;
+import android.app.Application; import androidx.annotation.NonNull; import androidx.lifecycle.*; import androidx.paging.PagingData; import androidx.paging.PagingLiveData;
+import com.divyapath.app.data.local.ContentSummary; import com.divyapath.app.data.local.entity.ChalisaEntity; import com.divyapath.app.data.repository.DivyaPathRepository;
 public class ChalisaViewModel extends AndroidViewModel {
-    private final DivyaPathRepository repo; private final LiveData<List<ChalisaEntity>> all;
+    private final DivyaPathRepository repo; private final LiveData<PagingData<ContentSummary>> all;
     private final MutableLiveData<String> searchQuery = new MutableLiveData<>("");
-    private final LiveData<List<ChalisaEntity>> searchResults;
+    private final LiveData<PagingData<ContentSummary>> searchResults;
     public ChalisaViewModel(@NonNull Application app){super(app);repo=new DivyaPathRepository(app);all=repo.getAllChalisas();
-        searchResults = Transformations.switchMap(searchQuery, q -> {
+        // Cached in the view model so loaded pages survive rotation; a new query replaces the old pages
+        searchResults = PagingLiveData.cachedIn(Transformations.switchMap(searchQuery, q -> {
             if (q == null || q.trim().isEmpty()) return all;
             return repo.searchChalisas(q.trim());
-        });
+        }), this);
     }
-    public LiveData<List<ChalisaEntity>> getAllChalisas(){return all;}
+    public LiveData<PagingData<ContentSummary>> getSearchResults(){return searchResults;}
     public LiveData<ChalisaEntity> getChalisaById(int id){return repo.getChalisaById(id);}
-    public LiveData<List<ChalisaEntity>> getSearchResults(){return searchResults;}
     public void setSearchQuery(String query){searchQuery.setValue(query);}
 }
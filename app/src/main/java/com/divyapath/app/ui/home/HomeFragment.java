@@ -3,6 +3,8 @@ package com.divyapath.app.ui.home;
 import android.content.Intent;
 import android.net.Uri;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -17,8 +19,12 @@ import androidx.recyclerview.widget.LinearLayoutManager;
 import com.divyapath.app.R;
 import com.divyapath.app.audio.AudioPlayerManager;
 import com.divyapath.app.audio.AudioTrack;
+import com.divyapath.app.data.local.PlayHistory;
+import com.divyapath.app.data.local.PlayedContent;
+import com.divyapath.app.data.local.SearchHit;
 import com.divyapath.app.databinding.FragmentHomeBinding;
 import com.divyapath.app.ui.adapters.AartiHorizontalAdapter;
+import com.divyapath.app.ui.adapters.PlayedContentAdapter;
 import com.divyapath.app.utils.DeityIconMapper;
 import com.divyapath.app.utils.FestivalMissionData;
 import com.divyapath.app.utils.PreferenceManager;
@@ -39,9 +45,24 @@ public class HomeFragment extends Fragment {
     private HomeViewModel viewModel;
     private AartiHorizontalAdapter aartiAdapter;
     private AartiHorizontalAdapter popularAartiAdapter;
+    private PlayedContentAdapter recentlyPlayedAdapter;
     private PanchangInsightAdapter insightAdapter;
     private AudioPlayerManager audioPlayerManager;
 
+    // What the Continue Listening card shows: the loaded track, else the last unfinished listen
+    @Nullable private AudioTrack currentTrack;
+    @Nullable private PlayedContent unfinishedListen;
+
+    // Re-evaluates the guidance card on each minute boundary while the screen is visible
+    private final Handler minuteHandler = new Handler(Looper.getMainLooper());
+    private final Runnable minuteTick = new Runnable() {
+        @Override
+        public void run() {
+            viewModel.refreshInsights();
+            minuteHandler.postDelayed(this, 60_000 - System.currentTimeMillis() % 60_000);
+        }
+    };
+
     @Nullable
     @Override
     public View onCreateView(@NonNull LayoutInflater inflater, @Nullable ViewGroup container,
@@ -58,6 +79,7 @@ public class HomeFragment extends Fragment {
 
         setupAartiRecyclerView();
         setupPopularAartis();
+        setupRecentlyPlayed();
         setupInsightsRecyclerView();
         observeViewModel();
         observeAudioPlayer();
@@ -68,7 +90,7 @@ public class HomeFragment extends Fragment {
     private void setupAartiRecyclerView() {
         aartiAdapter = new AartiHorizontalAdapter(aarti -> {
             Bundle args = new Bundle();
-            args.putInt("contentId", aarti.getId());
+            args.putInt("contentId", aarti.id);
             Navigation.findNavController(requireView())
                     .navigate(R.id.action_homeFragment_to_aartiDetailFragment, args);
         });
@@ -88,7 +110,7 @@ public class HomeFragment extends Fragment {
     private void setupPopularAartis() {
         popularAartiAdapter = new AartiHorizontalAdapter(aarti -> {
             Bundle args = new Bundle();
-            args.putInt("contentId", aarti.getId());
+            args.putInt("contentId", aarti.id);
             Navigation.findNavController(requireView())
                     .navigate(R.id.action_homeFragment_to_aartiDetailFragment, args);
         });
@@ -97,6 +119,30 @@ public class HomeFragment extends Fragment {
         binding.rvPopularAartis.setAdapter(popularAartiAdapter);
     }
 
+    private void setupRecentlyPlayed() {
+        recentlyPlayedAdapter = new PlayedContentAdapter(item -> openDetail(item, false));
+        binding.rvRecentlyPlayed.setLayoutManager(
+                new LinearLayoutManager(requireContext(), LinearLayoutManager.HORIZONTAL, false));
+        binding.rvRecentlyPlayed.setAdapter(recentlyPlayedAdapter);
+    }
+
+    /** Opens the detail screen of a played item of any type, resuming its stream if {@code resume}. */
+    private void openDetail(PlayedContent item, boolean resume) {
+        int destination;
+        switch (item.contentType) {
+            case SearchHit.TYPE_AARTI: destination = R.id.aartiDetailFragment; break;
+            case SearchHit.TYPE_CHALISA: destination = R.id.chalisaDetailFragment; break;
+            case SearchHit.TYPE_MANTRA: destination = R.id.mantraDetailFragment; break;
+            case SearchHit.TYPE_BHAJAN: destination = R.id.bhajanDetailFragment; break;
+            case SearchHit.TYPE_STOTRA: destination = R.id.stotraDetailFragment; break;
+            default: return;
+        }
+        Bundle args = new Bundle();
+        args.putInt("contentId", item.contentId);
+        if (resume) args.putLong(PlayHistory.ARG_RESUME_POSITION, item.positionMs);
+        Navigation.findNavController(requireView()).navigate(destination, args);
+    }
+
     private void observeViewModel() {
         // Greeting
         viewModel.getGreeting().observe(getViewLifecycleOwner(), greeting ->
@@ -119,6 +165,11 @@ public class HomeFragment extends Fragment {
             }
         });
 
+        viewModel.getInsightCountdown().observe(getViewLifecycleOwner(), countdown -> {
+            binding.tvInsightCountdown.setText(countdown);
+            binding.tvInsightCountdown.setVisibility(countdown != null ? View.VISIBLE : View.GONE);
+        });
+
         // Today's Deity
         viewModel.getTodaysDeity().observe(getViewLifecycleOwner(), deity -> {
             if (deity != null) {
@@ -147,6 +198,20 @@ public class HomeFragment extends Fragment {
             }
         });
 
+        // Recently Played (any content type; hidden until something has been played)
+        viewModel.getRecentlyPlayed().observe(getViewLifecycleOwner(), played -> {
+            boolean show = played != null && !played.isEmpty();
+            binding.tvRecentlyPlayedHeader.setVisibility(show ? View.VISIBLE : View.GONE);
+            binding.rvRecentlyPlayed.setVisibility(show ? View.VISIBLE : View.GONE);
+            recentlyPlayedAdapter.submitList(played);
+        });
+
+        // Continue Listening from play history, for when nothing is loaded in the player
+        viewModel.getContinueListening().observe(getViewLifecycleOwner(), listen -> {
+            unfinishedListen = listen;
+            bindContinueListening();
+        });
+
         // Daily Shloka
         viewModel.getDailyShloka().observe(getViewLifecycleOwner(), shloka -> {
             if (shloka != null) {
@@ -216,14 +281,8 @@ public class HomeFragment extends Fragment {
     private void observeAudioPlayer() {
         // Continue Listening card — observe current track from singleton
         audioPlayerManager.getCurrentTrackLiveData().observe(getViewLifecycleOwner(), track -> {
-            if (track != null) {
-                binding.cardContinueListening.setVisibility(View.VISIBLE);
-                binding.tvContinueTitle.setText(track.getTitle());
-                binding.tvContinueSubtitle.setText(
-                        track.getDeityName() != null ? track.getDeityName() : track.getSubtitle());
-            } else {
-                binding.cardContinueListening.setVisibility(View.GONE);
-            }
+            currentTrack = track;
+            bindContinueListening();
         });
 
         // Update play/pause icon on Continue Listening card
@@ -235,6 +294,21 @@ public class HomeFragment extends Fragment {
         });
     }
 
+    private void bindContinueListening() {
+        if (currentTrack != null) {
+            binding.cardContinueListening.setVisibility(View.VISIBLE);
+            binding.tvContinueTitle.setText(currentTrack.getTitle());
+            binding.tvContinueSubtitle.setText(
+                    currentTrack.getDeityName() != null ? currentTrack.getDeityName() : currentTrack.getSubtitle());
+        } else if (unfinishedListen != null) {
+            binding.cardContinueListening.setVisibility(View.VISIBLE);
+            binding.tvContinueTitle.setText(unfinishedListen.title);
+            binding.tvContinueSubtitle.setText(unfinishedListen.subtitle);
+        } else {
+            binding.cardContinueListening.setVisibility(View.GONE);
+        }
+    }
+
     private void updatePanchang(Map<String, String> panchang) {
         if (panchang == null) return;
 
@@ -286,12 +360,21 @@ public class HomeFragment extends Fragment {
         binding.cardDeity.setOnClickListener(v ->
                 Navigation.findNavController(v).navigate(R.id.action_homeFragment_to_aartiListFragment));
 
-        // Continue Listening play button
-        binding.btnContinuePlay.setOnClickListener(v ->
-                audioPlayerManager.togglePlayPause());
+        // Continue Listening play button; an unfinished listen reopens on its detail screen
+        binding.btnContinuePlay.setOnClickListener(v -> {
+            if (currentTrack == null && unfinishedListen != null) {
+                openDetail(unfinishedListen, true);
+            } else {
+                audioPlayerManager.togglePlayPause();
+            }
+        });
 
-        // Continue Listening card tap — open full player
+        // Continue Listening card tap — open full player, or the unfinished item
         binding.cardContinueListening.setOnClickListener(v -> {
+            if (currentTrack == null && unfinishedListen != null) {
+                openDetail(unfinishedListen, true);
+                return;
+            }
             try {
                 Navigation.findNavController(v).navigate(R.id.audioPlayerFragment);
             } catch (Exception e) {
@@ -319,6 +402,18 @@ public class HomeFragment extends Fragment {
         return DeityIconMapper.getIconForImageUrl(imageUrl);
     }
 
+    @Override
+    public void onResume() {
+        super.onResume();
+        minuteHandler.postDelayed(minuteTick, 60_000 - System.currentTimeMillis() % 60_000);
+    }
+
+    @Override
+    public void onPause() {
+        super.onPause();
+        minuteHandler.removeCallbacks(minuteTick);
+    }
+
     @Override
     public void onDestroyView() {
         super.onDestroyView();
@@ -7,16 +7,20 @@ import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 
+import com.divyapath.app.data.local.ContentSummary;
 import com.divyapath.app.data.local.DivyaPathDatabase;
-import com.divyapath.app.data.local.entity.AartiEntity;
+import com.divyapath.app.data.local.PlayedContent;
 import com.divyapath.app.data.local.entity.DeityEntity;
 import com.divyapath.app.data.local.entity.FestivalEntity;
 import com.divyapath.app.data.repository.DivyaPathRepository;
-import com.divyapath.app.utils.PanchangCalculator;
+import com.divyapath.app.utils.PanchangCache;
 import com.divyapath.app.utils.PanchangInsightEngine;
 import com.divyapath.app.utils.PreferenceManager;
 import com.divyapath.app.utils.SevaData;
 import com.divyapath.app.utils.ShlokaLoader;
+import com.divyapath.panchang.DayWindows;
+import com.divyapath.panchang.PanchangCalculator;
+import com.divyapath.panchang.PanchangDay;
 
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
@@ -24,10 +28,15 @@ import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.TimeZone;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class HomeViewModel extends AndroidViewModel {
 
+    // Cards in the recently played row
+    private static final int RECENTLY_PLAYED = 10;
+
     private final DivyaPathRepository repository;
     private final PreferenceManager preferenceManager;
 
@@ -35,15 +44,23 @@ public class HomeViewModel extends AndroidViewModel {
     private final MutableLiveData<String> dateText = new MutableLiveData<>();
     private final MutableLiveData<Map<String, String>> panchangData = new MutableLiveData<>();
     private final MutableLiveData<List<PanchangInsightEngine.PanchangInsight>> panchangInsights = new MutableLiveData<>();
+    private final MutableLiveData<String> insightCountdown = new MutableLiveData<>();
     private final MutableLiveData<ShlokaData> dailyShloka = new MutableLiveData<>();
     private final LiveData<DeityEntity> todaysDeity;
-    private final LiveData<List<AartiEntity>> todaysAartis;
-    private final LiveData<List<AartiEntity>> popularAartis;
+    private final LiveData<List<ContentSummary>> todaysAartis;
+    private final LiveData<List<ContentSummary>> popularAartis;
+    private final LiveData<List<PlayedContent>> recentlyPlayed;
+    private final LiveData<PlayedContent> continueListening;
     private final LiveData<FestivalEntity> todaysFestival;
     private final LiveData<FestivalEntity> nextFestival;
     private final MutableLiveData<SevaData.SevaItem> todaysSeva = new MutableLiveData<>();
     private final MutableLiveData<Boolean> sevaCompletedToday = new MutableLiveData<>();
 
+    // Today's panchang and its window timeline, kept for the per-minute insight refresh
+    private volatile PanchangDay todayPanchang;
+    private volatile DayWindows todayWindows;
+    private final AtomicBoolean reloadingToday = new AtomicBoolean();
+
     public HomeViewModel(@NonNull Application application) {
         super(application);
         repository = new DivyaPathRepository(application);
@@ -62,11 +79,15 @@ public class HomeViewModel extends AndroidViewModel {
         todaysDeity = repository.getDeityByDay(dayOfWeek);
 
         // Set today's aartis (deity-specific for the day — Room LiveData, async)
-        todaysAartis = repository.getAartisByDeity(dayOfWeek);
+        todaysAartis = repository.getDeityAartis(dayOfWeek);
 
         // Set popular aartis (separate dataset — Room LiveData, async)
         popularAartis = repository.getPopularAartis(6);
 
+        // Play history, across all content types (Room LiveData, async)
+        recentlyPlayed = repository.getRecentlyPlayed(RECENTLY_PLAYED);
+        continueListening = repository.getContinueListening();
+
         // Today's festival (Room LiveData, async)
         String todayDate = new SimpleDateFormat("yyyy-MM-dd", Locale.ENGLISH).format(new Date());
         todaysFestival = repository.getFestivalByDate(todayDate);
@@ -79,21 +100,60 @@ public class HomeViewModel extends AndroidViewModel {
 
         // Heavy operations — run on background thread
         ExecutorService executor = DivyaPathDatabase.databaseWriteExecutor;
+        reloadingToday.set(true);
         executor.execute(() -> {
-            // Panchang calculation (astronomical math — can be ~10-50ms)
-            Map<String, String> panchang = PanchangCalculator.getPanchangForUser(application);
-            panchangData.postValue(panchang);
-
-            // Generate panchang insights from calculated data
-            PanchangInsightEngine.InsightResult insightResult =
-                    PanchangInsightEngine.generateInsights(panchang, Calendar.getInstance());
-            panchangInsights.postValue(insightResult.getCombined(3, 2));
+            loadToday();
 
             // Load shloka from JSON assets (file I/O)
             loadDailyShloka();
         });
     }
 
+    /** Today's panchang from the precomputed table (computed and stored on a miss) and its insights. */
+    private void loadToday() {
+        try {
+            PanchangDay panchang = PanchangCache.getToday(getApplication());
+            panchangData.postValue(panchang.asMap());
+
+            // Generate panchang insights from calculated data
+            todayWindows = DayWindows.of(panchang);
+            todayPanchang = panchang;
+            postInsights(panchang, todayWindows);
+        } finally {
+            reloadingToday.set(false);
+        }
+    }
+
+    /**
+     * Re-evaluate the time-windowed insights and the countdown for the current minute.
+     * Only binary searches over today's windows, so the home screen can call it every minute.
+     * Once the local date has moved past the loaded day, the new day is loaded in the background.
+     */
+    public void refreshInsights() {
+        PanchangDay panchang = todayPanchang;
+        DayWindows windows = todayWindows;
+        if (panchang == null || windows == null) return;
+        Calendar now = Calendar.getInstance(TimeZone.getTimeZone(preferenceManager.getEffectiveTimezone()));
+        String today = PanchangDay.dateKey(now.get(Calendar.YEAR), now.get(Calendar.MONTH) + 1,
+                now.get(Calendar.DAY_OF_MONTH));
+        if (!today.equals(panchang.getDateKey())) {
+            if (reloadingToday.compareAndSet(false, true)) {
+                dateText.setValue(new SimpleDateFormat("EEEE, dd MMMM yyyy", Locale.ENGLISH).format(new Date()));
+                DivyaPathDatabase.databaseWriteExecutor.execute(this::loadToday);
+            }
+            return;
+        }
+        postInsights(panchang, windows);
+    }
+
+    private void postInsights(PanchangDay panchang, DayWindows windows) {
+        int minute = PanchangInsightEngine.minuteOfDay(panchang, Calendar.getInstance());
+        PanchangInsightEngine.InsightResult insightResult =
+                PanchangInsightEngine.generateInsights(panchang, windows, minute);
+        panchangInsights.postValue(insightResult.getCombined(3, 2));
+        insightCountdown.postValue(PanchangInsightEngine.countdown(windows, minute));
+    }
+
     private void loadDailyShloka() {
         // Try loading from assets/shlokas.json first
         ShlokaLoader.Shloka shloka = ShlokaLoader.getTodaysShloka(getApplication());
@@ -117,12 +177,15 @@ public class HomeViewModel extends AndroidViewModel {
     public LiveData<String> getDateText() { return dateText; }
     public LiveData<Map<String, String>> getPanchangData() { return panchangData; }
     public LiveData<DeityEntity> getTodaysDeity() { return todaysDeity; }
-    public LiveData<List<AartiEntity>> getTodaysAartis() { return todaysAartis; }
-    public LiveData<List<AartiEntity>> getPopularAartis() { return popularAartis; }
+    public LiveData<List<ContentSummary>> getTodaysAartis() { return todaysAartis; }
+    public LiveData<List<ContentSummary>> getPopularAartis() { return popularAartis; }
+    public LiveData<List<PlayedContent>> getRecentlyPlayed() { return recentlyPlayed; }
+    public LiveData<PlayedContent> getContinueListening() { return continueListening; }
     public LiveData<ShlokaData> getDailyShloka() { return dailyShloka; }
     public LiveData<FestivalEntity> getTodaysFestival() { return todaysFestival; }
     public LiveData<FestivalEntity> getNextFestival() { return nextFestival; }
     public LiveData<List<PanchangInsightEngine.PanchangInsight>> getPanchangInsights() { return panchangInsights; }
+    public LiveData<String> getInsightCountdown() { return insightCountdown; }
     public LiveData<SevaData.SevaItem> getTodaysSeva() { return todaysSeva; }
     public LiveData<Boolean> getSevaCompletedToday() { return sevaCompletedToday; }
 
@@ -16,6 +16,7 @@ import androidx.fragment.app.Fragment;
 import androidx.lifecycle.ViewModelProvider;
 
 import com.divyapath.app.R;
+import com.divyapath.app.data.local.PlayHistory;
 import com.divyapath.app.databinding.FragmentMantraDetailBinding;
 import com.divyapath.app.utils.TtsPlayerManager;
 
@@ -56,7 +57,9 @@ public class MantraDetailFragment extends Fragment {
                 updateMala();
 
                 ttsPlayer.setText(m.getSanskrit());
+                ttsPlayer.setContentId(m.getId());
                 ttsPlayer.setAudioUrl(m.getArchiveOrgUrl());
+                ttsPlayer.resumeFrom(PlayHistory.takeResumePosition(getArguments()));
 
                 binding.btnListenMantra.setOnClickListener(x -> ttsPlayer.togglePlayPause());
 
@@ -7,7 +7,10 @@ import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 import androidx.lifecycle.Transformations;
+import androidx.paging.PagingData;
+import androidx.paging.PagingLiveData;
 
+import com.divyapath.app.data.local.ContentSummary;
 import com.divyapath.app.data.local.entity.MantraEntity;
 import com.divyapath.app.data.repository.DivyaPathRepository;
 
@@ -17,24 +20,25 @@ public class MantraViewModel extends AndroidViewModel {
 
     private final DivyaPathRepository repo;
     private final MutableLiveData<String> selectedCategory = new MutableLiveData<>(null);
-    private final LiveData<List<MantraEntity>> filteredMantras;
+    private final LiveData<PagingData<ContentSummary>> filteredMantras;
 
     public MantraViewModel(@NonNull Application app) {
         super(app);
         repo = new DivyaPathRepository(app);
-        filteredMantras = Transformations.switchMap(selectedCategory, category -> {
+        // Cached in the view model so loaded pages survive rotation; a new category replaces the old pages
+        filteredMantras = PagingLiveData.cachedIn(Transformations.switchMap(selectedCategory, category -> {
             if (category == null || category.isEmpty()) {
                 return repo.getAllMantras();
             }
             return repo.getMantrasByCategory(category);
-        });
+        }), this);
     }
 
     public LiveData<List<String>> getCategories() {
         return repo.getAllMantraCategories();
     }
 
-    public LiveData<List<MantraEntity>> getFilteredMantras() {
+    public LiveData<PagingData<ContentSummary>> getFilteredMantras() {
         return filteredMantras;
     }
 
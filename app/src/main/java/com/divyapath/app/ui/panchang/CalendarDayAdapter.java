@@ -0,0 +1,103 @@
+package com.divyapath.app.ui.panchang;
+
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.divyapath.app.R;
+import com.divyapath.panchang.PanchangCalculator;
+import com.divyapath.panchang.PanchangDay;
+
+/**
+ * Sunday-first month grid. Every cell is bound from the precomputed
+ * {@link PanchangCalendarViewModel.MonthGrid}; nothing is calculated here.
+ */
+public class CalendarDayAdapter extends RecyclerView.Adapter<CalendarDayAdapter.DayViewHolder> {
+
+    public interface OnDayClickListener {
+        void onDayClick(PanchangCalendarViewModel.MonthGrid grid, int dayIndex);
+    }
+
+    private final OnDayClickListener listener;
+    private PanchangCalendarViewModel.MonthGrid grid;
+    private int selectedIndex = -1;
+
+    public CalendarDayAdapter(OnDayClickListener listener) {
+        this.listener = listener;
+    }
+
+    public void submitMonth(PanchangCalendarViewModel.MonthGrid grid, int selectedIndex) {
+        this.grid = grid;
+        this.selectedIndex = selectedIndex;
+        notifyDataSetChanged();
+    }
+
+    public void setSelectedIndex(int index) {
+        if (grid == null || index == selectedIndex) return;
+        int previous = selectedIndex;
+        selectedIndex = index;
+        if (previous >= 0) notifyItemChanged(previous + grid.leadingBlanks);
+        if (index >= 0) notifyItemChanged(index + grid.leadingBlanks);
+    }
+
+    @NonNull
+    @Override
+    public DayViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        View view = LayoutInflater.from(parent.getContext())
+                .inflate(R.layout.item_calendar_day, parent, false);
+        return new DayViewHolder(view);
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull DayViewHolder holder, int position) {
+        int dayIndex = position - grid.leadingBlanks;
+        if (dayIndex < 0) {
+            holder.itemView.setVisibility(View.INVISIBLE);
+            holder.itemView.setOnClickListener(null);
+            return;
+        }
+        holder.itemView.setVisibility(View.VISIBLE);
+
+        PanchangDay day = grid.days[dayIndex];
+        int tithi = day.getTithiIndex();
+        holder.tvDay.setText(String.valueOf(day.getDayOfMonth()));
+        holder.tvTithi.setText(PanchangCalculator.getTithiShortName(tithi));
+        holder.tvPaksha.setText(day.isShuklaPaksha() ? "S" : "K");
+        holder.viewFestival.setVisibility(grid.festivals[dayIndex] != null ? View.VISIBLE : View.INVISIBLE);
+
+        int background;
+        if (dayIndex == selectedIndex) {
+            background = R.color.saffron_200;
+        } else if (tithi == 14 || tithi == 29) {
+            background = R.color.gold_light; // Purnima / Amavasya
+        } else {
+            background = day.isShuklaPaksha() ? R.color.saffron_50 : R.color.cream_dark;
+        }
+        holder.itemView.setBackgroundResource(background);
+        holder.itemView.setOnClickListener(v -> listener.onDayClick(grid, dayIndex));
+    }
+
+    @Override
+    public int getItemCount() {
+        return grid == null ? 0 : grid.leadingBlanks + grid.days.length;
+    }
+
+    static class DayViewHolder extends RecyclerView.ViewHolder {
+        final TextView tvDay;
+        final TextView tvTithi;
+        final TextView tvPaksha;
+        final View viewFestival;
+
+        DayViewHolder(@NonNull View itemView) {
+            super(itemView);
+            tvDay = itemView.findViewById(R.id.tv_day_number);
+            tvTithi = itemView.findViewById(R.id.tv_day_tithi);
+            tvPaksha = itemView.findViewById(R.id.tv_day_paksha);
+            viewFestival = itemView.findViewById(R.id.view_festival_dot);
+        }
+    }
+}
@@ -4,25 +4,34 @@ import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
-import android.widget.CalendarView;
+import android.widget.Button;
 import android.widget.TextView;
+import android.widget.Toast;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.fragment.app.Fragment;
+import androidx.lifecycle.ViewModelProvider;
+import androidx.recyclerview.widget.GridLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
 
 import com.divyapath.app.R;
-import com.divyapath.app.utils.PanchangCalculator;
-import com.divyapath.app.utils.PreferenceManager;
+import com.divyapath.app.utils.ShareHelper;
+import com.divyapath.panchang.PanchangCalculator;
+import com.divyapath.panchang.PanchangDay;
 
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.Locale;
 import java.util.Map;
-import java.util.TimeZone;
 
 public class PanchangCalendarFragment extends Fragment {
 
+    private static final String[] MONTH_NAMES = {"January", "February", "March", "April", "May", "June",
+            "July", "August", "September", "October", "November", "December"};
+
+    private PanchangCalendarViewModel viewModel;
+    private CalendarDayAdapter adapter;
+    private TextView tvMonthTitle;
+    private int selectedDay = -1;
+
     @Nullable
     @Override
     public View onCreateView(@NonNull LayoutInflater inflater, @Nullable ViewGroup container,
@@ -33,36 +42,86 @@ public class PanchangCalendarFragment extends Fragment {
     @Override
     public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
         super.onViewCreated(view, savedInstanceState);
+        viewModel = new ViewModelProvider(this).get(PanchangCalendarViewModel.class);
+
+        tvMonthTitle = view.findViewById(R.id.tv_month_title);
+        adapter = new CalendarDayAdapter((grid, dayIndex) -> {
+            selectedDay = dayIndex;
+            adapter.setSelectedIndex(dayIndex);
+            showDay(view, grid, dayIndex);
+        });
+        RecyclerView grid = view.findViewById(R.id.rv_calendar_grid);
+        grid.setLayoutManager(new GridLayoutManager(requireContext(), 7));
+        grid.setItemAnimator(null);
+        grid.setAdapter(adapter);
+
+        view.findViewById(R.id.btn_prev_month).setOnClickListener(v -> stepMonth(view, -1));
+        view.findViewById(R.id.btn_next_month).setOnClickListener(v -> stepMonth(view, 1));
 
-        PreferenceManager prefs = new PreferenceManager(requireContext());
-        CalendarView calendarView = view.findViewById(R.id.calendar_view);
-        calendarView.setOnDateChangeListener((v, year, month, dayOfMonth) -> {
-            String effectiveTimezone = prefs.getEffectiveTimezone();
-            TimeZone timezone = TimeZone.getTimeZone(effectiveTimezone);
-
-            Calendar selectedDate = Calendar.getInstance(timezone);
-            selectedDate.set(Calendar.YEAR, year);
-            selectedDate.set(Calendar.MONTH, month);
-            selectedDate.set(Calendar.DAY_OF_MONTH, dayOfMonth);
-            selectedDate.set(Calendar.HOUR_OF_DAY, 12);
-            selectedDate.set(Calendar.MINUTE, 0);
-            selectedDate.set(Calendar.SECOND, 0);
-            selectedDate.set(Calendar.MILLISECOND, 0);
-
-            Map<String, String> panchang = PanchangCalculator.getPanchangForDate(
-                    selectedDate,
-                    prefs.getLocationLat(),
-                    prefs.getLocationLon(),
-                    effectiveTimezone
-            );
-
-            view.findViewById(R.id.card_selected_day).setVisibility(View.VISIBLE);
-            SimpleDateFormat format = new SimpleDateFormat("dd MMMM yyyy, EEEE", Locale.getDefault());
-            format.setTimeZone(timezone);
-            ((TextView) view.findViewById(R.id.tv_selected_date)).setText(format.format(selectedDate.getTime()));
-            ((TextView) view.findViewById(R.id.tv_cal_tithi)).setText(panchang.get("tithi"));
-            ((TextView) view.findViewById(R.id.tv_cal_nakshatra)).setText(panchang.get("nakshatra"));
-            ((TextView) view.findViewById(R.id.tv_cal_rahukaal)).setText(panchang.get("rahukaal"));
+        viewModel.getVisibleMonth().observe(getViewLifecycleOwner(), month -> {
+            if (month == null) {
+                adapter.submitMonth(null, -1);
+                return;
+            }
+            // A background post can land after the user has already moved on
+            if (PanchangCalendarViewModel.monthKey(month.year, month.month) != viewModel.getVisibleKey()) return;
+            adapter.submitMonth(month, selectedDay);
+            if (selectedDay >= 0 && selectedDay < month.days.length) showDay(view, month, selectedDay);
         });
+        updateTitle(viewModel.getVisibleKey());
+
+        Button export = view.findViewById(R.id.btn_export_calendar);
+        export.setOnClickListener(v -> {
+            export.setEnabled(false);
+            export.setText("Exporting…");
+            viewModel.exportCalendar();
+        });
+        viewModel.getExport().observe(getViewLifecycleOwner(), result -> {
+            if (result == null) return;
+            export.setEnabled(true);
+            export.setText("Export to calendar app");
+            if (result.file != null) {
+                ShareHelper.shareFile(requireContext(), result.file, "text/calendar", "DivyaPath Calendar");
+            } else {
+                Toast.makeText(requireContext(), "Could not export the calendar", Toast.LENGTH_SHORT).show();
+            }
+            viewModel.clearExport();
+        });
+    }
+
+    @Override
+    public void onResume() {
+        super.onResume();
+        // Re-checks the saved location, so a city change in Settings rebuilds the grid
+        viewModel.show(viewModel.getVisibleKey());
+    }
+
+    private void stepMonth(View root, int delta) {
+        selectedDay = -1;
+        root.findViewById(R.id.card_selected_day).setVisibility(View.GONE);
+        viewModel.step(delta);
+        updateTitle(viewModel.getVisibleKey());
+    }
+
+    private void updateTitle(int monthKey) {
+        tvMonthTitle.setText(MONTH_NAMES[monthKey % 12] + " " + monthKey / 12);
+    }
+
+    private void showDay(View root, PanchangCalendarViewModel.MonthGrid grid, int dayIndex) {
+        PanchangDay day = grid.days[dayIndex];
+        Map<String, String> panchang = day.asMap();
+
+        root.findViewById(R.id.card_selected_day).setVisibility(View.VISIBLE);
+        ((TextView) root.findViewById(R.id.tv_selected_date)).setText(day.getDayOfMonth() + " "
+                + MONTH_NAMES[grid.month - 1] + " " + grid.year + ", "
+                + PanchangCalculator.getVaraName(day.getDayOfWeek()));
+        ((TextView) root.findViewById(R.id.tv_cal_tithi)).setText(panchang.get("tithi"));
+        ((TextView) root.findViewById(R.id.tv_cal_nakshatra)).setText(panchang.get("nakshatra"));
+        ((TextView) root.findViewById(R.id.tv_cal_rahukaal)).setText(panchang.get("rahukaal"));
+
+        TextView tvFestival = root.findViewById(R.id.tv_cal_festival);
+        String festival = grid.festivals[dayIndex];
+        tvFestival.setVisibility(festival != null ? View.VISIBLE : View.GONE);
+        if (festival != null) tvFestival.setText(festival);
     }
 }
@@ -0,0 +1,191 @@
+package com.divyapath.app.ui.panchang;
+
+import android.app.Application;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.AndroidViewModel;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+
+import com.divyapath.app.data.local.DivyaPathDatabase;
+import com.divyapath.app.data.local.entity.FestivalEntity;
+import com.divyapath.app.data.repository.DivyaPathRepository;
+import com.divyapath.app.utils.CalendarExporter;
+import com.divyapath.app.utils.PanchangCache;
+import com.divyapath.app.utils.PreferenceManager;
+import com.divyapath.panchang.PanchangDay;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Calendar;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+
+/**
+ * Supplies fully computed month grids to {@link PanchangCalendarFragment}.
+ *
+ * Months are keyed as {@code year * 12 + (month - 1)}. The visible month and its neighbours
+ * are loaded on the database executor and kept in a small LRU, so paging to an adjacent
+ * month is normally a cache hit and never computes on the main thread. Days already in
+ * {@code panchang_days} are read back; only missing days are computed.
+ */
+public class PanchangCalendarViewModel extends AndroidViewModel {
+
+    /** Months kept in memory; the visible month plus a few either side. */
+    private static final int CACHE_MONTHS = 7;
+
+    /** A finished calendar export; {@code file} is null if writing failed. */
+    public static final class ExportResult {
+        public final File file;
+
+        ExportResult(File file) {
+            this.file = file;
+        }
+    }
+
+    /** One month of Panchang days with the festival (if any) for each date. */
+    public static final class MonthGrid {
+        public final int year;
+        public final int month;         // 1-12
+        public final int leadingBlanks; // empty cells before the 1st in a Sunday-first grid
+        public final PanchangDay[] days;
+        public final String[] festivals;
+
+        MonthGrid(int year, int month, PanchangDay[] days, String[] festivals) {
+            this.year = year;
+            this.month = month;
+            this.days = days;
+            this.festivals = festivals;
+            this.leadingBlanks = days.length > 0 ? days[0].getDayOfWeek() - Calendar.SUNDAY : 0;
+        }
+    }
+
+    private final DivyaPathRepository repository;
+    private final PreferenceManager prefs;
+    private final MutableLiveData<MonthGrid> visibleMonth = new MutableLiveData<>();
+    private final MutableLiveData<ExportResult> export = new MutableLiveData<>();
+
+    private final Map<Integer, MonthGrid> cache = new LinkedHashMap<Integer, MonthGrid>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, MonthGrid> eldest) {
+            return size() > CACHE_MONTHS;
+        }
+    };
+    private final Set<Integer> pending = new HashSet<>();
+    private int visibleKey;
+    private String locationKey;
+
+    public PanchangCalendarViewModel(@NonNull Application application) {
+        super(application);
+        repository = new DivyaPathRepository(application);
+        prefs = new PreferenceManager(application);
+        Calendar today = Calendar.getInstance(TimeZone.getTimeZone(prefs.getEffectiveTimezone()));
+        visibleKey = monthKey(today.get(Calendar.YEAR), today.get(Calendar.MONTH) + 1);
+        locationKey = currentLocationKey();
+    }
+
+    public static int monthKey(int year, int month) {
+        return year * 12 + (month - 1);
+    }
+
+    public LiveData<MonthGrid> getVisibleMonth() { return visibleMonth; }
+
+    public int getVisibleKey() { return visibleKey; }
+
+    public LiveData<ExportResult> getExport() { return export; }
+
+    /** Export {@link CalendarExporter#YEARS} years to an .ics file in the background. */
+    public void exportCalendar() {
+        DivyaPathDatabase.databaseWriteExecutor.execute(() -> {
+            File file = null;
+            try {
+                file = CalendarExporter.export(getApplication(), CalendarExporter.YEARS);
+            } catch (IOException | RuntimeException ignored) {
+                // Reported to the user as a failed export
+            } finally {
+                // Always ends the export, so the fragment's busy state is cleared
+                export.postValue(new ExportResult(file));
+            }
+        });
+    }
+
+    /** Forget the last export once it has been handed to the share sheet. */
+    public void clearExport() {
+        export.setValue(null);
+    }
+
+    /** Show the month {@code delta} away from the current one (-1 previous, +1 next). */
+    public void step(int delta) {
+        show(visibleKey + delta);
+    }
+
+    /**
+     * Show {@code key}, publishing immediately on a cache hit, and make sure it and its
+     * neighbours are computed in the background. Also drops every cached month if the
+     * user's location changed since they were computed.
+     */
+    public void show(int key) {
+        String location = currentLocationKey();
+        MonthGrid hit;
+        synchronized (cache) {
+            if (!location.equals(locationKey)) {
+                locationKey = location;
+                cache.clear();
+            }
+            visibleKey = key;
+            hit = cache.get(key);
+        }
+        visibleMonth.setValue(hit); // null clears the grid until the background load lands
+        load(key);
+        load(key - 1);
+        load(key + 1);
+    }
+
+    private void load(int key) {
+        synchronized (cache) {
+            if (cache.containsKey(key) || !pending.add(key)) return;
+        }
+        final String location = locationKey;
+        final double lat = prefs.getLocationLat();
+        final double lon = prefs.getLocationLon();
+        final String tz = prefs.getEffectiveTimezone();
+        DivyaPathDatabase.databaseWriteExecutor.execute(() -> {
+            MonthGrid grid = compute(key, lat, lon, tz);
+            synchronized (cache) {
+                pending.remove(key);
+                if (!location.equals(locationKey)) return; // location changed mid-flight
+                cache.put(key, grid);
+                if (key != visibleKey) return;
+            }
+            visibleMonth.postValue(grid);
+        });
+    }
+
+    private MonthGrid compute(int key, double lat, double lon, String tz) {
+        int year = key / 12;
+        int month = key % 12 + 1;
+        PanchangDay[] days = PanchangCache.getMonth(getApplication(), year, month, lat, lon, tz);
+        String[] festivals = new String[days.length];
+        if (days.length > 0) {
+            List<FestivalEntity> rows = repository.getFestivalsBetweenSync(
+                    days[0].getDateKey(), days[days.length - 1].getDateKey());
+            for (FestivalEntity f : rows) {
+                // Date keys are "yyyy-MM-dd"; the day of month indexes the grid directly
+                int index = Integer.parseInt(f.getDate().substring(8, 10)) - 1;
+                if (index >= 0 && index < festivals.length && festivals[index] == null) {
+                    festivals[index] = f.getName();
+                }
+            }
+        }
+        return new MonthGrid(year, month, days, festivals);
+    }
+
+    private String currentLocationKey() {
+        return PanchangCache.locationKey(prefs.getLocationLat(), prefs.getLocationLon(),
+                prefs.getEffectiveTimezone());
+    }
+}
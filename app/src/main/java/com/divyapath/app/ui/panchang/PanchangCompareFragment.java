@@ -0,0 +1,58 @@
+package com.divyapath.app.ui.panchang;
+import android.graphics.Typeface; import android.os.Bundle; import android.view.*; import android.widget.*;
+import androidx.annotation.*; import androidx.fragment.app.Fragment; import androidx.lifecycle.ViewModelProvider;
+import com.divyapath.app.R; import com.divyapath.app.utils.CityData;
+import com.divyapath.panchang.PanchangCalculator; import com.divyapath.panchang.PanchangDay;
+import com.google.android.material.chip.*;
+import java.util.*;
+public class PanchangCompareFragment extends Fragment {
+    private static final String[] ROWS={"Sunrise","Sunset","Tithi","Nakshatra","Rahukaal","Moonrise"};
+    private PanchangCompareViewModel viewModel;
+    @Nullable @Override public View onCreateView(@NonNull LayoutInflater i,@Nullable ViewGroup c,@Nullable Bundle b){return i.inflate(R.layout.fragment_panchang_compare,c,false);}
+    @Override public void onViewCreated(@NonNull View v,@Nullable Bundle b){super.onViewCreated(v,b);
+        viewModel=new ViewModelProvider(this).get(PanchangCompareViewModel.class);
+        List<CityData.City> all=CityData.getAllCities();List<String> names=new ArrayList<>();for(CityData.City c:all)names.add(c.getName());
+        AutoCompleteTextView add=v.findViewById(R.id.dropdown_compare_city);
+        add.setAdapter(new ArrayAdapter<>(requireContext(),android.R.layout.simple_dropdown_item_1line,names));
+        add.setOnItemClickListener((p,x,pos,id)->{viewModel.addCity(CityData.findByName((String)p.getItemAtPosition(pos)));add.setText("",false);});
+        viewModel.getResult().observe(getViewLifecycleOwner(),r->{if(r!=null){showCities(v,r);showTable(v,r);}});
+    }
+    private void showCities(View v,PanchangCompareViewModel.Result r){
+        ChipGroup cg=v.findViewById(R.id.chip_compare_cities);cg.removeAllViews();
+        for(int i=0;i<r.cities.size();i++){
+            Chip chip=new Chip(requireContext());chip.setText(r.cities.get(i).getName());
+            chip.setChipBackgroundColorResource(R.color.cream_background);chip.setTextColor(getResources().getColor(R.color.saffron_primary,null));
+            final int idx=i; chip.setCloseIconVisible(i>0); chip.setOnCloseIconClickListener(c->viewModel.removeCity(idx));
+            cg.addView(chip);
+        }
+        v.findViewById(R.id.til_compare_city).setVisibility(r.cities.size()<PanchangCompareViewModel.MAX_CITIES?View.VISIBLE:View.GONE);
+    }
+    // One column per city, each in its own local time
+    private void showTable(View v,PanchangCompareViewModel.Result r){
+        TableLayout t=v.findViewById(R.id.table_compare);t.removeAllViews();
+        TableRow head=new TableRow(requireContext());head.addView(cell("",true));
+        for(CityData.City c:r.cities)head.addView(cell(c.getName(),true));
+        t.addView(head);
+        for(int row=0;row<ROWS.length;row++){
+            TableRow tr=new TableRow(requireContext());tr.addView(cell(ROWS[row],true));
+            for(PanchangDay d:r.days)tr.addView(cell(value(d,row),false));
+            t.addView(tr);
+        }
+    }
+    private static String value(PanchangDay d,int row){
+        switch(row){
+            case 0:return PanchangDay.formatMinute(d.getSunriseMinute());
+            case 1:return PanchangDay.formatMinute(d.getSunsetMinute());
+            case 2:return PanchangCalculator.getTithiName(d.getTithiIndex())+"\nuntil "+PanchangDay.formatEnd(d.getTithiEndMinute());
+            case 3:return PanchangCalculator.getNakshatraName(d.getNakshatraIndex())+"\nuntil "+PanchangDay.formatEnd(d.getNakshatraEndMinute());
+            case 4:return PanchangDay.formatWindow(d.getRahuStart(),d.getRahuEnd()).replace(" - ","\n");
+            default:return d.getMoonriseMinute()==PanchangDay.NO_WINDOW?"--":PanchangDay.formatMinute(d.getMoonriseMinute());
+        }
+    }
+    private TextView cell(String text,boolean label){
+        TextView tv=new TextView(requireContext());tv.setText(text);tv.setTextSize(13);
+        int pad=(int)(8*getResources().getDisplayMetrics().density);tv.setPadding(pad,pad,pad,pad);
+        if(label){tv.setTypeface(Typeface.DEFAULT_BOLD);tv.setTextColor(getResources().getColor(R.color.saffron_primary,null));}
+        return tv;
+    }
+}
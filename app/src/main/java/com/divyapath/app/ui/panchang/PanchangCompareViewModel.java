@@ -0,0 +1,108 @@
+package com.divyapath.app.ui.panchang;
+
+import android.app.Application;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.AndroidViewModel;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+
+import com.divyapath.app.data.local.DivyaPathDatabase;
+import com.divyapath.app.utils.CityData;
+import com.divyapath.app.utils.PanchangCache;
+import com.divyapath.app.utils.PreferenceManager;
+import com.divyapath.panchang.PanchangCalculator;
+import com.divyapath.panchang.PanchangDay;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Today's panchang at the user's location and a few other cities, for
+ * {@link PanchangCompareFragment}. All cities are computed in one
+ * {@link PanchangCalculator#computeLocations} call off the main thread.
+ */
+public class PanchangCompareViewModel extends AndroidViewModel {
+
+    /** Columns that still fit side by side on a phone. */
+    public static final int MAX_CITIES = 4;
+
+    private static final String[] DEFAULT_CITIES = {"Delhi", "New Jersey", "London"};
+
+    /** Cities and their panchang for the same date, index for index. */
+    public static final class Result {
+        public final List<CityData.City> cities;
+        public final PanchangDay[] days;
+
+        Result(List<CityData.City> cities, PanchangDay[] days) {
+            this.cities = cities;
+            this.days = days;
+        }
+    }
+
+    private final PreferenceManager prefs;
+    private final List<CityData.City> cities = new ArrayList<>();
+    private final MutableLiveData<Result> result = new MutableLiveData<>();
+    private volatile int generation;
+
+    public PanchangCompareViewModel(@NonNull Application application) {
+        super(application);
+        prefs = new PreferenceManager(application);
+        // The user's own location is always the first column
+        cities.add(new CityData.City(prefs.getLocationName(), prefs.getLocationCountryCode(), "",
+                prefs.getLocationLat(), prefs.getLocationLon(), prefs.getEffectiveTimezone(), ""));
+        for (String name : DEFAULT_CITIES) add(CityData.findByName(name));
+        compute();
+    }
+
+    public LiveData<Result> getResult() { return result; }
+
+    /** Add a column; ignored when the city is already shown or the table is full. */
+    public void addCity(CityData.City city) {
+        if (add(city)) compute();
+    }
+
+    /** Remove column {@code index}; the user's own location stays. */
+    public void removeCity(int index) {
+        if (index <= 0 || index >= cities.size()) return;
+        cities.remove(index);
+        compute();
+    }
+
+    private boolean add(CityData.City city) {
+        if (city == null || cities.size() >= MAX_CITIES) return false;
+        for (CityData.City c : cities) {
+            if (c.getName().equalsIgnoreCase(city.getName())) return false;
+        }
+        cities.add(city);
+        return true;
+    }
+
+    private void compute() {
+        final int requested = ++generation;
+        final List<CityData.City> snapshot = Collections.unmodifiableList(new ArrayList<>(cities));
+        // Same civil date everywhere: the user's today
+        Calendar today = Calendar.getInstance(TimeZone.getTimeZone(prefs.getEffectiveTimezone()));
+        final int year = today.get(Calendar.YEAR);
+        final int month = today.get(Calendar.MONTH) + 1;
+        final int dayOfMonth = today.get(Calendar.DAY_OF_MONTH);
+        DivyaPathDatabase.databaseWriteExecutor.execute(() -> {
+            int n = snapshot.size();
+            double[] lat = new double[n];
+            double[] lon = new double[n];
+            String[] tz = new String[n];
+            for (int i = 0; i < n; i++) {
+                lat[i] = snapshot.get(i).getLatitude();
+                lon[i] = snapshot.get(i).getLongitude();
+                tz[i] = snapshot.get(i).getTimezone();
+            }
+            PanchangDay[] days = PanchangCalculator.computeLocations(year, month, dayOfMonth, lat, lon, tz,
+                    PanchangCache.PRECISION_USER);
+            // A later edit supersedes this one
+            if (requested == generation) result.postValue(new Result(snapshot, days));
+        });
+    }
+}
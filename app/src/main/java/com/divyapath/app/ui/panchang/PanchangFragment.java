@@ -4,7 +4,7 @@ import com.divyapath.app.databinding.FragmentPanchangBinding;
 import com.google.android.material.tabs.TabLayoutMediator;
 public class PanchangFragment extends Fragment {
     private FragmentPanchangBinding binding;
-    private static final String[] TABS={"Today","Calendar","Muhurat"};
+    private static final String[] TABS={"Today","Calendar","Muhurat","Vrats","Compare"};
     @Nullable @Override public View onCreateView(@NonNull LayoutInflater i,@Nullable ViewGroup c,@Nullable Bundle b){binding=FragmentPanchangBinding.inflate(i,c,false);return binding.getRoot();}
     @Override public void onViewCreated(@NonNull View v,@Nullable Bundle b){super.onViewCreated(v,b);
         binding.viewPagerPanchang.setAdapter(new PanchangPagerAdapter(this));
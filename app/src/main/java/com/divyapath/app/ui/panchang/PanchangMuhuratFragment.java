@@ -1,18 +1,29 @@
 package com.divyapath.app.ui.panchang;
-import android.os.Bundle; import android.view.*; import android.widget.TextView;
-import androidx.annotation.*; import androidx.fragment.app.Fragment;
-import com.divyapath.app.R; import com.google.android.material.card.MaterialCardView; import com.google.android.material.chip.*;
+import android.os.Bundle; import android.os.Handler; import android.os.Looper; import android.view.*; import android.widget.TextView;
+import androidx.annotation.*; import androidx.fragment.app.Fragment; import androidx.lifecycle.ViewModelProvider;
+import com.divyapath.app.R; import com.divyapath.app.utils.PanchangInsightEngine; import com.divyapath.app.utils.PreferenceManager;
+import com.divyapath.panchang.PanchangCalculator; import com.divyapath.panchang.PanchangDay;
+import com.google.android.material.chip.*;
+import java.text.SimpleDateFormat; import java.util.*;
 public class PanchangMuhuratFragment extends Fragment {
+    // Name, description, search criteria; order matches PanchangMuhuratViewModel.queryFor
     private static final String[][] ACTIVITIES = {
-        {"Griha Pravesh","06:15 - 07:45 AM","Best time for entering a new house. The Abhijit muhurat (11:45 AM - 12:33 PM) is also excellent.","Next good date: Thursday"},
-        {"Vivah (Marriage)","07:00 - 08:30 AM","Early morning hours are ideal for marriage ceremonies. Avoid Rahukaal timing.","Consult pandit for nakshatra matching"},
-        {"Travel","After Rahukaal","Avoid Rahukaal for starting any journey. Check today's Rahukaal timing in the Today tab.","Thursday and Friday are generally favorable"},
-        {"Business","09:00 - 11:00 AM","Good time to start new business ventures or sign important documents.","Avoid Amavasya days"},
-        {"Puja / Havan","Brahma Muhurat\n04:00 - 05:30 AM","The most auspicious time for worship and spiritual practices. Also good during Abhijit muhurat.","Daily practice recommended"},
-        {"Shopping","After 10:00 AM","Avoid early morning and Rahukaal for important purchases.","Friday is best for buying luxury items"}
+        {"Griha Pravesh","Entering a new house. Fixed and gentle nakshatras in Shukla paksha are preferred.","Rohini, Mrigashira, Uttara Phalguni, Chitra, Anuradha, Uttara Ashadha, Uttara Bhadrapada or Revati · Shukla paksha · daytime · avoiding Rahukaal, Gulika and Yamghant"},
+        {"Vivah (Marriage)","Marriage ceremonies. Consult a pandit for kundli and nakshatra matching of the couple.","Rohini, Mrigashira, Magha, Uttara Phalguni, Hasta, Swati, Anuradha, Moola, Uttara Ashadha, Uttara Bhadrapada or Revati · avoiding Rahukaal · at least 1 hour"},
+        {"Travel","Starting a journey. Movable and light nakshatras are favourable.","Ashwini, Mrigashira, Punarvasu, Pushya, Hasta, Anuradha, Shravana, Dhanishta or Revati · daytime · avoiding Rahukaal and Yamghant"},
+        {"Business","Starting new ventures or signing important documents.","Ashwini, Rohini, Pushya, Uttara Phalguni, Hasta, Chitra, Anuradha or Revati · Shukla paksha · daytime · avoiding Rahukaal, Gulika and Yamghant"},
+        {"Puja / Havan","Worship and spiritual practices. Brahma muhurat and Abhijit muhurat are good on any day.","Shukla paksha · daytime · avoiding Rahukaal"},
+        {"Shopping","Important purchases. Pushya nakshatra is especially auspicious for gold and property.","Ashwini, Rohini, Pushya, Hasta, Chitra or Revati · daytime · avoiding Rahukaal"}
     };
+    private PanchangMuhuratViewModel viewModel; private int selected=-1;
+    // Moves the "Now" line on at each minute boundary while the tab is visible
+    private final Handler minuteHandler=new Handler(Looper.getMainLooper());
+    private final Runnable minuteTick=new Runnable(){@Override public void run(){
+        View v=getView(); if(v!=null)showNow(v,viewModel.getDays().getValue()); viewModel.refreshDays();
+        minuteHandler.postDelayed(this,60_000-System.currentTimeMillis()%60_000);}};
     @Nullable @Override public View onCreateView(@NonNull LayoutInflater i,@Nullable ViewGroup c,@Nullable Bundle b){return i.inflate(R.layout.fragment_panchang_muhurat,c,false);}
     @Override public void onViewCreated(@NonNull View v,@Nullable Bundle b){super.onViewCreated(v,b);
+        viewModel=new ViewModelProvider(this).get(PanchangMuhuratViewModel.class);
         ChipGroup cg=v.findViewById(R.id.chip_activity_type);
         for(int i=0;i<ACTIVITIES.length;i++){
             Chip chip=new Chip(requireContext());chip.setText(ACTIVITIES[i][0]);chip.setCheckable(true);
@@ -21,12 +32,47 @@ public class PanchangMuhuratFragment extends Fragment {
                 for(int j=0;j<cg.getChildCount();j++){View ch=cg.getChildAt(j);if(ch instanceof Chip)((Chip)ch).setChecked(ch==c);}});
             cg.addView(chip);
         }
+        viewModel.getResult().observe(getViewLifecycleOwner(),r->{if(r!=null&&r.activity==selected)showWindows(v,r);});
+        viewModel.getDays().observe(getViewLifecycleOwner(),days->showNow(v,days));
+    }
+    @Override public void onResume(){super.onResume();minuteHandler.postDelayed(minuteTick,60_000-System.currentTimeMillis()%60_000);}
+    @Override public void onPause(){super.onPause();minuteHandler.removeCallbacks(minuteTick);}
+    // Current hora and choghadiya straight from the precomputed slots; before sunrise they are yesterday's night slots
+    private void showNow(View v,PanchangDay[] days){
+        TextView tv=v.findViewById(R.id.tv_muhurat_now);
+        PanchangDay d=days==null?null:days[1];
+        int m=d==null?-1:PanchangInsightEngine.minuteOfDay(d,Calendar.getInstance());
+        if(d!=null&&m<d.getSunriseMinute()){d=days[0];m+=24*60;}
+        int h=d==null?-1:d.horaAt(m),c=d==null?-1:d.choghadiyaAt(m);
+        if(h<0||c<0){tv.setVisibility(View.GONE);return;}
+        int lord=d.getChoghadiyaLord(c);
+        tv.setText("Now: Hora of "+PanchangCalculator.getPlanetName(d.getHoraLord(h))+" until "+PanchangDay.formatMinute(d.getHoraEnd(h))
+                +"\n"+PanchangCalculator.getChoghadiyaName(lord)+" Choghadiya ("+(PanchangCalculator.isAuspiciousChoghadiya(lord)?"good":"avoid")+") until "+PanchangDay.formatMinute(d.getChoghadiyaEnd(c)));
+        tv.setVisibility(View.VISIBLE);
     }
     private void showMuhurat(View v,int idx){
+        selected=idx;
         v.findViewById(R.id.card_muhurat_result).setVisibility(View.VISIBLE);
         ((TextView)v.findViewById(R.id.tv_muhurat_title)).setText("Best Time for "+ACTIVITIES[idx][0]);
-        ((TextView)v.findViewById(R.id.tv_muhurat_time)).setText(ACTIVITIES[idx][1]);
-        ((TextView)v.findViewById(R.id.tv_muhurat_desc)).setText(ACTIVITIES[idx][2]);
-        ((TextView)v.findViewById(R.id.tv_muhurat_next)).setText(ACTIVITIES[idx][3]);
+        ((TextView)v.findViewById(R.id.tv_muhurat_time)).setText("Searching…");
+        ((TextView)v.findViewById(R.id.tv_muhurat_desc)).setText(ACTIVITIES[idx][1]);
+        ((TextView)v.findViewById(R.id.tv_muhurat_next)).setText("Next "+PanchangMuhuratViewModel.SEARCH_DAYS+" days: "+ACTIVITIES[idx][2]);
+        v.findViewById(R.id.tv_muhurat_windows).setVisibility(View.GONE);
+        viewModel.search(idx);
+    }
+    private void showWindows(View v,PanchangMuhuratViewModel.Result r){
+        TextView time=v.findViewById(R.id.tv_muhurat_time),list=v.findViewById(R.id.tv_muhurat_windows);
+        if(r.size()==0){time.setText("No suitable window in the next "+PanchangMuhuratViewModel.SEARCH_DAYS+" days");list.setVisibility(View.GONE);return;}
+        TimeZone tz=TimeZone.getTimeZone(new PreferenceManager(requireContext()).getEffectiveTimezone());
+        SimpleDateFormat day=new SimpleDateFormat("EEE, d MMM",Locale.getDefault()),hm=new SimpleDateFormat("hh:mm a",Locale.getDefault());
+        day.setTimeZone(tz);hm.setTimeZone(tz);
+        time.setText(day.format(new Date(r.startMillis[0]))+"  ·  "+PanchangCalculator.getNakshatraName(r.nakshatra[0])+"\n"+hm.format(new Date(r.startMillis[0]))+" - "+hm.format(new Date(r.endMillis[0])));
+        StringBuilder sb=new StringBuilder();
+        for(int i=1;i<r.size();i++){
+            if(sb.length()>0)sb.append('\n');
+            sb.append(day.format(new Date(r.startMillis[i]))).append("  ").append(hm.format(new Date(r.startMillis[i])))
+              .append(" - ").append(hm.format(new Date(r.endMillis[i]))).append("  ·  ").append(PanchangCalculator.getNakshatraName(r.nakshatra[i]));
+        }
+        list.setText(sb.length()>0?"Also:\n"+sb:"");list.setVisibility(sb.length()>0?View.VISIBLE:View.GONE);
     }
 }
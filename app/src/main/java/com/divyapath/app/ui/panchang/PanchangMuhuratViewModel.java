@@ -0,0 +1,149 @@
+package com.divyapath.app.ui.panchang;
+
+import android.app.Application;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.AndroidViewModel;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+
+import com.divyapath.app.data.local.DivyaPathDatabase;
+import com.divyapath.app.utils.PanchangCache;
+import com.divyapath.app.utils.PreferenceManager;
+import com.divyapath.panchang.IntervalSet;
+import com.divyapath.panchang.MuhuratSearch;
+import com.divyapath.panchang.PanchangCalculator;
+import com.divyapath.panchang.PanchangDay;
+import com.divyapath.panchang.PanchangTransitions;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs muhurat searches for {@link PanchangMuhuratFragment} off the main thread.
+ * Each activity maps to a {@link MuhuratSearch.Query} over the next {@link #SEARCH_DAYS} days.
+ */
+public class PanchangMuhuratViewModel extends AndroidViewModel {
+
+    public static final int SEARCH_DAYS = 60;
+
+    /** Shown windows per search; the search itself is not truncated. */
+    private static final int MAX_WINDOWS = 8;
+
+    /** Matching windows for one activity, as epoch millis with the nakshatra at each start. */
+    public static final class Result {
+        public final int activity;
+        public final long[] startMillis;
+        public final long[] endMillis;
+        public final int[] nakshatra;
+
+        Result(int activity, long[] startMillis, long[] endMillis, int[] nakshatra) {
+            this.activity = activity;
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+            this.nakshatra = nakshatra;
+        }
+
+        public int size() { return startMillis.length; }
+    }
+
+    private final PreferenceManager prefs;
+    private final MutableLiveData<Result> result = new MutableLiveData<>();
+    private final MutableLiveData<PanchangDay[]> days = new MutableLiveData<>();
+    private final AtomicBoolean loadingDays = new AtomicBoolean();
+    private volatile int requested = -1;
+
+    public PanchangMuhuratViewModel(@NonNull Application application) {
+        super(application);
+        prefs = new PreferenceManager(application);
+        refreshDays();
+    }
+
+    public LiveData<Result> getResult() { return result; }
+
+    /**
+     * Yesterday and today, for the current hora and choghadiya. Before today's sunrise the
+     * night divisions of yesterday are still running.
+     */
+    public LiveData<PanchangDay[]> getDays() { return days; }
+
+    /** Loads yesterday and today, unless the pair for the current local date is already loaded. */
+    public void refreshDays() {
+        String tz = prefs.getEffectiveTimezone();
+        Calendar yesterday = Calendar.getInstance(TimeZone.getTimeZone(tz));
+        yesterday.add(Calendar.DAY_OF_YEAR, -1);
+        PanchangDay[] loaded = days.getValue();
+        if (loaded != null && loaded[0].getDateKey().equals(PanchangDay.dateKey(yesterday.get(Calendar.YEAR),
+                yesterday.get(Calendar.MONTH) + 1, yesterday.get(Calendar.DAY_OF_MONTH)))) return;
+        if (!loadingDays.compareAndSet(false, true)) return;
+        final double lat = prefs.getLocationLat();
+        final double lon = prefs.getLocationLon();
+        DivyaPathDatabase.databaseWriteExecutor.execute(() -> {
+            try {
+                days.postValue(PanchangCache.getRange(getApplication(), yesterday, 2, lat, lon, tz,
+                        PanchangCache.PRECISION_USER));
+            } finally {
+                loadingDays.set(false);
+            }
+        });
+    }
+
+    /** Search for {@code activity} (an index into {@link #queryFor}); results replace any earlier search. */
+    public void search(int activity) {
+        requested = activity;
+        final double lat = prefs.getLocationLat();
+        final double lon = prefs.getLocationLon();
+        final String tz = prefs.getEffectiveTimezone();
+        DivyaPathDatabase.databaseWriteExecutor.execute(() -> {
+            Calendar today = Calendar.getInstance(TimeZone.getTimeZone(tz));
+            int jdn = PanchangCalculator.civilToJdn(today.get(Calendar.YEAR),
+                    today.get(Calendar.MONTH) + 1, today.get(Calendar.DAY_OF_MONTH));
+            int precision = PanchangCache.PRECISION_USER;
+            IntervalSet windows = MuhuratSearch.find(queryFor(activity), jdn, SEARCH_DAYS, lat, lon, tz, precision);
+
+            // Drop windows already over today
+            double nowJd = PanchangTransitions.millisToJd(System.currentTimeMillis());
+            int first = windows.nextIndex(nowJd);
+            int n = first < 0 ? 0 : Math.min(MAX_WINDOWS, windows.size() - first);
+            long[] starts = new long[n];
+            long[] ends = new long[n];
+            int[] nakshatra = new int[n];
+            for (int i = 0; i < n; i++) {
+                double start = Math.max(windows.startJd(first + i), nowJd);
+                starts[i] = PanchangTransitions.jdToMillis(start);
+                ends[i] = PanchangTransitions.jdToMillis(windows.endJd(first + i));
+                nakshatra[i] = PanchangTransitions.indexAt(PanchangTransitions.LIMB_NAKSHATRA, start, precision);
+            }
+            if (activity == requested) result.postValue(new Result(activity, starts, ends, nakshatra));
+        });
+    }
+
+    /**
+     * Traditional constraints per activity, in the order of the fragment's chips.
+     * Nakshatra indices: 0 Ashwini, 3 Rohini, 4 Mrigashira, 6 Punarvasu, 7 Pushya, 9 Magha,
+     * 11 Uttara Phalguni, 12 Hasta, 13 Chitra, 14 Swati, 16 Anuradha, 18 Moola,
+     * 20 Uttara Ashadha, 21 Shravana, 22 Dhanishta, 25 Uttara Bhadrapada, 26 Revati.
+     */
+    static MuhuratSearch.Query queryFor(int activity) {
+        switch (activity) {
+            case 0: // Griha Pravesh
+                return new MuhuratSearch.Query().nakshatras(3, 4, 11, 13, 16, 20, 25, 26).shuklaPaksha()
+                        .daytimeOnly().avoidRahuKaal().avoidGulikaKaal().avoidYamghant().minMinutes(30);
+            case 1: // Vivah
+                return new MuhuratSearch.Query().nakshatras(3, 4, 9, 11, 12, 14, 16, 18, 20, 25, 26)
+                        .avoidRahuKaal().minMinutes(60);
+            case 2: // Travel
+                return new MuhuratSearch.Query().nakshatras(0, 4, 6, 7, 12, 16, 21, 22, 26)
+                        .daytimeOnly().avoidRahuKaal().avoidYamghant().minMinutes(30);
+            case 3: // Business
+                return new MuhuratSearch.Query().nakshatras(0, 3, 7, 11, 12, 13, 16, 26).shuklaPaksha()
+                        .daytimeOnly().avoidRahuKaal().avoidGulikaKaal().avoidYamghant().minMinutes(45);
+            case 4: // Puja / Havan
+                return new MuhuratSearch.Query().shuklaPaksha().daytimeOnly().avoidRahuKaal().minMinutes(30);
+            default: // Shopping
+                return new MuhuratSearch.Query().nakshatras(0, 3, 7, 12, 13, 26)
+                        .daytimeOnly().avoidRahuKaal().minMinutes(30);
+        }
+    }
+}
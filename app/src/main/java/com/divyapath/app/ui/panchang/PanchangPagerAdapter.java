@@ -3,7 +3,7 @@ import androidx.annotation.NonNull; import androidx.fragment.app.Fragment; impor
 public class PanchangPagerAdapter extends FragmentStateAdapter {
     public PanchangPagerAdapter(@NonNull Fragment f){super(f);}
     @NonNull @Override public Fragment createFragment(int pos){
-        switch(pos){case 0:return new PanchangTodayFragment();case 1:return new PanchangCalendarFragment();case 2:return new PanchangMuhuratFragment();default:return new PanchangTodayFragment();}
+        switch(pos){case 0:return new PanchangTodayFragment();case 1:return new PanchangCalendarFragment();case 2:return new PanchangMuhuratFragment();case 3:return new PanchangVratFragment();case 4:return new PanchangCompareFragment();default:return new PanchangTodayFragment();}
     }
-    @Override public int getItemCount(){return 3;}
+    @Override public int getItemCount(){return 5;}
 }
@@ -1,5 +1,6 @@
 package com.divyapath.app.ui.panchang;
 
+import android.content.Context;
 import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -9,10 +10,13 @@ import android.widget.TextView;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.fragment.app.Fragment;
+import androidx.lifecycle.MutableLiveData;
 
 import com.divyapath.app.R;
-import com.divyapath.app.utils.PanchangCalculator;
+import com.divyapath.app.data.local.DivyaPathDatabase;
+import com.divyapath.app.utils.PanchangCache;
 import com.divyapath.app.utils.PreferenceManager;
+import com.divyapath.panchang.PanchangDay;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
@@ -22,6 +26,8 @@ import java.util.TimeZone;
 
 public class PanchangTodayFragment extends Fragment {
 
+    private final MutableLiveData<PanchangDay> today = new MutableLiveData<>();
+
     @Nullable
     @Override
     public View onCreateView(@NonNull LayoutInflater inflater, @Nullable ViewGroup container,
@@ -33,27 +39,23 @@ public class PanchangTodayFragment extends Fragment {
     public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
         super.onViewCreated(view, savedInstanceState);
 
-        PreferenceManager prefs = new PreferenceManager(requireContext());
-        String effectiveTimezone = prefs.getEffectiveTimezone();
-
-        Map<String, String> panchang = PanchangCalculator.getPanchangForLocation(
-                prefs.getLocationLat(),
-                prefs.getLocationLon(),
-                effectiveTimezone
-        );
-
+        String effectiveTimezone = new PreferenceManager(requireContext()).getEffectiveTimezone();
         SimpleDateFormat dateFormat = new SimpleDateFormat("dd MMMM yyyy", Locale.getDefault());
         dateFormat.setTimeZone(TimeZone.getTimeZone(effectiveTimezone));
+        ((TextView) view.findViewById(R.id.tv_today_date)).setText(dateFormat.format(new Date()));
 
-        TextView tvDate = view.findViewById(R.id.tv_today_date);
-        TextView tvVara = view.findViewById(R.id.tv_today_vara);
-        tvDate.setText(dateFormat.format(new Date()));
-        tvVara.setText(panchang.get("vara"));
+        // Today's row is precomputed by the prefetch worker; a miss is computed and stored off the main thread
+        today.observe(getViewLifecycleOwner(), day -> bind(view, day.asMap()));
+        Context context = requireContext().getApplicationContext();
+        DivyaPathDatabase.databaseWriteExecutor.execute(() -> today.postValue(PanchangCache.getToday(context)));
+    }
 
-        ((TextView) view.findViewById(R.id.tv_tithi)).setText(panchang.get("tithi"));
-        ((TextView) view.findViewById(R.id.tv_nakshatra)).setText(panchang.get("nakshatra"));
-        ((TextView) view.findViewById(R.id.tv_yoga)).setText(panchang.get("yoga"));
-        ((TextView) view.findViewById(R.id.tv_karana)).setText(panchang.get("karana"));
+    private static void bind(View view, Map<String, String> panchang) {
+        ((TextView) view.findViewById(R.id.tv_today_vara)).setText(panchang.get("vara"));
+        ((TextView) view.findViewById(R.id.tv_tithi)).setText(withEnd(panchang, "tithi"));
+        ((TextView) view.findViewById(R.id.tv_nakshatra)).setText(withEnd(panchang, "nakshatra"));
+        ((TextView) view.findViewById(R.id.tv_yoga)).setText(withEnd(panchang, "yoga"));
+        ((TextView) view.findViewById(R.id.tv_karana)).setText(withEnd(panchang, "karana"));
         ((TextView) view.findViewById(R.id.tv_sunrise)).setText(panchang.get("sunrise"));
         ((TextView) view.findViewById(R.id.tv_sunset)).setText(panchang.get("sunset"));
         ((TextView) view.findViewById(R.id.tv_moonrise)).setText(panchang.get("moonrise"));
@@ -63,4 +65,10 @@ public class PanchangTodayFragment extends Fragment {
         ((TextView) view.findViewById(R.id.tv_gulikaal)).setText(panchang.get("gulikaal"));
         ((TextView) view.findViewById(R.id.tv_yamghant)).setText(panchang.get("yamghant"));
     }
+
+    /** "Shukla Saptami upto 03:12 PM" when the limb's end time is known. */
+    private static String withEnd(Map<String, String> panchang, String key) {
+        String end = panchang.get(key + "_end");
+        return end != null ? panchang.get(key) + " upto " + end : panchang.get(key);
+    }
 }
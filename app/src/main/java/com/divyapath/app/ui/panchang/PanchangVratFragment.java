@@ -0,0 +1,75 @@
+package com.divyapath.app.ui.panchang;
+import android.os.Bundle; import android.text.TextUtils; import android.view.*; import android.widget.*;
+import androidx.annotation.*; import androidx.fragment.app.Fragment; import androidx.lifecycle.ViewModelProvider;
+import com.divyapath.app.R; import com.divyapath.app.data.local.entity.VratOccurrenceEntity; import com.divyapath.app.data.local.entity.VratRuleEntity;
+import com.divyapath.panchang.VratRule;
+import com.google.android.material.chip.*; import com.google.android.material.dialog.MaterialAlertDialogBuilder;
+import java.text.SimpleDateFormat; import java.util.*; import java.util.function.Consumer;
+public class PanchangVratFragment extends Fragment {
+    private static final String[] TITHIS={"Pratipada","Dwitiya","Tritiya","Chaturthi","Panchami","Shashthi","Saptami","Ashtami","Navami","Dashami","Ekadashi","Dwadashi","Trayodashi","Chaturdashi","Purnima / Amavasya"};
+    private static final String[] PAKSHAS={"Shukla Paksha","Krishna Paksha","Both Pakshas"};
+    private static final String[] WEEKDAYS={"Any day","Sunday","Monday","Tuesday","Wednesday","Thursday","Friday","Saturday"};
+    // Index matches FestivalRule.KAAL_*
+    private static final String[] KAALS={"Sunrise (udaya tithi)","Midday","Afternoon","Pradosh (evening)","Midnight","Moonrise"};
+    private PanchangVratViewModel viewModel; private List<VratRuleEntity> rules=Collections.emptyList();
+    @Nullable @Override public View onCreateView(@NonNull LayoutInflater i,@Nullable ViewGroup c,@Nullable Bundle b){return i.inflate(R.layout.fragment_panchang_vrat,c,false);}
+    @Override public void onViewCreated(@NonNull View v,@Nullable Bundle b){super.onViewCreated(v,b);
+        viewModel=new ViewModelProvider(this).get(PanchangVratViewModel.class);
+        viewModel.getRules().observe(getViewLifecycleOwner(),r->{rules=r!=null?r:Collections.emptyList();showRules(v);});
+        viewModel.getUpcoming().observe(getViewLifecycleOwner(),o->showUpcoming(v,o));
+        v.findViewById(R.id.btn_add_vrat).setOnClickListener(x->showAddDialog());
+    }
+    // Presets first, then the user's own rules; a chip is checked while its rule is enabled
+    private void showRules(View v){
+        ChipGroup cg=v.findViewById(R.id.chip_vrat_rules);cg.removeAllViews();
+        Map<String,VratRuleEntity> byName=new HashMap<>();for(VratRuleEntity r:rules)byName.put(r.getName(),r);
+        for(int i=0;i<PanchangVratViewModel.PRESETS.length;i++){
+            final int idx=i; final VratRuleEntity r=byName.remove(PanchangVratViewModel.PRESETS[i]);
+            cg.addView(chip(PanchangVratViewModel.PRESETS[i],r!=null&&r.isEnabled(),checked->{
+                if(r==null)viewModel.add(PanchangVratViewModel.presetRule(idx));else viewModel.setEnabled(r,checked);}));
+        }
+        for(VratRuleEntity r:byName.values()){
+            Chip c=chip(r.getName(),r.isEnabled(),checked->viewModel.setEnabled(r,checked));
+            c.setOnLongClickListener(x->{new MaterialAlertDialogBuilder(requireContext()).setTitle("Delete Vrat")
+                .setMessage("Remove "+r.getName()+" and its dates?").setPositiveButton("Delete",(d,w)->viewModel.delete(r))
+                .setNegativeButton("Cancel",null).show();return true;});
+            cg.addView(c);
+        }
+    }
+    private Chip chip(String name,boolean checked,Consumer<Boolean> onToggle){
+        Chip chip=new Chip(requireContext());chip.setText(name);chip.setCheckable(true);chip.setChecked(checked);
+        chip.setChipBackgroundColorResource(R.color.cream_background);chip.setTextColor(getResources().getColor(R.color.saffron_primary,null));
+        chip.setOnClickListener(c->onToggle.accept(chip.isChecked()));
+        return chip;
+    }
+    private void showUpcoming(View v,List<VratOccurrenceEntity> list){
+        TextView tv=v.findViewById(R.id.tv_vrat_upcoming);
+        if(list==null||list.isEmpty()){tv.setText("Select a vrat above to see its dates for the coming year.");return;}
+        SimpleDateFormat in=new SimpleDateFormat("yyyy-MM-dd",Locale.US),out=new SimpleDateFormat("EEE, d MMM yyyy",Locale.getDefault());
+        StringBuilder sb=new StringBuilder();
+        for(VratOccurrenceEntity o:list){
+            if(sb.length()>0)sb.append('\n');
+            String day=o.getDate();try{day=out.format(in.parse(o.getDate()));}catch(Exception ignored){}
+            sb.append(day).append("  ·  ").append(o.getName());
+        }
+        tv.setText(sb);
+    }
+    private void showAddDialog(){
+        View d=LayoutInflater.from(requireContext()).inflate(R.layout.dialog_vrat_rule,null);
+        EditText name=d.findViewById(R.id.et_vrat_name);
+        int[] sel={10,2,0,0}; // tithi, paksha, weekday, kaal
+        dropdown(d.findViewById(R.id.dropdown_vrat_tithi),TITHIS,sel,0);dropdown(d.findViewById(R.id.dropdown_vrat_paksha),PAKSHAS,sel,1);
+        dropdown(d.findViewById(R.id.dropdown_vrat_weekday),WEEKDAYS,sel,2);dropdown(d.findViewById(R.id.dropdown_vrat_kaal),KAALS,sel,3);
+        new MaterialAlertDialogBuilder(requireContext()).setTitle("Add Vrat").setView(d)
+            .setPositiveButton("Add",(dlg,w)->{
+                String n=name.getText().toString().trim();
+                if(TextUtils.isEmpty(n))n=TITHIS[sel[0]]+" · "+PAKSHAS[sel[1]];
+                int paksha=sel[1]==0?VratRule.PAKSHA_SHUKLA:sel[1]==1?VratRule.PAKSHA_KRISHNA:VratRule.PAKSHA_BOTH;
+                viewModel.add(PanchangVratViewModel.rule(n,sel[0],paksha,sel[3],sel[2]==0?0:1<<sel[2],0));})
+            .setNegativeButton("Cancel",null).show();
+    }
+    private void dropdown(AutoCompleteTextView view,String[] items,int[] sel,int slot){
+        view.setAdapter(new ArrayAdapter<>(requireContext(),android.R.layout.simple_dropdown_item_1line,items));
+        view.setText(items[sel[slot]],false);view.setOnItemClickListener((p,x,pos,id)->sel[slot]=pos);
+    }
+}
@@ -0,0 +1,88 @@
+package com.divyapath.app.ui.panchang;
+
+import android.app.Application;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.AndroidViewModel;
+import androidx.lifecycle.LiveData;
+
+import com.divyapath.app.data.local.entity.VratOccurrenceEntity;
+import com.divyapath.app.data.local.entity.VratRuleEntity;
+import com.divyapath.app.data.repository.DivyaPathRepository;
+import com.divyapath.app.utils.PreferenceManager;
+import com.divyapath.panchang.FestivalRule;
+import com.divyapath.panchang.PanchangDay;
+import com.divyapath.panchang.VratRule;
+
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Vrat rules and their upcoming dates for {@link PanchangVratFragment}. Dates come straight from
+ * the materialised vrat_occurrences table; edits go through the repository, which re-dates only
+ * the rule that changed.
+ */
+public class PanchangVratViewModel extends AndroidViewModel {
+
+    /** Upcoming days listed on the tab. */
+    private static final int UPCOMING = 20;
+
+    // Common vrats offered as one-tap rules; order matches presetRule
+    static final String[] PRESETS = {
+            "Ekadashi", "Pradosh Vrat", "Sankashti Chaturthi", "Masik Shivaratri",
+            "Purnima", "Amavasya", "Somvati Amavasya", "Guru Pushya",
+    };
+
+    private final DivyaPathRepository repository;
+    private final LiveData<List<VratRuleEntity>> rules;
+    private final LiveData<List<VratOccurrenceEntity>> upcoming;
+
+    public PanchangVratViewModel(@NonNull Application application) {
+        super(application);
+        repository = new DivyaPathRepository(application);
+        rules = repository.getAllVratRules();
+        Calendar today = Calendar.getInstance(TimeZone.getTimeZone(new PreferenceManager(application).getEffectiveTimezone()));
+        upcoming = repository.getUpcomingVrats(PanchangDay.dateKey(today.get(Calendar.YEAR),
+                today.get(Calendar.MONTH) + 1, today.get(Calendar.DAY_OF_MONTH)), UPCOMING);
+    }
+
+    public LiveData<List<VratRuleEntity>> getRules() { return rules; }
+
+    public LiveData<List<VratOccurrenceEntity>> getUpcoming() { return upcoming; }
+
+    public void add(VratRuleEntity rule) { repository.insertVratRule(rule); }
+
+    public void setEnabled(VratRuleEntity rule, boolean enabled) {
+        rule.setEnabled(enabled);
+        repository.updateVratRule(rule);
+    }
+
+    public void delete(VratRuleEntity rule) { repository.deleteVratRuleById(rule.getId()); }
+
+    /** A new rule for {@link #PRESETS}{@code [preset]}. Nakshatra 7 is Pushya. */
+    static VratRuleEntity presetRule(int preset) {
+        switch (preset) {
+            case 0: return rule(PRESETS[0], 10, VratRule.PAKSHA_BOTH, FestivalRule.KAAL_SUNRISE, 0, 0);
+            case 1: return rule(PRESETS[1], 12, VratRule.PAKSHA_BOTH, FestivalRule.KAAL_PRADOSH, 0, 0);
+            case 2: return rule(PRESETS[2], 3, VratRule.PAKSHA_KRISHNA, FestivalRule.KAAL_MOONRISE, 0, 0);
+            case 3: return rule(PRESETS[3], 13, VratRule.PAKSHA_KRISHNA, FestivalRule.KAAL_NISHITA, 0, 0);
+            case 4: return rule(PRESETS[4], 14, VratRule.PAKSHA_SHUKLA, FestivalRule.KAAL_SUNRISE, 0, 0);
+            case 5: return rule(PRESETS[5], 14, VratRule.PAKSHA_KRISHNA, FestivalRule.KAAL_SUNRISE, 0, 0);
+            case 6: return rule(PRESETS[6], 14, VratRule.PAKSHA_KRISHNA, FestivalRule.KAAL_SUNRISE, 1 << Calendar.MONDAY, 0);
+            default: return rule(PRESETS[7], VratRule.NO_TITHI, VratRule.PAKSHA_BOTH, FestivalRule.KAAL_SUNRISE,
+                    1 << Calendar.THURSDAY, 1L << 7);
+        }
+    }
+
+    static VratRuleEntity rule(String name, int tithi, int paksha, int kaal, int weekdayMask, long nakshatraMask) {
+        VratRuleEntity e = new VratRuleEntity();
+        e.setName(name);
+        e.setTithi(tithi);
+        e.setPaksha(paksha);
+        e.setKaal(kaal);
+        e.setWeekdayMask(weekdayMask);
+        e.setNakshatraMask(nakshatraMask);
+        return e;
+    }
+}
@@ -1,6 +1,8 @@
 package com.divyapath.app.ui.search;
 
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -14,15 +16,19 @@ import androidx.navigation.Navigation;
 import androidx.recyclerview.widget.LinearLayoutManager;
 
 import com.divyapath.app.R;
-import com.divyapath.app.data.local.entity.AartiEntity;
-import com.divyapath.app.data.local.entity.ChalisaEntity;
-import com.divyapath.app.data.local.entity.MantraEntity;
+import com.divyapath.app.data.local.SearchHit;
+import com.divyapath.app.data.local.TitleIndex;
 import com.divyapath.app.data.repository.DivyaPathRepository;
 import com.divyapath.app.databinding.FragmentSearchBinding;
 import com.google.android.material.chip.Chip;
 
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
 public class SearchFragment extends Fragment {
 
@@ -30,14 +36,17 @@ public class SearchFragment extends Fragment {
             "Ganesh", "Hanuman", "Shiva", "Lakshmi", "Om", "Gayatri", "Durga", "Krishna"
     };
 
+    private static final long SEARCH_DEBOUNCE_MS = 300;
+    private static final int SUGGESTION_LIMIT = 8;
+
     private FragmentSearchBinding binding;
     private DivyaPathRepository repo;
     private SearchResultAdapter adapter;
 
-    private LiveData<List<AartiEntity>> aartiSource;
-    private LiveData<List<ChalisaEntity>> chalisaSource;
-    private LiveData<List<MantraEntity>> mantraSource;
+    private LiveData<List<SearchHit>> searchSource;
     private int searchGeneration = 0;
+    private final Handler searchHandler = new Handler(Looper.getMainLooper());
+    private Runnable pendingSearch;
 
     @Nullable
     @Override
@@ -51,11 +60,8 @@ public class SearchFragment extends Fragment {
     public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
         super.onViewCreated(view, savedInstanceState);
         repo = new DivyaPathRepository(requireActivity().getApplication());
-        adapter = new SearchResultAdapter(item -> {
-            Bundle args = new Bundle();
-            args.putInt("contentId", item.id);
-            Navigation.findNavController(view).navigate(item.navDestination, args);
-        });
+        adapter = new SearchResultAdapter(item ->
+                Navigation.findNavController(view).navigate(item.navDestination, item.args));
 
         binding.rvSearchResults.setLayoutManager(new LinearLayoutManager(requireContext()));
         binding.rvSearchResults.setAdapter(adapter);
@@ -73,16 +79,23 @@ public class SearchFragment extends Fragment {
         binding.searchView.setOnQueryTextListener(new SearchView.OnQueryTextListener() {
             @Override
             public boolean onQueryTextSubmit(String query) {
+                cancelPendingSearch();
                 performSearch(query);
                 return true;
             }
 
             @Override
             public boolean onQueryTextChange(String query) {
-                if (query.length() >= 2) {
-                    performSearch(query);
-                } else {
+                cancelPendingSearch();
+                if (query.trim().isEmpty()) {
                     clearResults();
+                    return true;
+                }
+                // Titles from memory on every keystroke; full-text search once typing pauses
+                showSuggestions(query);
+                if (query.trim().length() >= 2) {
+                    pendingSearch = () -> performSearch(query);
+                    searchHandler.postDelayed(pendingSearch, SEARCH_DEBOUNCE_MS);
                 }
                 return true;
             }
@@ -92,97 +105,89 @@ public class SearchFragment extends Fragment {
                 Navigation.findNavController(view).popBackStack());
     }
 
+    private void showSuggestions(String query) {
+        searchGeneration++;
+        detachSearchSources();
+        TitleIndex index = TitleIndex.getInstance();
+        List<SearchResultAdapter.SearchItem> items = new ArrayList<>();
+        for (SearchHit hit : index.suggest(query, SUGGESTION_LIMIT)) {
+            SearchResultAdapter.SearchItem item = toItem(hit);
+            if (item != null) items.add(item);
+        }
+        // Right after launch the index may still be building; an empty list then proves nothing
+        renderSearchResults(items, index.isReady());
+    }
+
     private void performSearch(String query) {
         final int generation = ++searchGeneration;
         detachSearchSources();
-
-        final boolean[] loaded = {false, false, false};
-        final List<SearchResultAdapter.SearchItem> aartiResults = new ArrayList<>();
-        final List<SearchResultAdapter.SearchItem> chalisaResults = new ArrayList<>();
-        final List<SearchResultAdapter.SearchItem> mantraResults = new ArrayList<>();
-
-        aartiSource = repo.searchAartis(query);
-        chalisaSource = repo.searchChalisas(query);
-        mantraSource = repo.searchMantras(query);
-
-        aartiSource.observe(getViewLifecycleOwner(), aartis -> {
-            if (!isActiveGeneration(generation)) return;
-            aartiResults.clear();
-            if (aartis != null) {
-                for (AartiEntity a : aartis) {
-                    aartiResults.add(new SearchResultAdapter.SearchItem(
-                            a.getId(),
-                            a.getTitle(),
-                            a.getTitleHindi() != null ? a.getTitleHindi() : "",
-                            "Aarti",
-                            R.id.aartiDetailFragment
-                    ));
-                }
+        searchSource = repo.searchAll(query);
+        searchSource.observe(getViewLifecycleOwner(), hits -> {
+            if (!isActiveGeneration(generation) || hits == null) return;
+            List<SearchResultAdapter.SearchItem> items = new ArrayList<>(hits.size());
+            for (SearchHit hit : hits) {
+                SearchResultAdapter.SearchItem item = toItem(hit);
+                if (item != null) items.add(item);
             }
-            loaded[0] = true;
-            renderSearchResultsIfReady(generation, loaded, aartiResults, chalisaResults, mantraResults);
+            renderSearchResults(items, true);
         });
+    }
 
-        chalisaSource.observe(getViewLifecycleOwner(), chalisas -> {
-            if (!isActiveGeneration(generation)) return;
-            chalisaResults.clear();
-            if (chalisas != null) {
-                for (ChalisaEntity c : chalisas) {
-                    chalisaResults.add(new SearchResultAdapter.SearchItem(
-                            c.getId(),
-                            c.getTitle(),
-                            c.getTitleHindi() != null ? c.getTitleHindi() : "",
-                            "Chalisa",
-                            R.id.chalisaDetailFragment
-                    ));
-                }
-            }
-            loaded[1] = true;
-            renderSearchResultsIfReady(generation, loaded, aartiResults, chalisaResults, mantraResults);
-        });
+    /** A result row; lyric matches show the highlighted snippet in place of the subtitle. */
+    @Nullable
+    private static SearchResultAdapter.SearchItem toItem(SearchHit hit) {
+        CharSequence snippet = SearchHit.highlight(hit.snippet);
+        // A title match snippets the title itself, which the row already shows
+        if (snippet != null && snippet.toString().equals(hit.title)) snippet = null;
+        CharSequence subtitle = snippet != null ? snippet : hit.subtitle != null ? hit.subtitle : "";
+        Bundle args = new Bundle();
+        args.putInt("contentId", hit.id);
+        switch (hit.type) {
+            case SearchHit.TYPE_AARTI:
+                return new SearchResultAdapter.SearchItem(hit.id, hit.title, subtitle, "Aarti", R.id.aartiDetailFragment, args);
+            case SearchHit.TYPE_CHALISA:
+                return new SearchResultAdapter.SearchItem(hit.id, hit.title, subtitle, "Chalisa", R.id.chalisaDetailFragment, args);
+            case SearchHit.TYPE_MANTRA:
+                return new SearchResultAdapter.SearchItem(hit.id, hit.title, subtitle, "Mantra", R.id.mantraDetailFragment, args);
+            case SearchHit.TYPE_BHAJAN:
+                return new SearchResultAdapter.SearchItem(hit.id, hit.title, subtitle, "Bhajan", R.id.bhajanDetailFragment, args);
+            case SearchHit.TYPE_STOTRA:
+                return new SearchResultAdapter.SearchItem(hit.id, hit.title, subtitle, "Stotra", R.id.stotraDetailFragment, args);
+            case SearchHit.TYPE_TEMPLE:
+                args = new Bundle();
+                args.putInt("templeId", hit.id);
+                return new SearchResultAdapter.SearchItem(hit.id, hit.title, subtitle, "Temple", R.id.templeDetailFragment, args);
+            case SearchHit.TYPE_FESTIVAL:
+                args = new Bundle();
+                args.putString("festivalName", hit.title);
+                args.putInt("daysRemaining", daysUntil(hit.date));
+                return new SearchResultAdapter.SearchItem(hit.id, hit.title, subtitle, "Festival", R.id.festivalCountdownFragment, args);
+            default:
+                return null;
+        }
+    }
 
-        mantraSource.observe(getViewLifecycleOwner(), mantras -> {
-            if (!isActiveGeneration(generation)) return;
-            mantraResults.clear();
-            if (mantras != null) {
-                for (MantraEntity m : mantras) {
-                    mantraResults.add(new SearchResultAdapter.SearchItem(
-                            m.getId(),
-                            m.getTitle(),
-                            m.getSanskrit() != null ? m.getSanskrit() : "",
-                            "Mantra",
-                            R.id.mantraDetailFragment
-                    ));
-                }
-            }
-            loaded[2] = true;
-            renderSearchResultsIfReady(generation, loaded, aartiResults, chalisaResults, mantraResults);
-        });
+    private static int daysUntil(String date) {
+        try {
+            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd", Locale.ENGLISH);
+            Date day = sdf.parse(date);
+            Date today = sdf.parse(sdf.format(new Date()));
+            if (day == null || today == null) return 0;
+            return (int) TimeUnit.MILLISECONDS.toDays(day.getTime() - today.getTime());
+        } catch (ParseException e) {
+            return 0;
+        }
     }
 
     private boolean isActiveGeneration(int generation) {
         return generation == searchGeneration && binding != null;
     }
 
-    private void renderSearchResultsIfReady(
-            int generation,
-            boolean[] loaded,
-            List<SearchResultAdapter.SearchItem> aartiResults,
-            List<SearchResultAdapter.SearchItem> chalisaResults,
-            List<SearchResultAdapter.SearchItem> mantraResults
-    ) {
-        if (!isActiveGeneration(generation)) return;
-        if (!loaded[0] || !loaded[1] || !loaded[2]) return;
-
-        List<SearchResultAdapter.SearchItem> all = new ArrayList<>(
-                aartiResults.size() + chalisaResults.size() + mantraResults.size());
-        all.addAll(aartiResults);
-        all.addAll(chalisaResults);
-        all.addAll(mantraResults);
-
+    /** Shows {@code all}; "No results" only when {@code complete}, i.e. the source had every row. */
+    private void renderSearchResults(List<SearchResultAdapter.SearchItem> all, boolean complete) {
         adapter.submitList(all);
         binding.rvSearchResults.setVisibility(all.isEmpty() ? View.GONE : View.VISIBLE);
-        binding.tvNoResults.setVisibility(all.isEmpty() ? View.VISIBLE : View.GONE);
+        binding.tvNoResults.setVisibility(all.isEmpty() && complete ? View.VISIBLE : View.GONE);
         binding.tvSearchHint.setVisibility(View.GONE);
         binding.chipPopular.setVisibility(View.GONE);
     }
@@ -197,23 +202,23 @@ public class SearchFragment extends Fragment {
         binding.chipPopular.setVisibility(View.VISIBLE);
     }
 
-    private void detachSearchSources() {
-        if (aartiSource != null) {
-            aartiSource.removeObservers(getViewLifecycleOwner());
-            aartiSource = null;
-        }
-        if (chalisaSource != null) {
-            chalisaSource.removeObservers(getViewLifecycleOwner());
-            chalisaSource = null;
+    private void cancelPendingSearch() {
+        if (pendingSearch != null) {
+            searchHandler.removeCallbacks(pendingSearch);
+            pendingSearch = null;
         }
-        if (mantraSource != null) {
-            mantraSource.removeObservers(getViewLifecycleOwner());
-            mantraSource = null;
+    }
+
+    private void detachSearchSources() {
+        if (searchSource != null) {
+            searchSource.removeObservers(getViewLifecycleOwner());
+            searchSource = null;
         }
     }
 
     @Override
     public void onDestroyView() {
+        cancelPendingSearch();
         detachSearchSources();
         super.onDestroyView();
         binding = null;
@@ -1,17 +1,17 @@
 package com.divyapath.app.ui.search;
-import android.view.*; import android.widget.TextView;
+import android.os.Bundle; import android.view.*; import android.widget.TextView;
 import androidx.annotation.NonNull; import androidx.recyclerview.widget.DiffUtil; import androidx.recyclerview.widget.ListAdapter; import androidx.recyclerview.widget.RecyclerView;
 import com.divyapath.app.R;
 public class SearchResultAdapter extends ListAdapter<SearchResultAdapter.SearchItem,SearchResultAdapter.VH> {
     public static class SearchItem{
-        public final int id; public final String title; public final String subtitle; public final String type; public final int navDestination;
-        public SearchItem(int id,String title,String subtitle,String type,int navDest){this.id=id;this.title=title;this.subtitle=subtitle;this.type=type;this.navDestination=navDest;}
+        public final int id; public final String title; public final CharSequence subtitle; public final String type; public final int navDestination; public final Bundle args;
+        public SearchItem(int id,String title,CharSequence subtitle,String type,int navDest,Bundle args){this.id=id;this.title=title;this.subtitle=subtitle;this.type=type;this.navDestination=navDest;this.args=args;}
     }
     public interface OnResultClickListener{void onClick(SearchItem item);}
     private final OnResultClickListener listener;
     public SearchResultAdapter(OnResultClickListener l){super(new DiffUtil.ItemCallback<SearchItem>(){
         @Override public boolean areItemsTheSame(@NonNull SearchItem o,@NonNull SearchItem n){return o.id==n.id&&o.type.equals(n.type);}
-        @Override public boolean areContentsTheSame(@NonNull SearchItem o,@NonNull SearchItem n){return o.title.equals(n.title);}
+        @Override public boolean areContentsTheSame(@NonNull SearchItem o,@NonNull SearchItem n){return o.title.equals(n.title)&&o.subtitle.toString().equals(n.subtitle.toString());}
     });this.listener=l;}
     @NonNull @Override public VH onCreateViewHolder(@NonNull ViewGroup p,int v){return new VH(LayoutInflater.from(p.getContext()).inflate(R.layout.item_search_result,p,false));}
     @Override public void onBindViewHolder(@NonNull VH h,int pos){SearchItem item=getItem(pos);
@@ -1,6 +1,7 @@
 package com.divyapath.app.ui.settings;
 
 import android.Manifest;
+import android.content.Context;
 import android.content.Intent;
 import android.content.pm.PackageManager;
 import android.net.Uri;
@@ -21,6 +22,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.core.content.ContextCompat;
 import androidx.fragment.app.Fragment;
+import androidx.lifecycle.MutableLiveData;
 import androidx.recyclerview.widget.LinearLayoutManager;
 
 import com.google.android.gms.location.FusedLocationProviderClient;
@@ -29,21 +31,25 @@ import com.google.android.gms.location.Priority;
 
 import com.divyapath.app.DivyaPathApp;
 import com.divyapath.app.R;
+import com.divyapath.app.data.local.DivyaPathDatabase;
 import com.divyapath.app.data.remote.api.GeocodingApiService;
 import com.divyapath.app.data.remote.api.RetrofitClient;
 import com.divyapath.app.data.remote.dto.GeocodingResponse;
 import com.divyapath.app.data.remote.dto.GeocodingResult;
 import com.divyapath.app.databinding.FragmentSettingsBinding;
 import com.divyapath.app.utils.CityData;
-import com.divyapath.app.utils.PanchangCalculator;
+import com.divyapath.app.utils.NotificationScheduler;
+import com.divyapath.app.utils.PanchangCache;
 import com.divyapath.app.utils.PreferenceManager;
 import com.divyapath.app.utils.ShareHelper;
 import com.google.android.material.chip.Chip;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import retrofit2.Call;
 import retrofit2.Callback;
@@ -57,6 +63,9 @@ public class SettingsFragment extends Fragment {
     private PreferenceManager prefs;
     private CityListAdapter cityAdapter;
     private final Handler searchHandler = new Handler(Looper.getMainLooper());
+    private final MutableLiveData<Map<String, String>> previewPanchang = new MutableLiveData<>();
+    /** Only the newest preview request posts, so a slow lookup for an earlier city is dropped. */
+    private final AtomicInteger previewRequest = new AtomicInteger();
     private Runnable pendingSearch;
     private Call<GeocodingResponse> currentApiCall;
     private boolean isSearchingApi = false;
@@ -215,12 +224,14 @@ public class SettingsFragment extends Fragment {
     }
 
     private void bindLocationSettings() {
+        previewPanchang.observe(getViewLifecycleOwner(), this::bindLocationPreview);
+
         // Setup city adapter
         cityAdapter = new CityListAdapter(city -> {
             prefs.setFullLocation(city.getName(), city.getCountryCode(),
                     city.getLatitude(), city.getLongitude(), city.getTimezone());
             prefs.setLocationMode("city");
-            updateLocationPreview();
+            onLocationChanged();
         });
         binding.rvCities.setLayoutManager(new LinearLayoutManager(requireContext()));
         binding.rvCities.setAdapter(cityAdapter);
@@ -296,7 +307,7 @@ public class SettingsFragment extends Fragment {
                 } else {
                     prefs.setLocation(lat, lon);
                 }
-                updateLocationPreview();
+                onLocationChanged();
             } catch (NumberFormatException ignored) {
                 // Invalid input
             }
@@ -323,7 +334,7 @@ public class SettingsFragment extends Fragment {
             } else {
                 prefs.setTimezoneDisplay("local");
             }
-            updateLocationPreview();
+            onLocationChanged();
         });
 
         // Set selected city in adapter
@@ -452,7 +463,7 @@ public class SettingsFragment extends Fragment {
                         } else {
                             prefs.setLocation(lat, lon);
                         }
-                        updateLocationPreview();
+                        onLocationChanged();
                         Log.d(TAG, "GPS location obtained: " + lat + ", " + lon);
                     } else {
                         fallbackToSavedLocation();
@@ -472,7 +483,7 @@ public class SettingsFragment extends Fragment {
         if (closest != null) {
             prefs.setFullLocation(closest.getName(), closest.getCountryCode(),
                     closest.getLatitude(), closest.getLongitude(), closest.getTimezone());
-            updateLocationPreview();
+            onLocationChanged();
         }
     }
 
@@ -486,6 +497,12 @@ public class SettingsFragment extends Fragment {
         return prefs.getEffectiveTimezone();
     }
 
+    /** Refreshes the preview and recomputes the stored panchang, festivals and vrats for the new place. */
+    private void onLocationChanged() {
+        NotificationScheduler.refreshPanchangNow(requireContext());
+        updateLocationPreview();
+    }
+
     private void updateLocationPreview() {
         String locName = prefs.getLocationName();
         String countryCode = prefs.getLocationCountryCode();
@@ -500,18 +517,24 @@ public class SettingsFragment extends Fragment {
             binding.tvLocationTimezone.setText(tz);
         }
 
-        // Get panchang data for preview
-        try {
-            Map<String, String> panchang = PanchangCalculator.getPanchangForLocation(
-                    prefs.getLocationLat(), prefs.getLocationLon(), tz);
-            binding.tvPreviewSunrise.setText("Sunrise: " + panchang.getOrDefault("sunrise", "--"));
-            binding.tvPreviewSunset.setText("Sunset: " + panchang.getOrDefault("sunset", "--"));
-            binding.tvPreviewRahukaal.setText("Rahukaal: " + panchang.getOrDefault("rahukaal", "--"));
-        } catch (Exception e) {
-            binding.tvPreviewSunrise.setText("Sunrise: --");
-            binding.tvPreviewSunset.setText("Sunset: --");
-            binding.tvPreviewRahukaal.setText("Rahukaal: --");
-        }
+        // Today's stored row for the location; a miss is computed and stored off the main thread
+        int request = previewRequest.incrementAndGet();
+        Context context = requireContext().getApplicationContext();
+        DivyaPathDatabase.databaseWriteExecutor.execute(() -> {
+            Map<String, String> panchang;
+            try {
+                panchang = PanchangCache.getToday(context).asMap();
+            } catch (Exception e) {
+                panchang = Collections.emptyMap();
+            }
+            if (request == previewRequest.get()) previewPanchang.postValue(panchang);
+        });
+    }
+
+    private void bindLocationPreview(Map<String, String> panchang) {
+        binding.tvPreviewSunrise.setText("Sunrise: " + panchang.getOrDefault("sunrise", "--"));
+        binding.tvPreviewSunset.setText("Sunset: " + panchang.getOrDefault("sunset", "--"));
+        binding.tvPreviewRahukaal.setText("Rahukaal: " + panchang.getOrDefault("rahukaal", "--"));
     }
 
     private void bindAboutSection() {
@@ -24,6 +24,7 @@ public class ShraddhaFormFragment extends Fragment {
     private int editId = -1;
     private int selectedPakshaOffset = 0; // 0 for Shukla, 15 for Krishna
     private int selectedTithiInPaksha = 0; // 0-14
+    private int selectedMonthScheme = ShraddhaEntity.SCHEME_PURNIMANTA;
 
     private static final String[] SHUKLA_TITHIS = {
             "Pratipada", "Dwitiya", "Tritiya", "Chaturthi", "Panchami",
@@ -40,6 +41,10 @@ public class ShraddhaFormFragment extends Fragment {
             "Shravana", "Bhadrapada", "Ashwin", "Kartik",
             "Margashirsha", "Pausha", "Magha", "Phalguna"
     };
+    // Indexed by ShraddhaEntity.SCHEME_*
+    private static final String[] MONTH_SCHEMES = {
+            "Purnimanta (North India)", "Amanta (South & West India)"
+    };
 
     @Nullable
     @Override
@@ -88,6 +93,9 @@ public class ShraddhaFormFragment extends Fragment {
                         binding.dropdownMonth.setText(MONTHS[monthIdx], false);
                     }
 
+                    selectedMonthScheme = entity.getMonthScheme();
+                    binding.dropdownMonthScheme.setText(MONTH_SCHEMES[selectedMonthScheme], false);
+
                     binding.etNotes.setText(entity.getNotes());
                 }
             });
@@ -126,6 +134,14 @@ public class ShraddhaFormFragment extends Fragment {
         ArrayAdapter<String> monthAdapter = new ArrayAdapter<>(requireContext(),
                 android.R.layout.simple_dropdown_item_1line, MONTHS);
         binding.dropdownMonth.setAdapter(monthAdapter);
+
+        // Month naming, which decides the month a Krishna paksha tithi falls in
+        ArrayAdapter<String> schemeAdapter = new ArrayAdapter<>(requireContext(),
+                android.R.layout.simple_dropdown_item_1line, MONTH_SCHEMES);
+        binding.dropdownMonthScheme.setAdapter(schemeAdapter);
+        binding.dropdownMonthScheme.setText(MONTH_SCHEMES[selectedMonthScheme], false);
+        binding.dropdownMonthScheme.setOnItemClickListener((parent, v, pos, id) ->
+                selectedMonthScheme = pos);
     }
 
     private void updateTithiDropdown(String[] tithis) {
@@ -155,6 +171,7 @@ public class ShraddhaFormFragment extends Fragment {
         entity.setRelationship(relationship);
         entity.setTithiIndex(tithiIndex);
         entity.setLunarMonth(lunarMonth);
+        entity.setMonthScheme(selectedMonthScheme);
         entity.setAnnual(true);
         entity.setNotes(notes);
         entity.setCreatedAt(System.currentTimeMillis());
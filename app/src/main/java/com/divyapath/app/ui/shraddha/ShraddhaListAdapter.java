@@ -13,6 +13,11 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.divyapath.app.R;
 import com.divyapath.app.data.local.entity.ShraddhaEntity;
 
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Locale;
+import java.util.Objects;
+
 public class ShraddhaListAdapter extends ListAdapter<ShraddhaEntity, ShraddhaListAdapter.ShraddhaViewHolder> {
 
     public interface OnItemClickListener {
@@ -40,7 +45,8 @@ public class ShraddhaListAdapter extends ListAdapter<ShraddhaEntity, ShraddhaLis
                 public boolean areContentsTheSame(@NonNull ShraddhaEntity a, @NonNull ShraddhaEntity b) {
                     return a.getName() != null && a.getName().equals(b.getName())
                             && a.getTithiIndex() == b.getTithiIndex()
-                            && a.getLunarMonth() == b.getLunarMonth();
+                            && a.getLunarMonth() == b.getLunarMonth()
+                            && Objects.equals(a.getNextDate(), b.getNextDate());
                 }
             };
 
@@ -61,7 +67,8 @@ public class ShraddhaListAdapter extends ListAdapter<ShraddhaEntity, ShraddhaLis
         holder.tvTithi.setText(
                 ShraddhaEntity.getPakshaName(item.getTithiIndex()) + " " +
                         ShraddhaEntity.getTithiName(item.getTithiIndex()));
-        holder.tvMonth.setText(ShraddhaEntity.getLunarMonthName(item.getLunarMonth()));
+        String month = ShraddhaEntity.getLunarMonthName(item.getLunarMonth());
+        holder.tvMonth.setText(item.getNextDate() != null ? month + " · " + formatDate(item.getNextDate()) : month);
 
         if (item.getNotes() != null && !item.getNotes().isEmpty()) {
             holder.tvNotes.setVisibility(View.VISIBLE);
@@ -75,6 +82,16 @@ public class ShraddhaListAdapter extends ListAdapter<ShraddhaEntity, ShraddhaLis
         });
     }
 
+    /** "yyyy-MM-dd" to "Sun, 21 Sep 2025". */
+    private static String formatDate(String dateKey) {
+        try {
+            SimpleDateFormat in = new SimpleDateFormat("yyyy-MM-dd", Locale.ENGLISH);
+            return new SimpleDateFormat("EEE, d MMM yyyy", Locale.getDefault()).format(in.parse(dateKey));
+        } catch (ParseException e) {
+            return dateKey;
+        }
+    }
+
     static class ShraddhaViewHolder extends RecyclerView.ViewHolder {
         final TextView tvName;
         final TextView tvRelationship;
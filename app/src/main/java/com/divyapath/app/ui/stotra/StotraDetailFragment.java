@@ -12,6 +12,7 @@ import androidx.fragment.app.Fragment;
 import androidx.lifecycle.ViewModelProvider;
 
 import com.divyapath.app.R;
+import com.divyapath.app.data.local.PlayHistory;
 import com.divyapath.app.databinding.FragmentStotraDetailBinding;
 import com.divyapath.app.utils.TtsPlayerManager;
 
@@ -72,7 +73,9 @@ public class StotraDetailFragment extends Fragment {
                         ? stotra.getTextSanskrit() : stotra.getTextHindi();
                 if (ttsText != null) {
                     ttsPlayer.setText(ttsText);
+                    ttsPlayer.setContentId(stotra.getId());
                     ttsPlayer.setAudioUrl(stotra.getArchiveOrgUrl());
+                    ttsPlayer.resumeFrom(PlayHistory.takeResumePosition(getArguments()));
                 }
             }
         });
@@ -7,32 +7,32 @@ import android.widget.ImageView;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.paging.PagingDataAdapter;
 import androidx.recyclerview.widget.DiffUtil;
-import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.divyapath.app.R;
-import com.divyapath.app.data.local.entity.StotraEntity;
+import com.divyapath.app.data.local.ContentSummary;
 import com.divyapath.app.utils.DeityIconMapper;
 
-public class StotraListAdapter extends ListAdapter<StotraEntity, StotraListAdapter.VH> {
+public class StotraListAdapter extends PagingDataAdapter<ContentSummary, StotraListAdapter.VH> {
 
     public interface OnStotraClickListener {
-        void onStotraClick(StotraEntity stotra);
+        void onStotraClick(ContentSummary stotra);
     }
 
     private final OnStotraClickListener listener;
 
     public StotraListAdapter(OnStotraClickListener l) {
-        super(new DiffUtil.ItemCallback<StotraEntity>() {
+        super(new DiffUtil.ItemCallback<ContentSummary>() {
             @Override
-            public boolean areItemsTheSame(@NonNull StotraEntity o, @NonNull StotraEntity n) {
-                return o.getId() == n.getId();
+            public boolean areItemsTheSame(@NonNull ContentSummary o, @NonNull ContentSummary n) {
+                return o.id == n.id;
             }
 
             @Override
-            public boolean areContentsTheSame(@NonNull StotraEntity o, @NonNull StotraEntity n) {
-                return o.getTitle().equals(n.getTitle());
+            public boolean areContentsTheSame(@NonNull ContentSummary o, @NonNull ContentSummary n) {
+                return o.equals(n);
             }
         });
         this.listener = l;
@@ -46,18 +46,19 @@ public class StotraListAdapter extends ListAdapter<StotraEntity, StotraListAdapt
 
     @Override
     public void onBindViewHolder(@NonNull VH h, int pos) {
-        StotraEntity s = getItem(pos);
-        h.title.setText(s.getTitle());
-        h.titleHindi.setText(s.getTitleHindi());
-        h.verseCount.setText(s.getVerseCount() + " verses");
-        int mins = s.getDuration() / 60;
+        ContentSummary s = getItem(pos);
+        if (s == null) return;
+        h.title.setText(s.title);
+        h.titleHindi.setText(s.subtitle);
+        h.verseCount.setText(s.verseCount + " verses");
+        int mins = s.duration / 60;
         if (mins > 0) {
             h.duration.setText(mins + " min");
             h.duration.setVisibility(View.VISIBLE);
         } else {
             h.duration.setVisibility(View.GONE);
         }
-        h.icon.setImageResource(DeityIconMapper.getIconForDeityId(s.getDeityId()));
+        h.icon.setImageResource(DeityIconMapper.getIconForDeityId(s.deityId));
         h.itemView.setOnClickListener(v -> listener.onStotraClick(s));
     }
 
@@ -33,14 +33,15 @@ public class StotraListFragment extends Fragment {
 
         StotraListAdapter adapter = new StotraListAdapter(stotra -> {
             Bundle args = new Bundle();
-            args.putInt("contentId", stotra.getId());
+            args.putInt("contentId", stotra.id);
             Navigation.findNavController(v).navigate(R.id.stotraDetailFragment, args);
         });
 
         binding.rvStotraList.setLayoutManager(new LinearLayoutManager(requireContext()));
         binding.rvStotraList.setAdapter(adapter);
 
-        vm.getAllStotras().observe(getViewLifecycleOwner(), adapter::submitList);
+        vm.getAllStotras().observe(getViewLifecycleOwner(),
+                data -> adapter.submitData(getViewLifecycleOwner().getLifecycle(), data));
 
         binding.toolbarStotra.setNavigationOnClickListener(x ->
                 Navigation.findNavController(v).popBackStack());
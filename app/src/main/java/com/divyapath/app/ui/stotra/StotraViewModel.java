@@ -5,24 +5,25 @@ import android.app.Application;
 import androidx.annotation.NonNull;
 import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
+import androidx.paging.PagingData;
+import androidx.paging.PagingLiveData;
 
+import com.divyapath.app.data.local.ContentSummary;
 import com.divyapath.app.data.local.entity.StotraEntity;
 import com.divyapath.app.data.repository.DivyaPathRepository;
 
-import java.util.List;
-
 public class StotraViewModel extends AndroidViewModel {
 
     private final DivyaPathRepository repo;
-    private final LiveData<List<StotraEntity>> allStotras;
+    private final LiveData<PagingData<ContentSummary>> allStotras;
 
     public StotraViewModel(@NonNull Application app) {
         super(app);
         repo = new DivyaPathRepository(app);
-        allStotras = repo.getAllStotras();
+        allStotras = PagingLiveData.cachedIn(repo.getAllStotras(), this);
     }
 
-    public LiveData<List<StotraEntity>> getAllStotras() {
+    public LiveData<PagingData<ContentSummary>> getAllStotras() {
         return allStotras;
     }
 
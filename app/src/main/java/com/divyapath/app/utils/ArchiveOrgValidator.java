@@ -44,7 +44,7 @@ public class ArchiveOrgValidator extends Worker {
         // Re-run backfill to ensure all URLs are up to date
         try {
             DivyaPathDatabase db = DivyaPathDatabase.getDatabase(getApplicationContext());
-            DatabaseSeeder.seedDatabase(db);
+            DatabaseSeeder.seedDatabase(getApplicationContext(), db);
         } catch (Exception e) {
             Log.e(TAG, "Database backfill failed", e);
         }
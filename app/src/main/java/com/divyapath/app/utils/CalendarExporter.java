@@ -0,0 +1,59 @@
+package com.divyapath.app.utils;
+
+import android.content.Context;
+
+import com.divyapath.app.data.local.DivyaPathDatabase;
+import com.divyapath.panchang.IcsWriter;
+import com.divyapath.panchang.PanchangCalculator;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * Exports daily panchang, festivals, vrats (always including Ekadashi) and shraddha dates as
+ * an iCalendar file that calendar apps can import.
+ *
+ * Events are streamed through a buffered writer as they are computed: the daily panchang a
+ * month at a time, then each rule set evaluated over the whole span. A decade exports in a
+ * second or two with memory bounded by one month of days. Must be called off the main thread.
+ */
+public class CalendarExporter {
+
+    public static final int YEARS = 10;
+
+    private static final String DIRECTORY = "exports"; // matches res/xml/file_paths.xml
+    private static final int BUFFER_CHARS = 1 << 16;
+
+    /** Write {@code years} from today at the user's location; returns the file to share. */
+    public static File export(Context context, int years) throws IOException {
+        PreferenceManager pm = new PreferenceManager(context);
+        double lat = pm.getLocationLat();
+        double lon = pm.getLocationLon();
+        String tz = pm.getEffectiveTimezone();
+        Calendar today = Calendar.getInstance(TimeZone.getTimeZone(tz));
+        int startJdn = PanchangCalculator.civilToJdn(today.get(Calendar.YEAR),
+                today.get(Calendar.MONTH) + 1, today.get(Calendar.DAY_OF_MONTH));
+        int endJdn = PanchangCalculator.civilToJdn(today.get(Calendar.YEAR) + years,
+                today.get(Calendar.MONTH) + 1, today.get(Calendar.DAY_OF_MONTH)) - 1;
+        DivyaPathDatabase db = DivyaPathDatabase.getDatabase(context);
+
+        File dir = new File(context.getCacheDir(), DIRECTORY);
+        if (!dir.isDirectory() && !dir.mkdirs()) throw new IOException("Cannot create " + dir);
+        File file = new File(dir, "divyapath.ics");
+        try (IcsWriter ics = new IcsWriter(new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(file), StandardCharsets.UTF_8), BUFFER_CHARS),
+                "DivyaPath · " + pm.getLocationName(), "divyapath.app", System.currentTimeMillis())) {
+            ics.panchangDays(startJdn, endJdn - startJdn + 1, lat, lon, tz, PanchangCache.PRECISION_USER);
+            FestivalGenerator.export(ics, startJdn, endJdn, lat, lon, tz);
+            VratScheduler.export(ics, db.vratDao().getEnabledRulesSync(), startJdn, endJdn, lat, lon, tz);
+            ShraddhaScheduler.export(ics, db.shraddhaDao().getAllSync(), startJdn, endJdn, lat, lon, tz);
+        }
+        return file;
+    }
+}
@@ -162,6 +162,16 @@ public class CityData {
         return result;
     }
 
+    /** Returns the city with exactly this name (case-insensitive), or null. */
+    public static City findByName(String name) {
+        for (City city : ALL_CITIES) {
+            if (city.getName().equalsIgnoreCase(name)) {
+                return city;
+            }
+        }
+        return null;
+    }
+
     /** Finds the closest city to given coordinates using Haversine formula. */
     public static City findClosest(double lat, double lon) {
         City closest = null;
@@ -15,7 +15,7 @@ public final class DeityIconMapper {
 
     /**
      * Maps a deity's database ID to the corresponding drawable resource.
-     * IDs match those assigned in DatabaseSeeder.
+     * IDs match those in app/content/seed.json.
      *
      * @param deityId the deity's database primary key (1-11)
      * @return drawable resource ID, or ic_om_symbol as fallback
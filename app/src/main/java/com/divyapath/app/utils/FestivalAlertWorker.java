@@ -7,7 +7,8 @@ import androidx.core.content.ContextCompat;
 import androidx.work.Worker; import androidx.work.WorkerParameters;
 import com.divyapath.app.DivyaPathApp; import com.divyapath.app.R;
 import com.divyapath.app.data.local.DivyaPathDatabase; import com.divyapath.app.data.local.entity.FestivalEntity;
-import java.text.SimpleDateFormat; import java.util.Calendar; import java.util.Locale;
+import com.divyapath.app.data.local.entity.ShraddhaEntity; import com.divyapath.app.data.local.entity.VratOccurrenceEntity;
+import java.text.SimpleDateFormat; import java.util.Calendar; import java.util.List; import java.util.Locale;
 public class FestivalAlertWorker extends Worker {
     public FestivalAlertWorker(@NonNull Context c,@NonNull WorkerParameters p){super(c,p);}
     @NonNull @Override public Result doWork(){
@@ -31,7 +32,29 @@ public class FestivalAlertWorker extends Worker {
                 NotificationManager nm=getApplicationContext().getSystemService(NotificationManager.class);
                 if(nm!=null)nm.notify(2001,b.build());
             }
+            // Saved shraddha tithis, from the dates ShraddhaScheduler projected
+            List<ShraddhaEntity> shraddha=db.shraddhaDao().getShraddhaOnDate(tomorrowDate);
+            if(!shraddha.isEmpty()){
+                StringBuilder names=new StringBuilder();
+                for(ShraddhaEntity s:shraddha){if(names.length()>0)names.append(", ");names.append(s.getName());}
+                post(2002,"Tomorrow: Shraddha \uD83E\uDE94",names.toString());
+            }
+            // The user's own vrats, as materialised by VratScheduler
+            List<VratOccurrenceEntity> vrats=db.vratDao().getOnDate(tomorrowDate);
+            if(!vrats.isEmpty()){
+                StringBuilder names=new StringBuilder();
+                for(VratOccurrenceEntity v:vrats){if(names.length()>0)names.append(", ");names.append(v.getName());}
+                post(2003,"Tomorrow: Vrat \uD83D\uDE4F",names.toString());
+            }
         }catch(Exception e){/* DB not ready */}
         return Result.success();
     }
+    private void post(int id,String title,String text){
+        NotificationCompat.Builder b=new NotificationCompat.Builder(getApplicationContext(),DivyaPathApp.CHANNEL_FESTIVAL)
+                .setSmallIcon(R.drawable.ic_om_symbol).setContentTitle(title).setContentText(text).setAutoCancel(true)
+                .setStyle(new NotificationCompat.BigTextStyle().bigText(text))
+                .setPriority(NotificationCompat.PRIORITY_HIGH);
+        NotificationManager nm=getApplicationContext().getSystemService(NotificationManager.class);
+        if(nm!=null)nm.notify(id,b.build());
+    }
 }
@@ -0,0 +1,157 @@
+package com.divyapath.app.utils;
+
+import android.content.Context;
+
+import com.divyapath.app.data.local.DivyaPathDatabase;
+import com.divyapath.app.data.local.entity.FestivalEntity;
+import com.divyapath.panchang.FestivalCalendar;
+import com.divyapath.panchang.FestivalRule;
+import com.divyapath.panchang.IcsWriter;
+import com.divyapath.panchang.PanchangCalculator;
+import com.divyapath.panchang.PanchangDay;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+import static com.divyapath.panchang.FestivalRule.*;
+
+/**
+ * Dates the festivals table from lunar calendar rules instead of shipping fixed rows.
+ *
+ * Each festival is a {@link FestivalRule}; {@link FestivalCalendar} evaluates them all against
+ * one tithi timeline for the user's location and the rows for the whole window are swapped in
+ * with a single transaction. Readers of the festivals table are unchanged.
+ * Must be called off the main thread.
+ */
+public class FestivalGenerator {
+
+    /** Years kept ahead, starting with the current one. */
+    public static final int YEARS = 5;
+
+    // New Delhi, matching the PreferenceManager location defaults
+    private static final double DEFAULT_LAT = 28.6139;
+    private static final double DEFAULT_LON = 77.2090;
+    private static final String DEFAULT_TIMEZONE = "Asia/Kolkata";
+
+    private static final class Definition {
+        final FestivalRule rule;
+        final String name, nameHindi, description;
+
+        Definition(FestivalRule rule, String name, String nameHindi, String description) {
+            this.rule = rule;
+            this.name = name;
+            this.nameHindi = nameHindi;
+            this.description = description;
+        }
+    }
+
+    // Tithi indices are 0-29: Shukla Pratipada = 0, Purnima = 14, Krishna Pratipada = 15, Amavasya = 29
+    private static final Definition[] FESTIVALS = {
+            new Definition(sankranti(9), "Makar Sankranti", "मकर संक्रांति",
+                    "Harvest festival marking the sun's transition into Capricorn."),
+            new Definition(tithi(MAGHA, 4, KAAL_SUNRISE), "Basant Panchami", "बसंत पंचमी",
+                    "Festival of Goddess Saraswati, marking the arrival of spring."),
+            new Definition(tithi(MAGHA, 28, KAAL_NISHITA), "Maha Shivaratri", "महा शिवरात्रि",
+                    "The great night of Lord Shiva, celebrated with fasting and night vigil."),
+            new Definition(tithi(PHALGUNA, 14, KAAL_PRADOSH).plusDays(1), "Holi", "होली",
+                    "Festival of colors celebrating the victory of good over evil."),
+            new Definition(tithi(CHAITRA, 8, KAAL_MADHYAHNA), "Ram Navami", "राम नवमी",
+                    "Celebration of Lord Rama's birth."),
+            new Definition(tithi(CHAITRA, 14, KAAL_SUNRISE), "Hanuman Jayanti", "हनुमान जयंती",
+                    "Birth anniversary of Lord Hanuman."),
+            new Definition(tithi(ASHADHA, 14, KAAL_SUNRISE), "Guru Purnima", "गुरु पूर्णिमा",
+                    "Festival dedicated to spiritual and academic teachers, celebrated on the full moon day of Ashadha month."),
+            new Definition(tithi(SHRAVANA, 14, KAAL_SUNRISE), "Raksha Bandhan", "रक्षा बंधन",
+                    "Festival celebrating the bond between brothers and sisters."),
+            new Definition(tithi(SHRAVANA, 22, KAAL_SUNRISE), "Janmashtami", "जन्माष्टमी",
+                    "Birth anniversary of Lord Krishna."),
+            new Definition(tithi(BHADRAPADA, 3, KAAL_MADHYAHNA), "Ganesh Chaturthi", "गणेश चतुर्थी",
+                    "Festival celebrating the birth of Lord Ganesha."),
+            new Definition(tithi(ASHVIN, 0, KAAL_SUNRISE), "Navratri", "नवरात्रि",
+                    "Nine nights of Goddess Durga worship."),
+            new Definition(tithi(ASHVIN, 9, KAAL_APARAHNA), "Dussehra", "दशहरा",
+                    "Victory of Lord Rama over Ravana, triumph of good over evil."),
+            new Definition(tithi(ASHVIN, 18, KAAL_MOONRISE), "Karva Chauth", "करवा चौथ",
+                    "Festival where married women fast from sunrise to moonrise for the longevity and well-being of their husbands."),
+            new Definition(tithi(ASHVIN, 27, KAAL_PRADOSH), "Dhanteras", "धनतेरस",
+                    "Festival of wealth, first day of Diwali celebrations, dedicated to Lord Dhanvantari."),
+            new Definition(tithi(ASHVIN, 29, KAAL_PRADOSH), "Diwali", "दीपावली",
+                    "Festival of lights celebrating Lord Rama's return to Ayodhya."),
+            new Definition(tithi(KARTIKA, 0, KAAL_SUNRISE), "Govardhan Puja", "गोवर्धन पूजा",
+                    "Celebrates Lord Krishna lifting Govardhan Hill to protect villagers from Indra's wrath."),
+            new Definition(tithi(KARTIKA, 1, KAAL_APARAHNA), "Bhai Dooj", "भाई दूज",
+                    "Festival celebrating the bond between brothers and sisters, sisters pray for their brothers' well-being."),
+            new Definition(tithi(KARTIKA, 5, KAAL_SUNRISE), "Chhath Puja", "छठ पूजा",
+                    "Ancient Hindu festival dedicated to Lord Surya and Chhathi Maiya, celebrated with fasting and offering prayers to the Sun."),
+            new Definition(tithi(KARTIKA, 10, KAAL_SUNRISE), "Dev Uthani Ekadashi", "देवउठनी एकादशी",
+                    "The day Lord Vishnu awakens from his cosmic sleep, marking the end of Chaturmas and beginning of the wedding season."),
+            new Definition(tithi(KARTIKA, 11, KAAL_SUNRISE), "Tulsi Vivah", "तुलसी विवाह",
+                    "Ceremonial marriage of the Tulsi plant to Lord Vishnu or his avatar Shaligram, marking the beginning of the Hindu wedding season."),
+    };
+
+    private static final FestivalRule[] RULES = new FestivalRule[FESTIVALS.length];
+    static {
+        for (int i = 0; i < FESTIVALS.length; i++) RULES[i] = FESTIVALS[i].rule;
+    }
+
+    /**
+     * Regenerate if the stored rows were dated for another location or no longer reach
+     * {@link #YEARS} ahead. Cheap to call from periodic work.
+     */
+    public static void ensureGenerated(Context context) {
+        PreferenceManager pm = new PreferenceManager(context);
+        double lat = pm.getLocationLat();
+        double lon = pm.getLocationLon();
+        String tz = pm.getEffectiveTimezone();
+        String key = PanchangCache.locationKey(lat, lon, tz);
+        int fromYear = Calendar.getInstance(TimeZone.getTimeZone(tz)).get(Calendar.YEAR);
+        int throughYear = fromYear + YEARS - 1;
+        if (pm.getFestivalLocationKey().equals(key) && pm.getFestivalThroughYear() >= throughYear) return;
+
+        regenerate(DivyaPathDatabase.getDatabase(context), fromYear, YEARS, lat, lon, tz);
+        pm.setFestivalsGenerated(key, throughYear);
+    }
+
+    /** First-run seed, before the user has picked a location. */
+    public static void seedDefault(DivyaPathDatabase db) {
+        int fromYear = Calendar.getInstance(TimeZone.getTimeZone(DEFAULT_TIMEZONE)).get(Calendar.YEAR);
+        regenerate(db, fromYear, YEARS, DEFAULT_LAT, DEFAULT_LON, DEFAULT_TIMEZONE);
+    }
+
+    /** Write every festival from {@code startJdn} to {@code endJdn} as calendar events. */
+    public static void export(IcsWriter ics, int startJdn, int endJdn,
+                              double lat, double lon, String timezone) throws IOException {
+        FestivalCalendar.Occurrences dates = FestivalCalendar.generate(RULES, startJdn, endJdn, lat, lon, timezone);
+        for (int i = 0; i < dates.size(); i++) {
+            Definition d = FESTIVALS[dates.rule[i]];
+            ics.allDayEvent("festival-" + dates.rule[i] + "-" + ics.dateDigits(dates.jdn[i]), dates.jdn[i],
+                    d.name, d.description);
+        }
+    }
+
+    /** Replace every festival row from 1 January {@code fromYear} through {@code years} years. */
+    public static void regenerate(DivyaPathDatabase db, int fromYear, int years,
+                                  double lat, double lon, String timezone) {
+        int startJdn = PanchangCalculator.civilToJdn(fromYear, 1, 1);
+        int endJdn = PanchangCalculator.civilToJdn(fromYear + years, 1, 1) - 1;
+        FestivalCalendar.Occurrences dates = FestivalCalendar.generate(RULES, startJdn, endJdn, lat, lon, timezone);
+
+        List<FestivalEntity> rows = new ArrayList<>(dates.size());
+        int[] ymd = new int[3];
+        for (int i = 0; i < dates.size(); i++) {
+            Definition d = FESTIVALS[dates.rule[i]];
+            PanchangCalculator.jdnToCivil(dates.jdn[i], ymd);
+            FestivalEntity f = new FestivalEntity();
+            f.setName(d.name);
+            f.setNameHindi(d.nameHindi);
+            f.setDate(PanchangDay.dateKey(ymd[0], ymd[1], ymd[2]));
+            f.setDescription(d.description);
+            rows.add(f);
+        }
+        db.festivalDao().replaceBetween(PanchangDay.dateKey(fromYear, 1, 1),
+                PanchangDay.dateKey(fromYear + years - 1, 12, 31), rows);
+    }
+}
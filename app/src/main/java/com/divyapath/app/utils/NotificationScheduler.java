@@ -4,7 +4,9 @@ import android.content.Context;
 
 import androidx.work.Constraints;
 import androidx.work.ExistingPeriodicWorkPolicy;
+import androidx.work.ExistingWorkPolicy;
 import androidx.work.NetworkType;
+import androidx.work.OneTimeWorkRequest;
 import androidx.work.PeriodicWorkRequest;
 import androidx.work.WorkManager;
 
@@ -21,6 +23,7 @@ public class NotificationScheduler {
     private static final String EVENING_WORK = "evening_reminder";
     private static final String FESTIVAL_WORK = "festival_alert";
     private static final String PANCHANG_WORK = "panchang_prefetch";
+    private static final String PANCHANG_REFRESH_WORK = "panchang_refresh";
     private static final String AUTO_WALLPAPER_WORK = "auto_wallpaper";
 
     /**
@@ -60,6 +63,7 @@ public class NotificationScheduler {
         WorkManager.getInstance(context).cancelUniqueWork(EVENING_WORK);
         WorkManager.getInstance(context).cancelUniqueWork(FESTIVAL_WORK);
         WorkManager.getInstance(context).cancelUniqueWork(PANCHANG_WORK);
+        WorkManager.getInstance(context).cancelUniqueWork(PANCHANG_REFRESH_WORK);
         WorkManager.getInstance(context).cancelUniqueWork(AUTO_WALLPAPER_WORK);
     }
 
@@ -96,17 +100,27 @@ public class NotificationScheduler {
     }
 
     public static void schedulePanchangPrefetch(Context context) {
-        Constraints constraints = new Constraints.Builder()
-                .setRequiredNetworkType(NetworkType.CONNECTED)
-                .build();
+        // Panchang is computed locally, so no network constraint
         PeriodicWorkRequest req = new PeriodicWorkRequest.Builder(
                 PeriodicPanchangWorker.class, 12, TimeUnit.HOURS)
                 .setInitialDelay(1, TimeUnit.MINUTES)
                 .addTag(PANCHANG_WORK)
-                .setConstraints(constraints)
                 .build();
         WorkManager.getInstance(context).enqueueUniquePeriodicWork(
-                PANCHANG_WORK, ExistingPeriodicWorkPolicy.KEEP, req);
+                PANCHANG_WORK, ExistingPeriodicWorkPolicy.UPDATE, req);
+    }
+
+    /**
+     * Runs the panchang prefetch once now, after the user's location or timezone changed,
+     * so festivals, shraddha and vrat dates follow the new place without waiting for the
+     * next periodic run. A newer change replaces a refresh that has not finished.
+     */
+    public static void refreshPanchangNow(Context context) {
+        OneTimeWorkRequest req = new OneTimeWorkRequest.Builder(PeriodicPanchangWorker.class)
+                .addTag(PANCHANG_REFRESH_WORK)
+                .build();
+        WorkManager.getInstance(context).enqueueUniqueWork(
+                PANCHANG_REFRESH_WORK, ExistingWorkPolicy.REPLACE, req);
     }
 
     public static void scheduleAutoWallpaper(Context context) {
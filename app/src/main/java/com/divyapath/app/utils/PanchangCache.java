@@ -0,0 +1,230 @@
+package com.divyapath.app.utils;
+
+import android.content.Context;
+
+import com.divyapath.app.data.local.DivyaPathDatabase;
+import com.divyapath.app.data.local.dao.PanchangDayDao;
+import com.divyapath.app.data.local.entity.PanchangDayEntity;
+import com.divyapath.panchang.PanchangCalculator;
+import com.divyapath.panchang.PanchangDay;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Read-through cache of precomputed Panchang days in the {@code panchang_days} table.
+ * Rows are keyed by location and precision so switching city never serves stale data.
+ * All methods touch Room and must be called off the main thread.
+ */
+public class PanchangCache {
+
+    /**
+     * Tier used for the user's own location. Only {@link #PREFETCH_DAYS} days are kept,
+     * so the full-theory cost is paid once per refresh rather than per screen.
+     */
+    public static final int PRECISION_USER = PanchangCalculator.PRECISION_PRECISE;
+
+    /** Days kept ahead of today by {@link #refresh}. */
+    public static final int PREFETCH_DAYS = 45;
+
+    /**
+     * Coordinate as stored in {@code panchang_days}: bucketed to 1e-4 degrees (~10 m)
+     * so float noise from different callers maps to the same rows.
+     */
+    public static int e4(double degrees) {
+        return (int) Math.round(degrees * 10000);
+    }
+
+    /**
+     * Exact key for a location, from the same rounded coordinates and timezone the rows are
+     * keyed by. Used to tell whether data generated for one location is still current.
+     */
+    public static String locationKey(double lat, double lon, String timezone) {
+        return e4(lat) + "," + e4(lon) + "," + timezone;
+    }
+
+    /**
+     * Today's Panchang at the user's saved location, computed and stored on a miss.
+     */
+    public static PanchangDay getToday(Context context) {
+        PreferenceManager pm = new PreferenceManager(context);
+        String tz = pm.getEffectiveTimezone();
+        Calendar today = Calendar.getInstance(TimeZone.getTimeZone(tz));
+        return getRange(context, today, 1, pm.getLocationLat(), pm.getLocationLon(), tz, PRECISION_USER)[0];
+    }
+
+    /**
+     * {@code days} consecutive days from {@code start}; rows missing from the table are
+     * computed in one batch with {@link PanchangCalculator#computeRange} and stored.
+     */
+    public static PanchangDay[] getRange(Context context, Calendar start, int days,
+                                         double lat, double lon, String timezone, int precision) {
+        PanchangDayDao dao = DivyaPathDatabase.getDatabase(context).panchangDayDao();
+        String[] bounds = dateBounds(start, days);
+
+        List<PanchangDayEntity> rows = dao.getRangeSync(e4(lat), e4(lon), timezone, precision, bounds[0], bounds[1]);
+        if (rows.size() == days) {
+            PanchangDay[] out = new PanchangDay[days];
+            for (int i = 0; i < days; i++) out[i] = fromEntity(rows.get(i), lat, lon, timezone);
+            return out;
+        }
+
+        PanchangDay[] computed = PanchangCalculator.computeRange(start, days, lat, lon, timezone, precision);
+        dao.insertAll(toEntities(computed));
+        return computed;
+    }
+
+    /**
+     * One calendar month for the month grid. Stored days are read back, preferring the
+     * {@link #PRECISION_USER} rows kept by {@link #refresh}; only the days still missing are
+     * computed, at FAST precision in contiguous runs, and stored for the next visit.
+     */
+    public static PanchangDay[] getMonth(Context context, int year, int month,
+                                         double lat, double lon, String timezone) {
+        PanchangDayDao dao = DivyaPathDatabase.getDatabase(context).panchangDayDao();
+        int latE4 = e4(lat);
+        int lonE4 = e4(lon);
+        Calendar start = Calendar.getInstance(TimeZone.getTimeZone(timezone));
+        start.clear();
+        start.set(year, month - 1, 1);
+        int days = start.getActualMaximum(Calendar.DAY_OF_MONTH);
+        String[] bounds = dateBounds(start, days);
+
+        PanchangDay[] out = new PanchangDay[days];
+        fill(out, dao.getRangeSync(latE4, lonE4, timezone, PRECISION_USER, bounds[0], bounds[1]), lat, lon, timezone);
+        fill(out, dao.getRangeSync(latE4, lonE4, timezone, PanchangCalculator.PRECISION_FAST,
+                bounds[0], bounds[1]), lat, lon, timezone);
+
+        List<PanchangDayEntity> computed = new ArrayList<>();
+        for (int i = 0; i < days; ) {
+            if (out[i] != null) { i++; continue; }
+            int end = i;
+            while (end < days && out[end] == null) end++;
+            Calendar from = (Calendar) start.clone();
+            from.set(Calendar.DAY_OF_MONTH, i + 1);
+            PanchangDay[] run = PanchangCalculator.computeRange(from, end - i, lat, lon, timezone,
+                    PanchangCalculator.PRECISION_FAST);
+            System.arraycopy(run, 0, out, i, run.length);
+            computed.addAll(toEntities(run));
+            i = end;
+        }
+        if (!computed.isEmpty()) dao.insertAll(computed);
+        return out;
+    }
+
+    /** Puts each row at its day-of-month index in {@code month}, keeping days already filled. */
+    private static void fill(PanchangDay[] month, List<PanchangDayEntity> rows,
+                             double lat, double lon, String timezone) {
+        for (PanchangDayEntity row : rows) {
+            int index = Integer.parseInt(row.getDate().substring(8, 10)) - 1;
+            if (month[index] == null) month[index] = fromEntity(row, lat, lon, timezone);
+        }
+    }
+
+    /**
+     * Precompute the next {@link #PREFETCH_DAYS} days for the user's location and prune
+     * rows for past dates and for locations the user no longer has selected.
+     */
+    public static void refresh(Context context) {
+        PreferenceManager pm = new PreferenceManager(context);
+        String tz = pm.getEffectiveTimezone();
+        double lat = pm.getLocationLat();
+        double lon = pm.getLocationLon();
+        int latE4 = e4(lat);
+        int lonE4 = e4(lon);
+
+        Calendar today = Calendar.getInstance(TimeZone.getTimeZone(tz));
+        PanchangDayDao dao = DivyaPathDatabase.getDatabase(context).panchangDayDao();
+        String[] bounds = dateBounds(today, PREFETCH_DAYS);
+        if (dao.countRange(latE4, lonE4, tz, PRECISION_USER, bounds[0], bounds[1]) < PREFETCH_DAYS) {
+            PanchangDay[] days = PanchangCalculator.computeRange(today, PREFETCH_DAYS, lat, lon, tz, PRECISION_USER);
+            dao.insertAll(toEntities(days));
+        }
+
+        Calendar yesterday = (Calendar) today.clone();
+        yesterday.add(Calendar.DAY_OF_YEAR, -1);
+        dao.deleteBefore(dateBounds(yesterday, 1)[0]);
+        dao.deleteOtherLocations(latE4, lonE4, tz);
+    }
+
+    /** {first, last} date keys of a {@code days}-long range starting at {@code start}. */
+    private static String[] dateBounds(Calendar start, int days) {
+        int jdn = PanchangCalculator.civilToJdn(start.get(Calendar.YEAR),
+                start.get(Calendar.MONTH) + 1, start.get(Calendar.DAY_OF_MONTH));
+        int[] ymd = new int[3];
+        PanchangCalculator.jdnToCivil(jdn, ymd);
+        String first = PanchangDay.dateKey(ymd[0], ymd[1], ymd[2]);
+        PanchangCalculator.jdnToCivil(jdn + Math.max(days, 1) - 1, ymd);
+        return new String[]{first, PanchangDay.dateKey(ymd[0], ymd[1], ymd[2])};
+    }
+
+    static PanchangDay fromEntity(PanchangDayEntity e, double lat, double lon, String timezone) {
+        String date = e.getDate();
+        PanchangDay day = new PanchangDay(
+                Integer.parseInt(date.substring(0, 4)),
+                Integer.parseInt(date.substring(5, 7)),
+                Integer.parseInt(date.substring(8, 10)),
+                e.getDayOfWeek(), lat, lon, timezone, e.getPrecision());
+        day.setTithiIndex(e.getTithiIndex());
+        day.setNakshatraIndex(e.getNakshatraIndex());
+        day.setYogaIndex(e.getYogaIndex());
+        day.setKaranaIndex(e.getKaranaIndex());
+        day.setTithiEndMinute(e.getTithiEndMinute());
+        day.setNakshatraEndMinute(e.getNakshatraEndMinute());
+        day.setYogaEndMinute(e.getYogaEndMinute());
+        day.setKaranaEndMinute(e.getKaranaEndMinute());
+        day.setSunriseMinute(e.getSunriseMinute());
+        day.setSunsetMinute(e.getSunsetMinute());
+        day.setMoonriseMinute(e.getMoonriseMinute());
+        day.setMoonsetMinute(e.getMoonsetMinute());
+        day.setRahuWindow(e.getRahuStart(), e.getRahuEnd());
+        day.setGulikaWindow(e.getGulikaStart(), e.getGulikaEnd());
+        day.setYamghantWindow(e.getYamghantStart(), e.getYamghantEnd());
+        day.setAbhijitWindow(e.getAbhijitStart(), e.getAbhijitEnd());
+        day.setBrahmaWindow(e.getBrahmaStart(), e.getBrahmaEnd());
+        day.setNextSunriseMinute(e.getNextSunriseMinute());
+        return day;
+    }
+
+    static List<PanchangDayEntity> toEntities(PanchangDay[] days) {
+        long now = System.currentTimeMillis();
+        List<PanchangDayEntity> rows = new ArrayList<>(days.length);
+        for (PanchangDay day : days) {
+            PanchangDayEntity e = new PanchangDayEntity();
+            e.setLatE4(e4(day.getLatitude()));
+            e.setLonE4(e4(day.getLongitude()));
+            e.setTimezone(day.getTimezone());
+            e.setPrecision(day.getPrecision());
+            e.setDate(day.getDateKey());
+            e.setDayOfWeek(day.getDayOfWeek());
+            e.setTithiIndex(day.getTithiIndex());
+            e.setNakshatraIndex(day.getNakshatraIndex());
+            e.setYogaIndex(day.getYogaIndex());
+            e.setKaranaIndex(day.getKaranaIndex());
+            e.setTithiEndMinute(day.getTithiEndMinute());
+            e.setNakshatraEndMinute(day.getNakshatraEndMinute());
+            e.setYogaEndMinute(day.getYogaEndMinute());
+            e.setKaranaEndMinute(day.getKaranaEndMinute());
+            e.setSunriseMinute(day.getSunriseMinute());
+            e.setSunsetMinute(day.getSunsetMinute());
+            e.setMoonriseMinute(day.getMoonriseMinute());
+            e.setMoonsetMinute(day.getMoonsetMinute());
+            e.setRahuStart(day.getRahuStart());
+            e.setRahuEnd(day.getRahuEnd());
+            e.setGulikaStart(day.getGulikaStart());
+            e.setGulikaEnd(day.getGulikaEnd());
+            e.setYamghantStart(day.getYamghantStart());
+            e.setYamghantEnd(day.getYamghantEnd());
+            e.setAbhijitStart(day.getAbhijitStart());
+            e.setAbhijitEnd(day.getAbhijitEnd());
+            e.setBrahmaStart(day.getBrahmaStart());
+            e.setBrahmaEnd(day.getBrahmaEnd());
+            e.setNextSunriseMinute(day.getNextSunriseMinute());
+            e.setComputedAt(now);
+            rows.add(e);
+        }
+        return rows;
+    }
+}
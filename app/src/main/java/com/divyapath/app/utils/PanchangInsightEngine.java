@@ -1,11 +1,14 @@
 package com.divyapath.app.utils;
 
 import com.divyapath.app.R;
+import com.divyapath.panchang.DayWindows;
+import com.divyapath.panchang.PanchangCalculator;
+import com.divyapath.panchang.PanchangDay;
 
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
-import java.util.Map;
+import java.util.TimeZone;
 
 public class PanchangInsightEngine {
 
@@ -45,78 +48,81 @@ public class PanchangInsightEngine {
         }
     }
 
-    public static InsightResult generateInsights(Map<String, String> panchang, Calendar now) {
+    public static InsightResult generateInsights(PanchangDay day, Calendar now) {
+        if (day == null) return new InsightResult(new ArrayList<>(), new ArrayList<>());
+        return generateInsights(day, DayWindows.of(day), minuteOfDay(day, now));
+    }
+
+    /**
+     * Insights for {@code minute} (from local midnight) of {@code day}. The windows are built once
+     * per day and reused, so a caller refreshing every minute pays only for the lookups.
+     */
+    public static InsightResult generateInsights(PanchangDay day, DayWindows windows, int minute) {
         List<PanchangInsight> doList = new ArrayList<>();
         List<PanchangInsight> avoidList = new ArrayList<>();
 
-        if (panchang == null) return new InsightResult(doList, avoidList);
-
-        String tithi = panchang.get("tithi");
-        String nakshatra = panchang.get("nakshatra");
-        String vara = panchang.get("vara");
-        String yoga = panchang.get("yoga");
-        String rahukaal = panchang.get("rahukaal");
-        String abhijit = panchang.get("abhijit_muhurat");
-        String brahmaMuhurat = panchang.get("brahma_muhurat");
-        String gulikaal = panchang.get("gulikaal");
+        if (day == null) return new InsightResult(doList, avoidList);
 
-        int currentMinutes = now.get(Calendar.HOUR_OF_DAY) * 60 + now.get(Calendar.MINUTE);
+        int tithiInPaksha = day.getTithiIndex() % 15;
+        String nakshatra = PanchangCalculator.getNakshatraName(day.getNakshatraIndex());
+        String vara = PanchangCalculator.getVaraName(day.getDayOfWeek());
+        String yoga = PanchangCalculator.getYogaName(day.getYogaIndex());
+        int active = windows.activeAt(minute);
 
         // Time-windowed rules (highest priority — currently active)
-        if (isInTimeWindow(rahukaal, currentMinutes)) {
+        if ((active & 1 << DayWindows.RAHU) != 0) {
             avoidList.add(new PanchangInsight(R.drawable.ic_om_symbol,
                     "Avoid starting new ventures",
                     "Rahukaal is active — not ideal for new beginnings or important decisions",
-                    rahukaal, TYPE_AVOID));
+                    PanchangDay.formatWindow(day.getRahuStart(), day.getRahuEnd()), TYPE_AVOID));
         }
 
-        if (isInTimeWindow(abhijit, currentMinutes)) {
+        if ((active & 1 << DayWindows.ABHIJIT) != 0) {
             doList.add(0, new PanchangInsight(R.drawable.ic_om_symbol,
                     "Best time for important work",
                     "Abhijit Muhurat is active — most auspicious time of the day",
-                    abhijit, TYPE_DO));
+                    PanchangDay.formatWindow(day.getAbhijitStart(), day.getAbhijitEnd()), TYPE_DO));
         }
 
-        if (isInTimeWindow(brahmaMuhurat, currentMinutes)) {
+        if ((active & 1 << DayWindows.BRAHMA) != 0) {
             doList.add(0, new PanchangInsight(R.drawable.ic_om_symbol,
                     "Meditate & pray",
                     "Brahma Muhurat — the divine hour for spiritual practice",
-                    brahmaMuhurat, TYPE_DO));
+                    PanchangDay.formatWindow(day.getBrahmaStart(), day.getBrahmaEnd()), TYPE_DO));
         }
 
-        if (isInTimeWindow(gulikaal, currentMinutes)) {
+        if ((active & 1 << DayWindows.GULIKA) != 0) {
             avoidList.add(new PanchangInsight(R.drawable.ic_om_symbol,
                     "Avoid financial transactions",
                     "Gulikaal is active — not favorable for monetary dealings",
-                    gulikaal, TYPE_AVOID));
+                    PanchangDay.formatWindow(day.getGulikaStart(), day.getGulikaEnd()), TYPE_AVOID));
         }
 
         // Tithi-based rules
-        if ("Ekadashi".equals(tithi)) {
+        if (tithiInPaksha == 10) {
             doList.add(new PanchangInsight(R.drawable.ic_om_symbol,
                     "Observe Ekadashi fast",
                     "Chant Vishnu mantras and avoid grains today",
                     "All day", TYPE_DO));
-        } else if ("Purnima".equals(tithi)) {
+        } else if (day.getTithiIndex() == 14) {
             doList.add(new PanchangInsight(R.drawable.ic_om_symbol,
                     "Give charity & donations",
                     "Purnima — full moon day is excellent for daan and satvik activities",
                     "All day", TYPE_DO));
-        } else if ("Chaturthi".equals(tithi)) {
+        } else if (tithiInPaksha == 3) {
             doList.add(new PanchangInsight(R.drawable.ic_om_symbol,
                     "Worship Lord Ganesha",
                     "Chaturthi is dedicated to Ganesha — offer durva grass and modak",
                     "All day", TYPE_DO));
-        } else if ("Ashtami".equals(tithi)) {
+        } else if (tithiInPaksha == 7) {
             doList.add(new PanchangInsight(R.drawable.ic_om_symbol,
                     "Worship Goddess Durga",
                     "Ashtami is auspicious for Devi worship and havan",
                     "All day", TYPE_DO));
         }
 
-        // Check for Amavasya (not in the standard 15 tithis array but checking Purnima cycle)
-        // The 15th tithi is Purnima, so we check for "Pratipada" after dark fortnight
-        if (tithi != null && tithi.contains("Amavasya")) {
+        // Amavasya is the last tithi of Krishna Paksha
+        if (day.getTithiIndex() == 29) {
             avoidList.add(new PanchangInsight(R.drawable.ic_om_symbol,
                     "Avoid new projects",
                     "Amavasya — perform pitru tarpan and ancestor remembrance instead",
@@ -220,31 +226,33 @@ public class PanchangInsightEngine {
         return new InsightResult(doList, avoidList);
     }
 
-    private static boolean isInTimeWindow(String timeRange, int currentMinutes) {
-        if (timeRange == null || timeRange.isEmpty() || "--".equals(timeRange)
-                || "N/A".equals(timeRange)) return false;
-        try {
-            // Format: "HH:MM AM - HH:MM PM" or "HH:MM AM/PM - HH:MM AM/PM"
-            String[] parts = timeRange.split("\\s*-\\s*");
-            if (parts.length != 2) return false;
-            int start = parseTimeToMinutes(parts[0].trim());
-            int end = parseTimeToMinutes(parts[1].trim());
-            return currentMinutes >= start && currentMinutes <= end;
-        } catch (Exception e) {
-            return false;
+    /**
+     * "Abhijit Muhurat ends in 20m" while an auspicious window is running, otherwise
+     * "Abhijit Muhurat in 1h 05m" for the next one today, or null when none is left.
+     */
+    public static String countdown(DayWindows windows, int minute) {
+        int i = windows.current(minute, DayWindows.AUSPICIOUS);
+        if (i >= 0) {
+            return DayWindows.kindName(windows.kind(i)) + " ends in " + formatDuration(windows.endMinute(i) - minute);
         }
+        i = windows.next(minute, DayWindows.AUSPICIOUS);
+        if (i >= 0) {
+            return DayWindows.kindName(windows.kind(i)) + " in " + formatDuration(windows.startMinute(i) - minute);
+        }
+        return null;
+    }
+
+    /** Minutes since local midnight of {@code now}, in the day's own timezone. */
+    public static int minuteOfDay(PanchangDay day, Calendar now) {
+        Calendar local = Calendar.getInstance(TimeZone.getTimeZone(day.getTimezone()));
+        local.setTimeInMillis(now.getTimeInMillis());
+        return local.get(Calendar.HOUR_OF_DAY) * 60 + local.get(Calendar.MINUTE);
     }
 
-    private static int parseTimeToMinutes(String time) {
-        // Parse "HH:MM AM/PM" or "HH:MM AM" format
-        time = time.toUpperCase().trim();
-        boolean pm = time.contains("PM");
-        time = time.replace("AM", "").replace("PM", "").trim();
-        String[] parts = time.split(":");
-        int hours = Integer.parseInt(parts[0].trim());
-        int minutes = Integer.parseInt(parts[1].trim());
-        if (pm && hours != 12) hours += 12;
-        if (!pm && hours == 12) hours = 0;
-        return hours * 60 + minutes;
+    private static String formatDuration(int minutes) {
+        int h = minutes / 60;
+        int m = minutes % 60;
+        if (h == 0) return m + "m";
+        return h + "h " + (m < 10 ? "0" : "") + m + "m";
     }
 }
@@ -1,25 +1,23 @@
 package com.divyapath.app.utils;
 
 import android.content.Context;
-import android.content.SharedPreferences;
 
 import androidx.annotation.NonNull;
 import androidx.work.Worker;
 import androidx.work.WorkerParameters;
 
-import com.google.gson.Gson;
-
-import java.util.Calendar;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.TimeZone;
-
 /**
- * Runs daily at midnight to pre-fetch panchang data for the next 7 days.
- * Stores computed panchang in SharedPreferences for quick offline access.
+ * Runs periodically to precompute panchang for the coming weeks.
+ * Rows go to the panchang_days table so the home screen and calendar read
+ * them back by date instead of recomputing; stale dates and locations are pruned.
+ * Festival dates are also kept generated for the user's location a few years ahead, and
+ * the user's vrat dates a year ahead.
  */
 public class PeriodicPanchangWorker extends Worker {
 
+    /** Legacy Gson cache written by earlier versions; nothing reads it any more. */
+    private static final String LEGACY_PREFS = "panchang_cache";
+
     public PeriodicPanchangWorker(@NonNull Context context, @NonNull WorkerParameters params) {
         super(context, params);
     }
@@ -28,31 +26,12 @@ public class PeriodicPanchangWorker extends Worker {
     @Override
     public Result doWork() {
         try {
-            SharedPreferences prefs = getApplicationContext()
-                    .getSharedPreferences("panchang_cache", Context.MODE_PRIVATE);
-            SharedPreferences.Editor editor = prefs.edit();
-            Gson gson = new Gson();
-
-            PreferenceManager prefMgr = new PreferenceManager(getApplicationContext());
-            double lat = prefMgr.getLocationLat();
-            double lon = prefMgr.getLocationLon();
-            String tz = prefMgr.getEffectiveTimezone();
-            PanchangCalculator calculator = new PanchangCalculator();
-            Calendar cal = Calendar.getInstance(TimeZone.getTimeZone(tz));
-
-            for (int i = 0; i < 7; i++) {
-                Map<String, String> panchang = calculator.getPanchangForDate(cal, lat, lon, tz);
-                String dateKey = String.format("%04d-%02d-%02d",
-                        cal.get(Calendar.YEAR),
-                        cal.get(Calendar.MONTH) + 1,
-                        cal.get(Calendar.DAY_OF_MONTH));
-                editor.putString("panchang_" + dateKey, gson.toJson(panchang));
-                cal.add(Calendar.DAY_OF_YEAR, 1);
-            }
-
-            editor.putLong("last_panchang_update", System.currentTimeMillis());
-            editor.apply();
-
+            Context context = getApplicationContext();
+            PanchangCache.refresh(context);
+            FestivalGenerator.ensureGenerated(context);
+            ShraddhaScheduler.refresh(context);
+            VratScheduler.ensureMaterialised(context);
+            context.deleteSharedPreferences(LEGACY_PREFS);
             return Result.success();
         } catch (Exception e) {
             return Result.retry();
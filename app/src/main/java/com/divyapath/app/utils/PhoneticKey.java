@@ -0,0 +1,172 @@
+package com.divyapath.app.utils;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Script-independent search keys, so "hanuman chalisa", "hanumaan chaalisa" and
+ * "हनुमान चालीसा" all key to {@code "hnm cls"}.
+ *
+ * Each word is reduced to a consonant skeleton: Devanagari letters map to their nearest Roman
+ * consonant, aspiration and vowel length are dropped, medial vowels and y are dropped, a
+ * leading vowel becomes {@code a}, and a nasal before a consonant becomes {@code n}. A nasal or
+ * h ending a word after a vowel is dropped, since spellings disagree on it: visarga (नमः, namah,
+ * nama) and a final anusvara (साईं, sai; में, mein). Honorifics such as "shri" are skipped. Keys
+ * are lower-case ASCII, words separated by single spaces, so a key prefix is a title prefix and
+ * an index range scan finds it.
+ */
+public final class PhoneticKey {
+
+    private static final char VOWEL = 'V';
+    private static final char SCHWA = 'A'; // inherent vowel of a Devanagari consonant; silent at a word's end
+    private static final char NASAL = 'N'; // anusvara, chandrabindu
+
+    private static final String[] HONORIFICS = {"shri", "shree", "sri", "sree", "shrii", "श्री"};
+
+    // Devanagari consonants U+0915..U+0939 to their Roman class; nukta forms decompose to these under NFD
+    private static final String CONSONANTS =
+            "kkggn" + "ccjjn" + "ttddn" + "ttddnn" + "pfbbm" + "yrrlllvsssh";
+
+    private PhoneticKey() {}
+
+    /** The key for {@code text}, or null when it has no letters. */
+    public static String of(String text) {
+        if (text == null) return null;
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD).toLowerCase(Locale.ROOT);
+        StringBuilder key = new StringBuilder();
+        StringBuilder word = new StringBuilder();
+        int start = 0;
+        for (int i = 0; i <= decomposed.length(); i++) {
+            if (i < decomposed.length() && isWordChar(decomposed.charAt(i))) continue;
+            if (i > start) {
+                String raw = decomposed.substring(start, i);
+                if (!isHonorific(raw)) {
+                    word.setLength(0);
+                    skeleton(raw, word);
+                    if (word.length() > 0) {
+                        if (key.length() > 0) key.append(' ');
+                        key.append(word);
+                    }
+                }
+            }
+            start = i + 1;
+        }
+        return key.length() == 0 ? null : key.toString();
+    }
+
+    /** The exclusive upper bound of keys starting with {@code prefix}, for range queries. */
+    public static String upperBound(String prefix) {
+        // '{' sorts directly after 'z', and keys hold only a-z and spaces
+        return prefix + '{';
+    }
+
+    private static boolean isWordChar(char c) {
+        int type = Character.getType(c);
+        return Character.isLetterOrDigit(c) || type == Character.NON_SPACING_MARK
+                || type == Character.COMBINING_SPACING_MARK;
+    }
+
+    private static boolean isHonorific(String word) {
+        String composed = Normalizer.normalize(word, Normalizer.Form.NFC);
+        for (String h : HONORIFICS) if (h.equals(composed)) return true;
+        return false;
+    }
+
+    /** Appends the skeleton of one lower-case, NFD-decomposed word to {@code out}. */
+    private static void skeleton(String word, StringBuilder out) {
+        StringBuilder sounds = new StringBuilder(word.length() + 4);
+        int n = word.length();
+        for (int i = 0; i < n; i++) {
+            char c = word.charAt(i);
+            if (c >= 'क' && c <= 'ह') {
+                sounds.append(CONSONANTS.charAt(c - 'क'));
+                char next = i + 1 < n ? word.charAt(i + 1) : 0;
+                if (next == '़') next = i + 2 < n ? word.charAt(i + 2) : 0; // nukta
+                // Inherent vowel unless a virama or vowel sign follows
+                if (next != '्' && !(next >= 'ा' && next <= 'ौ')) sounds.append(SCHWA);
+            } else if (c == 'ऋ' || c == 'ृ') {
+                sounds.append('r'); // vocalic r, as in Krishna
+            } else if ((c >= 'ऄ' && c <= 'औ') || (c >= 'ा' && c <= 'ौ')) {
+                sounds.append(VOWEL);
+            } else if (c == 'ँ' || c == 'ं') {
+                sounds.append(NASAL);
+            } else if (c == 'ॐ') {
+                sounds.append(VOWEL).append('m'); // om
+            } else if (c >= 'a' && c <= 'z') {
+                i = roman(word, i, sounds);
+            } else if (c >= '0' && c <= '9') {
+                sounds.append(c);
+            }
+            // virama, visarga, nukta and Latin diacritics carry no sound of their own here;
+            // a visarga only ends words, where spokenLength drops the Roman h as well
+        }
+
+        int len = spokenLength(sounds);
+        for (int i = 0; i < len; i++) {
+            char s = sounds.charAt(i);
+            char next = i + 1 < len ? sounds.charAt(i + 1) : VOWEL;
+            boolean beforeConsonant = !isVowel(next) && next != NASAL && !Character.isDigit(next);
+            if (isVowel(s)) {
+                if (i == 0) out.append('a');
+            } else if (s == NASAL || ((s == 'm' || s == 'n') && beforeConsonant && i > 0)) {
+                append(out, 'n');
+            } else if (s == 'y' && i > 0) {
+                // medial y is a vowel glide: jai / jay / जय
+            } else {
+                append(out, s);
+            }
+        }
+    }
+
+    /**
+     * The length of {@code sounds} without a silent final schwa (राम, ram), and without a final
+     * nasal or h after a vowel, which one script writes and the other often leaves out.
+     */
+    private static int spokenLength(StringBuilder sounds) {
+        int len = sounds.length();
+        if (len > 0 && sounds.charAt(len - 1) == SCHWA) len--;
+        if (len > 1 && isVowel(sounds.charAt(len - 2))) {
+            char last = sounds.charAt(len - 1);
+            if (last == NASAL || last == 'n' || last == 'h') len--;
+        }
+        return len;
+    }
+
+    private static boolean isVowel(char sound) {
+        return sound == VOWEL || sound == SCHWA;
+    }
+
+    /** Maps Roman letters at {@code i}, consuming digraphs; returns the last index consumed. */
+    private static int roman(String word, int i, StringBuilder sounds) {
+        char c = word.charAt(i);
+        int n = word.length();
+        switch (c) {
+            case 'a': case 'e': case 'i': case 'o': case 'u':
+                sounds.append(VOWEL);
+                return i;
+            case 'w': sounds.append('v'); return i;
+            case 'z': sounds.append('j'); return i;
+            case 'q': sounds.append('k'); return i;
+            case 'x': sounds.append("ks"); return i;
+            case 'h': sounds.append('h'); return i;
+            default:
+                break;
+        }
+        if (c == 'p' && i + 1 < n && word.charAt(i + 1) == 'h') {
+            sounds.append('f');
+            i++;
+        } else {
+            sounds.append(c);
+        }
+        // Aspiration: bh, chh, dh, gh, jh, kh, sh, th all keep only the stop
+        while (i + 1 < n && word.charAt(i + 1) == 'h' && "bcdgjkpst".indexOf(c) >= 0) i++;
+        return i;
+    }
+
+    /** Appends {@code c} unless it doubles the previous letter (geminates: "durgga", "रम्म"). */
+    private static void append(StringBuilder out, char c) {
+        int len = out.length();
+        if (len > 0 && out.charAt(len - 1) == c) return;
+        out.append(c);
+    }
+}
@@ -113,6 +113,20 @@ public class PreferenceManager {
             .apply();
     }
 
+    // Festival rows generated by FestivalGenerator: location they were dated for and last year covered
+    public String getFestivalLocationKey() { return prefs.getString("festival_location", ""); }
+    public int getFestivalThroughYear() { return prefs.getInt("festival_through_year", 0); }
+    public void setFestivalsGenerated(String locationKey, int throughYear) {
+        prefs.edit().putString("festival_location", locationKey).putInt("festival_through_year", throughYear).apply();
+    }
+
+    // Vrat occurrences materialised by VratScheduler: location they were dated for and last day covered (JDN)
+    public String getVratLocationKey() { return prefs.getString("vrat_location", ""); }
+    public int getVratThroughJdn() { return prefs.getInt("vrat_through_jdn", 0); }
+    public void setVratsMaterialised(String locationKey, int throughJdn) {
+        prefs.edit().putString("vrat_location", locationKey).putInt("vrat_through_jdn", throughJdn).apply();
+    }
+
     // Voice speed for TTS (0.5 to 1.5)
     public float getVoiceSpeed() { return prefs.getFloat("voice_speed", 0.85f); }
     public void setVoiceSpeed(float s) { prefs.edit().putFloat("voice_speed", s).apply(); }
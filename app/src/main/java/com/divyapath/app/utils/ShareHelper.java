@@ -1,5 +1,7 @@
 package com.divyapath.app.utils;
-import android.content.Context; import android.content.Intent;
+import android.content.Context; import android.content.Intent; import android.net.Uri;
+import androidx.core.content.FileProvider;
+import java.io.File;
 public class ShareHelper {
     public static void shareText(Context context, String title, String content) {
         Intent intent = new Intent(Intent.ACTION_SEND);
@@ -23,4 +25,14 @@ public class ShareHelper {
         intent.putExtra(Intent.EXTRA_TEXT, "Download DivyaPath for aarti, chalisa, mantra, panchang and more!\nhttps://play.google.com/store/apps/details?id=com.divyapath.app");
         context.startActivity(Intent.createChooser(intent, "Share App"));
     }
+    /** Share a file from the app cache (see res/xml/file_paths.xml), e.g. an exported calendar. */
+    public static void shareFile(Context context, File file, String mimeType, String title) {
+        Uri uri = FileProvider.getUriForFile(context, context.getPackageName() + ".fileprovider", file);
+        Intent intent = new Intent(Intent.ACTION_SEND);
+        intent.setType(mimeType);
+        intent.putExtra(Intent.EXTRA_STREAM, uri);
+        intent.putExtra(Intent.EXTRA_SUBJECT, title);
+        intent.addFlags(Intent.FLAG_GRANT_READ_URI_PERMISSION);
+        context.startActivity(Intent.createChooser(intent, title));
+    }
 }
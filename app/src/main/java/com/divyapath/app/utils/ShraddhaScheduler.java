@@ -0,0 +1,128 @@
+package com.divyapath.app.utils;
+
+import android.content.Context;
+
+import com.divyapath.app.data.local.DivyaPathDatabase;
+import com.divyapath.app.data.local.dao.ShraddhaDao;
+import com.divyapath.app.data.local.entity.ShraddhaEntity;
+import com.divyapath.panchang.FestivalCalendar;
+import com.divyapath.panchang.FestivalRule;
+import com.divyapath.panchang.IcsWriter;
+import com.divyapath.panchang.PanchangCalculator;
+import com.divyapath.panchang.PanchangDay;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * Projects every saved shraddha onto the Gregorian calendar.
+ *
+ * Entries are reduced to distinct (amanta month, tithi) rules, so ten relatives remembered on
+ * Pitru Paksha Amavasya cost one rule. {@link FestivalCalendar} evaluates them all against a
+ * single tithi timeline covering the next two years, and one pass over its date-ordered output
+ * picks each rule's next and following day. Shraddha is observed on the day the tithi covers
+ * the afternoon (aparahna). Must be called off the main thread.
+ */
+public class ShraddhaScheduler {
+
+    /** Two annual occurrences even when an adhika month stretches a year to 13 lunations. */
+    private static final int HORIZON_DAYS = 800;
+
+    /** Re-resolve all entries for the user's location, e.g. after an edit or from daily work. */
+    public static void refresh(Context context) {
+        PreferenceManager pm = new PreferenceManager(context);
+        String tz = pm.getEffectiveTimezone();
+        Calendar today = Calendar.getInstance(TimeZone.getTimeZone(tz));
+        int todayJdn = PanchangCalculator.civilToJdn(today.get(Calendar.YEAR),
+                today.get(Calendar.MONTH) + 1, today.get(Calendar.DAY_OF_MONTH));
+        refresh(DivyaPathDatabase.getDatabase(context).shraddhaDao(), todayJdn,
+                pm.getLocationLat(), pm.getLocationLon(), tz);
+    }
+
+    static void refresh(ShraddhaDao dao, int todayJdn, double lat, double lon, String timezone) {
+        List<ShraddhaEntity> entries = dao.getAllSync();
+        if (entries.isEmpty()) return;
+
+        int[] ruleOf = new int[entries.size()];
+        FestivalRule[] rules = rules(entries, ruleOf);
+
+        FestivalCalendar.Occurrences dates = FestivalCalendar.generate(rules,
+                todayJdn, todayJdn + HORIZON_DAYS, lat, lon, timezone);
+        int[] next = new int[rules.length];
+        int[] following = new int[rules.length];
+        Arrays.fill(next, -1);
+        Arrays.fill(following, -1);
+        for (int i = 0; i < dates.size(); i++) {
+            int r = dates.rule[i];
+            if (next[r] < 0) next[r] = dates.jdn[i];
+            else if (following[r] < 0) following[r] = dates.jdn[i];
+        }
+
+        int[] ymd = new int[3];
+        for (int i = 0; i < entries.size(); i++) {
+            ShraddhaEntity e = entries.get(i);
+            e.setNextDate(dateKey(next[ruleOf[i]], ymd));
+            e.setFollowingDate(dateKey(following[ruleOf[i]], ymd));
+        }
+        dao.updateNextDates(entries);
+    }
+
+    /** Write every observance of {@code entries} from {@code startJdn} to {@code endJdn} as calendar events. */
+    public static void export(IcsWriter ics, List<ShraddhaEntity> entries, int startJdn, int endJdn,
+                              double lat, double lon, String timezone) throws IOException {
+        if (entries.isEmpty()) return;
+        int[] ruleOf = new int[entries.size()];
+        FestivalCalendar.Occurrences dates = FestivalCalendar.generate(rules(entries, ruleOf),
+                startJdn, endJdn, lat, lon, timezone);
+        for (int i = 0; i < dates.size(); i++) {
+            for (int e = 0; e < entries.size(); e++) {
+                if (ruleOf[e] != dates.rule[i]) continue;
+                ShraddhaEntity entry = entries.get(e);
+                String summary = "Shraddha: " + entry.getName()
+                        + (entry.getRelationship() != null ? " (" + entry.getRelationship() + ")" : "");
+                ics.allDayEvent("shraddha-" + entry.getId() + "-" + ics.dateDigits(dates.jdn[i]), dates.jdn[i],
+                        summary, entry.getNotes());
+            }
+        }
+    }
+
+    /**
+     * Distinct (amanta month, tithi) rules for {@code entries}; {@code ruleOf[i]} receives the
+     * index of entry {@code i}'s rule, so entries sharing a tithi share a rule.
+     */
+    private static FestivalRule[] rules(List<ShraddhaEntity> entries, int[] ruleOf) {
+        Map<Integer, Integer> ruleIndex = new HashMap<>();
+        List<FestivalRule> rules = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            ShraddhaEntity e = entries.get(i);
+            int tithi = Math.max(0, Math.min(e.getTithiIndex(), 29));
+            int month = FestivalRule.EVERY_MONTH;
+            if (e.isAnnual()) {
+                int named = Math.max(0, Math.min(e.getLunarMonth() - 1, 11));
+                month = e.getMonthScheme() == ShraddhaEntity.SCHEME_AMANTA
+                        ? named : FestivalRule.amantaMonth(named, tithi);
+            }
+            int key = month * 30 + tithi;
+            Integer r = ruleIndex.get(key);
+            if (r == null) {
+                r = rules.size();
+                ruleIndex.put(key, r);
+                rules.add(FestivalRule.tithi(month, tithi, FestivalRule.KAAL_APARAHNA));
+            }
+            ruleOf[i] = r;
+        }
+        return rules.toArray(new FestivalRule[0]);
+    }
+
+    private static String dateKey(int jdn, int[] ymd) {
+        if (jdn < 0) return null;
+        PanchangCalculator.jdnToCivil(jdn, ymd);
+        return PanchangDay.dateKey(ymd[0], ymd[1], ymd[2]);
+    }
+}
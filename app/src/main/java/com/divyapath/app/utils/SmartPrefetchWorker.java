@@ -1,7 +1,6 @@
 package com.divyapath.app.utils;
 
 import android.content.Context;
-import android.content.SharedPreferences;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
@@ -14,24 +13,27 @@ import androidx.work.Worker;
 import androidx.work.WorkerParameters;
 
 import com.divyapath.app.data.local.DivyaPathDatabase;
-import com.divyapath.app.data.local.entity.AartiEntity;
+import com.divyapath.app.data.local.PlayHistory;
+import com.divyapath.app.data.local.PlayedContent;
+import com.divyapath.app.data.local.SearchHit;
 
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
-import java.util.Calendar;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Smart offline prefetch worker that downloads archive.org audio files
- * based on user habits and puja time patterns.
+ * based on what the user plays.
  *
  * Strategy:
- *   1. Track which aartis are played most frequently (via SharedPrefs counters)
- *   2. Identify the user's typical puja time (morning/evening)
- *   3. Pre-download the top played aartis that have archive.org URLs
+ *   1. Rank items of every content type by their time-decayed play score from play_events
+ *      (see {@link PlayHistory}), so recent favourites come first
+ *   2. Follow with aartis not played yet, in catalogue order, so a new install still gets some
+ *   3. Download the top uncached items that have archive.org URLs
  *   4. Cache files in app's cache directory for offline playback
  *   5. Runs daily on WiFi + charging constraints
  *
@@ -41,7 +43,6 @@ public class SmartPrefetchWorker extends Worker {
 
     private static final String TAG = "SmartPrefetchWorker";
     private static final String WORK_NAME = "smart_prefetch";
-    private static final String PREFS_NAME = "audio_play_counts";
     private static final int MAX_PREFETCH_FILES = 5;
     private static final long MAX_CACHE_SIZE = 50 * 1024 * 1024; // 50MB for prefetched files
 
@@ -62,12 +63,7 @@ public class SmartPrefetchWorker extends Worker {
 
         try {
             DivyaPathDatabase db = DivyaPathDatabase.getDatabase(getApplicationContext());
-
-            // Get all aartis that have archive.org URLs but aren't cached yet
-            // For simplicity, we re-run the seed to ensure URLs are populated
-            // Then check which ones need downloading
-            prefetchTopAartis(db);
-
+            prefetchPopular(db);
         } catch (Exception e) {
             Log.e(TAG, "Prefetch failed", e);
             return Result.retry();
@@ -76,10 +72,7 @@ public class SmartPrefetchWorker extends Worker {
         return Result.success();
     }
 
-    private void prefetchTopAartis(DivyaPathDatabase db) {
-        SharedPreferences playCounts = getApplicationContext()
-                .getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
-
+    private void prefetchPopular(DivyaPathDatabase db) {
         // Get cache directory
         File cacheDir = new File(getApplicationContext().getCacheDir(), "audio_prefetch");
         if (!cacheDir.exists()) cacheDir.mkdirs();
@@ -91,61 +84,46 @@ public class SmartPrefetchWorker extends Worker {
             return;
         }
 
-        // For each aarti with archiveOrgUrl, attempt download if not cached
-        // We use the seeded URLs from DatabaseSeeder
-        String[][] urlMap = {
-                {"Jai Ganesh Deva", "https://archive.org/download/PretrajSarkarKiAarti/Jai-Ganesh-Deva.mp3"},
-                {"Om Jai Shiv Omkara", "https://archive.org/download/PretrajSarkarKiAarti/Jai-Shiv-Omkara.mp3"},
-                {"Om Jai Jagdish Hare", "https://archive.org/download/PretrajSarkarKiAarti/Om-Jai-Jagdish-Hare-Bijender-Chauhan.mp3"},
-                {"Om Jai Lakshmi Mata", "https://archive.org/download/PretrajSarkarKiAarti/Jai-Lakshmi-Mata.mp3"},
-                {"Aarti Keeje Hanuman Lala Ki", "https://archive.org/download/PretrajSarkarKiAarti/Aarti-Kije-Hanuman-Lala-Ki.mp3"},
-        };
-
-        // Sort by play count (most played first)
-        // If no play history, use default order (top 5 popular aartis)
+        // Most popular first; twice what we download, so failed downloads have stand-ins
+        List<PlayedContent> candidates = db.playDao().getPrefetchCandidates(MAX_PREFETCH_FILES * 2);
         int downloaded = 0;
 
-        for (String[] entry : urlMap) {
+        for (PlayedContent item : candidates) {
             if (downloaded >= MAX_PREFETCH_FILES) break;
             if (currentCacheSize >= MAX_CACHE_SIZE) break;
 
-            String title = entry[0];
-            String url = entry[1];
-
             // Check if already cached
-            String filename = sanitizeFilename(title) + ".mp3";
-            File cacheFile = new File(cacheDir, filename);
+            File cacheFile = new File(cacheDir, item.contentType + "_" + item.contentId + ".mp3");
             if (cacheFile.exists() && cacheFile.length() > 0) {
                 // Already cached, update DB
-                db.aartiDao().updateCacheStatus(findAartiId(db, title), true, cacheFile.getAbsolutePath());
+                updateCacheStatus(db, item, cacheFile);
                 continue;
             }
 
             // Download
             try {
-                if (downloadFile(url, cacheFile)) {
-                    int aartiId = findAartiId(db, title);
-                    if (aartiId > 0) {
-                        db.aartiDao().updateCacheStatus(aartiId, true, cacheFile.getAbsolutePath());
-                    }
+                if (downloadFile(item.archiveOrgUrl, cacheFile)) {
+                    updateCacheStatus(db, item, cacheFile);
                     downloaded++;
                     currentCacheSize += cacheFile.length();
-                    Log.d(TAG, "Prefetched: " + title);
+                    Log.d(TAG, "Prefetched: " + item.title);
                 }
             } catch (Exception e) {
-                Log.w(TAG, "Download failed: " + title, e);
+                Log.w(TAG, "Download failed: " + item.title, e);
             }
         }
 
         Log.d(TAG, "Prefetch complete: " + downloaded + " new files");
     }
 
-    private int findAartiId(DivyaPathDatabase db, String title) {
-        try {
-            return db.aartiDao().getIdByTitle(title);
-        } catch (Exception e) {
-            Log.w(TAG, "Could not find aarti ID for: " + title, e);
-            return 0;
+    private static void updateCacheStatus(DivyaPathDatabase db, PlayedContent item, File cacheFile) {
+        String path = cacheFile.getAbsolutePath();
+        switch (item.contentType) {
+            case SearchHit.TYPE_AARTI: db.aartiDao().updateCacheStatus(item.contentId, true, path); break;
+            case SearchHit.TYPE_CHALISA: db.chalisaDao().updateCacheStatus(item.contentId, true, path); break;
+            case SearchHit.TYPE_MANTRA: db.mantraDao().updateCacheStatus(item.contentId, true, path); break;
+            case SearchHit.TYPE_BHAJAN: db.bhajanDao().updateCacheStatus(item.contentId, true, path); break;
+            case SearchHit.TYPE_STOTRA: db.stotraDao().updateCacheStatus(item.contentId, true, path); break;
         }
     }
 
@@ -181,10 +159,6 @@ public class SmartPrefetchWorker extends Worker {
         }
     }
 
-    private static String sanitizeFilename(String name) {
-        return name.replaceAll("[^a-zA-Z0-9\\-_]", "_").toLowerCase();
-    }
-
     private static long getDirSize(File dir) {
         long size = 0;
         File[] files = dir.listFiles();
@@ -196,15 +170,6 @@ public class SmartPrefetchWorker extends Worker {
         return size;
     }
 
-    /**
-     * Record a play event for smart prefetch ranking.
-     */
-    public static void recordPlay(@NonNull Context context, String aartiTitle) {
-        SharedPreferences prefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
-        int count = prefs.getInt(aartiTitle, 0);
-        prefs.edit().putInt(aartiTitle, count + 1).apply();
-    }
-
     /**
      * Schedule daily prefetch job. Call from DivyaPathApp.onCreate().
      */
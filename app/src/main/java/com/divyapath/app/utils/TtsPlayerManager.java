@@ -13,6 +13,7 @@ import android.speech.tts.TextToSpeech;
 import com.divyapath.app.audio.CloudTtsService;
 import com.divyapath.app.audio.DivyaPathTTSEngine;
 import com.divyapath.app.audio.SanskritPronunciationLexicon;
+import com.divyapath.app.data.local.PlayHistory;
 import android.speech.tts.UtteranceProgressListener;
 import android.speech.tts.Voice;
 import android.text.TextUtils;
@@ -53,12 +54,17 @@ public class TtsPlayerManager {
     // Streaming player (for Archive.org URLs)
     private MediaPlayer streamPlayer;
     private String audioUrl;
+    // Where the next stream starts, for Continue Listening; 0 plays from the beginning
+    private long startPositionMs;
     private final Handler progressHandler = new Handler(Looper.getMainLooper());
 
     // Edge TTS engine
     private DivyaPathTTSEngine edgeEngine;
     private boolean useEdgeEngine = false;
     private String contentType = null;
+    private int contentId;
+    // Set once the current content's play is counted; a pause and resume is not a new play
+    private boolean playRecorded;
 
     // System TTS fallback
     private TextToSpeech tts;
@@ -163,6 +169,7 @@ public class TtsPlayerManager {
                             isPlaying.postValue(false);
                             currentLineIndex = 0;
                             currentLine.postValue(0);
+                            playRecorded = false; // playing it again is a new play
                             if (lineListener != null) {
                                 lineListener.onAllLinesCompleted();
                             }
@@ -186,17 +193,26 @@ public class TtsPlayerManager {
      */
     public void setContentType(@Nullable String contentType) {
         this.contentType = contentType;
+        playRecorded = false;
         if (edgeEngine != null) {
             edgeEngine.setContentType(contentType);
         }
     }
 
+    /** Id of the item being read, so its plays count towards Popular and Recently Played. */
+    public void setContentId(int contentId) {
+        this.contentId = contentId;
+        playRecorded = false;
+    }
+
     /**
      * Set a streaming audio URL (e.g. Archive.org MP3).
      * When set, play() will stream this URL instead of using TTS.
      */
     public void setAudioUrl(@Nullable String url) {
         this.audioUrl = url;
+        playRecorded = false;
+        startPositionMs = 0;
         isStreamingMode.postValue(!TextUtils.isEmpty(url));
     }
 
@@ -369,6 +385,7 @@ public class TtsPlayerManager {
         }
         currentLineIndex = 0;
         lastRefrain = null;
+        playRecorded = false;
 
         if (edgeEngine != null) {
             edgeEngine.setText(text);
@@ -379,6 +396,24 @@ public class TtsPlayerManager {
     }
 
     public void play() {
+        if (!playRecorded) {
+            playRecorded = true;
+            PlayHistory.getInstance(appContext).recordPlay(contentType, contentId);
+        }
+        startPlayback();
+    }
+
+    /**
+     * Start streaming the current audio URL at {@code positionMs}, where Continue Listening
+     * left it. Does nothing without a stream or a position; TTS reading has no position.
+     */
+    public void resumeFrom(long positionMs) {
+        if (positionMs <= 0 || TextUtils.isEmpty(audioUrl)) return;
+        startPositionMs = positionMs;
+        play();
+    }
+
+    private void startPlayback() {
         // Tier 1: Stream from URL (real human recording)
         if (!TextUtils.isEmpty(audioUrl)) {
             playStream();
@@ -404,6 +439,8 @@ public class TtsPlayerManager {
     }
 
     public void stop() {
+        recordStreamPosition();
+        PlayHistory.getInstance(appContext).flush();
         speaking = false;
         stopProgressUpdates();
         stopStream();
@@ -428,6 +465,8 @@ public class TtsPlayerManager {
                     speaking = false;
                     isPlaying.postValue(false);
                     stopProgressUpdates();
+                    recordStreamPosition();
+                    PlayHistory.getInstance(appContext).flush();
                 } else {
                     streamPlayer.start();
                     speaking = true;
@@ -436,7 +475,7 @@ public class TtsPlayerManager {
                 }
             } catch (Exception e) {
                 // Player in bad state, restart
-                play();
+                startPlayback();
             }
             return;
         }
@@ -497,6 +536,10 @@ public class TtsPlayerManager {
                             mp.setPlaybackParams(mp.getPlaybackParams().setSpeed(playbackSpeed));
                         } catch (Exception ignored) {}
                     }
+                    if (startPositionMs > 0) {
+                        mp.seekTo((int) startPositionMs);
+                        startPositionMs = 0;
+                    }
                     mp.start();
                     isPlaying.postValue(true);
                     int durationMs = mp.getDuration();
@@ -511,6 +554,9 @@ public class TtsPlayerManager {
                 isPlaying.postValue(false);
                 stopProgressUpdates();
                 streamProgress.postValue(1000);
+                playRecorded = false; // playing it again is a new play
+                PlayHistory.getInstance(appContext).recordPosition(contentType, contentId,
+                        mp.getDuration(), mp.getDuration());
                 if (lineListener != null) lineListener.onAllLinesCompleted();
             });
             streamPlayer.setOnErrorListener((mp, what, extra) -> {
@@ -522,7 +568,7 @@ public class TtsPlayerManager {
                 // Fall back to TTS
                 audioUrl = null;
                 isStreamingMode.postValue(false);
-                play();
+                startPlayback();
                 return true;
             });
             streamPlayer.prepareAsync();
@@ -531,7 +577,7 @@ public class TtsPlayerManager {
             stopStream();
             audioUrl = null;
             isStreamingMode.postValue(false);
-            play();
+            startPlayback();
         }
     }
 
@@ -559,6 +605,7 @@ public class TtsPlayerManager {
                             streamProgress.postValue((int) ((long) pos * 1000 / dur));
                             currentTimeText.postValue(formatTime(pos));
                             totalTimeText.postValue(formatTime(dur));
+                            PlayHistory.getInstance(appContext).recordPosition(contentType, contentId, pos, dur);
                         }
                     }
                 } catch (Exception ignored) {}
@@ -567,6 +614,20 @@ public class TtsPlayerManager {
         }
     };
 
+    /**
+     * Notes how far into the stream playback is, for Continue Listening; written with the next
+     * history flush. TTS reading has no recording position, so only streams are tracked.
+     */
+    private void recordStreamPosition() {
+        if (mode != PlaybackMode.STREAMING || streamPlayer == null) return;
+        try {
+            PlayHistory.getInstance(appContext).recordPosition(contentType, contentId,
+                    streamPlayer.getCurrentPosition(), streamPlayer.getDuration());
+        } catch (IllegalStateException ignored) {
+            // Not prepared yet; nothing has been heard
+        }
+    }
+
     private void startProgressUpdates() {
         progressHandler.removeCallbacks(progressRunnable);
         progressHandler.post(progressRunnable);
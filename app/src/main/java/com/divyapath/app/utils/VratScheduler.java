@@ -0,0 +1,145 @@
+package com.divyapath.app.utils;
+
+import android.content.Context;
+
+import com.divyapath.app.data.local.DivyaPathDatabase;
+import com.divyapath.app.data.local.dao.VratDao;
+import com.divyapath.app.data.local.entity.VratOccurrenceEntity;
+import com.divyapath.app.data.local.entity.VratRuleEntity;
+import com.divyapath.panchang.FestivalCalendar;
+import com.divyapath.panchang.FestivalRule;
+import com.divyapath.panchang.IcsWriter;
+import com.divyapath.panchang.PanchangCalculator;
+import com.divyapath.panchang.PanchangDay;
+import com.divyapath.panchang.VratCalendar;
+import com.divyapath.panchang.VratRule;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Keeps the next {@link #HORIZON_DAYS} days of every enabled vrat rule materialised in the
+ * vrat_occurrences table, so screens read dates back instead of evaluating rules on open.
+ *
+ * Work is incremental: a rule edit regenerates only that rule, the daily worker only appends
+ * the days that have come into range and drops past ones, and everything is regenerated only
+ * when the location changes. The covered range and location are kept in {@link PreferenceManager}.
+ * Must be called off the main thread.
+ */
+public class VratScheduler {
+
+    public static final int HORIZON_DAYS = 365;
+
+    /** Bring the table up to date for the user's location; cheap when nothing has changed. */
+    public static void ensureMaterialised(Context context) {
+        PreferenceManager pm = new PreferenceManager(context);
+        double lat = pm.getLocationLat();
+        double lon = pm.getLocationLon();
+        String tz = pm.getEffectiveTimezone();
+        String key = PanchangCache.locationKey(lat, lon, tz);
+        int todayJdn = todayJdn(tz);
+        int throughJdn = todayJdn + HORIZON_DAYS;
+        int coveredJdn = pm.getVratThroughJdn();
+        if (pm.getVratLocationKey().equals(key) && coveredJdn >= throughJdn) return;
+
+        VratDao dao = DivyaPathDatabase.getDatabase(context).vratDao();
+        List<VratRuleEntity> rules = dao.getEnabledRulesSync();
+        if (!pm.getVratLocationKey().equals(key) || coveredJdn < todayJdn) {
+            dao.replaceAllOccurrences(generate(rules, todayJdn, throughJdn, lat, lon, tz));
+        } else {
+            dao.advanceOccurrences(dateKey(todayJdn),
+                    generate(rules, coveredJdn + 1, throughJdn, lat, lon, tz));
+        }
+        pm.setVratsMaterialised(key, throughJdn);
+    }
+
+    /** Re-date one rule after it was added, edited or toggled; deleted rules lose their rows by cascade. */
+    public static void onRuleChanged(Context context, int ruleId) {
+        ensureMaterialised(context);
+        PreferenceManager pm = new PreferenceManager(context);
+        VratDao dao = DivyaPathDatabase.getDatabase(context).vratDao();
+        VratRuleEntity rule = dao.getRuleByIdSync(ruleId);
+        if (rule == null) return;
+        List<VratOccurrenceEntity> rows = Collections.emptyList();
+        if (rule.isEnabled()) {
+            String tz = pm.getEffectiveTimezone();
+            rows = generate(Collections.singletonList(rule), todayJdn(tz), pm.getVratThroughJdn(),
+                    pm.getLocationLat(), pm.getLocationLon(), tz);
+        }
+        dao.replaceOccurrencesOf(ruleId, rows);
+    }
+
+    /**
+     * Write {@code rules} from {@code startJdn} to {@code endJdn} as calendar events, evaluated
+     * directly rather than read from the table, which only reaches {@link #HORIZON_DAYS} ahead.
+     * Ekadashi is always included.
+     */
+    public static void export(IcsWriter ics, List<VratRuleEntity> rules, int startJdn, int endJdn,
+                              double lat, double lon, String timezone) throws IOException {
+        List<VratRuleEntity> all = new ArrayList<>(rules);
+        boolean hasEkadashi = false;
+        for (VratRuleEntity r : rules) hasEkadashi |= r.getTithi() == 10 && r.getPaksha() == VratRule.PAKSHA_BOTH;
+        if (!hasEkadashi) {
+            VratRuleEntity ekadashi = new VratRuleEntity();
+            ekadashi.setName("Ekadashi");
+            ekadashi.setTithi(10);
+            ekadashi.setPaksha(VratRule.PAKSHA_BOTH);
+            ekadashi.setKaal(FestivalRule.KAAL_SUNRISE);
+            all.add(ekadashi); // id 0, never used by a stored rule
+        }
+        List<VratRuleEntity> valid = new ArrayList<>(all.size());
+        FestivalCalendar.Occurrences dates = evaluate(all, valid, startJdn, endJdn, lat, lon, timezone);
+        for (int i = 0; i < dates.size(); i++) {
+            VratRuleEntity rule = valid.get(dates.rule[i]);
+            ics.allDayEvent("vrat-" + rule.getId() + "-" + ics.dateDigits(dates.jdn[i]), dates.jdn[i],
+                    rule.getName(), null);
+        }
+    }
+
+    /** Every day of {@code entities} from {@code startJdn} to {@code endJdn} inclusive. */
+    static List<VratOccurrenceEntity> generate(List<VratRuleEntity> entities, int startJdn, int endJdn,
+                                               double lat, double lon, String timezone) {
+        List<VratRuleEntity> valid = new ArrayList<>(entities.size());
+        FestivalCalendar.Occurrences dates = evaluate(entities, valid, startJdn, endJdn, lat, lon, timezone);
+        List<VratOccurrenceEntity> rows = new ArrayList<>(dates.size());
+        int[] ymd = new int[3];
+        for (int i = 0; i < dates.size(); i++) {
+            VratRuleEntity rule = valid.get(dates.rule[i]);
+            PanchangCalculator.jdnToCivil(dates.jdn[i], ymd);
+            rows.add(new VratOccurrenceEntity(rule.getId(), PanchangDay.dateKey(ymd[0], ymd[1], ymd[2]), rule.getName()));
+        }
+        return rows;
+    }
+
+    /** Dates of {@code entities}, with {@code rule} indexing {@code valid}: the entities that form a rule. */
+    private static FestivalCalendar.Occurrences evaluate(List<VratRuleEntity> entities, List<VratRuleEntity> valid,
+                                                         int startJdn, int endJdn, double lat, double lon,
+                                                         String timezone) {
+        List<VratRule> rules = new ArrayList<>(entities.size());
+        for (VratRuleEntity e : entities) {
+            try {
+                rules.add(VratRule.of(e.getTithi(), e.getPaksha(), e.getKaal(), e.getWeekdayMask(), e.getNakshatraMask()));
+                valid.add(e);
+            } catch (IllegalArgumentException ignored) {
+                // A rule with neither tithi nor nakshatra matches nothing
+            }
+        }
+        return VratCalendar.generate(rules.toArray(new VratRule[0]), startJdn, endJdn, lat, lon, timezone);
+    }
+
+    private static int todayJdn(String timezone) {
+        Calendar today = Calendar.getInstance(TimeZone.getTimeZone(timezone));
+        return PanchangCalculator.civilToJdn(today.get(Calendar.YEAR),
+                today.get(Calendar.MONTH) + 1, today.get(Calendar.DAY_OF_MONTH));
+    }
+
+    private static String dateKey(int jdn) {
+        int[] ymd = new int[3];
+        PanchangCalculator.jdnToCivil(jdn, ymd);
+        return PanchangDay.dateKey(ymd[0], ymd[1], ymd[2]);
+    }
+}
@@ -0,0 +1,85 @@
+package com.divyapath.app.data.local;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Word-start prefix lookup in every script, and the order suggestions come back in.
+ */
+public class TitleIndexTest {
+
+    // Table slots, in TitleIndex's TABLES order
+    private static final int AARTIS = 0;
+    private static final int CHALISAS = 1;
+
+    private TitleIndex index;
+
+    @Before
+    public void setUp() {
+        index = new TitleIndex();
+        index.install(AARTIS, Arrays.asList(
+                row(1, "Ganesh Aarti", "गणेश आरती"),
+                row(2, "Jai Ganesh Deva", "जय गणेश देवा"),
+                row(3, "Ganesh Ji Ki Aarti Jai Ganesh Deva", null),
+                row(4, "Om Jai Jagdish Hare", "ॐ जय जगदीश हरे")));
+        index.install(CHALISAS, Arrays.asList(
+                row(1, "Hanuman Chalisa", "हनुमान चालीसा"),
+                row(2, "Shiv Chalisa", "शिव चालीसा")));
+    }
+
+    @Test
+    public void matchesAtAnyWordStart() {
+        assertEquals(Arrays.asList("Shiv Chalisa", "Hanuman Chalisa"), titles("chal"));
+        assertEquals(Arrays.asList("Om Jai Jagdish Hare"), titles("jag"));
+    }
+
+    @Test
+    public void doesNotMatchInsideAWord() {
+        assertTrue(titles("alisa").isEmpty());
+        assertTrue(titles("nesh").isEmpty());
+    }
+
+    @Test
+    public void matchesHindiAndPhoneticSpellings() {
+        assertEquals(Arrays.asList("Shiv Chalisa", "Hanuman Chalisa"), titles("चाली"));
+        assertEquals(Arrays.asList("Hanuman Chalisa"), titles("hanumaan"));
+    }
+
+    @Test
+    public void titlesStartingWithTheQueryComeFirstThenShorterOnes() {
+        assertEquals(Arrays.asList("Ganesh Aarti", "Ganesh Ji Ki Aarti Jai Ganesh Deva", "Jai Ganesh Deva"),
+                titles("ganesh"));
+    }
+
+    @Test
+    public void queryIsFoldedAndLimited() {
+        assertEquals(titles("ganesh"), titles("  GANESH! "));
+        assertEquals(Arrays.asList("Ganesh Aarti"), titles("ganesh", 1));
+        assertTrue(titles(" - ").isEmpty());
+    }
+
+    private List<String> titles(String query) {
+        return titles(query, 10);
+    }
+
+    private List<String> titles(String query, int limit) {
+        List<String> out = new ArrayList<>();
+        for (SearchHit hit : index.suggest(query, limit)) out.add(hit.title);
+        return out;
+    }
+
+    private static TitleIndex.Row row(int id, String title, String titleHindi) {
+        TitleIndex.Row row = new TitleIndex.Row();
+        row.id = id;
+        row.title = title;
+        row.titleHindi = titleHindi;
+        return row;
+    }
+}
@@ -0,0 +1,61 @@
+package com.divyapath.app.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Roman and Devanagari spellings of a title key the same, so either script finds the same rows.
+ */
+public class PhoneticKeyTest {
+
+    @Test
+    public void spellingsOfATitleShareAKey() {
+        assertSameKey("hnm cls", "hanuman chalisa", "Hanumaan Chaalisa", "हनुमान चालीसा");
+        assertSameKey("am j jgds hr", "om jai jagdish hare", "Om Jay Jagdish Hare", "ॐ जय जगदीश हरे");
+        assertSameKey("gns cls", "Ganesh Chalisa", "गणेश चालीसा");
+    }
+
+    @Test
+    public void visargaMatchesRomanFinalH() {
+        assertSameKey("am nm sv", "Om Namah Shivaya", "om nama shivaya", "ॐ नमः शिवाय");
+    }
+
+    @Test
+    public void finalAnusvaraMatchesRomanSpellings() {
+        assertSameKey("s", "Sai", "साईं");
+        assertSameKey("dk m smr sb kr", "Dukh Mein Sumiran Sab Karein", "दुख में सुमिरन सब करें");
+        assertSameKey("br j dk m cl", "Bura Jo Dekhan Main Chala", "बुरा जो देखन मैं चला");
+    }
+
+    @Test
+    public void nasalBeforeAConsonantIsN() {
+        assertSameKey("art knjbhr k", "Aarti Kunjbihari Ki", "आरती कुंजबिहारी की");
+        assertSameKey("gvnd bl", "Govind Bolo", "गोविन्द बोलो");
+    }
+
+    @Test
+    public void honorificsAreSkipped() {
+        assertSameKey("rm cls", "Shri Ram Chalisa", "Ram Chalisa", "श्री राम चालीसा");
+    }
+
+    @Test
+    public void aKeyPrefixIsATitlePrefix() {
+        String title = PhoneticKey.of("Om Namah Shivaya");
+        String query = PhoneticKey.of("ॐ नमः");
+        assertTrue(title.startsWith(query));
+        assertTrue(title.compareTo(PhoneticKey.upperBound(query)) < 0);
+    }
+
+    @Test
+    public void textWithoutLettersHasNoKey() {
+        assertNull(PhoneticKey.of(null));
+        assertNull(PhoneticKey.of(" - । "));
+    }
+
+    private static void assertSameKey(String expected, String... spellings) {
+        for (String spelling : spellings) assertEquals(spelling, expected, PhoneticKey.of(spelling));
+    }
+}
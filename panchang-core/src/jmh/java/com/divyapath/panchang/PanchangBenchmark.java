@@ -0,0 +1,103 @@
+package com.divyapath.panchang;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * Cost of the calculator entry points the app depends on, per precision tier.
+ * Run with {@code ./gradlew :panchang-core:jmh}.
+ */
+@State(Scope.Benchmark)
+public class PanchangBenchmark {
+
+    private static final double LAT = 28.6139;
+    private static final double LON = 77.2090;
+    private static final String TZ = "Asia/Kolkata";
+
+    // One rule per kaal, roughly the mix the app generates
+    private static final FestivalRule[] FESTIVAL_RULES = {
+            FestivalRule.sankranti(9),
+            FestivalRule.tithi(FestivalRule.CHAITRA, 8, FestivalRule.KAAL_MADHYAHNA),
+            FestivalRule.tithi(FestivalRule.SHRAVANA, 22, FestivalRule.KAAL_SUNRISE),
+            FestivalRule.tithi(FestivalRule.ASHVIN, 9, FestivalRule.KAAL_APARAHNA),
+            FestivalRule.tithi(FestivalRule.ASHVIN, 18, FestivalRule.KAAL_MOONRISE),
+            FestivalRule.tithi(FestivalRule.ASHVIN, 29, FestivalRule.KAAL_PRADOSH),
+            FestivalRule.tithi(FestivalRule.MAGHA, 28, FestivalRule.KAAL_NISHITA),
+    };
+
+    // The app's Griha Pravesh preset: every limb and kaal constraint but yoga
+    private static final MuhuratSearch.Query MUHURAT_QUERY = new MuhuratSearch.Query()
+            .nakshatras(3, 4, 11, 13, 16, 20, 25, 26).shuklaPaksha()
+            .daytimeOnly().avoidRahuKaal().avoidGulikaKaal().avoidYamghant().minMinutes(30);
+
+    // Delhi, New Jersey, London, Sydney: the comparison screen's typical spread
+    private static final double[] CITY_LAT = {28.6139, 40.0583, 51.5074, -33.8688};
+    private static final double[] CITY_LON = {77.2090, -74.4057, -0.1278, 151.2093};
+    private static final String[] CITY_TZ = {"Asia/Kolkata", "America/New_York", "Europe/London", "Australia/Sydney"};
+
+    @Param({"1", "2"}) // PRECISION_FAST, PRECISION_PRECISE
+    public int precision;
+
+    private Calendar instant;
+    private Calendar yearStart;
+
+    @Setup
+    public void setUp() {
+        instant = Calendar.getInstance(TimeZone.getTimeZone(TZ));
+        instant.clear();
+        instant.set(2025, Calendar.MARCH, 14, 9, 30);
+        yearStart = Calendar.getInstance(TimeZone.getTimeZone(TZ));
+        yearStart.clear();
+        yearStart.set(2025, Calendar.JANUARY, 1);
+    }
+
+    @Benchmark
+    public PanchangDay singleDay() {
+        return PanchangCalculator.computeDay(instant, LAT, LON, TZ, precision);
+    }
+
+    @Benchmark
+    public PanchangDay[] month() {
+        return PanchangCalculator.computeRange(yearStart, 31, LAT, LON, TZ, precision);
+    }
+
+    @Benchmark
+    public PanchangDay[] year() {
+        return PanchangCalculator.computeRange(yearStart, 365, LAT, LON, TZ, precision);
+    }
+
+    @Benchmark
+    public PanchangTransitions.Timeline tithiTimelineYear() {
+        double start = PanchangTransitions.millisToJd(yearStart.getTimeInMillis());
+        return PanchangTransitions.timeline(PanchangTransitions.LIMB_TITHI, start, start + 365, precision);
+    }
+
+    @Benchmark
+    public PanchangEvents.Events eventsYear() {
+        double start = PanchangTransitions.millisToJd(yearStart.getTimeInMillis());
+        return PanchangEvents.find(start, start + 365, precision);
+    }
+
+    @Benchmark
+    public FestivalCalendar.Occurrences festivalsFiveYears() {
+        int start = PanchangCalculator.civilToJdn(2025, 1, 1);
+        return FestivalCalendar.generate(FESTIVAL_RULES, start, start + 5 * 365, LAT, LON, TZ);
+    }
+
+    @Benchmark
+    public IntervalSet muhuratSixtyDays() {
+        int start = PanchangCalculator.civilToJdn(2025, 1, 1);
+        return MuhuratSearch.find(MUHURAT_QUERY, start, 60, LAT, LON, TZ, precision);
+    }
+
+    @Benchmark
+    public PanchangDay[] fourLocations() {
+        return PanchangCalculator.computeLocations(2025, 3, 14, CITY_LAT, CITY_LON, CITY_TZ, precision);
+    }
+}
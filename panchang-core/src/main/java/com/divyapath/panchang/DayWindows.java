@@ -0,0 +1,152 @@
+package com.divyapath.panchang;
+
+import java.util.Arrays;
+
+/**
+ * A day's named muhurat and kaal windows as a sorted timeline in minutes from local midnight.
+ *
+ * Windows are half-open [start, end) and may overlap (Gulika often touches Rahu), so the
+ * timeline also keeps the elementary segments between every window boundary together with the
+ * mask of kinds active in each. "What is active now" is a binary search over those segment
+ * boundaries and "what comes next" a binary search over window starts; nothing is formatted or
+ * parsed, so a caller can poll every minute for free.
+ */
+public final class DayWindows {
+
+    public static final int BRAHMA = 0;
+    public static final int ABHIJIT = 1;
+    public static final int RAHU = 2;
+    public static final int GULIKA = 3;
+    public static final int YAMGHANT = 4;
+
+    public static final int AUSPICIOUS = 1 << BRAHMA | 1 << ABHIJIT;
+    public static final int INAUSPICIOUS = 1 << RAHU | 1 << GULIKA | 1 << YAMGHANT;
+
+    private static final String[] NAMES = {"Brahma Muhurat", "Abhijit Muhurat", "Rahukaal", "Gulikaal", "Yamghant"};
+
+    private final int[] kind;
+    private final int[] start;
+    private final int[] end;
+    private final int size;
+
+    // Segment i covers [bound[i], bound[i + 1]) with kinds active[i]; nothing is active outside
+    private final int[] bound;
+    private final int[] active;
+
+    private DayWindows(int[] kind, int[] start, int[] end, int size) {
+        this.kind = kind;
+        this.start = start;
+        this.end = end;
+        this.size = size;
+
+        int[] b = new int[size * 2];
+        for (int i = 0; i < size; i++) {
+            b[2 * i] = start[i];
+            b[2 * i + 1] = end[i];
+        }
+        Arrays.sort(b);
+        int n = 0;
+        for (int i = 0; i < b.length; i++) {
+            if (n == 0 || b[i] != b[n - 1]) b[n++] = b[i];
+        }
+        bound = Arrays.copyOf(b, n);
+        active = new int[Math.max(n - 1, 0)];
+        for (int i = 0; i < size; i++) {
+            int from = Arrays.binarySearch(bound, start[i]);
+            int to = Arrays.binarySearch(bound, end[i]);
+            for (int s = from; s < to; s++) active[s] |= 1 << kind[i];
+        }
+    }
+
+    /** The windows of {@code day}; Abhijit is left out on days that have none. */
+    public static DayWindows of(PanchangDay day) {
+        int[] kind = new int[5];
+        int[] start = new int[5];
+        int[] end = new int[5];
+        int n = 0;
+        n = put(kind, start, end, n, BRAHMA, day.brahmaStart, day.brahmaEnd);
+        if (day.hasAbhijit()) n = put(kind, start, end, n, ABHIJIT, day.abhijitStart, day.abhijitEnd);
+        n = put(kind, start, end, n, RAHU, day.rahuStart, day.rahuEnd);
+        n = put(kind, start, end, n, GULIKA, day.gulikaStart, day.gulikaEnd);
+        n = put(kind, start, end, n, YAMGHANT, day.yamghantStart, day.yamghantEnd);
+
+        // Insertion sort by start; there are at most five windows
+        for (int i = 1; i < n; i++) {
+            for (int j = i; j > 0 && start[j] < start[j - 1]; j--) {
+                swap(kind, j); swap(start, j); swap(end, j);
+            }
+        }
+        return new DayWindows(kind, start, end, n);
+    }
+
+    public int size() { return size; }
+
+    public int kind(int i) { return kind[i]; }
+
+    public int startMinute(int i) { return start[i]; }
+
+    public int endMinute(int i) { return end[i]; }
+
+    public static String kindName(int kind) {
+        return NAMES[kind];
+    }
+
+    /** Bit mask ({@code 1 << kind}) of the windows in force at {@code minute}. */
+    public int activeAt(int minute) {
+        // Last boundary at or before minute
+        int lo = 0, hi = bound.length - 1, seg = -1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (bound[mid] <= minute) {
+                seg = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return seg >= 0 && seg < active.length ? active[seg] : 0;
+    }
+
+    /** Index of the window of a kind in {@code kindMask} in force at {@code minute}, or -1. */
+    public int current(int minute, int kindMask) {
+        if ((activeAt(minute) & kindMask) == 0) return -1;
+        for (int i = firstStartAfter(minute) - 1; i >= 0; i--) {
+            if ((kindMask & (1 << kind[i])) != 0 && minute < end[i]) return i;
+        }
+        return -1;
+    }
+
+    /** Index of the first window of a kind in {@code kindMask} starting after {@code minute}, or -1. */
+    public int next(int minute, int kindMask) {
+        for (int i = firstStartAfter(minute); i < size; i++) {
+            if ((kindMask & (1 << kind[i])) != 0) return i;
+        }
+        return -1;
+    }
+
+    // ==================== Internals ====================
+
+    private int firstStartAfter(int minute) {
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (start[mid] <= minute) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private static int put(int[] kind, int[] start, int[] end, int n, int k, int s, int e) {
+        if (s == PanchangDay.NO_WINDOW || e <= s) return n;
+        kind[n] = k;
+        start[n] = s;
+        end[n] = e;
+        return n + 1;
+    }
+
+    private static void swap(int[] a, int j) {
+        int t = a[j];
+        a[j] = a[j - 1];
+        a[j - 1] = t;
+    }
+}
@@ -0,0 +1,233 @@
+package com.divyapath.panchang;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * Evaluates {@link FestivalRule}s over a span of civil days at one location.
+ *
+ * One tithi timeline and one list of Sankrantis are computed for the whole span. Each
+ * lunation is named from the rashi the Sun occupies at its new moon and joined against the
+ * rules bucketed by month, so every tithi rule becomes an array lookup plus a sunrise/sunset
+ * evaluation for the two or three candidate days around it. Five years of a few dozen rules
+ * cost a few tens of milliseconds.
+ */
+public class FestivalCalendar {
+
+    private static final double PRADOSH_DAYS = 48.0 / 1440.0;
+    private static final double SCAN_MARGIN_DAYS = 40.0; // a lunation plus slack either side
+    private static final int ADHIKA = 12; // rulesByMonth bucket for intercalary lunations
+
+    /**
+     * Festival dates as parallel arrays ordered by date: rule {@code rule[i]} (an index into
+     * the array passed to {@link #generate}) falls on Julian Day Number {@code jdn[i]}.
+     */
+    public static class Occurrences {
+        public final int[] rule;
+        public final int[] jdn;
+
+        Occurrences(int[] rule, int[] jdn) {
+            this.rule = rule;
+            this.jdn = jdn;
+        }
+
+        public int size() { return rule.length; }
+    }
+
+    /** Every occurrence of {@code rules} on civil days {@code startJdn} to {@code endJdn} inclusive. */
+    public static Occurrences generate(FestivalRule[] rules, int startJdn, int endJdn,
+                                       double lat, double lon, String timezone) {
+        Days days = new Days(lat, lon, TimeZone.getTimeZone(timezone));
+        double fromJd = startJdn - 0.5 - SCAN_MARGIN_DAYS;
+        double toJd = endJdn + 0.5 + SCAN_MARGIN_DAYS;
+        int precision = PanchangCalculator.PRECISION_PRECISE;
+        PanchangTransitions.Timeline tithis =
+                PanchangTransitions.timeline(PanchangTransitions.LIMB_TITHI, fromJd, toJd, precision);
+        // Reach back far enough to know the Sun's rashi at the first new moon
+        PanchangEvents.Events sankrantis = PanchangEvents.sankrantis(fromJd - SCAN_MARGIN_DAYS, toJd, precision);
+
+        int capacity = (int) ((endJdn - startJdn) / 365.25 * rules.length) + rules.length + 4;
+        int[] ruleOut = new int[capacity];
+        int[] jdnOut = new int[capacity];
+        int n = 0;
+
+        // Tithi rules bucketed by month, so each lunation only visits the rules it can satisfy
+        int[][] byMonth = rulesByMonth(rules);
+
+        int s = 0;
+        for (int i = 0; i + 29 < tithis.size(); i++) {
+            if (tithis.index[i] != 0) continue;
+            double lunationStart = tithis.startJd[i];
+            double lunationEnd = tithis.endJd[i + 29];
+            while (s < sankrantis.size() && sankrantis.jd[s] < lunationStart) s++;
+            if (s == 0) continue; // rashi at the new moon unknown
+            // An adhika month has no Sankranti; only rules for every month are observed in it
+            boolean adhika = s == sankrantis.size() || sankrantis.jd[s] >= lunationEnd;
+            int month = adhika ? ADHIKA : (sankrantis.detail[s - 1] + 1) % 12;
+
+            for (int r : byMonth[month]) {
+                FestivalRule rule = rules[r];
+                int jdn = days.observe(tithis.startJd[i + rule.tithi], tithis.endJd[i + rule.tithi], rule.kaal)
+                        + rule.offsetDays;
+                if (jdn < startJdn || jdn > endJdn) continue;
+                if (n == capacity) {
+                    capacity *= 2;
+                    ruleOut = Arrays.copyOf(ruleOut, capacity);
+                    jdnOut = Arrays.copyOf(jdnOut, capacity);
+                }
+                ruleOut[n] = r;
+                jdnOut[n] = jdn;
+                n++;
+            }
+        }
+
+        for (int k = 0; k < sankrantis.size(); k++) {
+            for (int r = 0; r < rules.length; r++) {
+                FestivalRule rule = rules[r];
+                if (rule.rashi != sankrantis.detail[k]) continue;
+                double jd = sankrantis.jd[k];
+                int jdn = days.localJdn(jd);
+                if (jd > days.sunsetJd(jdn)) jdn++;
+                jdn += rule.offsetDays;
+                if (jdn < startJdn || jdn > endJdn) continue;
+                if (n == capacity) {
+                    capacity *= 2;
+                    ruleOut = Arrays.copyOf(ruleOut, capacity);
+                    jdnOut = Arrays.copyOf(jdnOut, capacity);
+                }
+                ruleOut[n] = r;
+                jdnOut[n] = jdn;
+                n++;
+            }
+        }
+
+        return sorted(ruleOut, jdnOut, n);
+    }
+
+    /** The first {@code n} (rule, jdn) pairs ordered by date, then rule order. */
+    static Occurrences sorted(int[] ruleOut, int[] jdnOut, int n) {
+        // Packing both into a long keeps the sort primitive
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) keys[i] = ((long) jdnOut[i] << 32) | ruleOut[i];
+        Arrays.sort(keys);
+        int[] rule = new int[n];
+        int[] jdn = new int[n];
+        for (int i = 0; i < n; i++) {
+            jdn[i] = (int) (keys[i] >> 32);
+            rule[i] = (int) keys[i];
+        }
+        return new Occurrences(rule, jdn);
+    }
+
+    /**
+     * Indices of the tithi rules observed in each amanta month, plus an {@link #ADHIKA} bucket.
+     * EVERY_MONTH rules are in all thirteen.
+     */
+    private static int[][] rulesByMonth(FestivalRule[] rules) {
+        int[] count = new int[13];
+        for (FestivalRule rule : rules) {
+            if (rule.month == FestivalRule.EVERY_MONTH) {
+                for (int m = 0; m < 13; m++) count[m]++;
+            } else if (rule.month >= 0) {
+                count[rule.month]++;
+            }
+        }
+        int[][] byMonth = new int[13][];
+        for (int m = 0; m < 13; m++) byMonth[m] = new int[count[m]];
+        Arrays.fill(count, 0);
+        for (int r = 0; r < rules.length; r++) {
+            int month = rules[r].month;
+            if (month == FestivalRule.EVERY_MONTH) {
+                for (int m = 0; m < 13; m++) byMonth[m][count[m]++] = r;
+            } else if (month >= 0) {
+                byMonth[month][count[month]++] = r;
+            }
+        }
+        return byMonth;
+    }
+
+    /** Sunrise/sunset per civil day at one location, computed on first use. */
+    static final class Days {
+        private final double lat, lon;
+        private final TimeZone tz;
+        private final Map<Integer, double[]> cache = new HashMap<>(); // {midnightJd, riseJd, setJd, offsetMinutes}
+        private final int[] ymd = new int[3];
+
+        Days(double lat, double lon, TimeZone tz) {
+            this.lat = lat;
+            this.lon = lon;
+            this.tz = tz;
+        }
+
+        /**
+         * The civil day observing a tithi that runs from {@code startJd} to {@code endJd}: the
+         * first day whose {@code kaal} falls inside it. If none does, the first day whose sunrise
+         * does (the udaya tithi), and failing that the sunrise-to-sunrise day in which it begins.
+         */
+        int observe(double startJd, double endJd, int kaal) {
+            int udaya = -1;
+            int begins = localJdn(startJd) - 1;
+            for (int d = begins, last = localJdn(endJd); d <= last; d++) {
+                double at = kaalJd(d, kaal);
+                if (at >= startJd && at < endJd) return d;
+                double rise = times(d)[1];
+                if (rise < startJd) begins = d;
+                else if (udaya < 0 && rise < endJd) udaya = d;
+            }
+            return udaya >= 0 ? udaya : begins;
+        }
+
+        int localJdn(double jd) {
+            long millis = PanchangTransitions.jdToMillis(jd);
+            return (int) Math.floorDiv(millis + tz.getOffset(millis), PanchangCalculator.DAY_MS)
+                    + PanchangCalculator.UNIX_EPOCH_JDN;
+        }
+
+        double sunriseJd(int jdn) {
+            return times(jdn)[1];
+        }
+
+        double sunsetJd(int jdn) {
+            return times(jdn)[2];
+        }
+
+        private double kaalJd(int jdn, int kaal) {
+            double[] t = times(jdn);
+            double rise = t[1], set = t[2];
+            switch (kaal) {
+                case FestivalRule.KAAL_MADHYAHNA:
+                    return rise + (set - rise) * 0.5;
+                case FestivalRule.KAAL_APARAHNA:
+                    return rise + (set - rise) * 0.7;
+                case FestivalRule.KAAL_PRADOSH:
+                    return set + PRADOSH_DAYS;
+                case FestivalRule.KAAL_NISHITA:
+                    // Next sunrise is within a minute or two of rise + 1
+                    return (set + rise + 1.0) * 0.5;
+                case FestivalRule.KAAL_MOONRISE:
+                    int moonrise = MoonRiseSet.minutes(jdn, lat, lon, t[3])[0];
+                    return moonrise == PanchangDay.NO_WINDOW ? set + PRADOSH_DAYS : t[0] + moonrise / 1440.0;
+                default:
+                    return rise;
+            }
+        }
+
+        private double[] times(int jdn) {
+            double[] t = cache.get(jdn);
+            if (t != null) return t;
+            PanchangCalculator.jdnToCivil(jdn, ymd);
+            int dayOfYear = jdn - PanchangCalculator.civilToJdn(ymd[0], 1, 1) + 1;
+            long localNoonUtc = (jdn - PanchangCalculator.UNIX_EPOCH_JDN) * PanchangCalculator.DAY_MS
+                    + PanchangCalculator.DAY_MS / 2 - tz.getRawOffset();
+            double offsetMinutes = tz.getOffset(localNoonUtc) / 60000.0;
+            double[] sun = PanchangCalculator.sunriseSunset(PanchangCalculator.PRECISION_PRECISE,
+                    lat, lon, jdn, dayOfYear, offsetMinutes);
+            double midnightJd = jdn - 0.5 - offsetMinutes / 1440.0;
+            t = new double[]{midnightJd, midnightJd + sun[0] / 24.0, midnightJd + sun[1] / 24.0, offsetMinutes};
+            cache.put(jdn, t);
+            return t;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.divyapath.panchang;
+
+/**
+ * How a festival is dated: either a tithi of a lunar month observed on the civil day whose
+ * chosen time of day (kaal) falls inside that tithi, or the Sun's entry into a rashi.
+ *
+ * Months are amanta (new moon to new moon), so Krishna paksha festivals use the month before
+ * their purnimanta name: Janmashtami is {@code tithi(SHRAVANA, 22, KAAL_SUNRISE)} here although
+ * North Indian calendars call it Bhadrapada Krishna Ashtami. Adhika (intercalary) months only
+ * match {@link #EVERY_MONTH} rules; a named festival falls in the nija month that follows.
+ */
+public final class FestivalRule {
+
+    // Amanta lunar months
+    public static final int CHAITRA = 0;
+    public static final int VAISHAKHA = 1;
+    public static final int JYESHTHA = 2;
+    public static final int ASHADHA = 3;
+    public static final int SHRAVANA = 4;
+    public static final int BHADRAPADA = 5;
+    public static final int ASHVIN = 6;
+    public static final int KARTIKA = 7;
+    public static final int MARGASHIRSHA = 8;
+    public static final int PAUSHA = 9;
+    public static final int MAGHA = 10;
+    public static final int PHALGUNA = 11;
+    /** Month of a rule that matches its tithi in every lunar month, e.g. a monthly shraddha. */
+    public static final int EVERY_MONTH = 12;
+
+    /** Tithi in force at sunrise (udaya tithi), the default for most vrats. */
+    public static final int KAAL_SUNRISE = 0;
+    /** Middle of the third fifth of the daytime, e.g. Ganesh Chaturthi, Ram Navami. */
+    public static final int KAAL_MADHYAHNA = 1;
+    /** Middle of the fourth fifth of the daytime, e.g. Dussehra. */
+    public static final int KAAL_APARAHNA = 2;
+    /** 48 minutes after sunset, e.g. Diwali Lakshmi Puja, Dhanteras. */
+    public static final int KAAL_PRADOSH = 3;
+    /** Midpoint of the night, e.g. Maha Shivaratri. */
+    public static final int KAAL_NISHITA = 4;
+    /** Moonrise (pradosh on the rare day the Moon does not rise), e.g. Karva Chauth. */
+    public static final int KAAL_MOONRISE = 5;
+
+    final int month;     // amanta month or EVERY_MONTH, or -1 for a Sankranti rule
+    final int tithi;     // 0-29
+    final int kaal;
+    final int rashi;     // sidereal sign entered (0 = Mesha), or -1 for a tithi rule
+    final int offsetDays;
+
+    private FestivalRule(int month, int tithi, int kaal, int rashi, int offsetDays) {
+        this.month = month;
+        this.tithi = tithi;
+        this.kaal = kaal;
+        this.rashi = rashi;
+        this.offsetDays = offsetDays;
+    }
+
+    /** Tithi {@code tithi} (0-29) of amanta {@code month}, observed where it covers {@code kaal}. */
+    public static FestivalRule tithi(int month, int tithi, int kaal) {
+        return new FestivalRule(month, tithi, kaal, -1, 0);
+    }
+
+    /**
+     * Tithi {@code tithi} of purnimanta (full moon to full moon) {@code month}, as North Indian
+     * calendars name it. Krishna paksha belongs to the month before in amanta reckoning.
+     */
+    public static FestivalRule purnimanta(int month, int tithi, int kaal) {
+        return tithi(amantaMonth(month, tithi), tithi, kaal);
+    }
+
+    /** The amanta month holding tithi {@code tithi} of purnimanta {@code month}. */
+    public static int amantaMonth(int purnimantaMonth, int tithi) {
+        if (purnimantaMonth == EVERY_MONTH || tithi < 15) return purnimantaMonth;
+        return (purnimantaMonth + 11) % 12;
+    }
+
+    /**
+     * The civil day the Sun enters sidereal {@code rashi} (9 = Makara), or the next day
+     * when the ingress falls after sunset.
+     */
+    public static FestivalRule sankranti(int rashi) {
+        return new FestivalRule(-1, 0, KAAL_SUNRISE, rashi, 0);
+    }
+
+    /** The same rule shifted by {@code days}, e.g. Holi the day after Holika Dahan. */
+    public FestivalRule plusDays(int days) {
+        return new FestivalRule(month, tithi, kaal, rashi, offsetDays + days);
+    }
+}
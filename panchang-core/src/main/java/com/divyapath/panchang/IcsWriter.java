@@ -0,0 +1,171 @@
+package com.divyapath.panchang;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Calendar;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Streams an iCalendar (RFC 5545) document of all-day events to a {@link Writer}.
+ *
+ * Nothing is buffered beyond the current line: events go out as they are added, and
+ * {@link #panchangDays} computes the daily panchang a month at a time and writes each chunk
+ * before computing the next, so a decade of days costs the same memory as a month. Wrap the
+ * target in a buffered writer; lines are CRLF-terminated and folded at 75 octets.
+ */
+public final class IcsWriter implements Closeable {
+
+    private static final int FOLD_OCTETS = 75;
+    private static final int CHUNK_DAYS = 32;
+
+    private final Writer out;
+    private final String uidDomain;
+    private final String stamp;
+    private final int[] ymd = new int[3];
+    private final char[] date = new char[8];
+    private final StringBuilder line = new StringBuilder(128);
+
+    /** Start a calendar named {@code name}; event UIDs end in {@code @uidDomain}. */
+    public IcsWriter(Writer out, String name, String uidDomain, long nowMillis) throws IOException {
+        this.out = out;
+        this.uidDomain = uidDomain;
+        Calendar now = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        now.setTimeInMillis(nowMillis);
+        stamp = String.format(Locale.US, "%04d%02d%02dT%02d%02d%02dZ",
+                now.get(Calendar.YEAR), now.get(Calendar.MONTH) + 1, now.get(Calendar.DAY_OF_MONTH),
+                now.get(Calendar.HOUR_OF_DAY), now.get(Calendar.MINUTE), now.get(Calendar.SECOND));
+        raw("BEGIN:VCALENDAR");
+        raw("VERSION:2.0");
+        raw("PRODID:-//DivyaPath//Panchang//EN");
+        raw("CALSCALE:GREGORIAN");
+        raw("METHOD:PUBLISH");
+        property("X-WR-CALNAME", name);
+    }
+
+    /**
+     * An all-day event on civil day {@code jdn}. {@code uid} must be stable across exports
+     * (e.g. a kind and the date) so re-importing updates events instead of duplicating them.
+     */
+    public void allDayEvent(String uid, int jdn, String summary, String description) throws IOException {
+        raw("BEGIN:VEVENT");
+        line.setLength(0);
+        line.append("UID:").append(uid).append('@').append(uidDomain);
+        writeLine();
+        raw("DTSTAMP:" + stamp);
+        dateProperty("DTSTART;VALUE=DATE:", jdn);
+        dateProperty("DTEND;VALUE=DATE:", jdn + 1);
+        property("SUMMARY", summary);
+        if (description != null) property("DESCRIPTION", description);
+        raw("TRANSP:TRANSPARENT");
+        raw("END:VEVENT");
+    }
+
+    /**
+     * One event per civil day from {@code startJdn}: tithi and nakshatra at sunrise as the
+     * summary, their end times ("+1" when past midnight), sun times and Rahukaal as the description.
+     */
+    public void panchangDays(int startJdn, int days, double lat, double lon, String timezone,
+                             int precision) throws IOException {
+        Calendar start = Calendar.getInstance(TimeZone.getTimeZone(timezone));
+        for (int from = 0; from < days; from += CHUNK_DAYS) {
+            PanchangCalculator.jdnToCivil(startJdn + from, ymd);
+            start.clear();
+            start.set(ymd[0], ymd[1] - 1, ymd[2]);
+            PanchangDay[] chunk = PanchangCalculator.computeRange(start, Math.min(CHUNK_DAYS, days - from),
+                    lat, lon, timezone, precision);
+            for (int i = 0; i < chunk.length; i++) {
+                PanchangDay d = chunk[i];
+                String tithi = PanchangCalculator.getTithiName(d.getTithiIndex());
+                String nakshatra = PanchangCalculator.getNakshatraName(d.getNakshatraIndex());
+                String description = tithi + " until " + PanchangDay.formatEnd(d.getTithiEndMinute())
+                        + "\n" + nakshatra + " until " + PanchangDay.formatEnd(d.getNakshatraEndMinute())
+                        + "\nSunrise " + PanchangDay.formatMinute(d.getSunriseMinute())
+                        + ", sunset " + PanchangDay.formatMinute(d.getSunsetMinute())
+                        + "\nRahukaal " + PanchangDay.formatWindow(d.getRahuStart(), d.getRahuEnd());
+                int jdn = startJdn + from + i;
+                allDayEvent("panchang-" + dateDigits(jdn), jdn, tithi + " · " + nakshatra, description);
+            }
+        }
+    }
+
+    /** Finish the calendar and close the underlying writer. */
+    @Override
+    public void close() throws IOException {
+        raw("END:VCALENDAR");
+        out.close();
+    }
+
+    /** {@code jdn} as "yyyyMMdd", e.g. for building UIDs. */
+    public String dateDigits(int jdn) {
+        fillDate(jdn);
+        return new String(date);
+    }
+
+    // ==================== Internals ====================
+
+    private void raw(String s) throws IOException {
+        out.write(s);
+        out.write("\r\n");
+    }
+
+    private void dateProperty(String name, int jdn) throws IOException {
+        fillDate(jdn);
+        out.write(name);
+        out.write(date);
+        out.write("\r\n");
+    }
+
+    private void fillDate(int jdn) {
+        PanchangCalculator.jdnToCivil(jdn, ymd);
+        int y = ymd[0];
+        date[0] = (char) ('0' + y / 1000 % 10);
+        date[1] = (char) ('0' + y / 100 % 10);
+        date[2] = (char) ('0' + y / 10 % 10);
+        date[3] = (char) ('0' + y % 10);
+        date[4] = (char) ('0' + ymd[1] / 10);
+        date[5] = (char) ('0' + ymd[1] % 10);
+        date[6] = (char) ('0' + ymd[2] / 10);
+        date[7] = (char) ('0' + ymd[2] % 10);
+    }
+
+    /** A text property, escaped and folded. */
+    private void property(String name, String value) throws IOException {
+        line.setLength(0);
+        line.append(name).append(':');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\': case ';': case ',':
+                    line.append('\\').append(c);
+                    break;
+                case '\n':
+                    line.append("\\n");
+                    break;
+                case '\r':
+                    break;
+                default:
+                    line.append(c);
+            }
+        }
+        writeLine();
+    }
+
+    /** Write {@link #line}, folding before any character that would pass 75 UTF-8 octets. */
+    private void writeLine() throws IOException {
+        int octets = 0;
+        int from = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            int width = c < 0x80 ? 1 : c < 0x800 ? 2 : Character.isHighSurrogate(c) ? 4 : Character.isLowSurrogate(c) ? 0 : 3;
+            if (octets + width > FOLD_OCTETS) {
+                out.append(line, from, i).append("\r\n ");
+                from = i;
+                octets = 1; // the leading space of the continuation
+            }
+            octets += width;
+        }
+        out.append(line, from, line.length()).append("\r\n");
+    }
+}
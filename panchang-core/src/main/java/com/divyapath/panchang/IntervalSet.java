@@ -0,0 +1,165 @@
+package com.divyapath.panchang;
+
+import java.util.Arrays;
+
+/**
+ * Sorted, disjoint half-open intervals [start, end) of Julian Days, as parallel arrays.
+ *
+ * Set operations are a single sweep over both operands, O(n + m), and never allocate
+ * per interval. Intervals that touch are merged, so a run of matching slices from a
+ * {@link PanchangTransitions.Timeline} becomes one window.
+ */
+public final class IntervalSet {
+
+    public static final IntervalSet EMPTY = new IntervalSet(new double[0], new double[0], 0);
+
+    private final double[] start;
+    private final double[] end;
+    private final int size;
+
+    private IntervalSet(double[] start, double[] end, int size) {
+        this.start = start;
+        this.end = end;
+        this.size = size;
+    }
+
+    /** A single interval, or {@link #EMPTY} if it has no length. */
+    public static IntervalSet of(double startJd, double endJd) {
+        return endJd > startJd ? new IntervalSet(new double[]{startJd}, new double[]{endJd}, 1) : EMPTY;
+    }
+
+    /** The intervals of {@code timeline} whose slice index has its bit set in {@code mask}. */
+    public static IntervalSet fromTimeline(PanchangTransitions.Timeline timeline, long mask) {
+        Builder b = new Builder(timeline.size());
+        for (int i = 0; i < timeline.size(); i++) {
+            if ((mask & (1L << timeline.index[i])) != 0) b.add(timeline.startJd[i], timeline.endJd[i]);
+        }
+        return b.build();
+    }
+
+    public int size() { return size; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    public double startJd(int i) { return start[i]; }
+
+    public double endJd(int i) { return end[i]; }
+
+    /** Index of the interval containing {@code jd}, or -1. Binary search. */
+    public int indexOf(double jd) {
+        int lo = 0, hi = size - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (jd < start[mid]) hi = mid - 1;
+            else if (jd >= end[mid]) lo = mid + 1;
+            else return mid;
+        }
+        return -1;
+    }
+
+    /** Index of the first interval ending after {@code jd} (the current or next one), or -1. */
+    public int nextIndex(double jd) {
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (end[mid] <= jd) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo < size ? lo : -1;
+    }
+
+    /** Times in both sets. */
+    public IntervalSet intersect(IntervalSet other) {
+        Builder b = new Builder(Math.max(size, other.size));
+        int i = 0, j = 0;
+        while (i < size && j < other.size) {
+            double s = Math.max(start[i], other.start[j]);
+            double e = Math.min(end[i], other.end[j]);
+            if (s < e) b.add(s, e);
+            // Advance whichever interval finishes first; the other may overlap the next one
+            if (end[i] < other.end[j]) i++;
+            else j++;
+        }
+        return b.build();
+    }
+
+    /** Times in this set but not in {@code other}. */
+    public IntervalSet subtract(IntervalSet other) {
+        Builder b = new Builder(size + other.size);
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            double s = start[i];
+            double e = end[i];
+            while (j < other.size && other.end[j] <= s) j++;
+            int k = j;
+            while (k < other.size && other.start[k] < e) {
+                if (other.start[k] > s) b.add(s, other.start[k]);
+                s = Math.max(s, other.end[k]);
+                if (s >= e) break;
+                k++;
+            }
+            if (s < e) b.add(s, e);
+        }
+        return b.build();
+    }
+
+    /** Times in either set. */
+    public IntervalSet union(IntervalSet other) {
+        Builder b = new Builder(size + other.size);
+        int i = 0, j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && start[i] <= other.start[j])) {
+                b.add(start[i], end[i]);
+                i++;
+            } else {
+                b.add(other.start[j], other.end[j]);
+                j++;
+            }
+        }
+        return b.build();
+    }
+
+    /** Only the intervals at least {@code minDays} long. */
+    public IntervalSet atLeast(double minDays) {
+        Builder b = new Builder(size);
+        for (int i = 0; i < size; i++) {
+            if (end[i] - start[i] >= minDays) b.add(start[i], end[i]);
+        }
+        return b.build();
+    }
+
+    /**
+     * Accumulates intervals in order of start time, merging any that touch or overlap.
+     * Callers must add in non-decreasing start order.
+     */
+    public static final class Builder {
+        private double[] start;
+        private double[] end;
+        private int n;
+
+        public Builder(int capacity) {
+            start = new double[Math.max(capacity, 4)];
+            end = new double[start.length];
+        }
+
+        public Builder add(double s, double e) {
+            if (e <= s) return this;
+            if (n > 0 && s <= end[n - 1]) {
+                if (e > end[n - 1]) end[n - 1] = e;
+                return this;
+            }
+            if (n == start.length) {
+                start = Arrays.copyOf(start, n * 2);
+                end = Arrays.copyOf(end, n * 2);
+            }
+            start[n] = s;
+            end[n] = e;
+            n++;
+            return this;
+        }
+
+        public IntervalSet build() {
+            return n == 0 ? EMPTY : new IntervalSet(Arrays.copyOf(start, n), Arrays.copyOf(end, n), n);
+        }
+    }
+}
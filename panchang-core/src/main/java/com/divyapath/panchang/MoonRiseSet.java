@@ -0,0 +1,154 @@
+package com.divyapath.panchang;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Moonrise and moonset from the Moon's true altitude.
+ *
+ * The altitude of the Moon's upper limb is sampled across the local day and each horizon
+ * crossing is refined with regula falsi. The standard altitude h0 = 0.7275·π − 0.5667°
+ * (Meeus ch. 15) folds in horizontal parallax π, refraction and the semidiameter, so the
+ * result matches published almanac times. Results are cached per civil date and a
+ * ~1 km lat/lon bucket, because the same few locations are asked for over and over.
+ */
+public class MoonRiseSet {
+
+    private static final double EARTH_RADIUS_KM = 6378.14;
+    private static final double SAMPLE_STEP_DAYS = 2.0 / 24.0; // the Moon is up for 6 h+ below 60° latitude
+    private static final double TOLERANCE_DAYS = 1.0 / 86400.0;
+    private static final int MAX_ITERATIONS = 20;
+    private static final int CACHE_SIZE = 512;
+
+    private static final Map<Long, int[]> CACHE = new LinkedHashMap<Long, int[]>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, int[]> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    /**
+     * {rise, set} in minutes from local midnight of civil day {@code jdn}, or
+     * {@link PanchangDay#NO_WINDOW} where the Moon does not rise (or set) that day.
+     */
+    public static int[] minutes(int jdn, double lat, double lon, double offsetMinutes) {
+        int latBucket = (int) Math.round(lat * 100);
+        int lonBucket = (int) Math.round(lon * 100);
+        int offset = (int) Math.round(offsetMinutes);
+        long key = (((long) jdn * 20001 + latBucket + 10000) * 40001 + lonBucket + 20000) * 2001 + offset + 1000;
+        synchronized (CACHE) {
+            int[] hit = CACHE.get(key);
+            if (hit != null) return hit;
+        }
+        double midnightJd = jdn - 0.5 - offset / 1440.0;
+        int[] result = compute(midnightJd, latBucket / 100.0, lonBucket / 100.0);
+        synchronized (CACHE) {
+            CACHE.put(key, result);
+        }
+        return result;
+    }
+
+    private static int[] compute(double midnightJd, double lat, double lon) {
+        int[] result = {PanchangDay.NO_WINDOW, PanchangDay.NO_WINDOW};
+        Track track = new Track(midnightJd, lat, lon);
+        double prevX = 0;
+        double prev = track.altitude(prevX);
+        for (double x = SAMPLE_STEP_DAYS; x < 1 + 1e-9; x += SAMPLE_STEP_DAYS) {
+            double next = track.altitude(x);
+            if ((prev < 0) != (next < 0)) {
+                int minute = (int) Math.floor(refine(track, prevX, prev, x, next) * 1440.0);
+                int slot = prev < 0 ? 0 : 1;
+                if (minute < 1440 && result[slot] == PanchangDay.NO_WINDOW) result[slot] = minute;
+            }
+            prevX = x;
+            prev = next;
+        }
+        return result;
+    }
+
+    /** Regula falsi (Illinois variant) on a bracketed sign change, in day fractions. */
+    private static double refine(Track track, double a, double fa, double b, double fb) {
+        int side = 0;
+        double c = a;
+        for (int i = 0; i < MAX_ITERATIONS && b - a > TOLERANCE_DAYS; i++) {
+            c = (a * fb - b * fa) / (fb - fa);
+            double fc = track.altitude(c);
+            if ((fc < 0) == (fb < 0)) {
+                b = c;
+                fb = fc;
+                if (side == -1) fa /= 2;
+                side = -1;
+            } else {
+                a = c;
+                fa = fc;
+                if (side == 1) fb /= 2;
+                side = 1;
+            }
+        }
+        return c;
+    }
+
+    /**
+     * The Moon's right ascension, declination and h0 over one local day. The full lunar
+     * series is evaluated only at midnight, noon and the next midnight and interpolated
+     * quadratically in between (Meeus ch. 3), which is good to a few seconds of rise time
+     * and keeps a whole day to three series evaluations.
+     */
+    private static final class Track {
+        private final double midnightJd;
+        private final double sinLat, cosLat, lon;
+        private final double[] ra = new double[3];   // degrees, unwrapped
+        private final double[] decl = new double[3]; // degrees
+        private final double[] h0 = new double[3];   // degrees
+
+        Track(double midnightJd, double lat, double lon) {
+            this.midnightJd = midnightJd;
+            this.sinLat = Math.sin(Math.toRadians(lat));
+            this.cosLat = Math.cos(Math.toRadians(lat));
+            this.lon = lon;
+            double[] pos = new double[3];
+            for (int i = 0; i < 3; i++) {
+                double jd = midnightJd + i * 0.5;
+                double td = jd + PanchangCalculator.deltaTDays(jd);
+                PanchangCalculator.calculateMoonPosition(td, pos);
+                double T = (td - 2451545.0) / 36525.0;
+
+                double lambda = Math.toRadians(pos[0]);
+                double beta = Math.toRadians(pos[1]);
+                double eps = Math.toRadians(23.439291 - 0.0130042 * T);
+                decl[i] = Math.toDegrees(Math.asin(Math.sin(beta) * Math.cos(eps)
+                        + Math.cos(beta) * Math.sin(eps) * Math.sin(lambda)));
+                ra[i] = Math.toDegrees(Math.atan2(Math.sin(lambda) * Math.cos(eps)
+                        - Math.tan(beta) * Math.sin(eps), Math.cos(lambda)));
+                if (i > 0) {
+                    while (ra[i] < ra[i - 1] - 180) ra[i] += 360;
+                    while (ra[i] > ra[i - 1] + 180) ra[i] -= 360;
+                }
+                double parallax = Math.toDegrees(Math.asin(EARTH_RADIUS_KM / pos[2]));
+                h0[i] = 0.7275 * parallax - 0.5667;
+            }
+        }
+
+        /**
+         * Altitude of the Moon's centre minus h0 at day fraction {@code x} (degrees);
+         * positive while the upper limb is above the apparent horizon.
+         */
+        double altitude(double x) {
+            double n = 2 * x - 1;
+            double jd = midnightJd + x;
+            double T = (jd - 2451545.0) / 36525.0;
+            double gmst = 280.46061837 + 360.98564736629 * (jd - 2451545.0) + 0.000387933 * T * T;
+            double hourAngle = Math.toRadians(gmst + lon - interpolate(ra, n));
+            double d = Math.toRadians(interpolate(decl, n));
+            double sinAlt = sinLat * Math.sin(d) + cosLat * Math.cos(d) * Math.cos(hourAngle);
+            return Math.toDegrees(Math.asin(sinAlt)) - interpolate(h0, n);
+        }
+
+        /** Three-point interpolation at {@code n} in [-1, 1] around the middle value. */
+        private static double interpolate(double[] y, double n) {
+            double a = y[1] - y[0];
+            double b = y[2] - y[1];
+            return y[1] + n / 2 * (a + b + n * (b - a));
+        }
+    }
+}
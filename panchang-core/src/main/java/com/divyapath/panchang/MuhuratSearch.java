@@ -0,0 +1,174 @@
+package com.divyapath.panchang;
+
+import java.util.Arrays;
+import java.util.TimeZone;
+
+/**
+ * Finds the windows in a span of days that satisfy every constraint of a {@link Query}.
+ *
+ * Each constraint becomes an {@link IntervalSet}: tithi, nakshatra and yoga sets come from
+ * {@link PanchangTransitions#timeline}, daytime and the Rahu/Gulika/Yamghant kaals from each
+ * day's sunrise and sunset. The answer is the span intersected with the wanted sets minus the
+ * avoided ones, each step a linear sweep, so a multi-month search costs little more than the
+ * timelines themselves. Constraints left unset are not computed at all.
+ */
+public class MuhuratSearch {
+
+    private static final long ALL = -1L;
+    private static final long SHUKLA_TITHIS = (1L << 15) - 1; // Pratipada to Purnima
+    private static final long KRISHNA_TITHIS = SHUKLA_TITHIS << 15;
+
+    /** What to look for. Every call narrows the query further. */
+    public static final class Query {
+        long tithiMask = ALL;
+        long nakshatraMask = ALL;
+        long yogaMask = ALL;
+        int weekdayMask = -1;
+        boolean daytimeOnly;
+        boolean avoidRahu, avoidGulika, avoidYamghant;
+        int minMinutes;
+
+        /** Only these tithis (0-29). */
+        public Query tithis(int... indices) {
+            tithiMask &= mask(indices);
+            return this;
+        }
+
+        public Query shuklaPaksha() {
+            tithiMask &= SHUKLA_TITHIS;
+            return this;
+        }
+
+        public Query krishnaPaksha() {
+            tithiMask &= KRISHNA_TITHIS;
+            return this;
+        }
+
+        /** Only these nakshatras (0-26, 0 = Ashwini). */
+        public Query nakshatras(int... indices) {
+            nakshatraMask &= mask(indices);
+            return this;
+        }
+
+        /** Only these yogas (0-26). */
+        public Query yogas(int... indices) {
+            yogaMask &= mask(indices);
+            return this;
+        }
+
+        /** Only these weekdays ({@code Calendar.SUNDAY} to {@code Calendar.SATURDAY}). */
+        public Query weekdays(int... calendarDays) {
+            weekdayMask &= (int) mask(calendarDays);
+            return this;
+        }
+
+        /** Between sunrise and sunset. */
+        public Query daytimeOnly() {
+            daytimeOnly = true;
+            return this;
+        }
+
+        public Query avoidRahuKaal() {
+            avoidRahu = true;
+            return this;
+        }
+
+        public Query avoidGulikaKaal() {
+            avoidGulika = true;
+            return this;
+        }
+
+        public Query avoidYamghant() {
+            avoidYamghant = true;
+            return this;
+        }
+
+        /** Drop windows shorter than {@code minutes}. */
+        public Query minMinutes(int minutes) {
+            minMinutes = minutes;
+            return this;
+        }
+
+        private static long mask(int[] indices) {
+            long m = 0;
+            for (int i : indices) m |= 1L << i;
+            return m;
+        }
+    }
+
+    /**
+     * Windows in the {@code days} civil days from {@code startJdn} (local midnight to local
+     * midnight) that satisfy {@code query}, as UT Julian Days.
+     */
+    public static IntervalSet find(Query query, int startJdn, int days, double lat, double lon,
+                                   String timezone, int precision) {
+        TimeZone tz = TimeZone.getTimeZone(timezone);
+        double[] midnight = new double[days + 1];
+        for (int d = 0; d <= days; d++) midnight[d] = localMidnightJd(startJdn + d, tz);
+        double startJd = midnight[0];
+        double endJd = midnight[days];
+
+        IntervalSet result = IntervalSet.of(startJd, endJd);
+        result = restrict(result, PanchangTransitions.LIMB_TITHI, query.tithiMask, startJd, endJd, precision);
+        result = restrict(result, PanchangTransitions.LIMB_NAKSHATRA, query.nakshatraMask, startJd, endJd, precision);
+        result = restrict(result, PanchangTransitions.LIMB_YOGA, query.yogaMask, startJd, endJd, precision);
+
+        if (query.weekdayMask != -1 && !result.isEmpty()) {
+            IntervalSet.Builder allowed = new IntervalSet.Builder(days);
+            for (int d = 0; d < days; d++) {
+                if ((query.weekdayMask & (1 << dayOfWeek(startJdn + d))) != 0) allowed.add(midnight[d], midnight[d + 1]);
+            }
+            result = result.intersect(allowed.build());
+        }
+
+        boolean needSun = query.daytimeOnly || query.avoidRahu || query.avoidGulika || query.avoidYamghant;
+        if (needSun && !result.isEmpty()) {
+            IntervalSet.Builder daytime = new IntervalSet.Builder(days);
+            IntervalSet.Builder avoided = new IntervalSet.Builder(days * 3);
+            int[] ymd = new int[3];
+            int[] parts = new int[3];
+            for (int d = 0; d < days; d++) {
+                int jdn = startJdn + d;
+                PanchangCalculator.jdnToCivil(jdn, ymd);
+                int dayOfYear = jdn - PanchangCalculator.civilToJdn(ymd[0], 1, 1) + 1;
+                double offsetMinutes = (startJdn + d - 0.5 - midnight[d]) * 1440.0;
+                double[] sun = PanchangCalculator.sunriseSunset(precision, lat, lon, jdn, dayOfYear, offsetMinutes);
+                double rise = midnight[d] + sun[0] / 24.0;
+                double set = midnight[d] + sun[1] / 24.0;
+                daytime.add(rise, set);
+
+                // Kaals are eighths of the daytime; collect them in time order for the builder
+                double part = (set - rise) / 8.0;
+                int dow = dayOfWeek(jdn);
+                int n = 0;
+                if (query.avoidRahu) parts[n++] = PanchangCalculator.RAHU_PARTS[dow];
+                if (query.avoidGulika) parts[n++] = PanchangCalculator.GULI_PARTS[dow];
+                if (query.avoidYamghant) parts[n++] = PanchangCalculator.YAM_PARTS[dow];
+                Arrays.sort(parts, 0, n);
+                for (int k = 0; k < n; k++) avoided.add(rise + parts[k] * part, rise + (parts[k] + 1) * part);
+            }
+            if (query.daytimeOnly) result = result.intersect(daytime.build());
+            result = result.subtract(avoided.build());
+        }
+
+        return query.minMinutes > 0 ? result.atLeast(query.minMinutes / 1440.0) : result;
+    }
+
+    private static IntervalSet restrict(IntervalSet result, int limb, long mask, double startJd, double endJd,
+                                        int precision) {
+        if (mask == ALL || result.isEmpty()) return result;
+        PanchangTransitions.Timeline timeline = PanchangTransitions.timeline(limb, startJd, endJd, precision);
+        return result.intersect(IntervalSet.fromTimeline(timeline, mask));
+    }
+
+    /** Calendar.SUNDAY (1) to Calendar.SATURDAY (7); JDN mod 7 is 0 on Monday. */
+    private static int dayOfWeek(int jdn) {
+        return (jdn + 1) % 7 + 1;
+    }
+
+    private static double localMidnightJd(int jdn, TimeZone tz) {
+        long localNoonUtc = (jdn - PanchangCalculator.UNIX_EPOCH_JDN) * PanchangCalculator.DAY_MS
+                + PanchangCalculator.DAY_MS / 2 - tz.getRawOffset();
+        return jdn - 0.5 - tz.getOffset(localNoonUtc) / 86_400_000.0;
+    }
+}
@@ -0,0 +1,1053 @@
+package com.divyapath.panchang;
+
+import java.util.Calendar;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Location-aware Panchang calculator.
+ * Calculates sunrise/sunset using Jean Meeus simplified algorithm,
+ * then derives Rahukaal, Gulikaal, Abhijit Muhurat, Brahma Muhurat.
+ */
+public class PanchangCalculator {
+
+    private static final String[] TITHIS = {"Pratipada", "Dwitiya", "Tritiya", "Chaturthi", "Panchami",
+            "Shashthi", "Saptami", "Ashtami", "Navami", "Dashami",
+            "Ekadashi", "Dwadashi", "Trayodashi", "Chaturdashi", "Purnima"};
+
+    private static final String[] NAKSHATRAS = {"Ashwini", "Bharani", "Krittika", "Rohini", "Mrigashira",
+            "Ardra", "Punarvasu", "Pushya", "Ashlesha", "Magha",
+            "Purva Phalguni", "Uttara Phalguni", "Hasta", "Chitra", "Swati",
+            "Vishakha", "Anuradha", "Jyeshtha", "Mula", "Purva Ashadha",
+            "Uttara Ashadha", "Shravana", "Dhanishtha", "Shatabhisha",
+            "Purva Bhadrapada", "Uttara Bhadrapada", "Revati"};
+
+    private static final String[] YOGAS = {"Vishkumbha", "Priti", "Ayushman", "Saubhagya", "Shobhana",
+            "Atiganda", "Sukarma", "Dhriti", "Shula", "Ganda",
+            "Vriddhi", "Dhruva", "Vyaghata", "Harshana", "Vajra",
+            "Siddhi", "Vyatipata", "Variyan", "Parigha", "Shiva",
+            "Siddha", "Sadhya", "Shubha", "Shukla", "Brahma",
+            "Indra", "Vaidhriti"};
+
+    private static final String[] KARANAS = {"Bava", "Balava", "Kaulava", "Taitila", "Gara",
+            "Vanija", "Vishti", "Shakuni", "Chatushpada", "Naga", "Kimstughna"};
+
+    private static final String[] VARAS = {"", "Sunday", "Monday", "Tuesday", "Wednesday",
+            "Thursday", "Friday", "Saturday"};
+
+    // Rahukaal part index for Sun=1 through Sat=7
+    // Day divided into 8 equal parts from sunrise to sunset
+    // Rahu occupies: Sun=8th, Mon=2nd, Tue=7th, Wed=5th, Thu=6th, Fri=4th, Sat=3rd
+    static final int[] RAHU_PARTS = {0, 7, 1, 6, 4, 5, 3, 2}; // index 0 unused
+
+    // Gulikaal: Sun=7th, Mon=6th, Tue=5th, Wed=4th, Thu=3rd, Fri=2nd, Sat=1st
+    static final int[] GULI_PARTS = {0, 6, 5, 4, 3, 2, 1, 0};
+
+    // Yamghant parts: Sun=4, Mon=3, Tue=2, Wed=1, Thu=0(=8th), Fri=7, Sat=6
+    static final int[] YAM_PARTS = {0, 3, 2, 1, 0, 7, 6, 5};
+
+    // Planets in weekday order, so the lord of Calendar day d is d - 1
+    public static final int PLANET_SUN = 0;
+    public static final int PLANET_MOON = 1;
+    public static final int PLANET_MARS = 2;
+    public static final int PLANET_MERCURY = 3;
+    public static final int PLANET_JUPITER = 4;
+    public static final int PLANET_VENUS = 5;
+    public static final int PLANET_SATURN = 6;
+
+    private static final String[] PLANETS = {"Sun", "Moon", "Mars", "Mercury", "Jupiter", "Venus", "Saturn"};
+    // Choghadiya named by its ruling planet
+    private static final String[] CHOGHADIYAS = {"Udveg", "Amrit", "Rog", "Labh", "Shubh", "Char", "Kaal"};
+
+    // Chaldean order (slowest to fastest apparent motion), which successive horas follow
+    private static final int[] CHALDEAN = {PLANET_SUN, PLANET_VENUS, PLANET_MERCURY, PLANET_MOON,
+            PLANET_SATURN, PLANET_JUPITER, PLANET_MARS};
+    private static final int[] CHALDEAN_POS = {0, 3, 6, 2, 5, 1, 4}; // planet -> index in CHALDEAN
+
+    /**
+     * Cheap formulas for calendar grids and bulk ranges: truncated (10-term) lunar series
+     * and the NOAA fractional-year sunrise. Tithi boundaries good to roughly ±10 minutes.
+     */
+    public static final int PRECISION_FAST = 1;
+
+    /**
+     * Full Meeus chapter 47 lunar longitude series with nutation, and sunrise/sunset
+     * iterated on the Sun's apparent position with standard refraction (h0 = -0.8333°).
+     * Roughly 8x the cost of FAST per day; use for single-day screens and the user's own prefetch.
+     */
+    public static final int PRECISION_PRECISE = 2;
+
+    private static final double COS_ZENITH = Math.cos(Math.toRadians(90.833));
+    private static final double SUNRISE_ALTITUDE = -0.8333; // refraction + solar semidiameter
+
+    // Ranges longer than this are split across the fork-join pool
+    private static final int RANGE_SPLIT_DAYS = 32;
+
+    /**
+     * Get panchang for today using default location (Delhi).
+     */
+    public static Map<String, String> getTodaysPanchang() {
+        return getPanchangForLocation(28.6139, 77.2090, "Asia/Kolkata");
+    }
+
+    /**
+     * Get panchang for today at the specified location.
+     */
+    public static Map<String, String> getPanchangForLocation(double lat, double lon, String timezone) {
+        Calendar cal = Calendar.getInstance(TimeZone.getTimeZone(timezone));
+        return getPanchangForDate(cal, lat, lon, timezone);
+    }
+
+    /**
+     * Full panchang calculation for a given date and location.
+     * Returns the string view of {@link #computeDay}; prefer the typed result for bulk work.
+     */
+    public static Map<String, String> getPanchangForDate(Calendar c, double lat, double lon, String timezone) {
+        return computeDay(c, lat, lon, timezone).asMap();
+    }
+
+    /**
+     * Typed panchang calculation for the instant held by {@code c}, at {@link #PRECISION_FAST}.
+     * No formatting or string allocation happens here.
+     */
+    public static PanchangDay computeDay(Calendar c, double lat, double lon, String timezone) {
+        return computeDay(c, lat, lon, timezone, PRECISION_FAST);
+    }
+
+    /**
+     * Typed panchang calculation for the instant held by {@code c} at the given precision tier.
+     */
+    public static PanchangDay computeDay(Calendar c, double lat, double lon, String timezone, int precision) {
+        TimeZone tz = TimeZone.getTimeZone(timezone);
+        PanchangDay day = new PanchangDay(c.get(Calendar.YEAR), c.get(Calendar.MONTH) + 1,
+                c.get(Calendar.DAY_OF_MONTH), c.get(Calendar.DAY_OF_WEEK), lat, lon, timezone, precision);
+
+        // Calculate Julian Day Number for astronomical calculations
+        double jd = calendarToJD(c);
+        double offsetMinutes = tz.getOffset(c.getTimeInMillis()) / 60000.0;
+        int jdn = civilToJdn(day.year, day.month, day.dayOfMonth);
+        fillLunarLimbs(day, jd, jdn - 0.5 - offsetMinutes / 1440.0);
+
+        int dayOfYear = c.get(Calendar.DAY_OF_YEAR);
+        double[] sunTimes = sunriseSunset(precision, lat, lon, jdn, dayOfYear, offsetMinutes);
+        fillDayWindows(day, sunTimes[0], sunTimes[1]);
+        fillMoonTimes(day, jdn, offsetMinutes);
+
+        long nextNoonUtc = (jdn + 1 - UNIX_EPOCH_JDN) * DAY_MS + DAY_MS / 2 - tz.getRawOffset();
+        double nextOffsetMinutes = tz.getOffset(nextNoonUtc) / 60000.0;
+        double[] nextSun = sunriseSunset(precision, lat, lon, jdn + 1, dayOfYear + 1, nextOffsetMinutes);
+        day.nextSunriseMinute = nextSunriseMinute(nextSun[0], offsetMinutes, nextOffsetMinutes);
+        fillDivisions(day);
+        return day;
+    }
+
+    /**
+     * Batch panchang for {@code days} consecutive civil days starting at {@code start}'s date.
+     *
+     * Limbs are evaluated at each day's local sunrise (the udaya tithi convention of printed
+     * Panchangs). Dates, weekdays and Julian days are advanced arithmetically instead of through
+     * Calendar, and ranges longer than a month are split across the common fork-join pool.
+     * A full year for one location takes a few milliseconds on a desktop JVM, well inside a
+     * 50 ms budget on a mid-range phone.
+     */
+    public static PanchangDay[] computeRange(Calendar start, int days, double lat, double lon, String timezone) {
+        return computeRange(start, days, lat, lon, timezone, PRECISION_FAST);
+    }
+
+    /**
+     * {@link #computeRange} at the given precision tier.
+     */
+    public static PanchangDay[] computeRange(Calendar start, int days, double lat, double lon,
+                                             String timezone, int precision) {
+        int startJdn = civilToJdn(start.get(Calendar.YEAR), start.get(Calendar.MONTH) + 1,
+                start.get(Calendar.DAY_OF_MONTH));
+        PanchangDay[] out = new PanchangDay[Math.max(0, days)];
+        RangeTask task = new RangeTask(out, 0, out.length, startJdn, lat, lon, timezone,
+                TimeZone.getTimeZone(timezone), precision);
+        if (out.length <= RANGE_SPLIT_DAYS) {
+            task.compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+        return out;
+    }
+
+    /**
+     * Every day of a calendar month ({@code month} 1-12), see {@link #computeRange}.
+     */
+    public static PanchangDay[] computeMonth(int year, int month, double lat, double lon, String timezone) {
+        Calendar start = Calendar.getInstance(TimeZone.getTimeZone(timezone));
+        start.clear();
+        start.set(year, month - 1, 1);
+        return computeRange(start, start.getActualMaximum(Calendar.DAY_OF_MONTH), lat, lon, timezone,
+                PRECISION_FAST);
+    }
+
+    /**
+     * The same civil date at several locations, e.g. to compare a family's cities side by side.
+     * Returns one day per location, in the order of {@code lat}, {@code lon} and {@code timezone}.
+     *
+     * The Sun and Moon longitudes do not depend on the observer, so the tithi, nakshatra, yoga
+     * and karana timelines are built once for the UT span holding every local sunrise of that
+     * date. Each location then only computes its own sun and moon rise times, in parallel, and
+     * reads its limbs from the shared timelines by binary search.
+     */
+    public static PanchangDay[] computeLocations(int year, int month, int dayOfMonth,
+                                                 double[] lat, double[] lon, String[] timezone, int precision) {
+        int jdn = civilToJdn(year, month, dayOfMonth);
+        // Local midnights from UTC-12 to UTC+14 all lie within a day of jdn - 0.5
+        PanchangTransitions.Timeline[] limbs = new PanchangTransitions.Timeline[4];
+        for (int limb = 0; limb < limbs.length; limb++) {
+            limbs[limb] = PanchangTransitions.timeline(limb, jdn - 1.5, jdn + 1.5, precision);
+        }
+        PanchangDay[] out = new PanchangDay[lat.length];
+        LocationsTask task = new LocationsTask(out, 0, out.length, jdn, lat, lon, timezone, limbs, precision);
+        if (out.length <= 1) {
+            task.compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+        return out;
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final PanchangDay[] out;
+        private final int from, to, startJdn;
+        private final double lat, lon;
+        private final String timezone;
+        private final TimeZone tz;
+        private final int precision;
+
+        RangeTask(PanchangDay[] out, int from, int to, int startJdn,
+                  double lat, double lon, String timezone, TimeZone tz, int precision) {
+            this.out = out;
+            this.from = from;
+            this.to = to;
+            this.startJdn = startJdn;
+            this.lat = lat;
+            this.lon = lon;
+            this.timezone = timezone;
+            this.tz = tz;
+            this.precision = precision;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > RANGE_SPLIT_DAYS) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new RangeTask(out, from, mid, startJdn, lat, lon, timezone, tz, precision),
+                        new RangeTask(out, mid, to, startJdn, lat, lon, timezone, tz, precision));
+                return;
+            }
+            int[] ymd = new int[3];
+            int jdn = startJdn + from;
+            jdnToCivil(jdn, ymd);
+            int yearStartJdn = civilToJdn(ymd[0], 1, 1);
+            double offsetMinutes = offsetMinutes(jdn);
+            double[] sunTimes = sunriseSunset(precision, lat, lon, jdn, jdn - yearStartJdn + 1, offsetMinutes);
+            for (int i = from; i < to; i++, jdn++) {
+                if (i > from) {
+                    advanceCivil(ymd);
+                    if (ymd[1] == 1 && ymd[2] == 1) yearStartJdn = jdn;
+                }
+                // JDN mod 7 is 0 on Monday; Calendar.SUNDAY is 1
+                int dayOfWeek = (jdn + 1) % 7 + 1;
+                int dayOfYear = jdn - yearStartJdn + 1;
+
+                PanchangDay day = new PanchangDay(ymd[0], ymd[1], ymd[2], dayOfWeek, lat, lon, timezone, precision);
+                fillDayWindows(day, sunTimes[0], sunTimes[1]);
+
+                // Tomorrow's sunrise closes tonight's horas; its sun times carry over to the next day
+                double nextOffsetMinutes = offsetMinutes(jdn + 1);
+                double[] nextSun = sunriseSunset(precision, lat, lon, jdn + 1, dayOfYear + 1, nextOffsetMinutes);
+                day.nextSunriseMinute = nextSunriseMinute(nextSun[0], offsetMinutes, nextOffsetMinutes);
+                fillDivisions(day);
+                fillMoonTimes(day, jdn, offsetMinutes);
+                double midnightJd = jdn - 0.5 - offsetMinutes / 1440.0;
+                fillLunarLimbs(day, midnightJd + sunTimes[0] / 24.0, midnightJd);
+                out[i] = day;
+
+                sunTimes = nextSun;
+                offsetMinutes = nextOffsetMinutes;
+            }
+        }
+
+        private double offsetMinutes(int jdn) {
+            return PanchangCalculator.offsetMinutes(tz, jdn);
+        }
+    }
+
+    /** UTC offset of {@code tz} at local noon of civil day {@code jdn}, in minutes. */
+    static double offsetMinutes(TimeZone tz, int jdn) {
+        long localNoonUtc = (jdn - UNIX_EPOCH_JDN) * DAY_MS + DAY_MS / 2 - tz.getRawOffset();
+        return tz.getOffset(localNoonUtc) / 60000.0;
+    }
+
+    /** One location per leaf; the work per location is a few sunrise and moonrise solutions. */
+    private static final class LocationsTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final PanchangDay[] out;
+        private final int from, to, jdn;
+        private final double[] lat, lon;
+        private final String[] timezone;
+        private final PanchangTransitions.Timeline[] limbs;
+        private final int precision;
+
+        LocationsTask(PanchangDay[] out, int from, int to, int jdn, double[] lat, double[] lon,
+                      String[] timezone, PanchangTransitions.Timeline[] limbs, int precision) {
+            this.out = out;
+            this.from = from;
+            this.to = to;
+            this.jdn = jdn;
+            this.lat = lat;
+            this.lon = lon;
+            this.timezone = timezone;
+            this.limbs = limbs;
+            this.precision = precision;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new LocationsTask(out, from, mid, jdn, lat, lon, timezone, limbs, precision),
+                        new LocationsTask(out, mid, to, jdn, lat, lon, timezone, limbs, precision));
+                return;
+            }
+            for (int i = from; i < to; i++) out[i] = computeAt(i);
+        }
+
+        private PanchangDay computeAt(int i) {
+            TimeZone tz = TimeZone.getTimeZone(timezone[i]);
+            int[] ymd = new int[3];
+            jdnToCivil(jdn, ymd);
+            int dayOfYear = jdn - civilToJdn(ymd[0], 1, 1) + 1;
+            int dayOfWeek = (jdn + 1) % 7 + 1;
+            PanchangDay day = new PanchangDay(ymd[0], ymd[1], ymd[2], dayOfWeek, lat[i], lon[i], timezone[i], precision);
+
+            double offsetMinutes = offsetMinutes(tz, jdn);
+            double[] sunTimes = sunriseSunset(precision, lat[i], lon[i], jdn, dayOfYear, offsetMinutes);
+            fillDayWindows(day, sunTimes[0], sunTimes[1]);
+            double nextOffsetMinutes = offsetMinutes(tz, jdn + 1);
+            double[] nextSun = sunriseSunset(precision, lat[i], lon[i], jdn + 1, dayOfYear + 1, nextOffsetMinutes);
+            day.nextSunriseMinute = nextSunriseMinute(nextSun[0], offsetMinutes, nextOffsetMinutes);
+            fillDivisions(day);
+            fillMoonTimes(day, jdn, offsetMinutes);
+            double midnightJd = jdn - 0.5 - offsetMinutes / 1440.0;
+            fillLunarLimbs(day, midnightJd + sunTimes[0] / 24.0, midnightJd, limbs);
+            return day;
+        }
+    }
+
+    /**
+     * Tithi, nakshatra, yoga and karana from the Sun and Moon longitudes at {@code jd},
+     * plus the minute (from {@code midnightJd}, the day's local midnight) at which each ends.
+     */
+    static void fillLunarLimbs(PanchangDay day, double jd, double midnightJd) {
+        int precision = day.precision;
+        double sunLong = sunLongitude(jd, precision);
+        double moonLong = moonLongitude(jd, precision);
+        // Nakshatra and yoga are counted in the sidereal zodiac
+        double ayanamsa = lahiriAyanamsa(jd);
+        double siderealMoon = normalizeDegrees(moonLong - ayanamsa);
+
+        // Tithi: based on Moon-Sun angular difference (each Tithi = 12 degrees)
+        double moonSunDiff = moonLong - sunLong;
+        if (moonSunDiff < 0) moonSunDiff += 360.0;
+        // Tithi 0-14 = Shukla Paksha, 15-29 = Krishna Paksha
+        day.tithiIndex = Math.min((int) (moonSunDiff / 12.0), 29);
+
+        // Nakshatra: based on Moon's longitude (each Nakshatra = 13°20' = 13.333°)
+        int nakshatraIndex = (int) (siderealMoon / (360.0 / 27.0));
+        day.nakshatraIndex = Math.max(0, Math.min(nakshatraIndex, 26));
+
+        // Yoga: based on sum of Sun and Moon longitudes (each Yoga = 13°20')
+        double yogaSum = normalizeDegrees(sunLong + moonLong - 2 * ayanamsa);
+        int yogaIndex = (int) (yogaSum / (360.0 / 27.0));
+        day.yogaIndex = Math.max(0, Math.min(yogaIndex, 26));
+
+        // Karana: half of a Tithi (each Karana = 6 degrees of Moon-Sun difference)
+        day.karanaIndex = (int) (moonSunDiff / 6.0) % 60;
+
+        day.tithiEndMinute = minutesSince(midnightJd,
+                PanchangTransitions.nextTransition(PanchangTransitions.LIMB_TITHI, jd, precision));
+        day.nakshatraEndMinute = minutesSince(midnightJd,
+                PanchangTransitions.nextTransition(PanchangTransitions.LIMB_NAKSHATRA, jd, precision));
+        day.yogaEndMinute = minutesSince(midnightJd,
+                PanchangTransitions.nextTransition(PanchangTransitions.LIMB_YOGA, jd, precision));
+        day.karanaEndMinute = minutesSince(midnightJd,
+                PanchangTransitions.nextTransition(PanchangTransitions.LIMB_KARANA, jd, precision));
+    }
+
+    /**
+     * {@link #fillLunarLimbs(PanchangDay, double, double)} read from precomputed timelines,
+     * indexed by {@code PanchangTransitions.LIMB_*}, that cover {@code jd}.
+     */
+    static void fillLunarLimbs(PanchangDay day, double jd, double midnightJd, PanchangTransitions.Timeline[] limbs) {
+        PanchangTransitions.Timeline t = limbs[PanchangTransitions.LIMB_TITHI];
+        int i = t.intervalAt(jd);
+        day.tithiIndex = t.index[i];
+        day.tithiEndMinute = minutesSince(midnightJd, t.endJd[i]);
+
+        t = limbs[PanchangTransitions.LIMB_NAKSHATRA];
+        i = t.intervalAt(jd);
+        day.nakshatraIndex = t.index[i];
+        day.nakshatraEndMinute = minutesSince(midnightJd, t.endJd[i]);
+
+        t = limbs[PanchangTransitions.LIMB_YOGA];
+        i = t.intervalAt(jd);
+        day.yogaIndex = t.index[i];
+        day.yogaEndMinute = minutesSince(midnightJd, t.endJd[i]);
+
+        t = limbs[PanchangTransitions.LIMB_KARANA];
+        i = t.intervalAt(jd);
+        day.karanaIndex = t.index[i];
+        day.karanaEndMinute = minutesSince(midnightJd, t.endJd[i]);
+    }
+
+    private static int minutesSince(double fromJd, double toJd) {
+        return (int) Math.floor((toJd - fromJd) * 1440.0);
+    }
+
+    /** True moonrise/moonset for civil day {@code jdn}; see {@link MoonRiseSet}. */
+    static void fillMoonTimes(PanchangDay day, int jdn, double offsetMinutes) {
+        int[] moon = MoonRiseSet.minutes(jdn, day.latitude, day.longitude, offsetMinutes);
+        day.moonriseMinute = moon[0];
+        day.moonsetMinute = moon[1];
+    }
+
+    /**
+     * Sunrise-derived windows (Rahu, Gulika, Yamghant, Abhijit, Brahma) in minutes from local midnight.
+     */
+    static void fillDayWindows(PanchangDay day, double sunriseHours, double sunsetHours) {
+        int dayOfWeek = day.dayOfWeek;
+        double sunriseMin = sunriseHours * 60;
+        day.sunriseMinute = (int) sunriseMin;
+        day.sunsetMinute = (int) (sunsetHours * 60);
+
+        // Daylight duration in minutes, divided into 8 equal parts
+        double partDuration = (sunsetHours - sunriseHours) * 60 / 8.0;
+
+        // Rahukaal
+        double rahuStartMin = sunriseMin + RAHU_PARTS[dayOfWeek] * partDuration;
+        day.rahuStart = (int) rahuStartMin;
+        day.rahuEnd = (int) (rahuStartMin + partDuration);
+
+        // Gulikaal
+        double guliStartMin = sunriseMin + GULI_PARTS[dayOfWeek] * partDuration;
+        day.gulikaStart = (int) guliStartMin;
+        day.gulikaEnd = (int) (guliStartMin + partDuration);
+
+        // Yamghant
+        double yamStartMin = sunriseMin + YAM_PARTS[dayOfWeek] * partDuration;
+        day.yamghantStart = (int) yamStartMin;
+        day.yamghantEnd = (int) (yamStartMin + partDuration);
+
+        // Abhijit Muhurat: midpoint of day ± 24 minutes, not available on Wednesdays
+        if (dayOfWeek != Calendar.WEDNESDAY) {
+            double midDayMin = (sunriseHours + sunsetHours) / 2.0 * 60;
+            day.abhijitStart = (int) (midDayMin - 24);
+            day.abhijitEnd = (int) (midDayMin + 24);
+        }
+
+        // Brahma Muhurat: 96 minutes before sunrise, duration 48 minutes
+        double brahmaStartMin = sunriseMin - 96;
+        day.brahmaStart = (int) Math.floor(brahmaStartMin);
+        day.brahmaEnd = (int) Math.floor(brahmaStartMin + 48);
+    }
+
+    /**
+     * Next day's sunrise in minutes from today's midnight; a DST change overnight shortens or
+     * lengthens the night by the offset difference.
+     */
+    private static int nextSunriseMinute(double nextSunriseHours, double offsetMinutes, double nextOffsetMinutes) {
+        return (int) (1440 + offsetMinutes - nextOffsetMinutes + nextSunriseHours * 60);
+    }
+
+    /**
+     * Hora and choghadiya slots from sunrise, sunset and the next sunrise.
+     *
+     * Day and night are each split into 12 horas and 8 choghadiyas. Horas follow the Chaldean
+     * order from the weekday lord through all 24. Day choghadiyas do the same for 8 slots; night
+     * choghadiyas start from the lord of the fifth weekday and step back two places each slot.
+     */
+    static void fillDivisions(PanchangDay day) {
+        int rise = day.sunriseMinute;
+        int set = day.sunsetMinute;
+        int next = day.nextSunriseMinute;
+        int lordPos = CHALDEAN_POS[day.dayOfWeek - 1];
+
+        int[] horaStart = new int[25];
+        byte[] horaLord = new byte[24];
+        for (int i = 0; i < 12; i++) {
+            horaStart[i] = rise + (set - rise) * i / 12;
+            horaStart[12 + i] = set + (next - set) * i / 12;
+        }
+        horaStart[24] = next;
+        for (int i = 0; i < 24; i++) horaLord[i] = (byte) CHALDEAN[(lordPos + i) % 7];
+
+        int[] choghadiyaStart = new int[17];
+        byte[] choghadiyaLord = new byte[16];
+        for (int i = 0; i < 8; i++) {
+            choghadiyaStart[i] = rise + (set - rise) * i / 8;
+            choghadiyaStart[8 + i] = set + (next - set) * i / 8;
+            choghadiyaLord[i] = (byte) CHALDEAN[(lordPos + i) % 7];
+            choghadiyaLord[8 + i] = (byte) CHALDEAN[Math.floorMod(lordPos + 5 - 2 * i, 7)];
+        }
+        choghadiyaStart[16] = next;
+
+        day.horaStart = horaStart;
+        day.horaLord = horaLord;
+        day.choghadiyaStart = choghadiyaStart;
+        day.choghadiyaLord = choghadiyaLord;
+    }
+
+    // ==================== Names ====================
+
+    /** "Shukla Ekadashi", "Krishna Amavasya", ... for a 0-29 tithi index. */
+    public static String getTithiName(int tithiIndex) {
+        String paksha = tithiIndex < 15 ? "Shukla" : "Krishna";
+        return paksha + " " + getTithiShortName(tithiIndex);
+    }
+
+    /** Tithi name without the paksha ("Ekadashi", "Amavasya"), for compact calendar cells. */
+    public static String getTithiShortName(int tithiIndex) {
+        return tithiIndex == 29 ? "Amavasya" : TITHIS[tithiIndex % 15];
+    }
+
+    public static String getNakshatraName(int nakshatraIndex) {
+        return NAKSHATRAS[nakshatraIndex];
+    }
+
+    public static String getYogaName(int yogaIndex) {
+        return YOGAS[yogaIndex];
+    }
+
+    /** Map a 0-59 half-tithi slot to the 11 Karana names (7 repeating + 4 fixed). */
+    public static String getKaranaName(int karanaIndex) {
+        if (karanaIndex == 0) return KARANAS[10]; // Kimstughna (fixed, 1st half of Shukla Pratipada)
+        if (karanaIndex == 57) return KARANAS[7]; // Shakuni
+        if (karanaIndex == 58) return KARANAS[8]; // Chatushpada
+        if (karanaIndex == 59) return KARANAS[9]; // Naga
+        return KARANAS[(karanaIndex - 1) % 7];    // Bava through Vishti cycle
+    }
+
+    public static String getVaraName(int dayOfWeek) {
+        return VARAS[dayOfWeek];
+    }
+
+    /** "Sun", "Venus", ... for a {@code PLANET_*} index, e.g. a hora lord. */
+    public static String getPlanetName(int planet) {
+        return PLANETS[planet];
+    }
+
+    /** "Amrit", "Labh", ... for the planet ruling a choghadiya. */
+    public static String getChoghadiyaName(int planet) {
+        return CHOGHADIYAS[planet];
+    }
+
+    /** Amrit, Shubh, Labh and Char are good for starting work; Udveg, Rog and Kaal are not. */
+    public static boolean isAuspiciousChoghadiya(int planet) {
+        return planet == PLANET_MOON || planet == PLANET_JUPITER || planet == PLANET_MERCURY
+                || planet == PLANET_VENUS;
+    }
+
+    /**
+     * Sunrise and sunset in local fractional hours for the civil day {@code jdn}.
+     */
+    static double[] sunriseSunset(int precision, double lat, double lon, int jdn, int dayOfYear,
+                                  double offsetMinutes) {
+        double[] fast = calculateSunriseSunset(lat, lon, dayOfYear, offsetMinutes);
+        if (precision != PRECISION_PRECISE) return fast;
+        double midnightJd = jdn - 0.5 - offsetMinutes / 1440.0;
+        double rise = refineHorizonCrossing(lat, lon, midnightJd + fast[0] / 24.0, true);
+        double set = refineHorizonCrossing(lat, lon, midnightJd + fast[1] / 24.0, false);
+        if (Double.isNaN(rise) || Double.isNaN(set)) return fast; // polar day/night
+        return new double[]{(rise - midnightJd) * 24.0, (set - midnightJd) * 24.0};
+    }
+
+    /**
+     * Iterate the Sun's apparent position until its altitude equals {@link #SUNRISE_ALTITUDE}.
+     * Starts from {@code guessJd}; returns the UT Julian Day or NaN if the Sun never crosses.
+     */
+    private static double refineHorizonCrossing(double lat, double lon, double guessJd, boolean rising) {
+        double latRad = Math.toRadians(lat);
+        double sinH0 = Math.sin(Math.toRadians(SUNRISE_ALTITUDE));
+        double jd = guessJd;
+        for (int i = 0; i < 5; i++) {
+            double T = (jd - 2451545.0) / 36525.0;
+            double lambda = Math.toRadians(sunLongitude(jd, PRECISION_PRECISE));
+            double eps = Math.toRadians(23.439291 - 0.0130042 * T);
+            double ra = Math.atan2(Math.cos(eps) * Math.sin(lambda), Math.cos(lambda));
+            double decl = Math.asin(Math.sin(eps) * Math.sin(lambda));
+
+            double cosH0 = (sinH0 - Math.sin(latRad) * Math.sin(decl)) / (Math.cos(latRad) * Math.cos(decl));
+            if (cosH0 < -1 || cosH0 > 1) return Double.NaN;
+            double h0 = Math.toDegrees(Math.acos(cosH0));
+
+            // Local hour angle of the Sun now, and where it must be at the crossing
+            double gmst = normalizeDegrees(280.46061837 + 360.98564736629 * (jd - 2451545.0)
+                    + 0.000387933 * T * T);
+            double hourAngle = normalizeDegrees(gmst + lon - Math.toDegrees(ra));
+            double target = rising ? 360.0 - h0 : h0;
+            double delta = target - hourAngle;
+            if (delta > 180) delta -= 360;
+            if (delta < -180) delta += 360;
+            double step = delta / 360.98564736629;
+            jd += step;
+            if (Math.abs(step) < 1e-6) break; // ~0.1 s
+        }
+        return jd;
+    }
+
+    /**
+     * Calculate sunrise and sunset using simplified Jean Meeus algorithm.
+     * Returns {sunriseHours, sunsetHours} in local time (fractional hours).
+     */
+    static double[] calculateSunriseSunset(double lat, double lon, int dayOfYear, double offsetMinutes) {
+        // Fractional year (gamma) in radians. The 2x and 3x harmonics come from
+        // angle-addition identities so only one sin/cos pair is evaluated per day.
+        double gamma = (2.0 * Math.PI / 365.0) * (dayOfYear - 1);
+        double cos1 = Math.cos(gamma), sin1 = Math.sin(gamma);
+        double cos2 = 2 * cos1 * cos1 - 1, sin2 = 2 * sin1 * cos1;
+        double cos3 = cos1 * cos2 - sin1 * sin2, sin3 = sin1 * cos2 + cos1 * sin2;
+
+        // Equation of time (minutes)
+        double eqTime = 229.18 * (0.000075 + 0.001868 * cos1
+                - 0.032077 * sin1
+                - 0.014615 * cos2
+                - 0.040849 * sin2);
+
+        // Solar declination (radians)
+        double decl = 0.006918 - 0.399912 * cos1 + 0.070257 * sin1
+                - 0.006758 * cos2 + 0.000907 * sin2
+                - 0.002697 * cos3 + 0.00148 * sin3;
+
+        double latRad = Math.toRadians(lat);
+
+        // Hour angle (degrees), official zenith 90.833° for sunrise/sunset
+        double cosHA = (COS_ZENITH / (Math.cos(latRad) * Math.cos(decl)))
+                - Math.tan(latRad) * Math.tan(decl);
+
+        // Clamp for polar regions
+        if (cosHA > 1) {
+            // Sun never rises
+            return new double[]{6.0, 18.0}; // fallback
+        } else if (cosHA < -1) {
+            // Sun never sets
+            return new double[]{4.0, 22.0}; // fallback
+        }
+
+        double ha = Math.toDegrees(Math.acos(cosHA));
+
+        // Sunrise and sunset in UTC minutes from midnight
+        double sunriseUTC = 720 - 4 * (lon + ha) - eqTime;
+        double sunsetUTC = 720 - 4 * (lon - ha) - eqTime;
+
+        // Convert to local time
+        double sunriseLocal = (sunriseUTC + offsetMinutes) / 60.0; // hours
+        double sunsetLocal = (sunsetUTC + offsetMinutes) / 60.0;
+
+        // Clamp to reasonable range
+        sunriseLocal = Math.max(3.0, Math.min(sunriseLocal, 10.0));
+        sunsetLocal = Math.max(15.0, Math.min(sunsetLocal, 22.0));
+
+        return new double[]{sunriseLocal, sunsetLocal};
+    }
+
+    public static String getGreeting() {
+        int h = Calendar.getInstance().get(Calendar.HOUR_OF_DAY);
+        if (h >= 4 && h < 12) return "Good Morning";
+        else if (h >= 12 && h < 16) return "Good Afternoon";
+        else if (h >= 16 && h < 20) return "Good Evening";
+        else return "Shubh Ratri";
+    }
+
+    public static int getTodaysDayOfWeek() {
+        return Calendar.getInstance().get(Calendar.DAY_OF_WEEK);
+    }
+
+    // ==================== Astronomical Calculation Methods ====================
+
+    /**
+     * Convert the Calendar's instant to a Julian Day (UT).
+     */
+    static double calendarToJD(Calendar cal) {
+        // Julian Day of the UT instant; the Calendar's own timezone only affects its fields
+        return cal.getTimeInMillis() / 86_400_000.0 + 2440587.5;
+    }
+
+    /**
+     * Calculate the Sun's ecliptic longitude (degrees) for a given Julian Day.
+     * Simplified algorithm based on Meeus Chapter 25.
+     */
+    static double calculateSunLongitude(double jd) {
+        // Julian centuries from J2000.0
+        double T = (jd - 2451545.0) / 36525.0;
+
+        // Geometric mean longitude of the Sun (degrees)
+        double L0 = 280.46646 + T * (36000.76983 + T * 0.0003032);
+        L0 = normalizeDegrees(L0);
+
+        // Mean anomaly of the Sun (degrees)
+        double M = 357.52911 + T * (35999.05029 - T * 0.0001537);
+        M = normalizeDegrees(M);
+        double Mrad = Math.toRadians(M);
+
+        // Equation of center
+        double C = (1.914602 - T * (0.004817 + T * 0.000014)) * Math.sin(Mrad)
+                + (0.019993 - T * 0.000101) * Math.sin(2 * Mrad)
+                + 0.000289 * Math.sin(3 * Mrad);
+
+        // Sun's true longitude
+        double sunLong = L0 + C;
+
+        // Apparent longitude (correct for nutation and aberration)
+        double omega = 125.04 - 1934.136 * T;
+        sunLong = sunLong - 0.00569 - 0.00478 * Math.sin(Math.toRadians(omega));
+
+        return normalizeDegrees(sunLong);
+    }
+
+    /**
+     * Calculate the Moon's ecliptic longitude (degrees) for a given Julian Day.
+     * Simplified algorithm based on Meeus Chapter 47.
+     */
+    static double calculateMoonLongitude(double jd) {
+        // Julian centuries from J2000.0
+        double T = (jd - 2451545.0) / 36525.0;
+        double T2 = T * T;
+        double T3 = T2 * T;
+
+        // Moon's mean longitude (degrees)
+        double Lp = 218.3164477 + 481267.88123421 * T - 0.0015786 * T2
+                + T3 / 538841.0 - T3 * T / 65194000.0;
+        Lp = normalizeDegrees(Lp);
+
+        // Moon's mean elongation (degrees)
+        double D = 297.8501921 + 445267.1114034 * T - 0.0018819 * T2
+                + T3 / 545868.0 - T3 * T / 113065000.0;
+        D = normalizeDegrees(D);
+
+        // Sun's mean anomaly (degrees)
+        double M = 357.5291092 + 35999.0502909 * T - 0.0001536 * T2
+                + T3 / 24490000.0;
+        M = normalizeDegrees(M);
+
+        // Moon's mean anomaly (degrees)
+        double Mp = 134.9633964 + 477198.8675055 * T + 0.0087414 * T2
+                + T3 / 69699.0 - T3 * T / 14712000.0;
+        Mp = normalizeDegrees(Mp);
+
+        // Moon's argument of latitude (degrees)
+        double F = 93.2720950 + 483202.0175233 * T - 0.0036539 * T2
+                - T3 / 3526000.0 + T3 * T / 863310000.0;
+        F = normalizeDegrees(F);
+
+        // Convert to radians for trig
+        double Drad = Math.toRadians(D);
+        double Mrad = Math.toRadians(M);
+        double Mprad = Math.toRadians(Mp);
+        double Frad = Math.toRadians(F);
+
+        // Sum of principal terms for longitude (simplified — top 10 terms)
+        double sumL = 6288774 * Math.sin(Mprad)
+                + 1274027 * Math.sin(2 * Drad - Mprad)
+                + 658314 * Math.sin(2 * Drad)
+                + 213618 * Math.sin(2 * Mprad)
+                - 185116 * Math.sin(Mrad)
+                - 114332 * Math.sin(2 * Frad)
+                + 58793 * Math.sin(2 * Drad - 2 * Mprad)
+                + 57066 * Math.sin(2 * Drad - Mrad - Mprad)
+                + 53322 * Math.sin(2 * Drad + Mprad)
+                + 45758 * Math.sin(2 * Drad - Mrad);
+
+        // Moon's longitude
+        double moonLong = Lp + sumL / 1000000.0;
+
+        // Nutation correction (simplified)
+        double omega = 125.04452 - 1934.136261 * T;
+        double nutation = -17.2 / 3600.0 * Math.sin(Math.toRadians(omega));
+        moonLong += nutation;
+
+        return normalizeDegrees(moonLong);
+    }
+
+    /** Apparent solar longitude at UT Julian Day {@code jd} for the given tier. */
+    static double sunLongitude(double jd, int precision) {
+        if (precision != PRECISION_PRECISE) return calculateSunLongitude(jd);
+        double td = jd + deltaTDays(jd);
+        return normalizeDegrees(calculateSunLongitude(td) + nutationCorrection(td));
+    }
+
+    /** Apparent lunar longitude at UT Julian Day {@code jd} for the given tier. */
+    static double moonLongitude(double jd, int precision) {
+        return precision == PRECISION_PRECISE
+                ? calculateMoonLongitudePrecise(jd + deltaTDays(jd))
+                : calculateMoonLongitude(jd);
+    }
+
+    /**
+     * TD - UT in days (Espenak-Meeus polynomials). About 69 s today, which moves the
+     * Moon by ~40 arcseconds; below FAST's own error so only PRECISE applies it.
+     */
+    static double deltaTDays(double jd) {
+        double y = 2000.0 + (jd - 2451545.0) / 365.25;
+        double seconds;
+        if (y >= 2005 && y < 2050) {
+            double t = y - 2000;
+            seconds = 62.92 + t * (0.32217 + t * 0.005589);
+        } else if (y >= 1986 && y < 2005) {
+            double t = y - 2000;
+            seconds = 63.86 + t * (0.3345 + t * (-0.060374 + t * (0.0017275 + t * (0.000651814 + t * 0.00002373599))));
+        } else {
+            double u = (y - 1820) / 100;
+            seconds = -20 + 32 * u * u;
+        }
+        return seconds / 86400.0;
+    }
+
+    /**
+     * Lahiri (Chitrapaksha) ayanamsa in degrees: 23°51'25" at J2000 advancing with
+     * general precession in longitude.
+     */
+    static double lahiriAyanamsa(double jd) {
+        double T = (jd - 2451545.0) / 36525.0;
+        return 23.857092 + T * (1.396888 + T * 0.000307);
+    }
+
+    /**
+     * Difference between the full nutation in longitude and the single Ω term that
+     * {@link #calculateSunLongitude} already applies (degrees).
+     */
+    private static double nutationCorrection(double jd) {
+        double T = (jd - 2451545.0) / 36525.0;
+        double L = Math.toRadians(280.4665 + 36000.7698 * T);
+        double Lp = Math.toRadians(218.3165 + 481267.8813 * T);
+        double omega = Math.toRadians(125.04452 - 1934.136261 * T);
+        return (-1.32 * Math.sin(2 * L) - 0.23 * Math.sin(2 * Lp) + 0.21 * Math.sin(2 * omega)) / 3600.0;
+    }
+
+    // Meeus table 47.A: multiples of D, M, M', F, the longitude sine coefficient (1e-6 degrees)
+    // and the distance cosine coefficient (metres)
+    private static final int[][] MOON_LONGITUDE_TERMS = {
+            {0, 0, 1, 0, 6288774, -20905355}, {2, 0, -1, 0, 1274027, -3699111},
+            {2, 0, 0, 0, 658314, -2955968}, {0, 0, 2, 0, 213618, -569925},
+            {0, 1, 0, 0, -185116, 48888}, {0, 0, 0, 2, -114332, -3149},
+            {2, 0, -2, 0, 58793, 246158}, {2, -1, -1, 0, 57066, -152138},
+            {2, 0, 1, 0, 53322, -170733}, {2, -1, 0, 0, 45758, -204586},
+            {0, 1, -1, 0, -40923, -129620}, {1, 0, 0, 0, -34720, 108743},
+            {0, 1, 1, 0, -30383, 104755}, {2, 0, 0, -2, 15327, 10321},
+            {0, 0, 1, 2, -12528, 0}, {0, 0, 1, -2, 10980, 79661},
+            {4, 0, -1, 0, 10675, -34782}, {0, 0, 3, 0, 10034, -23210},
+            {4, 0, -2, 0, 8548, -21636}, {2, 1, -1, 0, -7888, 24208},
+            {2, 1, 0, 0, -6766, 30824}, {1, 0, -1, 0, -5163, -8379},
+            {1, 1, 0, 0, 4987, -16675}, {2, -1, 1, 0, 4036, -12831},
+            {2, 0, 2, 0, 3994, -10445}, {4, 0, 0, 0, 3861, -11650},
+            {2, 0, -3, 0, 3665, 14403}, {0, 1, -2, 0, -2689, -7003},
+            {2, 0, -1, 2, -2602, 0}, {2, -1, -2, 0, 2390, 10056},
+            {1, 0, 1, 0, -2348, 6322}, {2, -2, 0, 0, 2236, -9884},
+            {0, 1, 2, 0, -2120, 5751}, {0, 2, 0, 0, -2069, 0},
+            {2, -2, -1, 0, 2048, -4950}, {2, 0, 1, -2, -1773, 4130},
+            {2, 0, 0, 2, -1595, 0}, {4, -1, -1, 0, 1215, -3958},
+            {0, 0, 2, 2, -1110, 0}, {3, 0, -1, 0, -892, 3258},
+            {2, 1, 1, 0, -810, 2616}, {4, -1, -2, 0, 759, -1897},
+            {0, 2, -1, 0, -713, -2117}, {2, 2, -1, 0, -700, 2354},
+            {2, 1, -2, 0, 691, 0}, {2, -1, 0, -2, 596, 0},
+            {4, 0, 1, 0, 549, -1423}, {0, 0, 4, 0, 537, -1117},
+            {4, -1, 0, 0, 520, -1571}, {1, 0, -2, 0, -487, -1739},
+            {2, 1, 0, -2, -399, 0}, {0, 0, 2, -2, -381, -4421},
+            {1, 1, 1, 0, 351, 0}, {3, 0, -2, 0, -340, 0},
+            {4, 0, -3, 0, 330, 0}, {2, -1, 2, 0, 327, 0},
+            {0, 2, 1, 0, -323, 1165}, {1, 1, -1, 0, 299, 0},
+            {2, 0, 3, 0, 294, 0}, {2, 0, -1, -2, 0, 8752}
+    };
+
+    // Meeus table 47.B, largest 30 terms: multiples of D, M, M', F and the latitude
+    // sine coefficient (1e-6 degrees). The omitted terms sum to under 0.002 degrees.
+    private static final int[][] MOON_LATITUDE_TERMS = {
+            {0, 0, 0, 1, 5128122}, {0, 0, 1, 1, 280602}, {0, 0, 1, -1, 277693},
+            {2, 0, 0, -1, 173237}, {2, 0, -1, 1, 55413}, {2, 0, -1, -1, 46271},
+            {2, 0, 0, 1, 32573}, {0, 0, 2, 1, 17198}, {2, 0, 1, -1, 9266},
+            {0, 0, 2, -1, 8822}, {2, -1, 0, -1, 8216}, {2, 0, -2, -1, 4324},
+            {2, 0, 1, 1, 4200}, {2, 1, 0, -1, -3359}, {2, -1, -1, 1, 2463},
+            {2, -1, 0, 1, 2211}, {2, -1, -1, -1, 2065}, {0, 1, -1, -1, -1870},
+            {4, 0, -1, -1, 1828}, {0, 1, 0, 1, -1794}, {0, 0, 0, 3, -1749},
+            {0, 1, -1, 1, -1565}, {1, 0, 0, 1, -1491}, {0, 1, 1, 1, -1475},
+            {0, 1, 1, -1, -1410}, {0, 1, 0, -1, -1344}, {1, 0, 0, -1, -1335},
+            {0, 0, 3, 1, 1107}, {4, 0, 0, -1, 1021}, {4, 0, -1, 1, 833}
+    };
+
+    /**
+     * Fundamental lunar arguments at {@code T} Julian centuries (TD) from J2000:
+     * {L' (degrees), D, M, M', F (radians), E}.
+     */
+    static void moonArguments(double T, double[] out) {
+        double T2 = T * T;
+        double T3 = T2 * T;
+        out[0] = normalizeDegrees(218.3164477 + 481267.88123421 * T - 0.0015786 * T2
+                + T3 / 538841.0 - T3 * T / 65194000.0);
+        out[1] = Math.toRadians(normalizeDegrees(297.8501921 + 445267.1114034 * T - 0.0018819 * T2
+                + T3 / 545868.0 - T3 * T / 113065000.0));
+        out[2] = Math.toRadians(normalizeDegrees(357.5291092 + 35999.0502909 * T - 0.0001536 * T2
+                + T3 / 24490000.0));
+        out[3] = Math.toRadians(normalizeDegrees(134.9633964 + 477198.8675055 * T + 0.0087414 * T2
+                + T3 / 69699.0 - T3 * T / 14712000.0));
+        out[4] = Math.toRadians(normalizeDegrees(93.2720950 + 483202.0175233 * T - 0.0036539 * T2
+                - T3 / 3526000.0 + T3 * T / 863310000.0));
+        out[5] = 1 - 0.002516 * T - 0.0000074 * T2;
+    }
+
+    /** Coefficient scaled by E for terms in the Sun's mean anomaly M. */
+    private static double eccentricityFactor(int mMultiple, double E) {
+        if (mMultiple == 1 || mMultiple == -1) return E;
+        if (mMultiple == 2 || mMultiple == -2) return E * E;
+        return 1.0;
+    }
+
+    /** Nutation in longitude (degrees), the four largest terms. */
+    private static double nutationInLongitude(double T, double moonMeanLongitude) {
+        double L = Math.toRadians(280.4665 + 36000.7698 * T);
+        double Lp = Math.toRadians(moonMeanLongitude);
+        double omega = Math.toRadians(125.04452 - 1934.136261 * T);
+        return (-17.20 * Math.sin(omega) - 1.32 * Math.sin(2 * L)
+                - 0.23 * Math.sin(2 * Lp) + 0.21 * Math.sin(2 * omega)) / 3600.0;
+    }
+
+    /**
+     * Apparent geocentric longitude of the Moon (degrees) from the complete Meeus
+     * chapter 47 longitude series, including the eccentricity factor E, the Venus/Jupiter
+     * additive terms and nutation in longitude. Accurate to about 10 arcseconds.
+     */
+    static double calculateMoonLongitudePrecise(double jd) {
+        double T = (jd - 2451545.0) / 36525.0;
+        double[] a = new double[6];
+        moonArguments(T, a);
+        double Lp = a[0], D = a[1], M = a[2], Mp = a[3], F = a[4], E = a[5];
+
+        double sumL = 0;
+        for (int[] term : MOON_LONGITUDE_TERMS) {
+            double arg = term[0] * D + term[1] * M + term[2] * Mp + term[3] * F;
+            sumL += term[4] * eccentricityFactor(term[1], E) * Math.sin(arg);
+        }
+
+        double A1 = Math.toRadians(119.75 + 131.849 * T);
+        double A2 = Math.toRadians(53.09 + 479264.290 * T);
+        sumL += 3958 * Math.sin(A1) + 1962 * Math.sin(Math.toRadians(Lp) - F) + 318 * Math.sin(A2);
+
+        return normalizeDegrees(Lp + sumL / 1000000.0 + nutationInLongitude(T, Lp));
+    }
+
+    /**
+     * Apparent geocentric position of the Moon at {@code jd} (TD): writes
+     * {longitude (degrees), latitude (degrees), distance (km)} into {@code out}.
+     * Used where the Moon's place on the sky matters, e.g. moonrise.
+     */
+    static void calculateMoonPosition(double jd, double[] out) {
+        double T = (jd - 2451545.0) / 36525.0;
+        double[] a = new double[6];
+        moonArguments(T, a);
+        double Lp = a[0], D = a[1], M = a[2], Mp = a[3], F = a[4], E = a[5];
+
+        double sumL = 0;
+        double sumR = 0;
+        for (int[] term : MOON_LONGITUDE_TERMS) {
+            double arg = term[0] * D + term[1] * M + term[2] * Mp + term[3] * F;
+            double e = eccentricityFactor(term[1], E);
+            sumL += term[4] * e * Math.sin(arg);
+            if (term[5] != 0) sumR += term[5] * e * Math.cos(arg);
+        }
+        double sumB = 0;
+        for (int[] term : MOON_LATITUDE_TERMS) {
+            double arg = term[0] * D + term[1] * M + term[2] * Mp + term[3] * F;
+            sumB += term[4] * eccentricityFactor(term[1], E) * Math.sin(arg);
+        }
+
+        double LpRad = Math.toRadians(Lp);
+        double A1 = Math.toRadians(119.75 + 131.849 * T);
+        double A2 = Math.toRadians(53.09 + 479264.290 * T);
+        double A3 = Math.toRadians(313.45 + 481266.484 * T);
+        sumL += 3958 * Math.sin(A1) + 1962 * Math.sin(LpRad - F) + 318 * Math.sin(A2);
+        sumB += -2235 * Math.sin(LpRad) + 382 * Math.sin(A3) + 175 * Math.sin(A1 - F)
+                + 175 * Math.sin(A1 + F) + 127 * Math.sin(LpRad - Mp) - 115 * Math.sin(LpRad + Mp);
+
+        out[0] = normalizeDegrees(Lp + sumL / 1000000.0 + nutationInLongitude(T, Lp));
+        out[1] = sumB / 1000000.0;
+        out[2] = 385000.56 + sumR / 1000.0;
+    }
+
+    static final long DAY_MS = 86_400_000L;
+    static final int UNIX_EPOCH_JDN = 2440588; // 1970-01-01
+
+    /** Calendar.SUNDAY (1) to Calendar.SATURDAY (7) of a Julian Day Number; JDN mod 7 is 0 on Monday. */
+    static int dayOfWeek(int jdn) {
+        return (jdn + 1) % 7 + 1;
+    }
+
+    /**
+     * Julian Day Number (integer, noon-based) of a Gregorian date. Fliegel–Van Flandern.
+     */
+    public static int civilToJdn(int year, int month, int day) {
+        int a = (month - 14) / 12;
+        return (1461 * (year + 4800 + a)) / 4 + (367 * (month - 2 - 12 * a)) / 12
+                - (3 * ((year + 4900 + a) / 100)) / 4 + day - 32075;
+    }
+
+    /**
+     * Inverse of {@link #civilToJdn}; writes {year, month, day} into {@code out}.
+     */
+    public static void jdnToCivil(int jdn, int[] out) {
+        int l = jdn + 68569;
+        int n = 4 * l / 146097;
+        l = l - (146097 * n + 3) / 4;
+        int i = 4000 * (l + 1) / 1461001;
+        l = l - 1461 * i / 4 + 31;
+        int j = 80 * l / 2447;
+        out[2] = l - 2447 * j / 80;
+        l = j / 11;
+        out[1] = j + 2 - 12 * l;
+        out[0] = 100 * (n - 49) + i + l;
+    }
+
+    /**
+     * Step a {year, month, day} triple forward by one day.
+     */
+    static void advanceCivil(int[] ymd) {
+        if (ymd[2] < daysInMonth(ymd[0], ymd[1])) {
+            ymd[2]++;
+        } else if (ymd[1] < 12) {
+            ymd[1]++;
+            ymd[2] = 1;
+        } else {
+            ymd[0]++;
+            ymd[1] = 1;
+            ymd[2] = 1;
+        }
+    }
+
+    private static int daysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                boolean leap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+                return leap ? 29 : 28;
+            case 4: case 6: case 9: case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Normalize an angle to [0, 360) degrees.
+     */
+    static double normalizeDegrees(double degrees) {
+        degrees = degrees % 360.0;
+        if (degrees < 0) degrees += 360.0;
+        return degrees;
+    }
+}
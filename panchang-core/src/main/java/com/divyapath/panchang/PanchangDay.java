@@ -0,0 +1,254 @@
+package com.divyapath.panchang;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Typed result of a single day's Panchang calculation.
+ *
+ * All limbs are stored as indices and all times as minutes from local midnight,
+ * so bulk consumers (calendars, reminders, insights) never format or re-parse text.
+ * Minute values may fall outside 0..1439 (e.g. Brahma Muhurat before midnight);
+ * they are wrapped only when formatted.
+ * The legacy string map used by the UI is built lazily on the first {@link #asMap()} call.
+ * Setters exist only so stored rows can be restored without recomputing.
+ */
+public class PanchangDay {
+
+    /**
+     * Marker for a window or event that does not occur on this day
+     * (Abhijit on Wednesday, or no moonrise/moonset before the next midnight).
+     */
+    public static final int NO_WINDOW = Integer.MIN_VALUE;
+
+    final int year;
+    final int month;        // 1-12
+    final int dayOfMonth;
+    final int dayOfWeek;    // Calendar.SUNDAY (1) .. Calendar.SATURDAY (7)
+    final double latitude;
+    final double longitude;
+    final String timezone;
+    final int precision;    // PanchangCalculator.PRECISION_*
+
+    int tithiIndex;         // 0-29, 0-14 Shukla, 15-29 Krishna
+    int nakshatraIndex;     // 0-26
+    int yogaIndex;          // 0-26
+    int karanaIndex;        // 0-59 half-tithi slot
+
+    // When each limb above ends; may exceed 1440 when it runs into the next day
+    int tithiEndMinute;
+    int nakshatraEndMinute;
+    int yogaEndMinute;
+    int karanaEndMinute;
+
+    int sunriseMinute;
+    int sunsetMinute;
+    int moonriseMinute;
+    int moonsetMinute;
+
+    int rahuStart, rahuEnd;
+    int gulikaStart, gulikaEnd;
+    int yamghantStart, yamghantEnd;
+    int abhijitStart = NO_WINDOW, abhijitEnd = NO_WINDOW;
+    int brahmaStart, brahmaEnd;
+
+    // Sunrise of the following civil day, counted from this day's midnight (so > 1440)
+    int nextSunriseMinute;
+    // Slot boundaries from sunrise to next sunrise: 24 horas, 8 day + 8 night choghadiyas.
+    // horaStart[i] .. horaStart[i + 1] is hora i; each slot's ruling planet is a PLANET_* index.
+    int[] horaStart;
+    byte[] horaLord;
+    int[] choghadiyaStart;
+    byte[] choghadiyaLord;
+
+    // Built by asMap(); every setter drops it so the map never shows stale values
+    private Map<String, String> map;
+
+    public PanchangDay(int year, int month, int dayOfMonth, int dayOfWeek,
+                double latitude, double longitude, String timezone, int precision) {
+        this.year = year;
+        this.month = month;
+        this.dayOfMonth = dayOfMonth;
+        this.dayOfWeek = dayOfWeek;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.timezone = timezone;
+        this.precision = precision;
+    }
+
+    public int getYear() { return year; }
+    public int getMonth() { return month; }
+    public int getDayOfMonth() { return dayOfMonth; }
+    public int getDayOfWeek() { return dayOfWeek; }
+    public double getLatitude() { return latitude; }
+    public double getLongitude() { return longitude; }
+    public String getTimezone() { return timezone; }
+    public int getPrecision() { return precision; }
+
+    public int getTithiIndex() { return tithiIndex; }
+    public int getNakshatraIndex() { return nakshatraIndex; }
+    public int getYogaIndex() { return yogaIndex; }
+    public int getKaranaIndex() { return karanaIndex; }
+    public boolean isShuklaPaksha() { return tithiIndex < 15; }
+    public int getTithiEndMinute() { return tithiEndMinute; }
+    public int getNakshatraEndMinute() { return nakshatraEndMinute; }
+    public int getYogaEndMinute() { return yogaEndMinute; }
+    public int getKaranaEndMinute() { return karanaEndMinute; }
+
+    public int getSunriseMinute() { return sunriseMinute; }
+    public int getSunsetMinute() { return sunsetMinute; }
+    public int getMoonriseMinute() { return moonriseMinute; }
+    public int getMoonsetMinute() { return moonsetMinute; }
+    public boolean hasMoonrise() { return moonriseMinute != NO_WINDOW; }
+    public boolean hasMoonset() { return moonsetMinute != NO_WINDOW; }
+
+    public int getRahuStart() { return rahuStart; }
+    public int getRahuEnd() { return rahuEnd; }
+    public int getGulikaStart() { return gulikaStart; }
+    public int getGulikaEnd() { return gulikaEnd; }
+    public int getYamghantStart() { return yamghantStart; }
+    public int getYamghantEnd() { return yamghantEnd; }
+    public int getAbhijitStart() { return abhijitStart; }
+    public int getAbhijitEnd() { return abhijitEnd; }
+    public boolean hasAbhijit() { return abhijitStart != NO_WINDOW; }
+    public int getBrahmaStart() { return brahmaStart; }
+    public int getBrahmaEnd() { return brahmaEnd; }
+    public int getNextSunriseMinute() { return nextSunriseMinute; }
+
+    public int getHoraCount() { return horaLord.length; }
+    public int getHoraStart(int slot) { return horaStart[slot]; }
+    public int getHoraEnd(int slot) { return horaStart[slot + 1]; }
+    /** Planet ({@code PanchangCalculator.PLANET_*}) ruling hora {@code slot}. */
+    public int getHoraLord(int slot) { return horaLord[slot]; }
+
+    public int getChoghadiyaCount() { return choghadiyaLord.length; }
+    public int getChoghadiyaStart(int slot) { return choghadiyaStart[slot]; }
+    public int getChoghadiyaEnd(int slot) { return choghadiyaStart[slot + 1]; }
+    /** Planet ruling choghadiya {@code slot}; {@code PanchangCalculator.getChoghadiyaName} gives its name. */
+    public int getChoghadiyaLord(int slot) { return choghadiyaLord[slot]; }
+
+    /** Hora in force at {@code minute} (0-23), or -1 before sunrise or from the next sunrise on. */
+    public int horaAt(int minute) {
+        return slotAt(horaStart, minute);
+    }
+
+    /** Choghadiya in force at {@code minute} (0-7 day, 8-15 night), or -1 outside this day's span. */
+    public int choghadiyaAt(int minute) {
+        return slotAt(choghadiyaStart, minute);
+    }
+
+    public synchronized void setTithiIndex(int tithiIndex) { this.tithiIndex = tithiIndex; map = null; }
+    public synchronized void setNakshatraIndex(int nakshatraIndex) { this.nakshatraIndex = nakshatraIndex; map = null; }
+    public synchronized void setYogaIndex(int yogaIndex) { this.yogaIndex = yogaIndex; map = null; }
+    public synchronized void setKaranaIndex(int karanaIndex) { this.karanaIndex = karanaIndex; map = null; }
+    public synchronized void setTithiEndMinute(int tithiEndMinute) { this.tithiEndMinute = tithiEndMinute; map = null; }
+    public synchronized void setNakshatraEndMinute(int nakshatraEndMinute) { this.nakshatraEndMinute = nakshatraEndMinute; map = null; }
+    public synchronized void setYogaEndMinute(int yogaEndMinute) { this.yogaEndMinute = yogaEndMinute; map = null; }
+    public synchronized void setKaranaEndMinute(int karanaEndMinute) { this.karanaEndMinute = karanaEndMinute; map = null; }
+    public synchronized void setSunriseMinute(int sunriseMinute) { this.sunriseMinute = sunriseMinute; map = null; }
+    public synchronized void setSunsetMinute(int sunsetMinute) { this.sunsetMinute = sunsetMinute; map = null; }
+    public synchronized void setMoonriseMinute(int moonriseMinute) { this.moonriseMinute = moonriseMinute; map = null; }
+    public synchronized void setMoonsetMinute(int moonsetMinute) { this.moonsetMinute = moonsetMinute; map = null; }
+    public synchronized void setRahuWindow(int start, int end) { rahuStart = start; rahuEnd = end; map = null; }
+    public synchronized void setGulikaWindow(int start, int end) { gulikaStart = start; gulikaEnd = end; map = null; }
+    public synchronized void setYamghantWindow(int start, int end) { yamghantStart = start; yamghantEnd = end; map = null; }
+    public synchronized void setAbhijitWindow(int start, int end) { abhijitStart = start; abhijitEnd = end; map = null; }
+    public synchronized void setBrahmaWindow(int start, int end) { brahmaStart = start; brahmaEnd = end; map = null; }
+
+    /** Restores the next sunrise and rebuilds the hora and choghadiya slots; call after sunrise and sunset. */
+    public synchronized void setNextSunriseMinute(int nextSunriseMinute) {
+        this.nextSunriseMinute = nextSunriseMinute;
+        PanchangCalculator.fillDivisions(this);
+        map = null;
+    }
+
+    /** ISO "yyyy-MM-dd" key for this day, used by caches and the festivals table. */
+    public String getDateKey() {
+        return dateKey(year, month, dayOfMonth);
+    }
+
+    public static String dateKey(int year, int month, int dayOfMonth) {
+        char[] c = new char[10];
+        c[0] = (char) ('0' + year / 1000 % 10);
+        c[1] = (char) ('0' + year / 100 % 10);
+        c[2] = (char) ('0' + year / 10 % 10);
+        c[3] = (char) ('0' + year % 10);
+        c[4] = '-';
+        c[5] = (char) ('0' + month / 10);
+        c[6] = (char) ('0' + month % 10);
+        c[7] = '-';
+        c[8] = (char) ('0' + dayOfMonth / 10);
+        c[9] = (char) ('0' + dayOfMonth % 10);
+        return new String(c);
+    }
+
+    /**
+     * String view with the same keys the UI has always used
+     * ("tithi", "sunrise", "rahukaal", ...). Built once and cached.
+     */
+    public synchronized Map<String, String> asMap() {
+        if (map != null) return map;
+        Map<String, String> p = new HashMap<>(24);
+        p.put("tithi", PanchangCalculator.getTithiName(tithiIndex));
+        p.put("nakshatra", PanchangCalculator.getNakshatraName(nakshatraIndex));
+        p.put("yoga", PanchangCalculator.getYogaName(yogaIndex));
+        p.put("karana", PanchangCalculator.getKaranaName(karanaIndex));
+        p.put("vara", PanchangCalculator.getVaraName(dayOfWeek));
+        p.put("tithi_end", formatEnd(tithiEndMinute));
+        p.put("nakshatra_end", formatEnd(nakshatraEndMinute));
+        p.put("yoga_end", formatEnd(yogaEndMinute));
+        p.put("karana_end", formatEnd(karanaEndMinute));
+        p.put("sunrise", formatMinute(sunriseMinute));
+        p.put("sunset", formatMinute(sunsetMinute));
+        p.put("moonrise", moonriseMinute != NO_WINDOW ? formatMinute(moonriseMinute) : "No moonrise");
+        p.put("moonset", moonsetMinute != NO_WINDOW ? formatMinute(moonsetMinute) : "No moonset");
+        p.put("rahukaal", formatWindow(rahuStart, rahuEnd));
+        p.put("gulikaal", formatWindow(gulikaStart, gulikaEnd));
+        p.put("yamghant", formatWindow(yamghantStart, yamghantEnd));
+        p.put("abhijit_muhurat", hasAbhijit() ? formatWindow(abhijitStart, abhijitEnd) : "Not available");
+        p.put("brahma_muhurat", formatWindow(brahmaStart, brahmaEnd));
+        p.put("location_lat", String.valueOf(latitude));
+        p.put("location_lon", String.valueOf(longitude));
+        p.put("timezone", timezone);
+        map = Collections.unmodifiableMap(p);
+        return map;
+    }
+
+    /** Format a limb end time, marking ends that fall on a later day ("03:12 AM +1"). */
+    public static String formatEnd(int minute) {
+        int dayOffset = Math.floorDiv(minute, 1440);
+        return dayOffset > 0 ? formatMinute(minute) + " +" + dayOffset : formatMinute(minute);
+    }
+
+    /** Format a window as "hh:mm AM - hh:mm PM". */
+    public static String formatWindow(int startMinute, int endMinute) {
+        return formatMinute(startMinute) + " - " + formatMinute(endMinute);
+    }
+
+    /** Format minutes from local midnight as "hh:mm AM/PM", wrapping into 0..1439. */
+    public static String formatMinute(int minuteOfDay) {
+        int m = ((minuteOfDay % 1440) + 1440) % 1440;
+        int h = m / 60;
+        int min = m % 60;
+        int displayH = h % 12;
+        if (displayH == 0) displayH = 12;
+        char[] c = {
+                (char) ('0' + displayH / 10), (char) ('0' + displayH % 10), ':',
+                (char) ('0' + min / 10), (char) ('0' + min % 10), ' ',
+                h >= 12 ? 'P' : 'A', 'M'
+        };
+        return new String(c);
+    }
+
+    private static int slotAt(int[] bounds, int minute) {
+        if (bounds == null || minute < bounds[0] || minute >= bounds[bounds.length - 1]) return -1;
+        int lo = 0, hi = bounds.length - 2;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (bounds[mid] <= minute) lo = mid;
+            else hi = mid - 1;
+        }
+        return lo;
+    }
+}
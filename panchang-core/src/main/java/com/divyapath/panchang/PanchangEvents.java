@@ -0,0 +1,207 @@
+package com.divyapath.panchang;
+
+import java.util.Arrays;
+
+/**
+ * Finds the astronomical events festivals are dated from: Sankrantis, new and full moons,
+ * Ekadashis and eclipses.
+ *
+ * Lunar events come from a {@link PanchangTransitions#timeline} of tithis, which brackets
+ * each boundary with the mean motion and refines it with secant steps. Sankrantis are found
+ * the same way on the Sun's sidereal longitude. Eclipses are classified at each syzygy from
+ * the Moon's latitude and distance (Meeus chapter 54 limits), so they add one position
+ * evaluation per new or full moon. All instants are Julian Days in UT.
+ */
+public class PanchangEvents {
+
+    public static final int SANKRANTI = 0;
+    public static final int AMAVASYA = 1;
+    public static final int PURNIMA = 2;
+    public static final int EKADASHI = 3;
+    public static final int SOLAR_ECLIPSE = 4;
+    public static final int LUNAR_ECLIPSE = 5;
+
+    // Eclipse kinds, stored in Events.detail for SOLAR_ECLIPSE and LUNAR_ECLIPSE
+    public static final int ECLIPSE_PENUMBRAL = 0;
+    public static final int ECLIPSE_PARTIAL = 1;
+    public static final int ECLIPSE_ANNULAR = 2;
+    public static final int ECLIPSE_HYBRID = 3;
+    public static final int ECLIPSE_TOTAL = 4;
+
+    private static final int TITHI_SHUKLA_EKADASHI = 10;
+    private static final int TITHI_PURNIMA = 14;
+    private static final int TITHI_KRISHNA_EKADASHI = 25;
+    private static final int TITHI_AMAVASYA = 29;
+
+    private static final double RASHI_SPAN = 30.0;
+    private static final double SUN_MEAN_RATE = 0.985647; // degrees/day
+    private static final double TOLERANCE_DEG = 1e-6;     // ~0.1 s of solar motion
+
+    private static final double EARTH_RADIUS_KM = 6378.14;
+    private static final double MOON_RADIUS_KM = 1737.4;
+    private static final double SUN_RADIUS_KM = 696000.0;
+    private static final double AU_KM = 149597870.7;
+    // cos of the ~5.5 degree angle between the Moon's path and the ecliptic, relative to the Sun
+    private static final double COS_RELATIVE_INCLINATION = 0.9954;
+
+    /**
+     * Events in a span of time as parallel primitive arrays, ordered by {@code jd}.
+     * {@code detail[i]} is the sidereal rashi entered (0 = Mesha) for a Sankranti, the tithi
+     * index for Amavasya, Purnima and Ekadashi, and an {@code ECLIPSE_*} kind for eclipses.
+     * {@code endJd[i]} is the end of the tithi for an Ekadashi and equals {@code jd[i]}
+     * for instantaneous events (eclipses are timed at the syzygy).
+     */
+    public static class Events {
+        public final int[] type;
+        public final int[] detail;
+        public final double[] jd;
+        public final double[] endJd;
+
+        Events(int[] type, int[] detail, double[] jd, double[] endJd) {
+            this.type = type;
+            this.detail = detail;
+            this.jd = jd;
+            this.endJd = endJd;
+        }
+
+        public int size() { return type.length; }
+    }
+
+    /** Every event whose instant (or Ekadashi start) falls in [{@code startJd}, {@code endJd}). */
+    public static Events find(double startJd, double endJd, int precision) {
+        Builder out = new Builder((int) ((endJd - startJd) / 365.25 * 90) + 16);
+        findLunarEvents(out, startJd, endJd, precision);
+        findSankrantis(out, startJd, endJd, precision);
+        return out.build();
+    }
+
+    /** Only the Sankrantis in [{@code startJd}, {@code endJd}); {@code detail} is the rashi entered. */
+    public static Events sankrantis(double startJd, double endJd, int precision) {
+        Builder out = new Builder((int) ((endJd - startJd) / 365.25 * 12) + 2);
+        findSankrantis(out, startJd, endJd, precision);
+        return out.build();
+    }
+
+    // ==================== Internals ====================
+
+    private static void findLunarEvents(Builder out, double startJd, double endJd, int precision) {
+        PanchangTransitions.Timeline tithis =
+                PanchangTransitions.timeline(PanchangTransitions.LIMB_TITHI, startJd, endJd, precision);
+        double[] position = new double[3];
+        for (int i = 0; i < tithis.size(); i++) {
+            int tithi = tithis.index[i];
+            double start = tithis.startJd[i];
+            double end = tithis.endJd[i];
+            if (tithi == TITHI_SHUKLA_EKADASHI || tithi == TITHI_KRISHNA_EKADASHI) {
+                if (start >= startJd && start < endJd) out.add(EKADASHI, tithi, start, end);
+            } else if (tithi == TITHI_AMAVASYA || tithi == TITHI_PURNIMA) {
+                // The syzygy is the end of the Amavasya/Purnima tithi
+                if (end < startJd || end >= endJd) continue;
+                boolean solar = tithi == TITHI_AMAVASYA;
+                out.add(solar ? AMAVASYA : PURNIMA, tithi, end, end);
+                int kind = eclipseKind(end, solar, position);
+                if (kind >= 0) out.add(solar ? SOLAR_ECLIPSE : LUNAR_ECLIPSE, kind, end, end);
+            }
+        }
+    }
+
+    private static void findSankrantis(Builder out, double startJd, double endJd, int precision) {
+        double jd = startJd;
+        double current = siderealSun(jd, precision);
+        int rashi = (int) (current / RASHI_SPAN);
+        PanchangTransitions.Angle sun = x -> siderealSun(x, precision);
+        while (true) {
+            rashi = (rashi + 1) % 12;
+            jd = PanchangTransitions.solve(sun, SUN_MEAN_RATE, TOLERANCE_DEG, jd, current, rashi * RASHI_SPAN);
+            if (jd >= endJd) break;
+            out.add(SANKRANTI, rashi, jd, jd);
+            current = rashi * RASHI_SPAN;
+        }
+    }
+
+    private static double siderealSun(double jd, int precision) {
+        return PanchangCalculator.normalizeDegrees(
+                PanchangCalculator.sunLongitude(jd, precision) - PanchangCalculator.lahiriAyanamsa(jd));
+    }
+
+    /**
+     * Eclipse kind at the syzygy {@code jd}, or -1 if there is none. gamma is the least
+     * distance of the shadow axis from the Earth's (or Moon's) centre and u the radius of
+     * the Moon's umbral cone at the Earth's centre (negative when the umbra reaches past it),
+     * both in Earth radii; the limits are Meeus chapter 54.
+     */
+    private static int eclipseKind(double jd, boolean solar, double[] position) {
+        double td = jd + PanchangCalculator.deltaTDays(jd);
+        PanchangCalculator.calculateMoonPosition(td, position);
+        double moonKm = position[2];
+        double M = Math.toRadians(357.5291092 + 0.98560028 * (td - 2451545.0));
+        double sunKm = (1.000140 - 0.016708 * Math.cos(M) - 0.000141 * Math.cos(2 * M)) * AU_KM;
+
+        double gamma = Math.abs(moonKm / EARTH_RADIUS_KM
+                * Math.sin(Math.toRadians(position[1])) * COS_RELATIVE_INCLINATION);
+        double u = (moonKm * (SUN_RADIUS_KM - MOON_RADIUS_KM) / (sunKm - moonKm) - MOON_RADIUS_KM)
+                / EARTH_RADIUS_KM;
+
+        if (solar) {
+            if (gamma > 1.5433 + u) return -1;
+            if (gamma > 0.9972) return ECLIPSE_PARTIAL;
+            if (u < 0) return ECLIPSE_TOTAL;
+            // The surface under the axis is sqrt(1 - gamma^2) radii nearer the Moon
+            return u > 0.00464 * Math.sqrt(1 - gamma * gamma) ? ECLIPSE_ANNULAR : ECLIPSE_HYBRID;
+        }
+        double umbral = (1.0128 - u - gamma) / 0.5450;
+        if (umbral >= 1) return ECLIPSE_TOTAL;
+        if (umbral > 0) return ECLIPSE_PARTIAL;
+        return (1.5573 + u - gamma) / 0.5450 > 0 ? ECLIPSE_PENUMBRAL : -1;
+    }
+
+    /** Growable parallel arrays, sorted by instant on {@link #build}. */
+    private static final class Builder {
+        private int[] type;
+        private int[] detail;
+        private double[] jd;
+        private double[] endJd;
+        private int n;
+
+        Builder(int capacity) {
+            type = new int[capacity];
+            detail = new int[capacity];
+            jd = new double[capacity];
+            endJd = new double[capacity];
+        }
+
+        void add(int t, int d, double at, double end) {
+            if (n == type.length) {
+                int capacity = n * 2;
+                type = Arrays.copyOf(type, capacity);
+                detail = Arrays.copyOf(detail, capacity);
+                jd = Arrays.copyOf(jd, capacity);
+                endJd = Arrays.copyOf(endJd, capacity);
+            }
+            type[n] = t;
+            detail[n] = d;
+            jd[n] = at;
+            endJd[n] = end;
+            n++;
+        }
+
+        Events build() {
+            Integer[] order = new Integer[n];
+            for (int i = 0; i < n; i++) order[i] = i;
+            // Stable, so an eclipse stays after the new or full moon it shares an instant with
+            Arrays.sort(order, (x, y) -> Double.compare(jd[x], jd[y]));
+            int[] t = new int[n];
+            int[] d = new int[n];
+            double[] at = new double[n];
+            double[] end = new double[n];
+            for (int i = 0; i < n; i++) {
+                int k = order[i];
+                t[i] = type[k];
+                d[i] = detail[k];
+                at[i] = jd[k];
+                end[i] = endJd[k];
+            }
+            return new Events(t, d, at, end);
+        }
+    }
+}
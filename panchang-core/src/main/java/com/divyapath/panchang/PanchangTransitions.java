@@ -0,0 +1,184 @@
+package com.divyapath.panchang;
+
+import java.util.Arrays;
+
+/**
+ * Finds the instants at which tithi, nakshatra, yoga and karana change.
+ *
+ * Each limb is a fixed-width slice of an angle that grows monotonically with time
+ * (Moon−Sun elongation, Moon longitude, or Sun+Moon longitude). The next boundary is
+ * bracketed with the limb's mean daily motion and refined with secant steps, so a
+ * transition costs three or four longitude evaluations instead of a minute-by-minute scan.
+ * Nakshatra and yoga use sidereal (Lahiri) longitudes. All instants are Julian Days in UT,
+ * and every method takes a {@code PanchangCalculator.PRECISION_*} tier.
+ */
+public class PanchangTransitions {
+
+    public static final int LIMB_TITHI = 0;
+    public static final int LIMB_NAKSHATRA = 1;
+    public static final int LIMB_YOGA = 2;
+    public static final int LIMB_KARANA = 3;
+
+    private static final double NAKSHATRA_SPAN = 360.0 / 27.0;
+
+    // Width of one slice (degrees) and mean motion of the underlying angle (degrees/day)
+    private static final double[] SPAN = {12.0, NAKSHATRA_SPAN, NAKSHATRA_SPAN, 6.0};
+    private static final double[] MEAN_RATE = {12.1908, 13.1764, 14.1620, 12.1908};
+
+    private static final double TOLERANCE_DEG = 1e-5;   // ~0.1 s of elongation
+    private static final int MAX_ITERATIONS = 10;
+
+    /**
+     * Intervals of one limb over a span of time, as parallel primitive arrays.
+     * Interval {@code i} has slice {@code index[i]} from {@code startJd[i]} to {@code endJd[i]};
+     * the first and last intervals extend past the requested span.
+     */
+    public static class Timeline {
+        public final int limb;
+        public final int[] index;
+        public final double[] startJd;
+        public final double[] endJd;
+
+        Timeline(int limb, int[] index, double[] startJd, double[] endJd) {
+            this.limb = limb;
+            this.index = index;
+            this.startJd = startJd;
+            this.endJd = endJd;
+        }
+
+        public int size() { return index.length; }
+
+        /** Interval in force at {@code jd}; the first or last interval for instants outside the span. */
+        public int intervalAt(double jd) {
+            int lo = 0, hi = index.length - 1;
+            while (lo < hi) {
+                int mid = (lo + hi + 1) >>> 1;
+                if (startJd[mid] <= jd) lo = mid;
+                else hi = mid - 1;
+            }
+            return lo;
+        }
+    }
+
+    /** Slice of {@code limb} in force at {@code jd}. */
+    public static int indexAt(int limb, double jd, int precision) {
+        return sliceOf(limb, angle(limb, jd, precision));
+    }
+
+    /** Julian Day at which the slice of {@code limb} in force at {@code jd} ends. */
+    public static double nextTransition(int limb, double jd, int precision) {
+        double current = angle(limb, jd, precision);
+        double target = (sliceOf(limb, current) + 1) * SPAN[limb];
+        return solve(limb, jd, current, target, precision);
+    }
+
+    /** Every interval of {@code limb} overlapping [{@code startJd}, {@code endJd}). */
+    public static Timeline timeline(int limb, double startJd, double endJd, int precision) {
+        int capacity = (int) ((endJd - startJd) * MEAN_RATE[limb] / SPAN[limb]) + 4;
+        int[] index = new int[capacity];
+        double[] starts = new double[capacity];
+        double[] ends = new double[capacity];
+        int n = 0;
+
+        double jd = startJd;
+        double current = angle(limb, jd, precision);
+        int slice = sliceOf(limb, current);
+        // The slice in force at startJd began before it; find that start once
+        starts[0] = solve(limb, jd, current, slice * SPAN[limb], precision);
+        while (true) {
+            double end = solve(limb, jd, current, (slice + 1) * SPAN[limb], precision);
+            if (n == capacity) {
+                capacity *= 2;
+                index = Arrays.copyOf(index, capacity);
+                starts = Arrays.copyOf(starts, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+            }
+            if (n > 0) starts[n] = ends[n - 1];
+            index[n] = slice;
+            ends[n] = end;
+            n++;
+            if (end >= endJd) break;
+            jd = end;
+            slice = (slice + 1) % slices(limb);
+            current = slice * SPAN[limb];
+        }
+        return new Timeline(limb,
+                Arrays.copyOf(index, n),
+                Arrays.copyOf(starts, n),
+                Arrays.copyOf(ends, n));
+    }
+
+    /** Convert a UT Julian Day to epoch milliseconds. */
+    public static long jdToMillis(double jd) {
+        return Math.round((jd - 2440587.5) * 86_400_000.0);
+    }
+
+    /** Convert epoch milliseconds to a UT Julian Day. */
+    public static double millisToJd(long millis) {
+        return millis / 86_400_000.0 + 2440587.5;
+    }
+
+    // ==================== Internals ====================
+
+    static double angle(int limb, double jd, int precision) {
+        double moon = PanchangCalculator.moonLongitude(jd, precision);
+        if (limb == LIMB_NAKSHATRA) {
+            return PanchangCalculator.normalizeDegrees(moon - PanchangCalculator.lahiriAyanamsa(jd));
+        }
+        double sun = PanchangCalculator.sunLongitude(jd, precision);
+        switch (limb) {
+            case LIMB_YOGA:
+                return PanchangCalculator.normalizeDegrees(
+                        sun + moon - 2 * PanchangCalculator.lahiriAyanamsa(jd));
+            default:
+                return PanchangCalculator.normalizeDegrees(moon - sun);
+        }
+    }
+
+    private static int slices(int limb) {
+        return limb == LIMB_KARANA ? 60 : limb == LIMB_TITHI ? 30 : 27;
+    }
+
+    private static int sliceOf(int limb, double angle) {
+        return Math.min((int) (angle / SPAN[limb]), slices(limb) - 1);
+    }
+
+    /** The limb's angle reaching {@code target}, starting from {@code jd} where it is {@code current}. */
+    private static double solve(int limb, double jd, double current, double target, int precision) {
+        return solve(x -> angle(limb, x, precision), MEAN_RATE[limb], TOLERANCE_DEG, jd, current, target);
+    }
+
+    /** An angle in degrees, growing with time, as a function of a UT Julian Day. */
+    interface Angle {
+        double at(double jd);
+    }
+
+    /**
+     * Secant search for the instant {@code angle} equals {@code target} (mod 360), starting
+     * from {@code jd} where it is {@code current}. {@code meanRate} (degrees/day) gives the
+     * first step and stands in for a slope that is not positive.
+     */
+    static double solve(Angle angle, double meanRate, double tolerance, double jd, double current, double target) {
+        double x0 = jd;
+        double f0 = wrap180(current - target);
+        double x1 = x0 - f0 / meanRate;
+        double f1 = wrap180(angle.at(x1) - target);
+        for (int i = 0; i < MAX_ITERATIONS && Math.abs(f1) > tolerance; i++) {
+            double slope = (f1 - f0) / (x1 - x0);
+            if (slope <= 0 || Double.isNaN(slope)) slope = meanRate;
+            double x2 = x1 - f1 / slope;
+            x0 = x1;
+            f0 = f1;
+            x1 = x2;
+            f1 = wrap180(angle.at(x1) - target);
+        }
+        return x1;
+    }
+
+    static double wrap180(double degrees) {
+        degrees = degrees % 360.0;
+        if (degrees >= 180.0) degrees -= 360.0;
+        if (degrees < -180.0) degrees += 360.0;
+        return degrees;
+    }
+}
@@ -0,0 +1,92 @@
+package com.divyapath.panchang;
+
+import java.util.Arrays;
+import java.util.TimeZone;
+
+/**
+ * Evaluates {@link VratRule}s over a span of civil days at one location.
+ *
+ * Tithi conditions become {@link FestivalRule#EVERY_MONTH} rules and share the single tithi
+ * timeline {@link FestivalCalendar} builds for the span, adhika months included. Weekday and
+ * nakshatra conditions then filter those dates; the nakshatra at sunrise is read from one
+ * nakshatra timeline by binary search, so a year of a dozen rules stays within a few tens of
+ * milliseconds.
+ */
+public class VratCalendar {
+
+    /**
+     * Every occurrence of {@code rules} on civil days {@code startJdn} to {@code endJdn} inclusive,
+     * with {@link FestivalCalendar.Occurrences#rule} indexing {@code rules}.
+     */
+    public static FestivalCalendar.Occurrences generate(VratRule[] rules, int startJdn, int endJdn,
+                                                        double lat, double lon, String timezone) {
+        // One festival rule per (rule, paksha); owner maps it back
+        FestivalRule[] tithiRules = new FestivalRule[rules.length * 2];
+        int[] owner = new int[rules.length * 2];
+        int t = 0;
+        boolean byNakshatra = false;
+        for (int r = 0; r < rules.length; r++) {
+            VratRule rule = rules[r];
+            byNakshatra |= rule.nakshatraMask != 0;
+            if (rule.tithi == VratRule.NO_TITHI) continue;
+            if ((rule.paksha & VratRule.PAKSHA_SHUKLA) != 0) {
+                owner[t] = r;
+                tithiRules[t++] = FestivalRule.tithi(FestivalRule.EVERY_MONTH, rule.tithi, rule.kaal);
+            }
+            if ((rule.paksha & VratRule.PAKSHA_KRISHNA) != 0) {
+                owner[t] = r;
+                tithiRules[t++] = FestivalRule.tithi(FestivalRule.EVERY_MONTH, rule.tithi + 15, rule.kaal);
+            }
+        }
+        FestivalCalendar.Occurrences candidates = t == 0
+                ? new FestivalCalendar.Occurrences(new int[0], new int[0])
+                : FestivalCalendar.generate(Arrays.copyOf(tithiRules, t), startJdn, endJdn, lat, lon, timezone);
+
+        FestivalCalendar.Days days = new FestivalCalendar.Days(lat, lon, TimeZone.getTimeZone(timezone));
+        PanchangTransitions.Timeline nakshatras = byNakshatra
+                ? PanchangTransitions.timeline(PanchangTransitions.LIMB_NAKSHATRA, startJdn - 1.5, endJdn + 1.5,
+                        PanchangCalculator.PRECISION_PRECISE)
+                : null;
+
+        int capacity = candidates.size() + 16;
+        int[] ruleOut = new int[capacity];
+        int[] jdnOut = new int[capacity];
+        int n = 0;
+
+        for (int i = 0; i < candidates.size(); i++) {
+            int r = owner[candidates.rule[i]];
+            int jdn = candidates.jdn[i];
+            if (!matches(rules[r], jdn, days, nakshatras)) continue;
+            ruleOut[n] = r;
+            jdnOut[n] = jdn;
+            n++;
+        }
+
+        // Nakshatra-only rules: every day of the span is a candidate
+        for (int r = 0; r < rules.length; r++) {
+            if (rules[r].tithi != VratRule.NO_TITHI) continue;
+            for (int jdn = startJdn; jdn <= endJdn; jdn++) {
+                if (!matches(rules[r], jdn, days, nakshatras)) continue;
+                if (n == capacity) {
+                    capacity *= 2;
+                    ruleOut = Arrays.copyOf(ruleOut, capacity);
+                    jdnOut = Arrays.copyOf(jdnOut, capacity);
+                }
+                ruleOut[n] = r;
+                jdnOut[n] = jdn;
+                n++;
+            }
+        }
+
+        return FestivalCalendar.sorted(ruleOut, jdnOut, n);
+    }
+
+    // ==================== Internals ====================
+
+    private static boolean matches(VratRule rule, int jdn, FestivalCalendar.Days days,
+                                   PanchangTransitions.Timeline nakshatras) {
+        if (!rule.matchesWeekday(PanchangCalculator.dayOfWeek(jdn))) return false;
+        if (rule.nakshatraMask == 0) return true;
+        return rule.matchesNakshatra(nakshatras.index[nakshatras.intervalAt(days.sunriseJd(jdn))]);
+    }
+}
@@ -0,0 +1,86 @@
+package com.divyapath.panchang;
+
+/**
+ * A recurring personal observance: a tithi of either or both pakshas, optionally narrowed to
+ * some weekdays (Somvati Amavasya, Bhauma Pradosh) and to the nakshatra at sunrise, or a
+ * nakshatra alone with no tithi at all (Pushya for a monthly puja).
+ *
+ * Every field is a primitive so a rule stored as a database row maps straight back onto
+ * {@link #of}. Tithis are counted within the paksha, 0 Pratipada to 14 Purnima or Amavasya, and
+ * observed by the same kaal semantics as {@link FestivalRule}: {@link FestivalRule#KAAL_SUNRISE}
+ * is the udaya tithi.
+ */
+public final class VratRule {
+
+    public static final int PAKSHA_SHUKLA = 1;
+    public static final int PAKSHA_KRISHNA = 2;
+    public static final int PAKSHA_BOTH = PAKSHA_SHUKLA | PAKSHA_KRISHNA;
+
+    /** Tithi of a rule matched by nakshatra alone. */
+    public static final int NO_TITHI = -1;
+
+    final int tithi;          // 0-14 within the paksha, or NO_TITHI
+    final int paksha;         // PAKSHA_* bits
+    final int kaal;
+    final int weekdayMask;    // bit Calendar.SUNDAY..SATURDAY, 0 = any
+    final long nakshatraMask; // bit 0-26 for the nakshatra at sunrise, 0 = any
+
+    private VratRule(int tithi, int paksha, int kaal, int weekdayMask, long nakshatraMask) {
+        this.tithi = tithi;
+        this.paksha = paksha;
+        this.kaal = kaal;
+        this.weekdayMask = weekdayMask;
+        this.nakshatraMask = nakshatraMask;
+    }
+
+    /** A rule from its stored fields; see the getters for their meaning. */
+    public static VratRule of(int tithi, int paksha, int kaal, int weekdayMask, long nakshatraMask) {
+        if (tithi < NO_TITHI || tithi > 14) throw new IllegalArgumentException("tithi " + tithi);
+        if (tithi == NO_TITHI && nakshatraMask == 0) {
+            throw new IllegalArgumentException("rule needs a tithi or a nakshatra");
+        }
+        return new VratRule(tithi, paksha, kaal, weekdayMask, nakshatraMask);
+    }
+
+    /** Tithi {@code tithi} (0-14) of {@code paksha} every lunar month, observed where it covers {@code kaal}. */
+    public static VratRule tithi(int tithi, int paksha, int kaal) {
+        return of(tithi, paksha, kaal, 0, 0);
+    }
+
+    /** Every day whose sunrise falls in one of {@code nakshatras} (0 Ashwini to 26 Revati). */
+    public static VratRule nakshatra(int... nakshatras) {
+        return of(NO_TITHI, PAKSHA_BOTH, FestivalRule.KAAL_SUNRISE, 0, mask(nakshatras));
+    }
+
+    /** The same rule kept only on {@code weekdays} ({@link java.util.Calendar#SUNDAY} etc.). */
+    public VratRule onWeekdays(int... weekdays) {
+        int m = 0;
+        for (int w : weekdays) m |= 1 << w;
+        return new VratRule(tithi, paksha, kaal, m, nakshatraMask);
+    }
+
+    /** The same rule kept only when the nakshatra at sunrise is one of {@code nakshatras}. */
+    public VratRule inNakshatras(int... nakshatras) {
+        return new VratRule(tithi, paksha, kaal, weekdayMask, mask(nakshatras));
+    }
+
+    public int getTithi() { return tithi; }
+    public int getPaksha() { return paksha; }
+    public int getKaal() { return kaal; }
+    public int getWeekdayMask() { return weekdayMask; }
+    public long getNakshatraMask() { return nakshatraMask; }
+
+    boolean matchesWeekday(int dayOfWeek) {
+        return weekdayMask == 0 || (weekdayMask & (1 << dayOfWeek)) != 0;
+    }
+
+    boolean matchesNakshatra(int nakshatra) {
+        return nakshatraMask == 0 || (nakshatraMask & (1L << nakshatra)) != 0;
+    }
+
+    private static long mask(int[] nakshatras) {
+        long m = 0;
+        for (int n : nakshatras) m |= 1L << n;
+        return m;
+    }
+}
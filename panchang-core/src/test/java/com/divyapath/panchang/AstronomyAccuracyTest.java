@@ -0,0 +1,89 @@
+package com.divyapath.panchang;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.time.Instant;
+
+/**
+ * Spot checks of the underlying longitudes against textbook and almanac values.
+ */
+public class AstronomyAccuracyTest {
+
+    // Published UT instants, rounded to the minute: {instant, tithi index just before it}
+    private static final String[][] LUNAR_PHASES = {
+            {"2022-11-08T11:02:00Z", "14"},
+            {"2023-10-14T17:55:00Z", "29"},
+            {"2024-01-11T11:57:00Z", "29"},
+            {"2024-01-25T17:54:00Z", "14"},
+            {"2024-04-08T18:21:00Z", "29"},
+            {"2025-03-14T06:55:00Z", "14"},
+            {"2025-03-29T10:58:00Z", "29"},
+    };
+
+    // Makar Sankranti (Sun enters sidereal Capricorn) as published, in UT
+    private static final String[] MAKAR_SANKRANTI = {
+            "2023-01-14T15:14:00Z",
+            "2024-01-14T21:24:00Z",
+            "2025-01-14T03:33:00Z",
+    };
+
+    @Test
+    public void preciseMoonMatchesMeeusExample47a() {
+        // 1992 April 12, 0h TD: apparent longitude 133.167265 degrees
+        assertEquals(133.167265, PanchangCalculator.calculateMoonLongitudePrecise(2448724.5), 0.0002);
+    }
+
+    @Test
+    public void moonPositionMatchesMeeusExample47a() {
+        double[] position = new double[3];
+        PanchangCalculator.calculateMoonPosition(2448724.5, position);
+        assertEquals(133.167265, position[0], 0.0002);
+        // Latitude uses the 30 largest terms of table 47.B
+        assertEquals(-3.229126, position[1], 0.002);
+        assertEquals(368409.7, position[2], 1.0);
+    }
+
+    @Test
+    public void moonriseIsSkippedAboutOncePerLunarMonth() {
+        // The Moon rises ~50 minutes later each day, so one civil day per lunation has no moonrise
+        int jdn = PanchangCalculator.civilToJdn(2024, 1, 1);
+        int withoutRise = 0;
+        for (int i = 0; i < 366; i++) {
+            if (MoonRiseSet.minutes(jdn + i, 28.6139, 77.2090, 330)[0] == PanchangDay.NO_WINDOW) withoutRise++;
+        }
+        assertTrue("days without moonrise: " + withoutRise, withoutRise >= 12 && withoutRise <= 13);
+    }
+
+    @Test
+    public void newAndFullMoonsMatchPublishedInstants() {
+        for (String[] phase : LUNAR_PHASES) {
+            long published = Instant.parse(phase[0]).toEpochMilli();
+            double before = PanchangTransitions.millisToJd(published - 6 * 3_600_000L);
+            assertPhase(phase, before, PanchangCalculator.PRECISION_PRECISE, 2);
+            assertPhase(phase, before, PanchangCalculator.PRECISION_FAST, 12);
+        }
+    }
+
+    @Test
+    public void siderealSunReachesCapricornAtMakarSankranti() {
+        for (String instant : MAKAR_SANKRANTI) {
+            double jd = PanchangTransitions.millisToJd(Instant.parse(instant).toEpochMilli());
+            double sidereal = PanchangCalculator.normalizeDegrees(
+                    PanchangCalculator.sunLongitude(jd, PanchangCalculator.PRECISION_PRECISE)
+                            - PanchangCalculator.lahiriAyanamsa(jd));
+            // 0.02 degrees is about half an hour of solar motion
+            assertEquals(instant, 270.0, sidereal, 0.02);
+        }
+    }
+
+    private static void assertPhase(String[] phase, double beforeJd, int precision, int toleranceMinutes) {
+        int limb = PanchangTransitions.LIMB_TITHI;
+        assertEquals(phase[0], Integer.parseInt(phase[1]), PanchangTransitions.indexAt(limb, beforeJd, precision));
+        long solved = PanchangTransitions.jdToMillis(PanchangTransitions.nextTransition(limb, beforeJd, precision));
+        long published = Instant.parse(phase[0]).toEpochMilli();
+        assertEquals(phase[0] + " precision " + precision, published, solved, toleranceMinutes * 60_000L);
+    }
+}
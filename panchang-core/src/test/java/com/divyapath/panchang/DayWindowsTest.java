@@ -0,0 +1,82 @@
+package com.divyapath.panchang;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/** Binary-search lookups must agree with a plain scan of the day's windows. */
+public class DayWindowsTest {
+
+    private static PanchangDay day(int dayOfWeek) {
+        PanchangDay d = new PanchangDay(2025, 3, 14, dayOfWeek, 28.6, 77.2, "Asia/Kolkata",
+                PanchangCalculator.PRECISION_PRECISE);
+        d.setBrahmaWindow(-20, 28);          // starts before midnight
+        d.setAbhijitWindow(700, 748);
+        d.setRahuWindow(630, 720);           // overlaps Abhijit
+        d.setGulikaWindow(720, 810);         // touches Rahu
+        d.setYamghantWindow(900, 990);
+        return d;
+    }
+
+    @Test
+    public void activeMaskMatchesScan() {
+        PanchangDay d = day(Calendar.FRIDAY);
+        DayWindows w = DayWindows.of(d);
+        assertEquals(5, w.size());
+        for (int minute = -60; minute < 1500; minute++) {
+            int expected = 0;
+            if (minute >= -20 && minute < 28) expected |= 1 << DayWindows.BRAHMA;
+            if (minute >= 700 && minute < 748) expected |= 1 << DayWindows.ABHIJIT;
+            if (minute >= 630 && minute < 720) expected |= 1 << DayWindows.RAHU;
+            if (minute >= 720 && minute < 810) expected |= 1 << DayWindows.GULIKA;
+            if (minute >= 900 && minute < 990) expected |= 1 << DayWindows.YAMGHANT;
+            assertEquals("minute " + minute, expected, w.activeAt(minute));
+        }
+    }
+
+    @Test
+    public void windowsAreSortedByStart() {
+        DayWindows w = DayWindows.of(day(Calendar.FRIDAY));
+        for (int i = 1; i < w.size(); i++) assertTrue(w.startMinute(i - 1) <= w.startMinute(i));
+        assertEquals(DayWindows.BRAHMA, w.kind(0));
+        assertEquals(DayWindows.RAHU, w.kind(1));
+    }
+
+    @Test
+    public void currentAndNextFilterByKind() {
+        DayWindows w = DayWindows.of(day(Calendar.FRIDAY));
+        assertEquals(DayWindows.ABHIJIT, w.kind(w.current(710, DayWindows.AUSPICIOUS)));
+        assertEquals(DayWindows.RAHU, w.kind(w.current(710, DayWindows.INAUSPICIOUS)));
+        assertEquals(-1, w.current(600, DayWindows.AUSPICIOUS));
+        assertEquals(DayWindows.ABHIJIT, w.kind(w.next(600, DayWindows.AUSPICIOUS)));
+        assertEquals(-1, w.next(710, DayWindows.AUSPICIOUS));
+        assertEquals(DayWindows.YAMGHANT, w.kind(w.next(710, 1 << DayWindows.YAMGHANT)));
+    }
+
+    @Test
+    public void missingAbhijitIsLeftOut() {
+        PanchangDay d = day(Calendar.WEDNESDAY);
+        d.setAbhijitWindow(PanchangDay.NO_WINDOW, PanchangDay.NO_WINDOW);
+        DayWindows w = DayWindows.of(d);
+        assertEquals(4, w.size());
+        assertEquals(0, w.activeAt(710) & DayWindows.AUSPICIOUS);
+        assertEquals(-1, w.next(100, 1 << DayWindows.ABHIJIT));
+    }
+
+    @Test
+    public void calculatedDayHasAllWindows() {
+        Calendar date = Calendar.getInstance(TimeZone.getTimeZone("Asia/Kolkata"));
+        date.clear();
+        date.set(2025, Calendar.MARCH, 14);
+        PanchangDay d = PanchangCalculator.computeDay(date, 28.6139, 77.2090, "Asia/Kolkata",
+                PanchangCalculator.PRECISION_PRECISE);
+        DayWindows w = DayWindows.of(d);
+        assertEquals(5, w.size());
+        int rahu = w.current(d.getRahuStart(), 1 << DayWindows.RAHU);
+        assertEquals(d.getRahuEnd(), w.endMinute(rahu));
+    }
+}
@@ -0,0 +1,117 @@
+package com.divyapath.panchang;
+
+import static com.divyapath.panchang.FestivalRule.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Rule-generated festival dates against published tables, including a year with an
+ * adhika month (2026, Adhika Jyeshtha) that pushes later festivals back by a lunation.
+ */
+public class FestivalCalendarTest {
+
+    private static final String[] NAMES = {
+            "Makar Sankranti", "Basant Panchami", "Maha Shivaratri", "Holi", "Ram Navami",
+            "Guru Purnima", "Raksha Bandhan", "Janmashtami", "Ganesh Chaturthi", "Dussehra",
+            "Karva Chauth", "Dhanteras", "Diwali", "Govardhan Puja", "Bhai Dooj",
+    };
+    private static final FestivalRule[] RULES = {
+            sankranti(9),
+            tithi(MAGHA, 4, KAAL_SUNRISE),
+            tithi(MAGHA, 28, KAAL_NISHITA),
+            tithi(PHALGUNA, 14, KAAL_PRADOSH).plusDays(1),
+            tithi(CHAITRA, 8, KAAL_MADHYAHNA),
+            tithi(ASHADHA, 14, KAAL_SUNRISE),
+            tithi(SHRAVANA, 14, KAAL_SUNRISE),
+            tithi(SHRAVANA, 22, KAAL_SUNRISE),
+            tithi(BHADRAPADA, 3, KAAL_MADHYAHNA),
+            tithi(ASHVIN, 9, KAAL_APARAHNA),
+            tithi(ASHVIN, 18, KAAL_MOONRISE),
+            tithi(ASHVIN, 27, KAAL_PRADOSH),
+            tithi(ASHVIN, 29, KAAL_PRADOSH),
+            tithi(KARTIKA, 0, KAAL_SUNRISE),
+            tithi(KARTIKA, 1, KAAL_APARAHNA),
+    };
+
+    @Test
+    public void generatedDatesMatchPublishedTables() throws IOException {
+        FestivalCalendar.Occurrences dates = FestivalCalendar.generate(RULES,
+                PanchangCalculator.civilToJdn(2024, 1, 1), PanchangCalculator.civilToJdn(2026, 12, 31),
+                28.6139, 77.2090, "Asia/Kolkata");
+        Set<String> generated = new HashSet<>();
+        int[] ymd = new int[3];
+        for (int i = 0; i < dates.size(); i++) {
+            PanchangCalculator.jdnToCivil(dates.jdn[i], ymd);
+            generated.add(NAMES[dates.rule[i]] + "," + PanchangDay.dateKey(ymd[0], ymd[1], ymd[2]));
+        }
+
+        List<String> missing = new ArrayList<>();
+        for (String[] row : GoldenData.load("festivals.csv")) {
+            String expected = row[0] + "," + row[1];
+            if (!generated.contains(expected)) missing.add(expected);
+        }
+        assertTrue("not generated: " + missing, missing.isEmpty());
+    }
+
+    @Test
+    public void everyRuleOccursOncePerYear() {
+        int start = PanchangCalculator.civilToJdn(2027, 1, 1);
+        FestivalCalendar.Occurrences dates = FestivalCalendar.generate(RULES, start, start + 5 * 365,
+                28.6139, 77.2090, "Asia/Kolkata");
+        int[] counts = new int[RULES.length];
+        for (int i = 0; i < dates.size(); i++) {
+            counts[dates.rule[i]]++;
+            if (i > 0) assertTrue(dates.jdn[i] >= dates.jdn[i - 1]);
+        }
+        for (int r = 0; r < RULES.length; r++) assertEquals(NAMES[r], 5, counts[r]);
+    }
+
+    @Test
+    public void purnimantaMonthsMoveKrishnaPakshaBack() {
+        assertEquals(SHRAVANA, FestivalRule.amantaMonth(BHADRAPADA, 22));
+        assertEquals(BHADRAPADA, FestivalRule.amantaMonth(BHADRAPADA, 3));
+        assertEquals(PHALGUNA, FestivalRule.amantaMonth(CHAITRA, 29));
+
+        // Sarvapitri Amavasya is Ashwin Amavasya in purnimanta reckoning
+        FestivalRule[] rules = {purnimanta(ASHVIN, 29, KAAL_APARAHNA)};
+        FestivalCalendar.Occurrences dates = FestivalCalendar.generate(rules,
+                PanchangCalculator.civilToJdn(2024, 1, 1), PanchangCalculator.civilToJdn(2025, 12, 31),
+                28.6139, 77.2090, "Asia/Kolkata");
+        assertEquals(2, dates.size());
+        assertEquals(PanchangCalculator.civilToJdn(2024, 10, 2), dates.jdn[0]);
+        assertEquals(PanchangCalculator.civilToJdn(2025, 9, 21), dates.jdn[1]);
+    }
+
+    @Test
+    public void everyMonthRuleOccursEachLunation() {
+        FestivalRule[] rules = {tithi(EVERY_MONTH, 10, KAAL_SUNRISE), tithi(KARTIKA, 10, KAAL_SUNRISE)};
+        int start = PanchangCalculator.civilToJdn(2025, 1, 1);
+        FestivalCalendar.Occurrences dates = FestivalCalendar.generate(rules, start, start + 364,
+                28.6139, 77.2090, "Asia/Kolkata");
+        int monthly = 0;
+        int kartika = 0;
+        int previous = -1;
+        for (int i = 0; i < dates.size(); i++) {
+            if (dates.rule[i] == 1) {
+                // Same lunation and tithi through both buckets, so the same day
+                assertEquals(previous, dates.jdn[i]);
+                kartika++;
+                continue;
+            }
+            if (previous >= 0) assertEquals(29.5, dates.jdn[i] - previous, 1.5);
+            previous = dates.jdn[i];
+            monthly++;
+        }
+        // 2025 has no adhika month and Shukla Ekadashis on 10 January and 30 December
+        assertEquals(13, monthly);
+        assertEquals(1, kartika);
+    }
+}
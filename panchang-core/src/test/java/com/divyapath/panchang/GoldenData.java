@@ -0,0 +1,57 @@
+package com.divyapath.panchang;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Loader for the published reference tables under {@code src/test/resources/golden}.
+ * Lines starting with '#' are comments; every other line is one comma-separated row.
+ */
+final class GoldenData {
+
+    private GoldenData() {}
+
+    static List<String[]> load(String name) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        InputStream in = GoldenData.class.getResourceAsStream("/golden/" + name);
+        if (in == null) throw new IOException("Missing golden table " + name);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                rows.add(line.split(",", -1));
+            }
+        }
+        return rows;
+    }
+
+    /** Local midnight of an ISO "yyyy-MM-dd" date in {@code timezone}. */
+    static Calendar date(String iso, String timezone) {
+        Calendar c = Calendar.getInstance(TimeZone.getTimeZone(timezone));
+        c.clear();
+        c.set(Integer.parseInt(iso.substring(0, 4)),
+                Integer.parseInt(iso.substring(5, 7)) - 1,
+                Integer.parseInt(iso.substring(8, 10)));
+        return c;
+    }
+
+    /** "HH:mm" or "HH:mm+N" to minutes from local midnight of the row's date. */
+    static int minutes(String hhmm) {
+        int dayOffset = 0;
+        int plus = hhmm.indexOf('+');
+        if (plus >= 0) {
+            dayOffset = Integer.parseInt(hhmm.substring(plus + 1));
+            hhmm = hhmm.substring(0, plus);
+        }
+        int colon = hhmm.indexOf(':');
+        return dayOffset * 1440 + Integer.parseInt(hhmm.substring(0, colon)) * 60
+                + Integer.parseInt(hhmm.substring(colon + 1));
+    }
+}
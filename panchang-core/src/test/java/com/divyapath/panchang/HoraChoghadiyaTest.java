@@ -0,0 +1,122 @@
+package com.divyapath.panchang;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+
+/**
+ * Slot sequences against the traditional tables, and slot bounds against sunrise and sunset.
+ */
+public class HoraChoghadiyaTest {
+
+    private static final double LAT = 28.6139;
+    private static final double LON = 77.2090;
+    private static final String TZ = "Asia/Kolkata";
+
+    // 2025-03-16 is a Sunday, 2025-03-22 a Saturday
+    private static PanchangDay day(String date) {
+        return PanchangCalculator.computeDay(GoldenData.date(date, TZ), LAT, LON, TZ,
+                PanchangCalculator.PRECISION_PRECISE);
+    }
+
+    private static String[] choghadiyas(PanchangDay d, int from) {
+        String[] names = new String[8];
+        for (int i = 0; i < 8; i++) names[i] = PanchangCalculator.getChoghadiyaName(d.getChoghadiyaLord(from + i));
+        return names;
+    }
+
+    @Test
+    public void sundayChoghadiyas() {
+        PanchangDay d = day("2025-03-16");
+        assertEquals(Calendar.SUNDAY, d.getDayOfWeek());
+        assertArrayEquals(new String[]{"Udveg", "Char", "Labh", "Amrit", "Kaal", "Shubh", "Rog", "Udveg"},
+                choghadiyas(d, 0));
+        assertArrayEquals(new String[]{"Shubh", "Amrit", "Char", "Rog", "Kaal", "Labh", "Udveg", "Shubh"},
+                choghadiyas(d, 8));
+    }
+
+    @Test
+    public void saturdayChoghadiyas() {
+        PanchangDay d = day("2025-03-22");
+        assertEquals(Calendar.SATURDAY, d.getDayOfWeek());
+        assertArrayEquals(new String[]{"Kaal", "Shubh", "Rog", "Udveg", "Char", "Labh", "Amrit", "Kaal"},
+                choghadiyas(d, 0));
+        assertArrayEquals(new String[]{"Labh", "Udveg", "Shubh", "Amrit", "Char", "Rog", "Kaal", "Labh"},
+                choghadiyas(d, 8));
+    }
+
+    @Test
+    public void horasFollowChaldeanOrderFromWeekdayLord() {
+        PanchangDay d = day("2025-03-16");
+        assertEquals(24, d.getHoraCount());
+        assertEquals(PanchangCalculator.PLANET_SUN, d.getHoraLord(0));
+        assertEquals(PanchangCalculator.PLANET_VENUS, d.getHoraLord(1));
+        assertEquals(PanchangCalculator.PLANET_JUPITER, d.getHoraLord(12)); // first hora of the night
+        for (int i = 0; i < 7; i++) {
+            PanchangDay w = day("2025-03-" + (16 + i));
+            assertEquals(w.getDayOfWeek() - 1, w.getHoraLord(0));
+        }
+    }
+
+    @Test
+    public void slotsTileSunriseToNextSunrise() {
+        PanchangDay d = day("2025-06-21");
+        assertEquals(d.getSunriseMinute(), d.getHoraStart(0));
+        assertEquals(d.getSunsetMinute(), d.getHoraStart(12));
+        assertEquals(d.getNextSunriseMinute(), d.getHoraEnd(23));
+        assertEquals(d.getSunsetMinute(), d.getChoghadiyaStart(8));
+        assertEquals(d.getNextSunriseMinute(), d.getChoghadiyaEnd(15));
+        for (int i = 0; i < 23; i++) assertEquals(d.getHoraEnd(i), d.getHoraStart(i + 1));
+
+        assertEquals(-1, d.horaAt(d.getSunriseMinute() - 1));
+        assertEquals(0, d.horaAt(d.getSunriseMinute()));
+        assertEquals(12, d.horaAt(d.getSunsetMinute()));
+        assertEquals(23, d.horaAt(d.getNextSunriseMinute() - 1));
+        assertEquals(-1, d.horaAt(d.getNextSunriseMinute()));
+        assertEquals(15, d.choghadiyaAt(d.getNextSunriseMinute() - 1));
+        // Summer day horas are longer than night ones
+        assertTrue(d.getHoraEnd(0) - d.getHoraStart(0) > d.getHoraEnd(12) - d.getHoraStart(12));
+    }
+
+    @Test
+    public void beforeSunriseThePreviousNightStillRuns() {
+        PanchangDay yesterday = day("2025-06-20");
+        PanchangDay today = day("2025-06-21");
+        int minute = today.getSunriseMinute() - 1;
+        assertEquals(-1, today.horaAt(minute));
+        // Yesterday's slots count minutes from yesterday's midnight
+        assertEquals(23, yesterday.horaAt(minute + 24 * 60));
+        assertEquals(15, yesterday.choghadiyaAt(minute + 24 * 60));
+        assertEquals(today.getSunriseMinute() + 24 * 60, yesterday.getNextSunriseMinute());
+    }
+
+    @Test
+    public void restoringNextSunriseRebuildsSlots() {
+        PanchangDay d = day("2025-03-16");
+        PanchangDay restored = new PanchangDay(d.getYear(), d.getMonth(), d.getDayOfMonth(), d.getDayOfWeek(),
+                LAT, LON, TZ, d.getPrecision());
+        restored.setSunriseMinute(d.getSunriseMinute());
+        restored.setSunsetMinute(d.getSunsetMinute());
+        restored.setNextSunriseMinute(d.getNextSunriseMinute());
+        for (int i = 0; i < 24; i++) {
+            assertEquals(d.getHoraStart(i), restored.getHoraStart(i));
+            assertEquals(d.getHoraLord(i), restored.getHoraLord(i));
+        }
+        for (int i = 0; i < 16; i++) {
+            assertEquals(d.getChoghadiyaStart(i), restored.getChoghadiyaStart(i));
+            assertEquals(d.getChoghadiyaLord(i), restored.getChoghadiyaLord(i));
+        }
+    }
+
+    @Test
+    public void settersRefreshTheCachedMap() {
+        PanchangDay d = day("2025-03-16");
+        String sunrise = d.asMap().get("sunrise");
+        d.setSunriseMinute(d.getSunriseMinute() + 60);
+        assertTrue(!sunrise.equals(d.asMap().get("sunrise")));
+    }
+}
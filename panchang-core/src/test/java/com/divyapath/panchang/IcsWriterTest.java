@@ -0,0 +1,101 @@
+package com.divyapath.panchang;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/** Output must be valid RFC 5545: CRLF lines of at most 75 octets, escaped text, one VEVENT per day. */
+public class IcsWriterTest {
+
+    private static final long NOW = 1735689600000L; // 2025-01-01T00:00:00Z
+
+    @Test
+    public void eventIsEscapedAndDated() throws IOException {
+        StringWriter sw = new StringWriter();
+        try (IcsWriter ics = new IcsWriter(sw, "Test", "example.org", NOW)) {
+            ics.allDayEvent("festival-" + ics.dateDigits(2460749), 2460749, "Holi; colours, joy", "line one\nline two");
+        }
+        String s = sw.toString();
+        assertTrue(s.startsWith("BEGIN:VCALENDAR\r\n"));
+        assertTrue(s.endsWith("END:VCALENDAR\r\n"));
+        assertTrue(s.contains("UID:festival-20250314@example.org\r\n"));
+        assertTrue(s.contains("DTSTAMP:20250101T000000Z\r\n"));
+        assertTrue(s.contains("DTSTART;VALUE=DATE:20250314\r\n"));
+        assertTrue(s.contains("DTEND;VALUE=DATE:20250315\r\n"));
+        assertTrue(s.contains("SUMMARY:Holi\\; colours\\, joy\r\n"));
+        assertTrue(s.contains("DESCRIPTION:line one\\nline two\r\n"));
+    }
+
+    @Test
+    public void longLinesFoldAtSeventyFiveOctets() throws IOException {
+        StringWriter sw = new StringWriter();
+        StringBuilder summary = new StringBuilder();
+        for (int i = 0; i < 40; i++) summary.append("एकादशी ");
+        try (IcsWriter ics = new IcsWriter(sw, "Test", "example.org", NOW)) {
+            ics.allDayEvent("x", 2460749, summary.toString(), null);
+        }
+        assertLinesValid(sw.toString());
+        // Unfolding restores the original text
+        String unfolded = sw.toString().replace("\r\n ", "");
+        assertTrue(unfolded.contains("SUMMARY:" + summary + "\r\n"));
+    }
+
+    @Test
+    public void panchangDaysStreamOneEventPerDay() throws IOException {
+        StringWriter sw = new StringWriter();
+        int start = PanchangCalculator.civilToJdn(2024, 12, 20);
+        try (IcsWriter ics = new IcsWriter(sw, "Panchang", "example.org", NOW)) {
+            ics.panchangDays(start, 70, 28.6139, 77.2090, "Asia/Kolkata", PanchangCalculator.PRECISION_FAST);
+        }
+        String s = sw.toString();
+        assertLinesValid(s);
+        assertEquals(70, s.split("BEGIN:VEVENT", -1).length - 1);
+        assertTrue(s.contains("UID:panchang-20241220@example.org"));
+        assertTrue(s.contains("UID:panchang-20250227@example.org"));
+        assertTrue(s.contains("DTSTART;VALUE=DATE:20250101\r\n"));
+    }
+
+    @Test
+    public void tithiEndingAfterMidnightIsMarkedNextDay() throws IOException {
+        Calendar from = Calendar.getInstance(TimeZone.getTimeZone("Asia/Kolkata"));
+        from.clear();
+        from.set(2025, Calendar.JANUARY, 1);
+        PanchangDay[] days = PanchangCalculator.computeRange(from, 30, 28.6139, 77.2090, "Asia/Kolkata",
+                PanchangCalculator.PRECISION_FAST);
+        PanchangDay late = null;
+        for (PanchangDay d : days) {
+            if (d.getTithiEndMinute() >= 24 * 60) {
+                late = d;
+                break;
+            }
+        }
+        assertNotNull("no tithi ending after midnight in January 2025", late);
+
+        StringWriter sw = new StringWriter();
+        int jdn = PanchangCalculator.civilToJdn(late.getYear(), late.getMonth(), late.getDayOfMonth());
+        try (IcsWriter ics = new IcsWriter(sw, "Panchang", "example.org", NOW)) {
+            ics.panchangDays(jdn, 1, 28.6139, 77.2090, "Asia/Kolkata", PanchangCalculator.PRECISION_FAST);
+        }
+        String unfolded = sw.toString().replace("\r\n ", "");
+        String end = PanchangDay.formatEnd(late.getTithiEndMinute());
+        assertTrue(end.endsWith(" +1"));
+        assertTrue(unfolded.contains(PanchangCalculator.getTithiName(late.getTithiIndex()) + " until " + end + "\\n"));
+    }
+
+    private static void assertLinesValid(String s) {
+        String[] lines = s.split("\r\n", -1);
+        assertEquals("", lines[lines.length - 1]);
+        for (int i = 0; i < lines.length - 1; i++) {
+            assertTrue("bare LF in line " + i, lines[i].indexOf('\n') < 0);
+            assertTrue("line " + i + " too long", lines[i].getBytes(StandardCharsets.UTF_8).length <= 75);
+        }
+    }
+}
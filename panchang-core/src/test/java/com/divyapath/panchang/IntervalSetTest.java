@@ -0,0 +1,66 @@
+package com.divyapath.panchang;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Sweep-line set operations, including touching and nested intervals.
+ */
+public class IntervalSetTest {
+
+    @Test
+    public void builderMergesTouchingIntervals() {
+        IntervalSet set = set(0, 1, 1, 2, 3, 4, 3.5, 5);
+        assertArrayEquals(new double[]{0, 2, 3, 5}, flatten(set), 0);
+    }
+
+    @Test
+    public void intersectKeepsOnlyOverlaps() {
+        IntervalSet a = set(0, 4, 6, 10);
+        IntervalSet b = set(1, 2, 3, 7, 9, 12);
+        assertArrayEquals(new double[]{1, 2, 3, 4, 6, 7, 9, 10}, flatten(a.intersect(b)), 0);
+        assertEquals(0, a.intersect(IntervalSet.EMPTY).size());
+    }
+
+    @Test
+    public void subtractSplitsAroundHoles() {
+        IntervalSet a = set(0, 10, 20, 30);
+        IntervalSet holes = set(-1, 1, 3, 4, 9, 21, 25, 26, 29, 40);
+        assertArrayEquals(new double[]{1, 3, 4, 9, 21, 25, 26, 29}, flatten(a.subtract(holes)), 0);
+        assertArrayEquals(flatten(a), flatten(a.subtract(IntervalSet.EMPTY)), 0);
+    }
+
+    @Test
+    public void unionMergesAcrossOperands() {
+        IntervalSet a = set(0, 2, 5, 6);
+        IntervalSet b = set(1, 3, 6, 7, 9, 10);
+        assertArrayEquals(new double[]{0, 3, 5, 7, 9, 10}, flatten(a.union(b)), 0);
+    }
+
+    @Test
+    public void lookupsUseHalfOpenBounds() {
+        IntervalSet set = set(0, 1, 2, 3);
+        assertEquals(0, set.indexOf(0));
+        assertEquals(-1, set.indexOf(1));
+        assertEquals(1, set.indexOf(2.5));
+        assertEquals(1, set.nextIndex(1));
+        assertEquals(-1, set.nextIndex(3));
+    }
+
+    private static IntervalSet set(double... bounds) {
+        IntervalSet.Builder b = new IntervalSet.Builder(bounds.length / 2);
+        for (int i = 0; i < bounds.length; i += 2) b.add(bounds[i], bounds[i + 1]);
+        return b.build();
+    }
+
+    private static double[] flatten(IntervalSet set) {
+        double[] out = new double[set.size() * 2];
+        for (int i = 0; i < set.size(); i++) {
+            out[2 * i] = set.startJd(i);
+            out[2 * i + 1] = set.endJd(i);
+        }
+        return out;
+    }
+}
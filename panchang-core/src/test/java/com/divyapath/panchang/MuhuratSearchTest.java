@@ -0,0 +1,79 @@
+package com.divyapath.panchang;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * Every window a search returns must satisfy the query when checked point by point
+ * against the single-day calculator.
+ */
+public class MuhuratSearchTest {
+
+    private static final double LAT = 28.6139;
+    private static final double LON = 77.2090;
+    private static final String TZ = "Asia/Kolkata";
+    private static final int PRECISE = PanchangCalculator.PRECISION_PRECISE;
+
+    @Test
+    public void windowsSatisfyEveryConstraint() {
+        MuhuratSearch.Query query = new MuhuratSearch.Query()
+                .nakshatras(3, 7) // Rohini, Pushya
+                .shuklaPaksha()
+                .daytimeOnly()
+                .avoidRahuKaal()
+                .minMinutes(30);
+        IntervalSet windows = MuhuratSearch.find(query, PanchangCalculator.civilToJdn(2025, 1, 1), 90,
+                LAT, LON, TZ, PRECISE);
+        assertFalse(windows.isEmpty());
+
+        for (int i = 0; i < windows.size(); i++) {
+            double start = windows.startJd(i);
+            double end = windows.endJd(i);
+            assertTrue(end - start >= 30 / 1440.0);
+            // Sample inside the window, away from the edges
+            for (double jd = start + 1e-4; jd < end; jd += 10 / 1440.0) {
+                int nakshatra = PanchangTransitions.indexAt(PanchangTransitions.LIMB_NAKSHATRA, jd, PRECISE);
+                assertTrue("nakshatra " + nakshatra, nakshatra == 3 || nakshatra == 7);
+                assertTrue(PanchangTransitions.indexAt(PanchangTransitions.LIMB_TITHI, jd, PRECISE) < 15);
+
+                PanchangDay day = dayAt(jd);
+                int minute = minuteOfDay(jd);
+                assertTrue(minute >= day.getSunriseMinute() && minute <= day.getSunsetMinute());
+                assertFalse(minute > day.getRahuStart() && minute < day.getRahuEnd());
+            }
+        }
+    }
+
+    @Test
+    public void unconstrainedQueryReturnsWholeSpan() {
+        int jdn = PanchangCalculator.civilToJdn(2025, 3, 1);
+        IntervalSet windows = MuhuratSearch.find(new MuhuratSearch.Query(), jdn, 31, LAT, LON, TZ, PRECISE);
+        assertEquals(1, windows.size());
+        assertEquals(31.0, windows.endJd(0) - windows.startJd(0), 1e-9);
+    }
+
+    @Test
+    public void contradictoryQueryIsEmpty() {
+        MuhuratSearch.Query query = new MuhuratSearch.Query().shuklaPaksha().krishnaPaksha();
+        assertTrue(MuhuratSearch.find(query, PanchangCalculator.civilToJdn(2025, 1, 1), 60,
+                LAT, LON, TZ, PRECISE).isEmpty());
+    }
+
+    private static PanchangDay dayAt(double jd) {
+        Calendar c = Calendar.getInstance(TimeZone.getTimeZone(TZ));
+        c.setTimeInMillis(PanchangTransitions.jdToMillis(jd));
+        return PanchangCalculator.computeDay(c, LAT, LON, TZ, PRECISE);
+    }
+
+    private static int minuteOfDay(double jd) {
+        Calendar c = Calendar.getInstance(TimeZone.getTimeZone(TZ));
+        c.setTimeInMillis(PanchangTransitions.jdToMillis(jd));
+        return c.get(Calendar.HOUR_OF_DAY) * 60 + c.get(Calendar.MINUTE);
+    }
+}
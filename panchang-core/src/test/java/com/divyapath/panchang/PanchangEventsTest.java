@@ -0,0 +1,85 @@
+package com.divyapath.panchang;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Event finder against published eclipse lists and the regular rhythm of the lunar calendar.
+ */
+public class PanchangEventsTest {
+
+    private static final int PRECISE = PanchangCalculator.PRECISION_PRECISE;
+
+    // Every eclipse of 2023-2026 (UT date of greatest eclipse), per the NASA eclipse catalogues
+    private static final String[] ECLIPSES = {
+            "2023-04-20 solar 3", "2023-05-05 lunar 0", "2023-10-14 solar 2", "2023-10-28 lunar 1",
+            "2024-03-25 lunar 0", "2024-04-08 solar 4", "2024-09-18 lunar 1", "2024-10-02 solar 2",
+            "2025-03-14 lunar 4", "2025-03-29 solar 1", "2025-09-07 lunar 4", "2025-09-21 solar 1",
+            "2026-02-17 solar 2", "2026-03-03 lunar 4", "2026-08-12 solar 4", "2026-08-28 lunar 1",
+    };
+
+    @Test
+    public void eclipsesMatchPublishedList() {
+        PanchangEvents.Events events = PanchangEvents.find(jd(2023), jd(2027), PRECISE);
+        List<String> found = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            int type = events.type[i];
+            if (type != PanchangEvents.SOLAR_ECLIPSE && type != PanchangEvents.LUNAR_ECLIPSE) continue;
+            String date = Instant.ofEpochMilli(PanchangTransitions.jdToMillis(events.jd[i])).toString().substring(0, 10);
+            found.add(date + (type == PanchangEvents.SOLAR_ECLIPSE ? " solar " : " lunar ") + events.detail[i]);
+        }
+        assertEquals(List.of(ECLIPSES), found);
+    }
+
+    @Test
+    public void yearHasTwelveSankrantisAndAlternatingPhases() {
+        PanchangEvents.Events events = PanchangEvents.find(jd(2025), jd(2026), PRECISE);
+        int sankrantis = 0;
+        int ekadashis = 0;
+        int lastPhase = -1;
+        for (int i = 0; i < events.size(); i++) {
+            if (i > 0) assertTrue("events out of order at " + i, events.jd[i] >= events.jd[i - 1]);
+            switch (events.type[i]) {
+                case PanchangEvents.SANKRANTI:
+                    sankrantis++;
+                    break;
+                case PanchangEvents.EKADASHI:
+                    ekadashis++;
+                    assertTrue(events.endJd[i] > events.jd[i]);
+                    break;
+                case PanchangEvents.AMAVASYA:
+                case PanchangEvents.PURNIMA:
+                    assertTrue("two consecutive " + events.type[i], events.type[i] != lastPhase);
+                    lastPhase = events.type[i];
+                    break;
+            }
+        }
+        assertEquals(12, sankrantis);
+        assertTrue("ekadashis: " + ekadashis, ekadashis >= 24 && ekadashis <= 26);
+    }
+
+    @Test
+    public void makarSankrantiMatchesPublishedInstant() {
+        // 2025-01-14 03:33 UT (see AstronomyAccuracyTest)
+        double published = PanchangTransitions.millisToJd(Instant.parse("2025-01-14T03:33:00Z").toEpochMilli());
+        PanchangEvents.Events events = PanchangEvents.find(published - 10, published + 10, PRECISE);
+        for (int i = 0; i < events.size(); i++) {
+            if (events.type[i] == PanchangEvents.SANKRANTI) {
+                assertEquals(9, events.detail[i]); // Makara
+                assertEquals(published, events.jd[i], 30.0 / 1440);
+                return;
+            }
+        }
+        throw new AssertionError("no Sankranti found");
+    }
+
+    private static double jd(int year) {
+        return PanchangCalculator.civilToJdn(year, 1, 1) - 0.5;
+    }
+}
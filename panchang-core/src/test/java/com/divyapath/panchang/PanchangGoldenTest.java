@@ -0,0 +1,106 @@
+package com.divyapath.panchang;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Regression suite against published Panchang tables for several cities and years.
+ * Both precision tiers must agree with the tables on which limb is current at sunrise;
+ * times are allowed a per-tier tolerance.
+ */
+public class PanchangGoldenTest {
+
+    private static final int[] TIERS = {PanchangCalculator.PRECISION_FAST, PanchangCalculator.PRECISION_PRECISE};
+
+    // Published tables round to the minute; FAST also trades accuracy for speed
+    private static final int SUN_TOLERANCE_FAST = 3;
+    private static final int SUN_TOLERANCE_PRECISE = 2;
+    private static final int END_TOLERANCE_FAST = 15;
+    private static final int END_TOLERANCE_PRECISE = 3;
+    private static final int MOON_TOLERANCE = 3;
+
+    @Test
+    public void sunriseAndSunsetMatchPublishedTables() throws IOException {
+        List<String> failures = new ArrayList<>();
+        for (String[] row : GoldenData.load("sunrise.csv")) {
+            for (int precision : TIERS) {
+                PanchangDay day = computeAtSunrise(row, precision);
+                int tolerance = precision == PanchangCalculator.PRECISION_PRECISE
+                        ? SUN_TOLERANCE_PRECISE : SUN_TOLERANCE_FAST;
+                check(failures, row, precision, "sunrise", GoldenData.minutes(row[5]), day.getSunriseMinute(), tolerance);
+                check(failures, row, precision, "sunset", GoldenData.minutes(row[6]), day.getSunsetMinute(), tolerance);
+            }
+        }
+        assertTrue(String.join("\n", failures), failures.isEmpty());
+    }
+
+    @Test
+    public void udayaTithiAndNakshatraMatchPublishedTables() throws IOException {
+        List<String> failures = new ArrayList<>();
+        for (String[] row : GoldenData.load("tithi.csv")) {
+            for (int precision : TIERS) {
+                PanchangDay day = computeAtSunrise(row, precision);
+                int tolerance = precision == PanchangCalculator.PRECISION_PRECISE
+                        ? END_TOLERANCE_PRECISE : END_TOLERANCE_FAST;
+                if (day.getTithiIndex() != Integer.parseInt(row[5])) {
+                    failures.add(label(row, precision) + " tithi " + day.getTithiIndex() + " != " + row[5]);
+                }
+                if (!row[6].isEmpty()) {
+                    check(failures, row, precision, "tithi end", GoldenData.minutes(row[6]), day.getTithiEndMinute(), tolerance);
+                }
+                if (!row[7].isEmpty() && day.getNakshatraIndex() != Integer.parseInt(row[7])) {
+                    failures.add(label(row, precision) + " nakshatra " + day.getNakshatraIndex() + " != " + row[7]);
+                }
+                if (!row[8].isEmpty()) {
+                    check(failures, row, precision, "nakshatra end", GoldenData.minutes(row[8]),
+                            day.getNakshatraEndMinute(), tolerance);
+                }
+            }
+        }
+        assertTrue(String.join("\n", failures), failures.isEmpty());
+    }
+
+    @Test
+    public void moonriseMatchesPublishedTables() throws IOException {
+        List<String> failures = new ArrayList<>();
+        for (String[] row : GoldenData.load("moonrise.csv")) {
+            // Moonrise does not depend on the tier; it always uses the full lunar theory
+            PanchangDay day = computeAtSunrise(row, PanchangCalculator.PRECISION_FAST);
+            check(failures, row, PanchangCalculator.PRECISION_FAST, "moonrise", GoldenData.minutes(row[5]),
+                    day.getMoonriseMinute(), MOON_TOLERANCE);
+        }
+        assertTrue(String.join("\n", failures), failures.isEmpty());
+    }
+
+    @Test
+    public void goldenTablesAreNotEmpty() throws IOException {
+        assertEquals(9, GoldenData.load("sunrise.csv").size());
+        assertEquals(17, GoldenData.load("tithi.csv").size());
+        assertEquals(3, GoldenData.load("moonrise.csv").size());
+        assertEquals(27, GoldenData.load("festivals.csv").size());
+    }
+
+    /** One-day range: limbs are taken at sunrise, as the published tables do. */
+    private static PanchangDay computeAtSunrise(String[] row, int precision) {
+        return PanchangCalculator.computeRange(GoldenData.date(row[4], row[3]), 1,
+                Double.parseDouble(row[1]), Double.parseDouble(row[2]), row[3], precision)[0];
+    }
+
+    private static void check(List<String> failures, String[] row, int precision, String what,
+                              int expected, int actual, int tolerance) {
+        if (Math.abs(expected - actual) > tolerance) {
+            failures.add(label(row, precision) + " " + what + " " + PanchangDay.formatEnd(actual)
+                    + " vs published " + PanchangDay.formatEnd(expected));
+        }
+    }
+
+    private static String label(String[] row, int precision) {
+        return row[0] + " " + row[4] + (precision == PanchangCalculator.PRECISION_PRECISE ? " [precise]" : " [fast]");
+    }
+}
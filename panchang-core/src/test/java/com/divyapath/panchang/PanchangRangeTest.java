@@ -0,0 +1,97 @@
+package com.divyapath.panchang;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * The batch path must agree with the single-day path it replaces.
+ */
+public class PanchangRangeTest {
+
+    @Test
+    public void rangeMatchesSingleDayEvaluatedAtSunrise() {
+        String tz = "Europe/London"; // crosses both DST transitions
+        Calendar start = GoldenData.date("2024-01-01", tz);
+        PanchangDay[] range = PanchangCalculator.computeRange(start, 366, 51.5074, -0.1278, tz);
+        assertEquals(366, range.length);
+
+        for (PanchangDay day : range) {
+            Calendar c = Calendar.getInstance(TimeZone.getTimeZone(tz));
+            c.clear();
+            c.set(day.getYear(), day.getMonth() - 1, day.getDayOfMonth(),
+                    day.getSunriseMinute() / 60, day.getSunriseMinute() % 60, 30);
+            PanchangDay single = PanchangCalculator.computeDay(c, 51.5074, -0.1278, tz);
+            String key = day.getDateKey();
+            assertEquals(key, single.getDayOfWeek(), day.getDayOfWeek());
+            assertEquals(key, single.getSunriseMinute(), day.getSunriseMinute());
+            assertEquals(key, single.getSunsetMinute(), day.getSunsetMinute());
+            assertEquals(key, single.getTithiIndex(), day.getTithiIndex());
+            assertEquals(key, single.getNakshatraIndex(), day.getNakshatraIndex());
+            assertEquals(key, single.getTithiEndMinute(), day.getTithiEndMinute(), 1);
+            assertEquals(key, single.getNextSunriseMinute(), day.getNextSunriseMinute());
+        }
+    }
+
+    @Test
+    public void nextSunriseMatchesFollowingDay() {
+        String tz = "Europe/London";
+        PanchangDay[] range = PanchangCalculator.computeRange(GoldenData.date("2024-01-01", tz), 366,
+                51.5074, -0.1278, tz);
+        int shifted = 0;
+        for (int i = 0; i + 1 < range.length; i++) {
+            // Same instant, counted from the earlier midnight; an hour apart across a DST change
+            int diff = range[i].getNextSunriseMinute() - 1440 - range[i + 1].getSunriseMinute();
+            if (diff != 0) {
+                assertEquals(range[i].getDateKey(), 60, Math.abs(diff), 1);
+                shifted++;
+            }
+        }
+        assertEquals(2, shifted);
+    }
+
+    @Test
+    public void locationsMatchRangeAtEachLocation() {
+        double[] lat = {28.6139, 40.0583, 51.5074, -33.8688, 21.3069};
+        double[] lon = {77.2090, -74.4057, -0.1278, 151.2093, -157.8583};
+        String[] tz = {"Asia/Kolkata", "America/New_York", "Europe/London", "Australia/Sydney", "Pacific/Honolulu"};
+        int precision = PanchangCalculator.PRECISION_PRECISE;
+        for (String date : new String[]{"2024-03-31", "2025-01-29", "2025-08-15"}) {
+            String[] ymd = date.split("-");
+            PanchangDay[] days = PanchangCalculator.computeLocations(Integer.parseInt(ymd[0]),
+                    Integer.parseInt(ymd[1]), Integer.parseInt(ymd[2]), lat, lon, tz, precision);
+            assertEquals(lat.length, days.length);
+            for (int i = 0; i < lat.length; i++) {
+                PanchangDay expected = PanchangCalculator.computeRange(GoldenData.date(date, tz[i]), 1,
+                        lat[i], lon[i], tz[i], precision)[0];
+                PanchangDay day = days[i];
+                String key = date + " " + tz[i];
+                assertEquals(key, date, day.getDateKey());
+                assertEquals(key, expected.getDayOfWeek(), day.getDayOfWeek());
+                assertEquals(key, expected.getSunriseMinute(), day.getSunriseMinute());
+                assertEquals(key, expected.getNextSunriseMinute(), day.getNextSunriseMinute());
+                assertEquals(key, expected.getRahuStart(), day.getRahuStart());
+                assertEquals(key, expected.getMoonriseMinute(), day.getMoonriseMinute());
+                assertEquals(key, expected.getTithiIndex(), day.getTithiIndex());
+                assertEquals(key, expected.getNakshatraIndex(), day.getNakshatraIndex());
+                assertEquals(key, expected.getYogaIndex(), day.getYogaIndex());
+                assertEquals(key, expected.getKaranaIndex(), day.getKaranaIndex());
+                assertEquals(key, expected.getTithiEndMinute(), day.getTithiEndMinute(), 1);
+                assertEquals(key, expected.getNakshatraEndMinute(), day.getNakshatraEndMinute(), 1);
+                assertEquals(key, expected.getKaranaEndMinute(), day.getKaranaEndMinute(), 1);
+            }
+        }
+    }
+
+    @Test
+    public void computeMonthCoversWholeMonth() {
+        PanchangDay[] feb = PanchangCalculator.computeMonth(2024, 2, 28.6139, 77.2090, "Asia/Kolkata");
+        assertEquals(29, feb.length);
+        assertEquals("2024-02-01", feb[0].getDateKey());
+        assertEquals("2024-02-29", feb[28].getDateKey());
+        assertEquals(Calendar.THURSDAY, feb[0].getDayOfWeek());
+    }
+}
@@ -0,0 +1,95 @@
+package com.divyapath.panchang;
+
+import static com.divyapath.panchang.PanchangCalculator.civilToJdn;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/** Vrat dates against published calendars for New Delhi, including the adhika Shravana of 2023. */
+public class VratCalendarTest {
+
+    private static final double LAT = 28.6139;
+    private static final double LON = 77.2090;
+    private static final String TZ = "Asia/Kolkata";
+
+    private static FestivalCalendar.Occurrences generate(VratRule rule, int startJdn, int endJdn) {
+        return VratCalendar.generate(new VratRule[]{rule}, startJdn, endJdn, LAT, LON, TZ);
+    }
+
+    @Test
+    public void ekadashiInBothPakshasEveryLunation() {
+        FestivalCalendar.Occurrences dates = generate(
+                VratRule.tithi(10, VratRule.PAKSHA_BOTH, FestivalRule.KAAL_SUNRISE),
+                civilToJdn(2025, 1, 1), civilToJdn(2025, 12, 31));
+        assertEquals(25, dates.size());
+        assertEquals(civilToJdn(2025, 1, 10), dates.jdn[0]);
+        assertEquals(civilToJdn(2025, 12, 30), dates.jdn[24]);
+        for (int i = 1; i < dates.size(); i++) assertEquals(14.8, dates.jdn[i] - dates.jdn[i - 1], 2.0);
+    }
+
+    @Test
+    public void adhikaMonthStillHasEkadashis() {
+        // Padmini and Parama Ekadashi fall in Adhika Shravana, 18 July to 16 August 2023
+        FestivalCalendar.Occurrences dates = generate(
+                VratRule.tithi(10, VratRule.PAKSHA_BOTH, FestivalRule.KAAL_SUNRISE),
+                civilToJdn(2023, 7, 18), civilToJdn(2023, 8, 16));
+        assertEquals(2, dates.size());
+        assertEquals(civilToJdn(2023, 7, 29), dates.jdn[0]);
+        assertEquals(civilToJdn(2023, 8, 11), dates.jdn[1]);
+    }
+
+    @Test
+    public void weekdayNarrowsToSomvatiAmavasya() {
+        FestivalCalendar.Occurrences dates = generate(
+                VratRule.tithi(14, VratRule.PAKSHA_KRISHNA, FestivalRule.KAAL_SUNRISE).onWeekdays(Calendar.MONDAY),
+                civilToJdn(2024, 1, 1), civilToJdn(2024, 12, 31));
+        assertEquals(3, dates.size());
+        assertEquals(civilToJdn(2024, 4, 8), dates.jdn[0]);
+        assertEquals(civilToJdn(2024, 9, 2), dates.jdn[1]);
+        assertEquals(civilToJdn(2024, 12, 30), dates.jdn[2]);
+    }
+
+    @Test
+    public void nakshatraOnlyRuleMatchesSunriseNakshatra() {
+        // Guru Pushya: Thursdays with Pushya at sunrise; on 25 January 2024 it began after sunrise
+        int start = civilToJdn(2024, 1, 1);
+        int end = civilToJdn(2024, 12, 31);
+        FestivalCalendar.Occurrences dates = generate(VratRule.nakshatra(7).onWeekdays(Calendar.THURSDAY), start, end);
+        assertEquals(3, dates.size());
+        assertEquals(civilToJdn(2024, 2, 22), dates.jdn[0]);
+        assertEquals(civilToJdn(2024, 10, 24), dates.jdn[1]);
+        assertEquals(civilToJdn(2024, 11, 21), dates.jdn[2]);
+
+        Calendar date = Calendar.getInstance(TimeZone.getTimeZone(TZ));
+        int[] ymd = new int[3];
+        for (int i = 0; i < dates.size(); i++) {
+            PanchangCalculator.jdnToCivil(dates.jdn[i], ymd);
+            date.clear();
+            date.set(ymd[0], ymd[1] - 1, ymd[2], 12, 0);
+            PanchangDay day = PanchangCalculator.computeDay(date, LAT, LON, TZ);
+            assertEquals(Calendar.THURSDAY, day.getDayOfWeek());
+            assertEquals(7, day.getNakshatraIndex());
+        }
+    }
+
+    @Test
+    public void rulesAreMergedInDateOrder() {
+        VratRule[] rules = {
+                VratRule.tithi(12, VratRule.PAKSHA_BOTH, FestivalRule.KAAL_PRADOSH),
+                VratRule.tithi(14, VratRule.PAKSHA_SHUKLA, FestivalRule.KAAL_SUNRISE),
+        };
+        FestivalCalendar.Occurrences dates = VratCalendar.generate(rules,
+                civilToJdn(2025, 1, 1), civilToJdn(2025, 12, 31), LAT, LON, TZ);
+        int[] counts = new int[2];
+        for (int i = 0; i < dates.size(); i++) {
+            counts[dates.rule[i]]++;
+            if (i > 0) assertTrue(dates.jdn[i] >= dates.jdn[i - 1]);
+        }
+        assertEquals(24, counts[0], 1);
+        assertEquals(12, counts[1], 1);
+    }
+}